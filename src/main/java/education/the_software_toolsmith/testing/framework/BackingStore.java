@@ -0,0 +1,144 @@
+/* @formatter:off
+ *
+ * © David M Rosenberg, The Software Toolsmith (education)
+ *
+ * This file is part of the Testing Framework for Java.
+ * Repository: https://github.com/The-Software-Toolsmith/testing-framework-for-java
+ *
+ * Licensed under the Creative Commons Attribution-NonCommercial 4.0 International License.
+ * You may obtain a copy of the license at:
+ *     https://creativecommons.org/licenses/by-nc/4.0/
+ *
+ * You may use, share, and adapt this file for non-commercial purposes,
+ * provided you give appropriate credit.
+ *
+ * @formatter:on
+ */
+
+
+package education.the_software_toolsmith.testing.framework ;
+
+import java.lang.annotation.Documented ;
+import java.lang.annotation.ElementType ;
+import java.lang.annotation.Retention ;
+import java.lang.annotation.RetentionPolicy ;
+import java.lang.annotation.Target ;
+
+/**
+ * Declares the backing store layout of the collection class a test class (or a companion
+ * descriptor class) exercises, e.g.
+ *
+ * <pre>
+ * &#64;BackingStore( kind = CHAIN, head = "firstNode", count = "numberOfEntries", data = "data", next = "next" )
+ * class LinkedBagTests ...
+ *
+ *     Object[] contents = ReflectBackingStores.getContentsOfDataset( testBag,
+ *                                                                    BackingStoreLayout.of( testBag.getClass(),
+ *                                                                                           LinkedBagTests.class ) ) ;
+ * </pre>
+ *
+ * the declaration is compiled into a {@link BackingStoreLayout} the first time it is applied to a
+ * collection class and the plan is cached from then on
+ * <p>
+ * elements which don't apply to the {@code kind} are ignored; a {@code CIRCULAR_ARRAY} needs an
+ * entry count, a back index, or both - with both, the back index is verified against the front
+ * index and entry count, e.g. for a queue which doesn't count its entries
+ *
+ * <pre>
+ * &#64;BackingStore( kind = CIRCULAR_ARRAY, store = "queue", count = NO_SUCH_FIELD, back = "backIndex" )
+ * </pre>
+ * <p>
+ * only the linear layouts can be declared - hash tables, skip lists, and graphs are extracted by
+ * field name with {@link ReflectBackingStores}
+ *
+ * @author David M Rosenberg
+ *
+ * @version 1.0 2026-10-18 Initial implementation
+ * @version 1.1 2026-10-19 add a circular array's back index
+ */
+@Documented
+@Retention( RetentionPolicy.RUNTIME )
+@Target( ElementType.TYPE )
+public @interface BackingStore
+    {
+
+    /**
+     * the backing store organization
+     *
+     * @return the kind
+     */
+    BackingStoreLayout.Kind kind() ;
+
+
+    /**
+     * field name of the backing store array ({@code ARRAY} and {@code CIRCULAR_ARRAY})
+     *
+     * @return the field name
+     */
+    String store() default "" ;
+
+
+    /**
+     * field name of the first node ({@code CHAIN})
+     *
+     * @return the field name
+     */
+    String head() default "firstNode" ;
+
+
+    /**
+     * field name of the entry count - {@code ReflectBackingStores.NO_SUCH_FIELD} if a chain-backed
+     * or circular-array-backed collection doesn't have one
+     *
+     * @return the field name
+     */
+    String count() default "numberOfEntries" ;
+
+
+    /**
+     * field name of the front index ({@code CIRCULAR_ARRAY})
+     *
+     * @return the field name
+     */
+    String front() default "frontIndex" ;
+
+
+    /**
+     * field name of the back index ({@code CIRCULAR_ARRAY}) -
+     * {@code ReflectBackingStores.NO_SUCH_FIELD} if the collection doesn't have one or it shouldn't
+     * be verified
+     *
+     * @return the field name
+     *
+     * @since 1.1
+     */
+    String back() default ReflectBackingStores.NO_SUCH_FIELD ;
+
+
+    /**
+     * whether the back index references the last entry ({@code BACK_INDEX_INCLUSIVE}) or the slot
+     * following it ({@code BACK_INDEX_EXCLUSIVE})
+     *
+     * @return the flag
+     *
+     * @since 1.1
+     */
+    boolean backInclusive() default ReflectBackingStores.BACK_INDEX_INCLUSIVE ;
+
+
+    /**
+     * field name of a node's data reference ({@code CHAIN})
+     *
+     * @return the field name
+     */
+    String data() default "data" ;
+
+
+    /**
+     * field name of a node's next reference ({@code CHAIN})
+     *
+     * @return the field name
+     */
+    String next() default "next" ;
+
+    }   // end annotation BackingStore
@@ -0,0 +1,2060 @@
+/* @formatter:off
+ *
+ * © David M Rosenberg, The Software Toolsmith (education)
+ *
+ * This file is part of the Testing Framework for Java.
+ * Repository: https://github.com/The-Software-Toolsmith/testing-framework-for-java
+ *
+ * Licensed under the Creative Commons Attribution-NonCommercial 4.0 International License.
+ * You may obtain a copy of the license at:
+ *     https://creativecommons.org/licenses/by-nc/4.0/
+ *
+ * You may use, share, and adapt this file for non-commercial purposes,
+ * provided you give appropriate credit.
+ *
+ * @formatter:on
+ */
+
+
+package education.the_software_toolsmith.testing.framework ;
+
+import java.lang.invoke.MethodHandle ;
+import java.lang.invoke.MethodHandles ;
+import java.lang.invoke.MethodType ;
+import java.lang.reflect.Field ;
+import java.lang.reflect.Modifier ;
+import java.util.ArrayList ;
+import java.util.Arrays ;
+import java.util.Collections ;
+import java.util.IdentityHashMap ;
+import java.util.List ;
+import java.util.Locale ;
+import java.util.Map ;
+import java.util.Set ;
+import java.util.concurrent.ConcurrentHashMap ;
+
+/**
+ * A precompiled plan for extracting the contents of a collection class's backing store -
+ * detected once per class from the types and shapes of its fields and cached
+ * <p>
+ * detection recognizes:
+ * <ul>
+ * <li>{@code CHAIN} - a field whose type is a node class with a field of its own type (the next
+ * reference) and a reference field of another type (the data)
+ * <li>{@code ARRAY} - a one-dimensional array of references
+ * <li>{@code ARRAY} (stack) - a one-dimensional array of references and an {@code int} top index
+ * instead of an entry count; the entries occupy {@code [0, top]} if the field's name contains
+ * "index" (e.g. {@code topIndex}, -1 when empty) and {@code [0, top)} otherwise (e.g.
+ * {@code top}, the number of entries) - see {@link #entryCountOffset()}
+ * <li>{@code CIRCULAR_ARRAY} - a one-dimensional array of references and an {@code int} front
+ * index
+ * <li>{@code CIRCULAR_ARRAY} (count-less queue) - a one-dimensional array of references and
+ * {@code int} front and back indices instead of an entry count; the entry count is derived from
+ * the indices, assuming the collection leaves at least one slot unused, and the back index
+ * references the last entry if the field's name contains "index" (e.g. {@code backIndex}) and
+ * the slot following it otherwise (e.g. {@code back}) - see {@link #backIndexIsInclusive()}
+ * </ul>
+ * when a class has more than one candidate for a role, conventional names (e.g.
+ * {@code firstNode}, {@code numberOfEntries}, {@code data}, {@code next}, {@code frontIndex})
+ * break the tie; an entry count field is optional for a chain
+ * <p>
+ * when a circular array plan has both an entry count and a back index, extraction verifies the
+ * back index against the front index and entry count
+ * <p>
+ * alternatively, a test class can declare the layout with {@link BackingStore} - see
+ * {@link #of(Class, Class)}
+ * <p>
+ * plans cover the linear layouts only - the hash table, heap ordering, skip list, and graph
+ * extractors in {@link ReflectBackingStores} still resolve their fields by name on each call
+ * <p>
+ * plans read fields through method handles compiled once per class rather than resolving and
+ * reading {@code Field}s on every extraction
+ *
+ * @author David M Rosenberg
+ *
+ * @version 1.0 2026-10-18 Initial implementation
+ * @version 1.1 2026-10-18
+ *     <ul>
+ *     <li>plans declared with {@link BackingStore}
+ *     <li>fields read through compiled method handles
+ *     </ul>
+ * @version 1.2 2026-10-19 detect array-backed stacks by their top index before trying the
+ *     circular array layout - a top index is no longer mistaken for a front index
+ * @version 1.3 2026-10-19 compile plans from field names so the name-based extractors read
+ *     through the same accessors; expose entry count, node, and primitive array access to them
+ * @version 1.4 2026-10-19 add an inclusive or exclusive back index role to circular array plans -
+ *     detect count-less queues by their front and back indices, derive their entry count, and
+ *     verify the back index when there is also an entry count
+ * @version 1.5 2026-10-19 declare a circular array's back index with {@link BackingStore}, with
+ *     or without an entry count; name the missing role when a declaration is incomplete
+ */
+public final class BackingStoreLayout
+    {
+
+    /*
+     * constants
+     */
+
+
+    /** backing store organizations */
+    public enum Kind
+        {
+        /** entries in slots 0..count-1 of an array */
+        ARRAY,
+        /** entries in count slots of an array starting at a front index, wrapping around */
+        CIRCULAR_ARRAY,
+        /** entries in a chain of linked nodes */
+        CHAIN
+        }
+
+    /** name fragments suggesting an entry count - in order of preference */
+    private final static String[] COUNT_HINTS = { "numberof", "count", "size", "entries", "length" } ;
+    /** name fragments suggesting a first node */
+    private final static String[] HEAD_HINTS = { "front", "first", "head", "top", "start" } ;
+    /** name fragments suggesting a circular array's front index */
+    private final static String[] FRONT_HINTS = { "front", "first", "head", "start" } ;
+    /** name fragments suggesting a stack's top index */
+    private final static String[] TOP_HINTS = { "top" } ;
+    /** name fragments suggesting a back index or last node */
+    private final static String[] BACK_HINTS = { "back", "rear", "last", "tail", "end" } ;
+    /** name fragments of {@code int} fields which are never the entry count */
+    private final static String[] NOT_COUNT_HINTS = { "modcount", "capacity", "version", "max" } ;
+    /** name fragments suggesting a backing store array */
+    private final static String[] STORE_HINTS = { "store", "bag", "list", "queue", "stack", "entries", "items", "elements", "contents", "data" } ;
+    /** name fragments suggesting a node's data reference */
+    private final static String[] DATA_HINTS = { "data", "entry", "item", "element", "value" } ;
+    /** name fragments suggesting a node's next reference */
+    private final static String[] NEXT_HINTS = { "next", "link", "successor" } ;
+
+    /** detected plans - computed on first use for each class */
+    private final static ClassValue<BackingStoreLayout> DETECTED_LAYOUTS = new ClassValue<>()
+        {
+
+        @Override
+        protected BackingStoreLayout computeValue( final Class<?> collectionClass )
+            {
+
+            return detect( collectionClass ) ;
+
+            }   // end computeValue()
+
+        } ;
+
+
+    /** declared plans - compiled on first use for each class and set of field names */
+    private final static ClassValue<Map<List<Object>, BackingStoreLayout>> DECLARED_LAYOUTS = new ClassValue<>()
+        {
+
+        @Override
+        protected Map<List<Object>, BackingStoreLayout> computeValue( final Class<?> collectionClass )
+            {
+
+            return new ConcurrentHashMap<>() ;
+
+            }   // end computeValue()
+
+        } ;
+
+
+    /*
+     * data fields
+     */
+
+
+    /** the class the plan applies to */
+    private final Class<?> collectionClass ;
+    /** why detection or compilation failed or {@code null} if the plan is usable */
+    private final String detectionFailure ;
+
+    /** the backing store organization */
+    private final Kind kind ;
+
+    /** field name of the backing store array or first node */
+    private final String storeFieldName ;
+    /** field name of the entry count or {@code NO_SUCH_FIELD} */
+    private final String entryCountFieldName ;
+    /** added to the entry count field's value - 1 for a stack's inclusive top index */
+    private final int entryCountOffset ;
+    /** field name of the front index or {@code null} */
+    private final String frontIndexFieldName ;
+    /** field name of the back index or {@code null} */
+    private final String backIndexFieldName ;
+    /** {@code BACK_INDEX_INCLUSIVE} or {@code BACK_INDEX_EXCLUSIVE} - ignored without a back index */
+    private final boolean backIndexIsInclusive ;
+    /** the node class ({@code CHAIN} only) */
+    private final Class<?> nodeClass ;
+    /** field name of a node's data reference or {@code null} */
+    private final String nodeDataFieldName ;
+    /** field name of a node's next reference or {@code null} */
+    private final String nodeNextFieldName ;
+
+    /** (Object)Object - reads the backing store array or first node */
+    private final MethodHandle storeGetter ;
+    /** (Object)int - reads the entry count or {@code null} */
+    private final MethodHandle entryCountGetter ;
+    /** (Object)int - reads the front index or {@code null} */
+    private final MethodHandle frontIndexGetter ;
+    /** (Object)int - reads the back index or {@code null} */
+    private final MethodHandle backIndexGetter ;
+    /** (Object)Object - reads a node's data reference or {@code null} */
+    private final MethodHandle nodeDataGetter ;
+    /** (Object)Object - reads a node's next reference or {@code null} */
+    private final MethodHandle nodeNextGetter ;
+
+
+    /*
+     * constructors
+     */
+
+
+    /**
+     * Compile a plan from resolved fields
+     *
+     * @param collectionClass
+     *     the class the plan applies to
+     * @param kind
+     *     the backing store organization
+     * @param storeField
+     *     the backing store array or first node
+     * @param entryCountField
+     *     the entry count or {@code null}
+     * @param entryCountOffset
+     *     added to the entry count field's value
+     * @param frontIndexField
+     *     the front index or {@code null}
+     * @param backIndexField
+     *     the back index or {@code null}
+     * @param backIndexIsInclusive
+     *     {@code BACK_INDEX_INCLUSIVE} or {@code BACK_INDEX_EXCLUSIVE}
+     * @param nodeDataField
+     *     a node's data reference or {@code null}
+     * @param nodeNextField
+     *     a node's next reference or {@code null}
+     *
+     * @throws IllegalAccessException
+     *     if a field can't be read through a method handle
+     */
+    private BackingStoreLayout( final Class<?> collectionClass,
+                                final Kind kind,
+                                final Field storeField,
+                                final Field entryCountField,
+                                final int entryCountOffset,
+                                final Field frontIndexField,
+                                final Field backIndexField,
+                                final boolean backIndexIsInclusive,
+                                final Field nodeDataField,
+                                final Field nodeNextField )
+        throws IllegalAccessException
+        {
+
+        this.collectionClass = collectionClass ;
+        this.detectionFailure = null ;
+        this.kind = kind ;
+
+        this.storeFieldName = storeField.getName() ;
+        this.entryCountFieldName = null == entryCountField
+            ? ReflectBackingStores.NO_SUCH_FIELD
+            : entryCountField.getName() ;
+        this.entryCountOffset = entryCountOffset ;
+        this.frontIndexFieldName = null == frontIndexField
+            ? null
+            : frontIndexField.getName() ;
+        this.backIndexFieldName = null == backIndexField
+            ? null
+            : backIndexField.getName() ;
+        this.backIndexIsInclusive = backIndexIsInclusive ;
+        this.nodeClass = null == nodeNextField
+            ? null
+            : nodeNextField.getDeclaringClass() ;
+        this.nodeDataFieldName = null == nodeDataField
+            ? null
+            : nodeDataField.getName() ;
+        this.nodeNextFieldName = null == nodeNextField
+            ? null
+            : nodeNextField.getName() ;
+
+        this.storeGetter = getter( storeField, Object.class ) ;
+        this.entryCountGetter = getter( entryCountField, int.class ) ;
+        this.frontIndexGetter = getter( frontIndexField, int.class ) ;
+        this.backIndexGetter = getter( backIndexField, int.class ) ;
+        this.nodeDataGetter = getter( nodeDataField, Object.class ) ;
+        this.nodeNextGetter = getter( nodeNextField, Object.class ) ;
+
+        }   // end all-arg constructor
+
+
+    /**
+     * Record a failed detection or compilation
+     *
+     * @param collectionClass
+     *     the class detection was attempted for
+     * @param detectionFailure
+     *     why detection failed
+     */
+    private BackingStoreLayout( final Class<?> collectionClass,
+                                final String detectionFailure )
+        {
+
+        this.collectionClass = collectionClass ;
+        this.detectionFailure = detectionFailure ;
+        this.kind = null ;
+        this.storeFieldName = null ;
+        this.entryCountFieldName = null ;
+        this.entryCountOffset = 0 ;
+        this.frontIndexFieldName = null ;
+        this.backIndexFieldName = null ;
+        this.backIndexIsInclusive = false ;
+        this.nodeClass = null ;
+        this.nodeDataFieldName = null ;
+        this.nodeNextFieldName = null ;
+        this.storeGetter = null ;
+        this.entryCountGetter = null ;
+        this.frontIndexGetter = null ;
+        this.backIndexGetter = null ;
+        this.nodeDataGetter = null ;
+        this.nodeNextGetter = null ;
+
+        }   // end failure constructor
+
+
+    /**
+     * Compile a plan from resolved fields, recording a failure rather than throwing
+     *
+     * @param collectionClass
+     *     the class the plan applies to
+     * @param kind
+     *     the backing store organization
+     * @param storeField
+     *     the backing store array or first node
+     * @param entryCountField
+     *     the entry count or {@code null}
+     * @param entryCountOffset
+     *     added to the entry count field's value
+     * @param frontIndexField
+     *     the front index or {@code null}
+     * @param backIndexField
+     *     the back index or {@code null}
+     * @param backIndexIsInclusive
+     *     {@code BACK_INDEX_INCLUSIVE} or {@code BACK_INDEX_EXCLUSIVE}
+     * @param nodeDataField
+     *     a node's data reference or {@code null}
+     * @param nodeNextField
+     *     a node's next reference or {@code null}
+     *
+     * @return the plan or a failed plan
+     */
+    private static BackingStoreLayout compile( final Class<?> collectionClass,
+                                               final Kind kind,
+                                               final Field storeField,
+                                               final Field entryCountField,
+                                               final int entryCountOffset,
+                                               final Field frontIndexField,
+                                               final Field backIndexField,
+                                               final boolean backIndexIsInclusive,
+                                               final Field nodeDataField,
+                                               final Field nodeNextField )
+        {
+
+        try
+            {
+            return new BackingStoreLayout( collectionClass,
+                                           kind,
+                                           storeField,
+                                           entryCountField,
+                                           entryCountOffset,
+                                           frontIndexField,
+                                           backIndexField,
+                                           backIndexIsInclusive,
+                                           nodeDataField,
+                                           nodeNextField ) ;
+            }
+        catch ( final IllegalAccessException e )
+            {
+            return new BackingStoreLayout( collectionClass,
+                                           "can't access its fields: " + e.getMessage() ) ;
+            }
+
+        }   // end compile()
+
+
+    /**
+     * Build a getter with an erased receiver type so it can be invoked exactly
+     *
+     * @param theField
+     *     an accessible field or {@code null}
+     * @param valueType
+     *     {@code Object.class} or {@code int.class}
+     *
+     * @return a method handle of type (Object)valueType or {@code null} if {@code theField} is
+     *     {@code null}
+     *
+     * @throws IllegalAccessException
+     *     if the field can't be read through a method handle
+     */
+    private static MethodHandle getter( final Field theField,
+                                        final Class<?> valueType )
+        throws IllegalAccessException
+        {
+
+        if ( null == theField )
+            {
+            return null ;
+            }
+
+        return MethodHandles.lookup()
+                            .unreflectGetter( theField )
+                            .asType( MethodType.methodType( valueType, Object.class ) ) ;
+
+        }   // end getter()
+
+
+    /*
+     * public API
+     */
+
+
+    /**
+     * Retrieve the detected plan for a collection class, detecting it on first use
+     *
+     * @param collectionClass
+     *     the class to inspect
+     *
+     * @return the cached plan
+     *
+     * @throws TestingException
+     *     if the class's backing store couldn't be identified - the failure is cached as well, so
+     *     repeated calls don't repeat the inspection
+     */
+    public static BackingStoreLayout of( final Class<?> collectionClass )
+        throws TestingException
+        {
+
+        return usable( DETECTED_LAYOUTS.get( collectionClass ) ) ;
+
+        }   // end 1-arg of()
+
+
+    /**
+     * Retrieve the plan a descriptor class's {@link BackingStore} annotation declares for a
+     * collection class, compiling it on first use
+     *
+     * @param collectionClass
+     *     the class the plan applies to
+     * @param descriptorClass
+     *     the test class or companion descriptor carrying the annotation
+     *
+     * @return the cached plan
+     *
+     * @throws TestingException
+     *     if {@code descriptorClass} isn't annotated, the declaration lacks a field the kind
+     *     requires, or the declared fields don't exist in {@code collectionClass}
+     */
+    public static BackingStoreLayout of( final Class<?> collectionClass,
+                                         final Class<?> descriptorClass )
+        throws TestingException
+        {
+
+        final BackingStore declaration = descriptorClass.getAnnotation( BackingStore.class ) ;
+
+        if ( null == declaration )
+            {
+            throw new TestingException( String.format( "bad test configuration: class %s has no @BackingStore annotation",
+                                                       descriptorClass.getSimpleName() ) ) ;
+            }
+
+        return of( collectionClass, declaration ) ;
+
+        }   // end 2-arg of() - descriptor class
+
+
+    /**
+     * Retrieve the plan a {@link BackingStore} declaration describes for a collection class,
+     * compiling it on first use
+     *
+     * @param collectionClass
+     *     the class the plan applies to
+     * @param declaration
+     *     the field names
+     *
+     * @return the cached plan
+     *
+     * @throws TestingException
+     *     if the declaration lacks a field the kind requires or the declared fields don't exist
+     *     in {@code collectionClass}
+     */
+    public static BackingStoreLayout of( final Class<?> collectionClass,
+                                         final BackingStore declaration )
+        throws TestingException
+        {
+
+        final Kind kind = declaration.kind() ;
+
+        return of( collectionClass,
+                   kind,
+                   Kind.CHAIN == kind
+                       ? declaration.head()
+                       : declaration.store(),
+                   declaration.count(),
+                   declaration.front(),
+                   declaration.back(),
+                   declaration.backInclusive(),
+                   declaration.data(),
+                   declaration.next() ) ;
+
+        }   // end 2-arg of() - declaration
+
+
+    /**
+     * Retrieve the plan for a collection class's named fields, compiling it on first use - used
+     * by the extractors which take field names so they share the plans' compiled accessors
+     *
+     * @param collectionClass
+     *     the class the plan applies to
+     * @param kind
+     *     the backing store organization
+     * @param storeFieldName
+     *     field name of the backing store array or first node
+     * @param entryCountFieldName
+     *     field name of the entry count - {@code NO_SUCH_FIELD} if a chain-backed collection
+     *     doesn't have one
+     * @param frontIndexFieldName
+     *     field name of the front index ({@code CIRCULAR_ARRAY} only)
+     * @param backIndexFieldName
+     *     field name of the back index ({@code CIRCULAR_ARRAY} only) - {@code NO_SUCH_FIELD} if
+     *     the collection doesn't have one
+     * @param backIndexIsInclusive
+     *     {@code BACK_INDEX_INCLUSIVE} or {@code BACK_INDEX_EXCLUSIVE}
+     * @param nodeDataFieldName
+     *     field name of a node's data reference ({@code CHAIN} only)
+     * @param nodeNextFieldName
+     *     field name of a node's next reference ({@code CHAIN} only)
+     *
+     * @return the cached plan
+     *
+     * @throws TestingException
+     *     if the named fields don't exist in {@code collectionClass} or its node class
+     *
+     * @since 1.3
+     */
+    static BackingStoreLayout of( final Class<?> collectionClass,
+                                  final Kind kind,
+                                  final String storeFieldName,
+                                  final String entryCountFieldName,
+                                  final String frontIndexFieldName,
+                                  final String backIndexFieldName,
+                                  final boolean backIndexIsInclusive,
+                                  final String nodeDataFieldName,
+                                  final String nodeNextFieldName )
+        throws TestingException
+        {
+
+        // names which don't apply to the kind don't distinguish plans
+        final List<Object> declaration = Arrays.asList( kind,
+                                                        storeFieldName,
+                                                        entryCountFieldName,
+                                                        Kind.CIRCULAR_ARRAY == kind
+                                                            ? frontIndexFieldName
+                                                            : null,
+                                                        Kind.CIRCULAR_ARRAY == kind
+                                                            ? backIndexFieldName
+                                                            : null,
+                                                        ( Kind.CIRCULAR_ARRAY == kind ) &&
+                                                        backIndexIsInclusive,
+                                                        Kind.CHAIN == kind
+                                                            ? nodeDataFieldName
+                                                            : null,
+                                                        Kind.CHAIN == kind
+                                                            ? nodeNextFieldName
+                                                            : null ) ;
+
+        return usable( DECLARED_LAYOUTS.get( collectionClass )
+                                       .computeIfAbsent( declaration,
+                                                         _ -> declare( collectionClass,
+                                                                       kind,
+                                                                       storeFieldName,
+                                                                       entryCountFieldName,
+                                                                       frontIndexFieldName,
+                                                                       backIndexFieldName,
+                                                                       backIndexIsInclusive,
+                                                                       nodeDataFieldName,
+                                                                       nodeNextFieldName ) ) ) ;
+
+        }   // end 9-arg of() - field names
+
+
+    /**
+     * Copy a collection's contents using this plan - no field names are resolved
+     *
+     * @param collectionToCopy
+     *     an instance of the class the plan was built for
+     *
+     * @return array of the contents of {@code collectionToCopy} or {@code null} if
+     *     {@code collectionToCopy} is {@code null}
+     *
+     * @throws TestingException
+     *     any wrapped exceptions which may be thrown by reflection or if the instance state is
+     *     inconsistent
+     * @throws LoopDetectedException
+     *     if a chain loops back on itself
+     */
+    public Object[] extract( final Object collectionToCopy )
+        throws TestingException
+        {
+
+        if ( null == collectionToCopy )
+            {
+            return null ;
+            }
+
+        checkApplicable( collectionToCopy ) ;
+
+        return switch ( this.kind )
+            {
+            case ARRAY, CIRCULAR_ARRAY
+                -> extractArray( collectionToCopy ) ;
+            case CHAIN
+                -> extractChain( collectionToCopy ) ;
+            } ;
+
+        }   // end extract()
+
+
+    /**
+     * the backing store organization
+     *
+     * @return the kind
+     */
+    public Kind kind()
+        {
+
+        return this.kind ;
+
+        }   // end kind()
+
+
+    /**
+     * field name of the backing store array or first node
+     *
+     * @return the field name
+     */
+    public String storeFieldName()
+        {
+
+        return this.storeFieldName ;
+
+        }   // end storeFieldName()
+
+
+    /**
+     * field name of the entry count - or of a stack's top index, see {@code entryCountOffset()}
+     *
+     * @return the field name or {@code NO_SUCH_FIELD} if the collection doesn't have one
+     */
+    public String entryCountFieldName()
+        {
+
+        return this.entryCountFieldName ;
+
+        }   // end entryCountFieldName()
+
+
+    /**
+     * the amount added to the entry count field's value to produce the number of entries - 1 if
+     * the field is a stack's top index and the entries occupy {@code [0, top]}, otherwise 0
+     *
+     * @return the offset
+     *
+     * @since 1.2
+     */
+    public int entryCountOffset()
+        {
+
+        return this.entryCountOffset ;
+
+        }   // end entryCountOffset()
+
+
+    /**
+     * field name of the front index
+     *
+     * @return the field name or {@code null} unless the kind is {@code CIRCULAR_ARRAY}
+     */
+    public String frontIndexFieldName()
+        {
+
+        return this.frontIndexFieldName ;
+
+        }   // end frontIndexFieldName()
+
+
+    /**
+     * field name of the back index
+     *
+     * @return the field name or {@code null} unless the kind is {@code CIRCULAR_ARRAY} and the
+     *     collection has a back index
+     *
+     * @since 1.4
+     */
+    public String backIndexFieldName()
+        {
+
+        return this.backIndexFieldName ;
+
+        }   // end backIndexFieldName()
+
+
+    /**
+     * whether the back index references the last entry or the slot following it
+     *
+     * @return {@code BACK_INDEX_INCLUSIVE} or {@code BACK_INDEX_EXCLUSIVE} - meaningless unless
+     *     {@code backIndexFieldName()} is non-{@code null}
+     *
+     * @since 1.4
+     */
+    public boolean backIndexIsInclusive()
+        {
+
+        return this.backIndexIsInclusive ;
+
+        }   // end backIndexIsInclusive()
+
+
+    /**
+     * field name of a node's data reference
+     *
+     * @return the field name or {@code null} unless the kind is {@code CHAIN}
+     */
+    public String nodeDataFieldName()
+        {
+
+        return this.nodeDataFieldName ;
+
+        }   // end nodeDataFieldName()
+
+
+    /**
+     * field name of a node's next reference
+     *
+     * @return the field name or {@code null} unless the kind is {@code CHAIN}
+     */
+    public String nodeNextFieldName()
+        {
+
+        return this.nodeNextFieldName ;
+
+        }   // end nodeNextFieldName()
+
+
+    /**
+     * Describe the plan - e.g. "CHAIN: firstNode, count numberOfEntries, Node.data / Node.next"
+     */
+    @Override
+    public String toString()
+        {
+
+        if ( null != this.detectionFailure )
+            {
+            return String.format( "%s: undetected (%s)",
+                                  this.collectionClass.getSimpleName(),
+                                  this.detectionFailure ) ;
+            }
+
+        final StringBuilder description = new StringBuilder() ;
+        description.append( this.kind ).append( ": " ).append( this.storeFieldName ) ;
+
+        if ( null != this.frontIndexFieldName )
+            {
+            description.append( ", front " ).append( this.frontIndexFieldName ) ;
+            }
+
+        if ( null != this.backIndexFieldName )
+            {
+            description.append( ", back " )
+                       .append( this.backIndexFieldName )
+                       .append( this.backIndexIsInclusive
+                           ? " (inclusive)"
+                           : " (exclusive)" ) ;
+            }
+
+        if ( 0 != this.entryCountOffset )
+            {
+            description.append( ", top " ).append( this.entryCountFieldName ) ;
+            }
+        else
+            {
+            description.append( ", count " )
+                       .append( ReflectBackingStores.NO_SUCH_FIELD.equals( this.entryCountFieldName )
+                           ? "(none)"
+                           : this.entryCountFieldName ) ;
+            }
+
+        if ( Kind.CHAIN == this.kind )
+            {
+            final String nodeClassName = this.nodeClass.getSimpleName() ;
+
+            description.append( ", " )
+                       .append( nodeClassName )
+                       .append( '.' )
+                       .append( this.nodeDataFieldName )
+                       .append( " / " )
+                       .append( nodeClassName )
+                       .append( '.' )
+                       .append( this.nodeNextFieldName ) ;
+            }
+
+        return description.toString() ;
+
+        }   // end toString()
+
+
+    /*
+     * plan-based access - shared with ReflectBackingStores and IncrementalDatasetExtractor
+     */
+
+
+    /**
+     * Retrieve and verify an array-backed collection's backing store
+     *
+     * @param aCollection
+     *     the collection
+     *
+     * @return the student's array - not a copy
+     *
+     * @throws TestingException
+     *     if the plan isn't for an array layout, the instance doesn't match the plan, or the
+     *     field is {@code null}
+     */
+    Object[] backingStore( final Object aCollection )
+        throws TestingException
+        {
+
+        if ( Kind.CHAIN == this.kind )
+            {
+            throw new TestingException( String.format( "bad test configuration: class %s is chain-backed, not array-backed",
+                                                       this.collectionClass.getSimpleName() ) ) ;
+            }
+
+        final Object backingStore = storeArray( aCollection ) ;
+
+        if ( !( backingStore instanceof Object[] ) )
+            {
+            throw inconsistentState( aCollection,
+                                     "backing store is a " +
+                                     backingStore.getClass().getSimpleName() ) ;
+            }
+
+        return (Object[]) backingStore ;
+
+        }   // end backingStore()
+
+
+    /**
+     * Retrieve and verify an array-backed collection's entry count and front index
+     * <p>
+     * without an entry count field, the entry count is derived from the front and back indices;
+     * with both, the back index is verified against the front index and entry count - as
+     * {@code ReflectBackingStores.getContentsOfCircularArrayBackedDataset()} does
+     *
+     * @param aCollection
+     *     the collection
+     * @param capacity
+     *     the length of its backing store
+     *
+     * @return { front index, entry count } - the front index is always 0 for {@code ARRAY}
+     *
+     * @throws TestingException
+     *     any wrapped exceptions which may be thrown by reflection or if the instance state is
+     *     inconsistent
+     */
+    int[] liveRegion( final Object aCollection,
+                      final int capacity )
+        throws TestingException
+        {
+
+        final int frontIndex = null == this.frontIndexGetter
+            ? 0
+            : readInt( this.frontIndexGetter, aCollection, this.frontIndexFieldName ) ;
+        final int backIndex = null == this.backIndexGetter
+            ? 0
+            : readInt( this.backIndexGetter, aCollection, this.backIndexFieldName ) ;
+        final int inclusiveAdjustment = this.backIndexIsInclusive
+            ? 1
+            : 0 ;
+
+        final int entryCount ;
+
+        if ( hasEntryCount() )
+            {
+            entryCount = entryCount( aCollection ) ;
+            }
+        else if ( capacity > 0 )
+            {
+            entryCount = Math.floorMod( backIndex - frontIndex + inclusiveAdjustment, capacity ) ;
+            }
+        else
+            {
+            entryCount = 0 ;
+            }
+
+        if ( ( entryCount < 0 ) || ( entryCount > capacity ) )
+            {
+            throw inconsistentState( aCollection,
+                                     String.format( "entry count %,d is outside 0..capacity %,d",
+                                                    entryCount,
+                                                    capacity ) ) ;
+            }
+
+        if ( ( frontIndex < 0 ) || ( ( frontIndex >= capacity ) && ( 0 != frontIndex ) ) )
+            {
+            throw inconsistentState( aCollection,
+                                     String.format( "front index %,d is outside the backing store (capacity %,d)",
+                                                    frontIndex,
+                                                    capacity ) ) ;
+            }
+
+        if ( hasEntryCount() && ( null != this.backIndexGetter ) && ( capacity > 0 ) )
+            {
+            final int expectedBackIndex = Math.floorMod( frontIndex + entryCount -
+                                                         inclusiveAdjustment,
+                                                         capacity ) ;
+
+            if ( Math.floorMod( backIndex, capacity ) != expectedBackIndex )
+                {
+                throw inconsistentState( aCollection,
+                                         String.format( "%s back index %,d does not match front index %,d and entry count %,d (expected %,d)",
+                                                        this.backIndexIsInclusive
+                                                            ? "inclusive"
+                                                            : "exclusive",
+                                                        backIndex,
+                                                        frontIndex,
+                                                        entryCount,
+                                                        expectedBackIndex ) ) ;
+                }
+
+            }
+
+        return new int[] { frontIndex, entryCount } ;
+
+        }   // end liveRegion()
+
+
+    /**
+     * Retrieve an array-backed collection's backing store whatever its element type - e.g. a
+     * primitive array
+     *
+     * @param aCollection
+     *     the collection
+     *
+     * @return the student's array - not a copy
+     *
+     * @throws TestingException
+     *     if the plan isn't for an array layout, the instance doesn't match the plan, or the
+     *     field doesn't hold an array
+     */
+    Object storeArray( final Object aCollection )
+        throws TestingException
+        {
+
+        if ( Kind.CHAIN == this.kind )
+            {
+            throw new TestingException( String.format( "bad test configuration: class %s is chain-backed, not array-backed",
+                                                       this.collectionClass.getSimpleName() ) ) ;
+            }
+
+        checkApplicable( aCollection ) ;
+
+        final Object backingStore = readReference( this.storeGetter,
+                                                   aCollection,
+                                                   this.storeFieldName ) ;
+
+        if ( ( null == backingStore ) || !backingStore.getClass().isArray() )
+            {
+            throw inconsistentState( aCollection,
+                                     null == backingStore
+                                         ? "backing store is null"
+                                         : "backing store is a " +
+                                           backingStore.getClass().getSimpleName() ) ;
+            }
+
+        return backingStore ;
+
+        }   // end storeArray()
+
+
+    /**
+     * Determine if the collection tracks its entry count
+     *
+     * @return {@code true} unless the plan has no entry count field - a chain which doesn't count
+     *     its nodes or a circular array whose entry count is derived from its back index
+     */
+    boolean hasEntryCount()
+        {
+
+        return null != this.entryCountGetter ;
+
+        }   // end hasEntryCount()
+
+
+    /**
+     * Retrieve a collection's entry count, including the offset for a stack's top index - not
+     * verified against its backing store
+     *
+     * @param aCollection
+     *     the collection
+     *
+     * @return the number of entries the collection claims to hold
+     *
+     * @throws TestingException
+     *     if the collection doesn't track its entry count or the field can't be read
+     */
+    int entryCount( final Object aCollection )
+        throws TestingException
+        {
+
+        if ( null == this.entryCountGetter )
+            {
+            throw new TestingException( String.format( "bad test configuration: the backing store plan for class %s has no entry count",
+                                                       this.collectionClass.getSimpleName() ) ) ;
+            }
+
+        return readInt( this.entryCountGetter, aCollection, this.entryCountFieldName ) +
+               this.entryCountOffset ;
+
+        }   // end entryCount()
+
+
+    /**
+     * Retrieve a chain-backed collection's first node
+     *
+     * @param aCollection
+     *     the collection
+     *
+     * @return the first node or {@code null} if the chain is empty
+     *
+     * @throws TestingException
+     *     if the plan isn't for a chain or the instance doesn't match the plan
+     */
+    Object head( final Object aCollection )
+        throws TestingException
+        {
+
+        if ( Kind.CHAIN != this.kind )
+            {
+            throw new TestingException( String.format( "bad test configuration: class %s is array-backed, not chain-backed",
+                                                       this.collectionClass.getSimpleName() ) ) ;
+            }
+
+        checkApplicable( aCollection ) ;
+
+        return readReference( this.storeGetter, aCollection, this.storeFieldName ) ;
+
+        }   // end head()
+
+
+    /**
+     * Retrieve a node's data reference
+     *
+     * @param aNode
+     *     a node of the plan's node class
+     *
+     * @return the node's entry
+     *
+     * @throws TestingException
+     *     if {@code aNode} isn't an instance of the node class
+     */
+    Object nodeData( final Object aNode )
+        throws TestingException
+        {
+
+        return readReference( this.nodeDataGetter, aNode, this.nodeDataFieldName ) ;
+
+        }   // end nodeData()
+
+
+    /**
+     * Retrieve a node's next reference
+     *
+     * @param aNode
+     *     a node of the plan's node class
+     *
+     * @return the following node or {@code null} at the end of the chain
+     *
+     * @throws TestingException
+     *     if {@code aNode} isn't an instance of the node class
+     */
+    Object nodeNext( final Object aNode )
+        throws TestingException
+        {
+
+        return readReference( this.nodeNextGetter, aNode, this.nodeNextFieldName ) ;
+
+        }   // end nodeNext()
+
+
+    /*
+     * extraction
+     */
+
+
+    /**
+     * Copy the live slots of an array or circular array backing store - at most two segments
+     *
+     * @param collectionToCopy
+     *     the collection to copy
+     *
+     * @return the contents
+     *
+     * @throws TestingException
+     *     any wrapped exceptions which may be thrown by reflection or if the instance state is
+     *     inconsistent
+     */
+    private Object[] extractArray( final Object collectionToCopy )
+        throws TestingException
+        {
+
+        final Object[] backingStore = backingStore( collectionToCopy ) ;
+        final int capacity = backingStore.length ;
+        final int[] liveRegion = liveRegion( collectionToCopy, capacity ) ;
+        final int frontIndex = liveRegion[ 0 ] ;
+        final int entryCount = liveRegion[ 1 ] ;
+
+        final Object[] contents = new Object[ entryCount ] ;
+        final int frontSegmentLength = Math.min( entryCount, capacity - frontIndex ) ;
+
+        System.arraycopy( backingStore, frontIndex, contents, 0, frontSegmentLength ) ;
+        System.arraycopy( backingStore,
+                          0,
+                          contents,
+                          frontSegmentLength,
+                          entryCount - frontSegmentLength ) ;
+
+        return contents ;
+
+        }   // end extractArray()
+
+
+    /**
+     * Copy the data from each node of a chain
+     *
+     * @param collectionToCopy
+     *     the collection to copy
+     *
+     * @return the contents
+     *
+     * @throws TestingException
+     *     any wrapped exceptions which may be thrown by reflection
+     * @throws LoopDetectedException
+     *     if the chain loops back on itself
+     */
+    private Object[] extractChain( final Object collectionToCopy )
+        throws TestingException
+        {
+
+        final List<Object> contents = hasEntryCount()
+            ? new ArrayList<>( Math.max( 0, entryCount( collectionToCopy ) ) )
+            : new ArrayList<>() ;
+
+        // for loop detection - identity, not equals(), since students' nodes may override it
+        final Set<Object> nodesVisited = Collections.newSetFromMap( new IdentityHashMap<>() ) ;
+
+        Object currentNode = head( collectionToCopy ) ;
+
+        while ( null != currentNode )
+            {
+
+            if ( !nodesVisited.add( currentNode ) )
+                {
+                throw new LoopDetectedException( String.format( "node reached twice while traversing chain from class %s, field %s",
+                                                                this.collectionClass.getSimpleName(),
+                                                                this.storeFieldName ) ) ;
+                }
+
+            contents.add( nodeData( currentNode ) ) ;
+            currentNode = nodeNext( currentNode ) ;
+            }
+
+        return contents.toArray() ;
+
+        }   // end extractChain()
+
+
+    /**
+     * Read a reference field through its getter
+     *
+     * @param getter
+     *     the (Object)Object method handle
+     * @param anInstance
+     *     the instance to interrogate
+     * @param fieldName
+     *     the field's name - for error reporting
+     *
+     * @return the value
+     *
+     * @throws TestingException
+     *     if {@code anInstance} isn't of the class the getter was compiled for
+     */
+    private static Object readReference( final MethodHandle getter,
+                                         final Object anInstance,
+                                         final String fieldName )
+        throws TestingException
+        {
+
+        try
+            {
+            return (Object) getter.invokeExact( anInstance ) ;
+            }
+        catch ( final Throwable e )
+            {
+            throw accessFailure( "reference", anInstance, fieldName, e ) ;
+            }
+
+        }   // end readReference()
+
+
+    /**
+     * Read an {@code int} field through its getter
+     *
+     * @param getter
+     *     the (Object)int method handle
+     * @param anInstance
+     *     the instance to interrogate
+     * @param fieldName
+     *     the field's name - for error reporting
+     *
+     * @return the value
+     *
+     * @throws TestingException
+     *     if {@code anInstance} isn't of the class the getter was compiled for
+     */
+    private static int readInt( final MethodHandle getter,
+                                final Object anInstance,
+                                final String fieldName )
+        throws TestingException
+        {
+
+        try
+            {
+            return (int) getter.invokeExact( anInstance ) ;
+            }
+        catch ( final Throwable e )
+            {
+            throw accessFailure( "int", anInstance, fieldName, e ) ;
+            }
+
+        }   // end readInt()
+
+
+    /**
+     * Build the exception for a failed field read
+     *
+     * @param fieldType
+     *     "reference" or "int"
+     * @param anInstance
+     *     the instance being interrogated
+     * @param fieldName
+     *     the field's name
+     * @param thrown
+     *     the cause
+     *
+     * @return the exception
+     */
+    private static TestingException accessFailure( final String fieldType,
+                                            final Object anInstance,
+                                            final String fieldName,
+                                            final Throwable thrown )
+        {
+
+        return new TestingException( String.format( "Failed to retrieve %s value from class %s, field %s: %s",
+                                                    fieldType,
+                                                    anInstance.getClass()
+                                                              .getSimpleName(),
+                                                    fieldName,
+                                                    thrown.getClass()
+                                                          .getSimpleName() ),
+                                     thrown ) ;
+
+        }   // end accessFailure()
+
+
+    /**
+     * Ensure this plan was built for an instance's class
+     *
+     * @param aCollection
+     *     the instance
+     *
+     * @throws TestingException
+     *     if it wasn't
+     */
+    private void checkApplicable( final Object aCollection )
+        throws TestingException
+        {
+
+        if ( !this.collectionClass.isInstance( aCollection ) )
+            {
+            throw new TestingException( String.format( "bad test configuration: the backing store plan for class %s can't be applied to an instance of %s",
+                                                       this.collectionClass.getSimpleName(),
+                                                       aCollection.getClass()
+                                                                  .getSimpleName() ) ) ;
+            }
+
+        }   // end checkApplicable()
+
+
+    /**
+     * Build the exception for an inconsistent instance
+     *
+     * @param aCollection
+     *     the collection
+     * @param inconsistency
+     *     what's wrong
+     *
+     * @return the exception
+     */
+    private TestingException inconsistentState( final Object aCollection,
+                                                final String inconsistency )
+        {
+
+        return new TestingException( String.format( "Failed to retrieve backing array from class %s, field %s, instance %s: inconsistent instance state: %s",
+                                                    aCollection.getClass()
+                                                               .getSimpleName(),
+                                                    this.storeFieldName,
+                                                    aCollection.toString(),
+                                                    inconsistency ) ) ;
+
+        }   // end inconsistentState()
+
+
+    /**
+     * Ensure a cached plan is usable
+     *
+     * @param layout
+     *     the cached plan
+     *
+     * @return {@code layout}
+     *
+     * @throws TestingException
+     *     if detection or compilation failed
+     */
+    private static BackingStoreLayout usable( final BackingStoreLayout layout )
+        throws TestingException
+        {
+
+        if ( null != layout.detectionFailure )
+            {
+            throw new TestingException( String.format( "Failed to resolve the backing store of class %s: %s",
+                                                       layout.collectionClass.getSimpleName(),
+                                                       layout.detectionFailure ) ) ;
+            }
+
+        return layout ;
+
+        }   // end usable()
+
+
+    /*
+     * declaration
+     */
+
+
+    /**
+     * Compile a declared layout for a collection class
+     *
+     * @param collectionClass
+     *     the class the plan applies to
+     * @param kind
+     *     the backing store organization
+     * @param storeFieldName
+     *     field name of the backing store array or first node
+     * @param entryCountFieldName
+     *     field name of the entry count or {@code NO_SUCH_FIELD}
+     * @param frontIndexFieldName
+     *     field name of the front index ({@code CIRCULAR_ARRAY} only)
+     * @param backIndexFieldName
+     *     field name of the back index or {@code NO_SUCH_FIELD} ({@code CIRCULAR_ARRAY} only)
+     * @param backIndexIsInclusive
+     *     {@code BACK_INDEX_INCLUSIVE} or {@code BACK_INDEX_EXCLUSIVE}
+     * @param nodeDataFieldName
+     *     field name of a node's data reference ({@code CHAIN} only)
+     * @param nodeNextFieldName
+     *     field name of a node's next reference ({@code CHAIN} only)
+     *
+     * @return the plan or a failed plan
+     */
+    private static BackingStoreLayout declare( final Class<?> collectionClass,
+                                               final Kind kind,
+                                               final String storeFieldName,
+                                               final String entryCountFieldName,
+                                               final String frontIndexFieldName,
+                                               final String backIndexFieldName,
+                                               final boolean backIndexIsInclusive,
+                                               final String nodeDataFieldName,
+                                               final String nodeNextFieldName )
+        {
+
+        final boolean hasEntryCount = isNamed( entryCountFieldName ) ;
+        final boolean hasBackIndex = ( Kind.CIRCULAR_ARRAY == kind ) && isNamed( backIndexFieldName ) ;
+
+        // the roles the kind requires - report them by name rather than as an empty field name
+        final String missingRole ;
+
+        if ( !isNamed( storeFieldName ) )
+            {
+            missingRole = Kind.CHAIN == kind
+                ? "a first node"
+                : "a backing store array" ;
+            }
+        else if ( ( Kind.ARRAY == kind ) && !hasEntryCount )
+            {
+            missingRole = "an entry count" ;
+            }
+        else if ( ( Kind.CIRCULAR_ARRAY == kind ) && !isNamed( frontIndexFieldName ) )
+            {
+            missingRole = "a front index" ;
+            }
+        else if ( ( Kind.CIRCULAR_ARRAY == kind ) && !hasEntryCount && !hasBackIndex )
+            {
+            missingRole = "an entry count or a back index" ;
+            }
+        else if ( ( Kind.CHAIN == kind ) &&
+                  ( !isNamed( nodeDataFieldName ) || !isNamed( nodeNextFieldName ) ) )
+            {
+            missingRole = "a node data and a node next field" ;
+            }
+        else
+            {
+            missingRole = null ;
+            }
+
+        if ( null != missingRole )
+            {
+            return new BackingStoreLayout( collectionClass,
+                                           String.format( "declared layout: %s needs %s field",
+                                                          kind,
+                                                          missingRole ) ) ;
+            }
+
+        final Field storeField = declaredField( collectionClass, storeFieldName ) ;
+        final Field entryCountField = hasEntryCount
+            ? declaredField( collectionClass, entryCountFieldName )
+            : null ;
+        final Field frontIndexField = Kind.CIRCULAR_ARRAY == kind
+            ? declaredField( collectionClass, frontIndexFieldName )
+            : null ;
+        final Field backIndexField = hasBackIndex
+            ? declaredField( collectionClass, backIndexFieldName )
+            : null ;
+
+        String failure = null ;
+
+        if ( null == storeField )
+            {
+            failure = String.format( "no %s field named \"%s\"",
+                                     Kind.CHAIN == kind
+                                         ? "first node"
+                                         : "backing store",
+                                     storeFieldName ) ;
+            }
+        else if ( hasEntryCount && ( null == entryCountField ) )
+            {
+            failure = String.format( "no entry count field named \"%s\"", entryCountFieldName ) ;
+            }
+        else if ( ( Kind.CIRCULAR_ARRAY == kind ) && ( null == frontIndexField ) )
+            {
+            failure = String.format( "no front index field named \"%s\"", frontIndexFieldName ) ;
+            }
+        else if ( hasBackIndex && ( null == backIndexField ) )
+            {
+            failure = String.format( "no back index field named \"%s\"", backIndexFieldName ) ;
+            }
+        else if ( storeField.getType().isPrimitive() ||
+                  ( ( null != entryCountField ) && ( int.class != entryCountField.getType() ) ) ||
+                  ( ( null != frontIndexField ) && ( int.class != frontIndexField.getType() ) ) ||
+                  ( ( null != backIndexField ) && ( int.class != backIndexField.getType() ) ) )
+            {
+            failure = "the backing store must be a reference and the entry count, front index, and back index must be ints" ;
+            }
+
+        Field nodeDataField = null ;
+        Field nodeNextField = null ;
+
+        if ( ( null == failure ) && ( Kind.CHAIN == kind ) )
+            {
+            final Class<?> nodeClass = storeField.getType() ;
+            nodeDataField = declaredField( nodeClass, nodeDataFieldName ) ;
+            nodeNextField = declaredField( nodeClass, nodeNextFieldName ) ;
+
+            if ( ( null == nodeDataField ) || ( null == nodeNextField ) )
+                {
+                failure = String.format( "node class %s has no %s field named \"%s\"",
+                                         nodeClass.getSimpleName(),
+                                         null == nodeDataField
+                                             ? "data"
+                                             : "next",
+                                         null == nodeDataField
+                                             ? nodeDataFieldName
+                                             : nodeNextFieldName ) ;
+                }
+
+            }
+
+        return null == failure
+            ? compile( collectionClass,
+                       kind,
+                       storeField,
+                       entryCountField,
+                       0,
+                       frontIndexField,
+                       backIndexField,
+                       backIndexIsInclusive,
+                       nodeDataField,
+                       nodeNextField )
+            : new BackingStoreLayout( collectionClass, "declared layout: " + failure ) ;
+
+        }   // end declare()
+
+
+    /**
+     * Look up a named, non-static field in a class or its superclasses
+     *
+     * @param aClass
+     *     the class to search
+     * @param fieldName
+     *     the field's name
+     *
+     * @return the accessible field or {@code null} if there isn't one
+     */
+    private static Field declaredField( final Class<?> aClass,
+                                        final String fieldName )
+        {
+
+        for ( final Field aField : instanceFields( aClass ) )
+            {
+
+            if ( aField.getName().equals( fieldName ) )
+                {
+                return aField ;
+                }
+
+            }
+
+        return null ;
+
+        }   // end declaredField()
+
+
+    /**
+     * Determine if a role was given a field name
+     *
+     * @param fieldName
+     *     the declared name
+     *
+     * @return {@code false} if {@code fieldName} is {@code null} or {@code NO_SUCH_FIELD}
+     *
+     * @since 1.5
+     */
+    private static boolean isNamed( final String fieldName )
+        {
+
+        return ( null != fieldName ) && !ReflectBackingStores.NO_SUCH_FIELD.equals( fieldName ) ;
+
+        }   // end isNamed()
+
+
+    /*
+     * detection
+     */
+
+
+    /**
+     * Inspect a class's fields to identify its backing store
+     *
+     * @param collectionClass
+     *     the class to inspect
+     *
+     * @return the plan or a failed plan describing why detection failed
+     */
+    private static BackingStoreLayout detect( final Class<?> collectionClass )
+        {
+
+        final List<Field> referenceArrays = new ArrayList<>() ;
+        final List<Field> nodeReferences = new ArrayList<>() ;
+        final List<Field> intFields = new ArrayList<>() ;
+
+        for ( final Field aField : instanceFields( collectionClass ) )
+            {
+            final Class<?> type = aField.getType() ;
+
+            if ( int.class == type )
+                {
+                intFields.add( aField ) ;
+                }
+            else if ( type.isArray() && !type.getComponentType().isPrimitive() &&
+                      !type.getComponentType().isArray() )
+                {
+                referenceArrays.add( aField ) ;
+                }
+            else if ( null != selfReference( type ) )
+                {
+                nodeReferences.add( aField ) ;
+                }
+
+            }
+
+        if ( !referenceArrays.isEmpty() && !nodeReferences.isEmpty() )
+            {
+            return new BackingStoreLayout( collectionClass,
+                                           String.format( "found both an array (%s) and a node reference (%s)",
+                                                          referenceArrays.get( 0 ).getName(),
+                                                          nodeReferences.get( 0 ).getName() ) ) ;
+            }
+
+        if ( !nodeReferences.isEmpty() )
+            {
+            return detectChain( collectionClass, nodeReferences, intFields ) ;
+            }
+
+        if ( !referenceArrays.isEmpty() )
+            {
+            return detectArray( collectionClass, referenceArrays, intFields ) ;
+            }
+
+        return new BackingStoreLayout( collectionClass,
+                                       "no reference array or node reference field" ) ;
+
+        }   // end detect()
+
+
+    /**
+     * Complete detection of a chain-backed collection
+     *
+     * @param collectionClass
+     *     the class being inspected
+     * @param nodeReferences
+     *     its fields which reference node classes
+     * @param intFields
+     *     its {@code int} fields
+     *
+     * @return the plan or a failed plan
+     */
+    private static BackingStoreLayout detectChain( final Class<?> collectionClass,
+                                                   final List<Field> nodeReferences,
+                                                   final List<Field> intFields )
+        {
+
+        final Field headField = choose( nodeReferences, HEAD_HINTS ) ;
+
+        if ( null == headField )
+            {
+            return new BackingStoreLayout( collectionClass,
+                                           "can't tell which node reference is the first node: " +
+                                           names( nodeReferences ) ) ;
+            }
+
+        final Class<?> nodeClass = headField.getType() ;
+        final List<Field> selfReferences = new ArrayList<>() ;
+        final List<Field> dataCandidates = new ArrayList<>() ;
+
+        for ( final Field aField : instanceFields( nodeClass ) )
+            {
+
+            if ( aField.getType() == nodeClass )
+                {
+                selfReferences.add( aField ) ;
+                }
+            else if ( !aField.getType().isPrimitive() )
+                {
+                dataCandidates.add( aField ) ;
+                }
+
+            }
+
+        final Field nextField = choose( withoutHints( selfReferences, "prev", "previous", "back" ),
+                                        NEXT_HINTS ) ;
+        final Field dataField = choose( dataCandidates, DATA_HINTS ) ;
+
+        if ( ( null == nextField ) || ( null == dataField ) )
+            {
+            return new BackingStoreLayout( collectionClass,
+                                           String.format( "can't identify the %s field of node class %s",
+                                                          null == nextField
+                                                              ? "next"
+                                                              : "data",
+                                                          nodeClass.getSimpleName() ) ) ;
+            }
+
+        return compile( collectionClass,
+                        Kind.CHAIN,
+                        headField,
+                        chooseCount( intFields ),
+                        0,
+                        null,
+                        null,
+                        false,
+                        dataField,
+                        nextField ) ;
+
+        }   // end detectChain()
+
+
+    /**
+     * Complete detection of an array-backed or circular-array-backed collection
+     *
+     * @param collectionClass
+     *     the class being inspected
+     * @param referenceArrays
+     *     its reference array fields
+     * @param intFields
+     *     its {@code int} fields
+     *
+     * @return the plan or a failed plan
+     */
+    private static BackingStoreLayout detectArray( final Class<?> collectionClass,
+                                                   final List<Field> referenceArrays,
+                                                   final List<Field> intFields )
+        {
+
+        final Field storeField = choose( referenceArrays, STORE_HINTS ) ;
+
+        if ( null == storeField )
+            {
+            return new BackingStoreLayout( collectionClass,
+                                           "can't tell which array is the backing store: " +
+                                           names( referenceArrays ) ) ;
+            }
+
+        final Field entryCountField = chooseCount( intFields ) ;
+        final List<Field> frontCandidates = new ArrayList<>() ;
+        final List<Field> backCandidates = new ArrayList<>() ;
+
+        for ( final Field aField : intFields )
+            {
+
+            if ( aField == entryCountField )
+                {
+                continue ;
+                }
+
+            if ( hasHint( aField, FRONT_HINTS ) )
+                {
+                frontCandidates.add( aField ) ;
+                }
+            else if ( hasHint( aField, BACK_HINTS ) )
+                {
+                backCandidates.add( aField ) ;
+                }
+
+            }
+
+        // a back index is only used if there's exactly one candidate
+        final Field backIndexField = ( 1 == frontCandidates.size() ) &&
+                                     ( 1 == backCandidates.size() )
+            ? backCandidates.get( 0 )
+            : null ;
+
+        // backIndex refers to the last entry, back to the slot following it
+        final boolean backIndexIsInclusive = ( null != backIndexField ) &&
+                                             hasHint( backIndexField, "index" ) ;
+
+        // a queue without an entry count - its front and back indices determine the entries
+        if ( ( null == entryCountField ) && ( null != backIndexField ) )
+            {
+            return compile( collectionClass,
+                            Kind.CIRCULAR_ARRAY,
+                            storeField,
+                            null,
+                            0,
+                            frontCandidates.get( 0 ),
+                            backIndexField,
+                            backIndexIsInclusive,
+                            null,
+                            null ) ;
+            }
+
+        // a stack without an entry count - its top index determines the entries
+        if ( null == entryCountField )
+            {
+            final List<Field> topCandidates = new ArrayList<>() ;
+
+            for ( final Field aField : intFields )
+                {
+
+                if ( hasHint( aField, TOP_HINTS ) )
+                    {
+                    topCandidates.add( aField ) ;
+                    }
+
+                }
+
+            if ( 1 != topCandidates.size() )
+                {
+                return new BackingStoreLayout( collectionClass,
+                                               "can't identify the entry count field among the int fields: " +
+                                               names( intFields ) ) ;
+                }
+
+            final Field topField = topCandidates.get( 0 ) ;
+
+            // topIndex refers to the top entry, top to the slot above it
+            return compile( collectionClass,
+                            Kind.ARRAY,
+                            storeField,
+                            topField,
+                            hasHint( topField, "index" )
+                                ? 1
+                                : 0,
+                            null,
+                            null,
+                            false,
+                            null,
+                            null ) ;
+            }
+
+        if ( frontCandidates.size() > 1 )
+            {
+            return new BackingStoreLayout( collectionClass,
+                                           "can't tell which int field is the front index: " +
+                                           names( frontCandidates ) ) ;
+            }
+
+        return compile( collectionClass,
+                        frontCandidates.isEmpty()
+                            ? Kind.ARRAY
+                            : Kind.CIRCULAR_ARRAY,
+                        storeField,
+                        entryCountField,
+                        0,
+                        frontCandidates.isEmpty()
+                            ? null
+                            : frontCandidates.get( 0 ),
+                        backIndexField,
+                        backIndexIsInclusive,
+                        null,
+                        null ) ;
+
+        }   // end detectArray()
+
+
+    /**
+     * Identify the entry count among a class's {@code int} fields
+     *
+     * @param intFields
+     *     the candidates
+     *
+     * @return the entry count field or {@code null} if there isn't an unambiguous one
+     */
+    private static Field chooseCount( final List<Field> intFields )
+        {
+
+        final List<Field> candidates = new ArrayList<>() ;
+
+        for ( final Field aField : withoutHints( intFields, NOT_COUNT_HINTS ) )
+            {
+
+            if ( !hasHint( aField, HEAD_HINTS ) && !hasHint( aField, BACK_HINTS ) )
+                {
+                candidates.add( aField ) ;
+                }
+
+            }
+
+        return choose( candidates, COUNT_HINTS ) ;
+
+        }   // end chooseCount()
+
+
+    /**
+     * Pick one field from the candidates for a role
+     *
+     * @param candidates
+     *     the fields which could fill the role
+     * @param hints
+     *     name fragments, in order of preference, which suggest the role
+     *
+     * @return the only candidate, the first candidate matching the most preferred hint, or
+     *     {@code null} if there are no candidates or none of several matches a hint
+     */
+    private static Field choose( final List<Field> candidates,
+                                 final String... hints )
+        {
+
+        if ( 1 == candidates.size() )
+            {
+            return candidates.get( 0 ) ;
+            }
+
+        for ( final String hint : hints )
+            {
+
+            for ( final Field candidate : candidates )
+                {
+
+                if ( candidate.getName().toLowerCase( Locale.ROOT ).contains( hint ) )
+                    {
+                    return candidate ;
+                    }
+
+                }
+
+            }
+
+        return null ;
+
+        }   // end choose()
+
+
+    /**
+     * Determine if a field's name contains any of the hints
+     *
+     * @param aField
+     *     the field
+     * @param hints
+     *     lowercase name fragments
+     *
+     * @return {@code true} if any hint matches
+     */
+    private static boolean hasHint( final Field aField,
+                                    final String... hints )
+        {
+
+        final String name = aField.getName().toLowerCase( Locale.ROOT ) ;
+
+        for ( final String hint : hints )
+            {
+
+            if ( name.contains( hint ) )
+                {
+                return true ;
+                }
+
+            }
+
+        return false ;
+
+        }   // end hasHint()
+
+
+    /**
+     * Remove fields whose names contain any of the hints
+     *
+     * @param fields
+     *     the fields to filter
+     * @param hints
+     *     lowercase name fragments to exclude
+     *
+     * @return the remaining fields
+     */
+    private static List<Field> withoutHints( final List<Field> fields,
+                                             final String... hints )
+        {
+
+        final List<Field> remaining = new ArrayList<>( fields.size() ) ;
+
+        for ( final Field aField : fields )
+            {
+
+            if ( !hasHint( aField, hints ) )
+                {
+                remaining.add( aField ) ;
+                }
+
+            }
+
+        return remaining ;
+
+        }   // end withoutHints()
+
+
+    /**
+     * Determine if a type is a node class - one with a field of its own type
+     *
+     * @param type
+     *     the type to inspect
+     *
+     * @return the self-referencing field or {@code null} if {@code type} isn't a node class
+     */
+    private static Field selfReference( final Class<?> type )
+        {
+
+        if ( type.isPrimitive() || type.isArray() || type.isInterface() ||
+             ( Object.class == type ) || type.getName().startsWith( "java." ) )
+            {
+            return null ;
+            }
+
+        for ( final Field aField : instanceFields( type ) )
+            {
+
+            if ( aField.getType() == type )
+                {
+                return aField ;
+                }
+
+            }
+
+        return null ;
+
+        }   // end selfReference()
+
+
+    /**
+     * Collect a class's accessible, non-static, non-synthetic fields, including inherited ones
+     *
+     * @param aClass
+     *     the class to inspect
+     *
+     * @return the fields, subclass first, each in declaration order
+     */
+    private static List<Field> instanceFields( final Class<?> aClass )
+        {
+
+        final List<Field> fields = new ArrayList<>() ;
+
+        for ( Class<?> currentClass = aClass ;
+              ( null != currentClass ) && ( Object.class != currentClass ) ;
+              currentClass = currentClass.getSuperclass() )
+            {
+
+            for ( final Field aField : currentClass.getDeclaredFields() )
+                {
+
+                if ( !Modifier.isStatic( aField.getModifiers() ) &&
+                     !aField.isSynthetic() &&
+                     aField.trySetAccessible() )
+                    {
+                    fields.add( aField ) ;
+                    }
+
+                }
+
+            }
+
+        return fields ;
+
+        }   // end instanceFields()
+
+
+    /**
+     * List field names for a diagnostic message
+     *
+     * @param fields
+     *     the fields
+     *
+     * @return their names, comma-separated
+     */
+    private static String names( final List<Field> fields )
+        {
+
+        final List<String> fieldNames = new ArrayList<>( fields.size() ) ;
+
+        for ( final Field aField : fields )
+            {
+            fieldNames.add( aField.getName() ) ;
+            }
+
+        return fieldNames.isEmpty()
+            ? "(none)"
+            : String.join( ", ", fieldNames ) ;
+
+        }   // end names()
+
+    }   // end class BackingStoreLayout
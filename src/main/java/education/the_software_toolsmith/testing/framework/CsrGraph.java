@@ -0,0 +1,556 @@
+/* @formatter:off
+ *
+ * © David M Rosenberg, The Software Toolsmith (education)
+ *
+ * This file is part of the Testing Framework for Java.
+ * Repository: https://github.com/The-Software-Toolsmith/testing-framework-for-java
+ *
+ * Licensed under the Creative Commons Attribution-NonCommercial 4.0 International License.
+ * You may obtain a copy of the license at:
+ *     https://creativecommons.org/licenses/by-nc/4.0/
+ *
+ * You may use, share, and adapt this file for non-commercial purposes,
+ * provided you give appropriate credit.
+ *
+ * @formatter:on
+ */
+
+
+package education.the_software_toolsmith.testing.framework ;
+
+import java.util.Arrays ;
+import java.util.Collections ;
+import java.util.Comparator ;
+import java.util.HashMap ;
+import java.util.Map ;
+import java.util.Objects ;
+
+/**
+ * A directed graph in compressed sparse row (CSR) form - vertices are numbered 0..n-1 and the
+ * edges leaving vertex {@code v} are {@code targets[ offsets[ v ] ]} through
+ * {@code targets[ offsets[ v + 1 ] - 1 ]}
+ * <p>
+ * {@code equals()}, {@code hashCode()}, and {@code toString()} use the arrays' contents rather
+ * than their identities; {@code toString()} omits {@code vertexNumbers}, which restates
+ * {@code vertices}
+ *
+ * @param vertices
+ *     element {@code v} is the vertex numbered {@code v} or {@code null} if the vertices have no
+ *     identity beyond their number (e.g. an adjacency matrix)
+ * @param offsets
+ *     {@code n + 1} elements - the start of each vertex's edges in {@code targets}; the last
+ *     element is the number of edges
+ * @param targets
+ *     the destination vertex number of each edge, grouped by source vertex
+ * @param weights
+ *     the weight of each edge, parallel to {@code targets}, or {@code null} if the graph is
+ *     unweighted
+ * @param vertexNumbers
+ *     maps each vertex (matched with {@code equals()}) to its number or {@code null} if the
+ *     vertices have no identity - derived from {@code vertices} by the four-argument constructor
+ *
+ * @author David M Rosenberg
+ *
+ * @version 1.0 2026-10-18 Initial implementation
+ * @version 1.1 2026-10-19 {@code indexOf()} uses a map from vertex to number rather than a
+ *     linear scan; add {@code hasSameEdges()} to compare graphs regardless of vertex numbering
+ * @version 1.2 2026-10-19 compare, hash, and format the array components by content
+ */
+public record CsrGraph( Object[] vertices,
+                        int[] offsets,
+                        int[] targets,
+                        double[] weights,
+                        Map<Object, Integer> vertexNumbers )
+    {
+
+    /** distance reported for vertices which can't be reached by {@code breadthFirstDistances()} */
+    public final static int UNREACHABLE = -1 ;
+
+    /** orders (target, weight) edge pairs for {@code hasSameEdges()} */
+    private final static Comparator<double[]> EDGE_ORDER =
+                Comparator.<double[]> comparingDouble( edge -> edge[ 0 ] )
+                          .thenComparingDouble( edge -> edge[ 1 ] ) ;
+
+
+    /**
+     * Build a graph, numbering its vertices for {@code indexOf()}
+     *
+     * @param vertices
+     *     element {@code v} is the vertex numbered {@code v} or {@code null} if the vertices have
+     *     no identity beyond their number
+     * @param offsets
+     *     {@code n + 1} elements - the start of each vertex's edges in {@code targets}
+     * @param targets
+     *     the destination vertex number of each edge, grouped by source vertex
+     * @param weights
+     *     the weight of each edge or {@code null} if the graph is unweighted
+     *
+     * @since 1.1
+     */
+    public CsrGraph( final Object[] vertices,
+                     final int[] offsets,
+                     final int[] targets,
+                     final double[] weights )
+        {
+
+        this( vertices, offsets, targets, weights, numberVertices( vertices ) ) ;
+
+        }   // end 4-argument constructor
+
+
+    /**
+     * Map each vertex to its number - if a vertex appears more than once, its first number is
+     * kept
+     *
+     * @param vertices
+     *     the vertices in number order or {@code null}
+     *
+     * @return the read-only map or {@code null} if {@code vertices} is {@code null}
+     */
+    private static Map<Object, Integer> numberVertices( final Object[] vertices )
+        {
+
+        if ( null == vertices )
+            {
+            return null ;
+            }
+
+        final Map<Object, Integer> vertexNumbers = HashMap.newHashMap( vertices.length ) ;
+
+        for ( int v = 0 ; v < vertices.length ; v++ )
+            {
+            vertexNumbers.putIfAbsent( vertices[ v ], v ) ;
+            }
+
+        return Collections.unmodifiableMap( vertexNumbers ) ;
+
+        }   // end numberVertices()
+
+
+    /**
+     * the number of vertices
+     *
+     * @return the number of vertices
+     *
+     * @since 1.0
+     */
+    public int vertexCount()
+        {
+
+        return this.offsets.length - 1 ;
+
+        }   // end vertexCount()
+
+
+    /**
+     * the number of (directed) edges
+     *
+     * @return the number of edges
+     *
+     * @since 1.0
+     */
+    public int edgeCount()
+        {
+
+        return this.targets.length ;
+
+        }   // end edgeCount()
+
+
+    /**
+     * the number of edges leaving a vertex
+     *
+     * @param vertex
+     *     the vertex number
+     *
+     * @return {@code vertex}'s out-degree
+     *
+     * @since 1.0
+     */
+    public int outDegree( final int vertex )
+        {
+
+        return this.offsets[ vertex + 1 ] - this.offsets[ vertex ] ;
+
+        }   // end outDegree()
+
+
+    /**
+     * Determine the number of a vertex
+     *
+     * @param vertex
+     *     the vertex to look for - compared with {@code equals()}
+     *
+     * @return the vertex's number or -1 if it isn't in the graph or the vertices have no identity
+     *
+     * @since 1.0
+     */
+    public int indexOf( final Object vertex )
+        {
+
+        if ( null == this.vertexNumbers )
+            {
+            return -1 ;
+            }
+
+        return this.vertexNumbers.getOrDefault( vertex, -1 ) ;
+
+        }   // end indexOf()
+
+
+    /**
+     * Determine if two graphs have the same edges regardless of how their vertices are numbered -
+     * vertices are matched with {@code equals()} or, if either graph's vertices have no
+     * identity, by number
+     * <p>
+     * vertex numbering follows the source's iteration order (e.g. a {@code HashMap}'s keys) so
+     * equal graphs may have different CSR arrays; parallel edges are compared as a multiset and
+     * weights are compared with {@code Double.compare()}
+     *
+     * @param other
+     *     the graph to compare with
+     *
+     * @return {@code true} if the graphs have the same vertices and, for each pair of vertices,
+     *     the same edges (including weights) between them
+     *
+     * @since 1.1
+     */
+    public boolean hasSameEdges( final CsrGraph other )
+        {
+
+        if ( ( null == other ) || ( vertexCount() != other.vertexCount() ) ||
+             ( edgeCount() != other.edgeCount() ) ||
+             ( ( null == this.weights ) != ( null == other.weights ) ) )
+            {
+            return false ;
+            }
+
+        // this graph's vertex number -> other's vertex number
+        final int[] renumbering = new int[ vertexCount() ] ;
+
+        if ( ( null == this.vertices ) || ( null == other.vertices ) )
+            {
+            Arrays.setAll( renumbering, v -> v ) ;
+            }
+        else
+            {
+            final boolean[] matched = new boolean[ vertexCount() ] ;
+
+            for ( int v = 0 ; v < renumbering.length ; v++ )
+                {
+                final int otherVertex = other.indexOf( this.vertices[ v ] ) ;
+
+                if ( ( -1 == otherVertex ) || matched[ otherVertex ] )
+                    {
+                    return false ;
+                    }
+
+                matched[ otherVertex ] = true ;
+                renumbering[ v ] = otherVertex ;
+                }
+
+            }
+
+        for ( int v = 0 ; v < renumbering.length ; v++ )
+            {
+            final int otherVertex = renumbering[ v ] ;
+
+            if ( outDegree( v ) != other.outDegree( otherVertex ) )
+                {
+                return false ;
+                }
+
+            final double[][] edges = new double[ outDegree( v ) ][] ;
+            final double[][] otherEdges = new double[ edges.length ][] ;
+
+            for ( int i = 0 ; i < edges.length ; i++ )
+                {
+                final int e = this.offsets[ v ] + i ;
+                final int otherE = other.offsets[ otherVertex ] + i ;
+
+                edges[ i ] = new double[] { renumbering[ this.targets[ e ] ],
+                                            null == this.weights
+                                                ? 0.0
+                                                : this.weights[ e ] } ;
+                otherEdges[ i ] = new double[] { other.targets[ otherE ],
+                                                 null == other.weights
+                                                     ? 0.0
+                                                     : other.weights[ otherE ] } ;
+                }
+
+            Arrays.sort( edges, EDGE_ORDER ) ;
+            Arrays.sort( otherEdges, EDGE_ORDER ) ;
+
+            for ( int i = 0 ; i < edges.length ; i++ )
+                {
+
+                if ( 0 != EDGE_ORDER.compare( edges[ i ], otherEdges[ i ] ) )
+                    {
+                    return false ;
+                    }
+
+                }
+
+            }
+
+        return true ;
+
+        }   // end hasSameEdges()
+
+
+    /**
+     * Determine if there is an edge between two vertices
+     *
+     * @param fromVertex
+     *     the source vertex number
+     * @param toVertex
+     *     the destination vertex number
+     *
+     * @return {@code true} if at least one edge leads from {@code fromVertex} to {@code toVertex}
+     *
+     * @since 1.0
+     */
+    public boolean hasEdge( final int fromVertex,
+                            final int toVertex )
+        {
+
+        for ( int e = this.offsets[ fromVertex ] ; e < this.offsets[ fromVertex + 1 ] ; e++ )
+            {
+
+            if ( toVertex == this.targets[ e ] )
+                {
+                return true ;
+                }
+
+            }
+
+        return false ;
+
+        }   // end hasEdge()
+
+
+    /**
+     * Reference breadth-first search - the number of edges on a shortest path from
+     * {@code source} to every vertex
+     *
+     * @param source
+     *     the starting vertex number
+     *
+     * @return element {@code v} is the distance to {@code v} or {@code UNREACHABLE}
+     *
+     * @since 1.0
+     */
+    public int[] breadthFirstDistances( final int source )
+        {
+
+        final int[] distances = new int[ vertexCount() ] ;
+        Arrays.fill( distances, UNREACHABLE ) ;
+
+        // each vertex is enqueued at most once so an array suffices for the queue
+        final int[] queue = new int[ vertexCount() ] ;
+        int head = 0 ;
+        int tail = 0 ;
+
+        distances[ source ] = 0 ;
+        queue[ tail++ ] = source ;
+
+        while ( head < tail )
+            {
+            final int vertex = queue[ head++ ] ;
+
+            for ( int e = this.offsets[ vertex ] ; e < this.offsets[ vertex + 1 ] ; e++ )
+                {
+                final int neighbor = this.targets[ e ] ;
+
+                if ( UNREACHABLE == distances[ neighbor ] )
+                    {
+                    distances[ neighbor ] = distances[ vertex ] + 1 ;
+                    queue[ tail++ ] = neighbor ;
+                    }
+
+                }
+
+            }
+
+        return distances ;
+
+        }   // end breadthFirstDistances()
+
+
+    /**
+     * Reference Dijkstra's algorithm - the total weight of a cheapest path from {@code source} to
+     * every vertex; an unweighted graph's edges each weigh 1.0
+     *
+     * @param source
+     *     the starting vertex number
+     *
+     * @return element {@code v} is the cost to reach {@code v} or
+     *     {@code Double.POSITIVE_INFINITY} if {@code v} is unreachable
+     *
+     * @throws TestingException
+     *     if any edge has a negative weight
+     *
+     * @since 1.0
+     */
+    public double[] shortestPathDistances( final int source )
+        throws TestingException
+        {
+
+        if ( null != this.weights )
+            {
+
+            for ( int e = 0 ; e < this.weights.length ; e++ )
+                {
+
+                if ( this.weights[ e ] < 0.0 )
+                    {
+                    throw new TestingException( String.format( "shortest paths require non-negative edge weights: edge %,d has weight %s",
+                                                               e,
+                                                               this.weights[ e ] ) ) ;
+                    }
+
+                }
+
+            }
+
+        final double[] distances = new double[ vertexCount() ] ;
+        Arrays.fill( distances, Double.POSITIVE_INFINITY ) ;
+
+        // binary min-heap of (distance, vertex) pairs in parallel arrays with lazy deletion - at
+        // most one entry per edge plus the source
+        double[] heapDistances = new double[ 16 ] ;
+        int[] heapVertices = new int[ 16 ] ;
+        int heapSize = 0 ;
+
+        distances[ source ] = 0.0 ;
+        heapDistances[ heapSize ] = 0.0 ;
+        heapVertices[ heapSize++ ] = source ;
+
+        while ( heapSize > 0 )
+            {
+            final double distance = heapDistances[ 0 ] ;
+            final int vertex = heapVertices[ 0 ] ;
+
+            // remove the root and sift the last entry down
+            heapSize-- ;
+            final double movingDistance = heapDistances[ heapSize ] ;
+            final int movingVertex = heapVertices[ heapSize ] ;
+            int hole = 0 ;
+
+            while ( 2 * hole + 1 < heapSize )
+                {
+                int child = 2 * hole + 1 ;
+
+                if ( ( child + 1 < heapSize ) &&
+                     ( heapDistances[ child + 1 ] < heapDistances[ child ] ) )
+                    {
+                    child++ ;
+                    }
+
+                if ( heapDistances[ child ] >= movingDistance )
+                    {
+                    break ;
+                    }
+
+                heapDistances[ hole ] = heapDistances[ child ] ;
+                heapVertices[ hole ] = heapVertices[ child ] ;
+                hole = child ;
+                }
+
+            heapDistances[ hole ] = movingDistance ;
+            heapVertices[ hole ] = movingVertex ;
+
+            // stale entry - a shorter path was already found
+            if ( distance > distances[ vertex ] )
+                {
+                continue ;
+                }
+
+            for ( int e = this.offsets[ vertex ] ; e < this.offsets[ vertex + 1 ] ; e++ )
+                {
+                final int neighbor = this.targets[ e ] ;
+                final double candidate = distance +
+                                         ( null == this.weights
+                                             ? 1.0
+                                             : this.weights[ e ] ) ;
+
+                if ( candidate < distances[ neighbor ] )
+                    {
+                    distances[ neighbor ] = candidate ;
+
+                    if ( heapSize == heapDistances.length )
+                        {
+                        heapDistances = Arrays.copyOf( heapDistances, heapSize * 2 ) ;
+                        heapVertices = Arrays.copyOf( heapVertices, heapSize * 2 ) ;
+                        }
+
+                    // insert and sift up
+                    hole = heapSize++ ;
+
+                    while ( hole > 0 )
+                        {
+                        final int parent = ( hole - 1 ) / 2 ;
+
+                        if ( heapDistances[ parent ] <= candidate )
+                            {
+                            break ;
+                            }
+
+                        heapDistances[ hole ] = heapDistances[ parent ] ;
+                        heapVertices[ hole ] = heapVertices[ parent ] ;
+                        hole = parent ;
+                        }
+
+                    heapDistances[ hole ] = candidate ;
+                    heapVertices[ hole ] = neighbor ;
+                    }
+
+                }
+
+            }
+
+        return distances ;
+
+        }   // end shortestPathDistances()
+
+
+    @Override
+    public boolean equals( final Object otherObject )
+        {
+
+        return ( otherObject instanceof final CsrGraph otherGraph ) &&
+               Arrays.deepEquals( this.vertices, otherGraph.vertices ) &&
+               Arrays.equals( this.offsets, otherGraph.offsets ) &&
+               Arrays.equals( this.targets, otherGraph.targets ) &&
+               Arrays.equals( this.weights, otherGraph.weights ) &&
+               Objects.equals( this.vertexNumbers, otherGraph.vertexNumbers ) ;
+
+        }   // end equals()
+
+
+    @Override
+    public int hashCode()
+        {
+
+        return Objects.hash( Arrays.deepHashCode( this.vertices ),
+                             Arrays.hashCode( this.offsets ),
+                             Arrays.hashCode( this.targets ),
+                             Arrays.hashCode( this.weights ),
+                             this.vertexNumbers ) ;
+
+        }   // end hashCode()
+
+
+    @Override
+    public String toString()
+        {
+
+        return String.format( "CsrGraph[vertices=%s, offsets=%s, targets=%s, weights=%s]",
+                              Arrays.deepToString( this.vertices ),
+                              Arrays.toString( this.offsets ),
+                              Arrays.toString( this.targets ),
+                              Arrays.toString( this.weights ) ) ;
+
+        }   // end toString()
+
+    }   // end record CsrGraph
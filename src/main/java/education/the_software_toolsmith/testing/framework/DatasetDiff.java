@@ -0,0 +1,681 @@
+/* @formatter:off
+ *
+ * © David M Rosenberg, The Software Toolsmith (education)
+ *
+ * This file is part of the Testing Framework for Java.
+ * Repository: https://github.com/The-Software-Toolsmith/testing-framework-for-java
+ *
+ * Licensed under the Creative Commons Attribution-NonCommercial 4.0 International License.
+ * You may obtain a copy of the license at:
+ *     https://creativecommons.org/licenses/by-nc/4.0/
+ *
+ * You may use, share, and adapt this file for non-commercial purposes,
+ * provided you give appropriate credit.
+ *
+ * @formatter:on
+ */
+
+
+package education.the_software_toolsmith.testing.framework ;
+
+import java.util.ArrayList ;
+import java.util.Arrays ;
+import java.util.List ;
+
+/**
+ * A minimal edit script which transforms an expected dataset into an actual dataset - e.g. "the
+ * element at index 3 is extra" rather than "element mismatch at index 3" followed by a mismatch at
+ * every later index
+ * <p>
+ * computed with Myers' O(ND) difference algorithm using the linear space refinement (recursing on
+ * the middle snake), so memory is proportional to the edit distance rather than to the product
+ * of the dataset lengths; the search gives up once the edit distance is known to exceed a
+ * budget, bounding the time to O((N+M)·budget)
+ *
+ * @param editDistance
+ *     the number of elements deleted from expected plus the number inserted from actual
+ * @param hunks
+ *     the changed regions in ascending order - each is separated from the next by at least one
+ *     matching element
+ *
+ * @author David M Rosenberg
+ *
+ * @version 1.0 2026-10-18 Initial implementation
+ */
+public record DatasetDiff( int editDistance,
+                           List<Hunk> hunks )
+    {
+
+    /**
+     * the default maximum edit distance {@code of()} will search for
+     */
+    public final static int DEFAULT_MAXIMUM_EDIT_DISTANCE = 1_000 ;
+
+
+    /**
+     * One changed region: {@code expectedCount} elements of expected starting at
+     * {@code expectedIndex} are replaced by {@code actualCount} elements of actual starting at
+     * {@code actualIndex}
+     *
+     * @param expectedIndex
+     *     index of the first replaced element in expected - or where the insertion occurs
+     * @param expectedCount
+     *     number of elements of expected which don't appear in actual - 0 for an insertion
+     * @param actualIndex
+     *     index of the first replacement element in actual - or where the deletion occurs
+     * @param actualCount
+     *     number of elements of actual which don't appear in expected - 0 for a deletion
+     *
+     * @since 1.0
+     */
+    public record Hunk( int expectedIndex,
+                        int expectedCount,
+                        int actualIndex,
+                        int actualCount )
+        {
+
+
+        /**
+         * the kind of change
+         *
+         * @return {@code DELETE} if elements are missing from actual, {@code INSERT} if actual has
+         *     extra elements, otherwise {@code SUBSTITUTE}
+         *
+         * @since 1.0
+         */
+        public Operation operation()
+            {
+
+            if ( 0 == this.actualCount )
+                {
+                return Operation.DELETE ;
+                }
+
+            return 0 == this.expectedCount
+                ? Operation.INSERT
+                : Operation.SUBSTITUTE ;
+
+            }   // end operation()
+
+        }   // end record Hunk
+
+
+    /** kinds of changes */
+    public enum Operation
+        {
+        /** elements of expected are missing from actual */
+        DELETE,
+        /** actual contains elements which aren't in expected */
+        INSERT,
+        /** elements of expected are replaced by different elements in actual */
+        SUBSTITUTE
+        }
+
+
+    /**
+     * Compute the minimal edit script between two datasets
+     *
+     * @param expected
+     *     the dataset of elements as they should appear
+     * @param actual
+     *     the dataset of elements to be verified against expected
+     * @param compareEquality
+     *     if true, elements are matched using {@code equals()} ({@code null}-safe); if false,
+     *     using {@code ==}
+     * @param maximumEditDistance
+     *     give up if more than this many insertions and deletions are required
+     *
+     * @return the edit script - empty if the datasets match - or {@code null} if the edit
+     *     distance exceeds {@code maximumEditDistance}
+     *
+     * @since 1.0
+     */
+    public static DatasetDiff of( final Object[] expected,
+                                  final Object[] actual,
+                                  final boolean compareEquality,
+                                  final int maximumEditDistance )
+        {
+
+        final Differ differ = new Differ( expected,
+                                          actual,
+                                          compareEquality,
+                                          Math.max( 0, maximumEditDistance ) ) ;
+
+        if ( !differ.diff( 0, expected.length, 0, actual.length ) ||
+             ( differ.editDistance > maximumEditDistance ) )
+            {
+            return null ;
+            }
+
+        differ.endHunk() ;
+
+        return new DatasetDiff( differ.editDistance, List.copyOf( differ.hunks ) ) ;
+
+        }   // end of()
+
+
+    /**
+     * the datasets are the same
+     *
+     * @return true if there are no changes
+     *
+     * @since 1.0
+     */
+    public boolean isEmpty()
+        {
+
+        return this.hunks.isEmpty() ;
+
+        }   // end isEmpty()
+
+
+    /**
+     * Describe the changes, e.g.
+     * {@code expected[3] missing: 7; actual[9] extra: "x"; expected[12]: 4 replaced by actual[12]: 5}
+     *
+     * @param expected
+     *     the dataset the script was computed from
+     * @param actual
+     *     the dataset the script was computed from
+     * @param maximumHunks
+     *     the maximum number of changes to describe
+     *
+     * @return the description
+     *
+     * @since 1.0
+     */
+    public String describe( final Object[] expected,
+                            final Object[] actual,
+                            final int maximumHunks )
+        {
+
+        final StringBuilder description = new StringBuilder() ;
+        final int described = Math.min( maximumHunks, this.hunks.size() ) ;
+
+        for ( int i = 0 ; i < described ; i++ )
+            {
+            final Hunk hunk = this.hunks.get( i ) ;
+
+            if ( i > 0 )
+                {
+                description.append( "; " ) ;
+                }
+
+            switch ( hunk.operation() )
+                {
+                case DELETE
+                    ->
+                    {
+                    appendRange( description, "expected", hunk.expectedIndex(), hunk.expectedCount() ) ;
+                    description.append( " missing: " ) ;
+                    appendElements( description, expected, hunk.expectedIndex(), hunk.expectedCount() ) ;
+                    }
+                case INSERT
+                    ->
+                    {
+                    appendRange( description, "actual", hunk.actualIndex(), hunk.actualCount() ) ;
+                    description.append( " extra: " ) ;
+                    appendElements( description, actual, hunk.actualIndex(), hunk.actualCount() ) ;
+                    }
+                case SUBSTITUTE
+                    ->
+                    {
+                    appendRange( description, "expected", hunk.expectedIndex(), hunk.expectedCount() ) ;
+                    description.append( ": " ) ;
+                    appendElements( description, expected, hunk.expectedIndex(), hunk.expectedCount() ) ;
+                    description.append( " replaced by " ) ;
+                    appendRange( description, "actual", hunk.actualIndex(), hunk.actualCount() ) ;
+                    description.append( ": " ) ;
+                    appendElements( description, actual, hunk.actualIndex(), hunk.actualCount() ) ;
+                    }
+                }
+
+            }
+
+        if ( described < this.hunks.size() )
+            {
+            description.append( String.format( "; ... %,d more",
+                                               this.hunks.size() - described ) ) ;
+            }
+
+        return description.toString() ;
+
+        }   // end describe()
+
+
+    /**
+     * Append e.g. {@code expected[3]} or {@code expected[3..5]}
+     *
+     * @param description
+     *     the text to append to
+     * @param datasetName
+     *     "expected" or "actual"
+     * @param index
+     *     the first index
+     * @param count
+     *     the number of elements
+     */
+    private static void appendRange( final StringBuilder description,
+                                     final String datasetName,
+                                     final int index,
+                                     final int count )
+        {
+
+        description.append( datasetName ).append( String.format( "[%,d", index ) ) ;
+
+        if ( count > 1 )
+            {
+            description.append( String.format( "..%,d", index + count - 1 ) ) ;
+            }
+
+        description.append( ']' ) ;
+
+        }   // end appendRange()
+
+
+    /**
+     * Append one element or a bounded list of elements
+     *
+     * @param description
+     *     the text to append to
+     * @param dataset
+     *     the dataset holding the elements
+     * @param index
+     *     the first index
+     * @param count
+     *     the number of elements
+     */
+    private static void appendElements( final StringBuilder description,
+                                        final Object[] dataset,
+                                        final int index,
+                                        final int count )
+        {
+
+        if ( 1 == count )
+            {
+            TestData.appendItem( description, dataset[ index ] ) ;
+
+            return ;
+            }
+
+        TestData.appendDataset( description,
+                                Arrays.copyOfRange( dataset, index, index + count ),
+                                TestData.DEFAULT_DATASET_TO_STRING_LENGTH,
+                                TestData.DEFAULT_DATASET_TO_STRING_ELEMENTS ) ;
+
+        }   // end appendElements()
+
+
+    /**
+     * The state of one diff computation
+     *
+     * @since 1.0
+     */
+    private static final class Differ
+        {
+
+        /** the dataset of elements as they should appear */
+        private final Object[] expected ;
+        /** the dataset of elements to be verified */
+        private final Object[] actual ;
+        /** {@code equals()} vs {@code ==} */
+        private final boolean compareEquality ;
+        /** the largest D the middle snake search may reach */
+        private final int maximumHalfDistance ;
+
+        /** furthest reaching forward x on each diagonal k, offset by {@code vOffset} */
+        private final int[] forwardV ;
+        /** furthest reaching reverse x on each reverse diagonal, offset by {@code vOffset} */
+        private final int[] reverseV ;
+        /** index of diagonal 0 in the V arrays */
+        private final int vOffset ;
+
+        /** the hunks found so far */
+        private final List<Hunk> hunks = new ArrayList<>() ;
+        /** total insertions and deletions so far */
+        private int editDistance = 0 ;
+
+        /** the hunk being accumulated - start in expected or -1 if none */
+        private int hunkExpectedIndex = -1 ;
+        /** the hunk being accumulated - start in actual */
+        private int hunkActualIndex ;
+        /** the hunk being accumulated - deletions */
+        private int hunkExpectedCount ;
+        /** the hunk being accumulated - insertions */
+        private int hunkActualCount ;
+
+        /** middle snake result - start offset in the expected subrange */
+        private int snakeStartX ;
+        /** middle snake result - start offset in the actual subrange */
+        private int snakeStartY ;
+        /** middle snake result - end offset in the expected subrange */
+        private int snakeEndX ;
+        /** middle snake result - end offset in the actual subrange */
+        private int snakeEndY ;
+
+
+        /**
+         * Set up the working storage - proportional to the budget, not the datasets
+         *
+         * @param expected
+         *     the dataset of elements as they should appear
+         * @param actual
+         *     the dataset of elements to be verified
+         * @param compareEquality
+         *     {@code equals()} vs {@code ==}
+         * @param maximumEditDistance
+         *     the budget
+         */
+        private Differ( final Object[] expected,
+                        final Object[] actual,
+                        final boolean compareEquality,
+                        final int maximumEditDistance )
+            {
+
+            this.expected = expected ;
+            this.actual = actual ;
+            this.compareEquality = compareEquality ;
+
+            // the middle snake of a D-path is found at step ceil( D / 2 )
+            this.maximumHalfDistance = Math.min( ( maximumEditDistance + 1 ) / 2,
+                                                 ( expected.length + actual.length + 1 ) / 2 ) ;
+            this.vOffset = this.maximumHalfDistance + 1 ;
+            this.forwardV = new int[ 2 * this.vOffset + 1 ] ;
+            this.reverseV = new int[ 2 * this.vOffset + 1 ] ;
+
+            }   // end constructor
+
+
+        /**
+         * Compare elements
+         *
+         * @param expectedIndex
+         *     index in expected
+         * @param actualIndex
+         *     index in actual
+         *
+         * @return true if they match
+         */
+        private boolean matches( final int expectedIndex,
+                                 final int actualIndex )
+            {
+
+            final Object expectedElement = this.expected[ expectedIndex ] ;
+            final Object actualElement = this.actual[ actualIndex ] ;
+
+            return this.compareEquality
+                ? ( expectedElement == actualElement ) ||
+                  ( ( null != expectedElement ) && expectedElement.equals( actualElement ) )
+                : expectedElement == actualElement ;
+
+            }   // end matches()
+
+
+        /**
+         * Record the edit script for {@code expected[ expectedFrom..expectedTo )} vs
+         * {@code actual[ actualFrom..actualTo )}
+         *
+         * @param expectedFrom
+         *     first index in expected (inclusive)
+         * @param expectedTo
+         *     last index in expected (exclusive)
+         * @param actualFrom
+         *     first index in actual (inclusive)
+         * @param actualTo
+         *     last index in actual (exclusive)
+         *
+         * @return false if the middle snake search exceeded the budget - subproblems can't, since
+         *     their distance is at most their parent's
+         */
+        private boolean diff( int expectedFrom,
+                              int expectedTo,
+                              int actualFrom,
+                              int actualTo )
+            {
+
+            // common prefix and suffix match trivially
+            final int prefixStart = expectedFrom ;
+
+            while ( ( expectedFrom < expectedTo ) &&
+                    ( actualFrom < actualTo ) &&
+                    matches( expectedFrom, actualFrom ) )
+                {
+                expectedFrom++ ;
+                actualFrom++ ;
+                }
+
+            if ( expectedFrom > prefixStart )
+                {
+                endHunk() ;
+                }
+
+            int suffixLength = 0 ;
+
+            while ( ( expectedFrom < expectedTo ) &&
+                    ( actualFrom < actualTo ) &&
+                    matches( expectedTo - 1, actualTo - 1 ) )
+                {
+                expectedTo-- ;
+                actualTo-- ;
+                suffixLength++ ;
+                }
+
+            if ( ( expectedFrom == expectedTo ) || ( actualFrom == actualTo ) )
+                {
+                change( expectedFrom,
+                        expectedTo - expectedFrom,
+                        actualFrom,
+                        actualTo - actualFrom ) ;
+                }
+            else
+                {
+
+                if ( !middleSnake( expectedFrom, expectedTo, actualFrom, actualTo ) )
+                    {
+                    return false ;
+                    }
+
+                // capture before recursion overwrites them
+                final int startX = expectedFrom + this.snakeStartX ;
+                final int startY = actualFrom + this.snakeStartY ;
+                final int endX = expectedFrom + this.snakeEndX ;
+                final int endY = actualFrom + this.snakeEndY ;
+
+                diff( expectedFrom, startX, actualFrom, startY ) ;
+
+                if ( endX > startX )
+                    {
+                    endHunk() ;
+                    }
+
+                diff( endX, expectedTo, endY, actualTo ) ;
+                }
+
+            if ( suffixLength > 0 )
+                {
+                endHunk() ;
+                }
+
+            return true ;
+
+            }   // end diff()
+
+
+        /**
+         * Find the middle snake of an optimal path through a subproblem with no common prefix or
+         * suffix - results in the {@code snake} fields, relative to the subproblem
+         *
+         * @param expectedFrom
+         *     first index in expected (inclusive)
+         * @param expectedTo
+         *     last index in expected (exclusive)
+         * @param actualFrom
+         *     first index in actual (inclusive)
+         * @param actualTo
+         *     last index in actual (exclusive)
+         *
+         * @return false if the edit distance exceeds the budget
+         */
+        private boolean middleSnake( final int expectedFrom,
+                                     final int expectedTo,
+                                     final int actualFrom,
+                                     final int actualTo )
+            {
+
+            final int n = expectedTo - expectedFrom ;
+            final int m = actualTo - actualFrom ;
+            final int delta = n - m ;
+            final boolean oddDelta = 0 != ( delta & 1 ) ;
+            final int[] forward = this.forwardV ;
+            final int[] reverse = this.reverseV ;
+            final int offset = this.vOffset ;
+            final int limit = Math.min( ( n + m + 1 ) / 2, this.maximumHalfDistance ) ;
+
+            forward[ offset + 1 ] = 0 ;
+            reverse[ offset + 1 ] = 0 ;
+
+            for ( int d = 0 ; d <= limit ; d++ )
+                {
+
+                // forward paths
+                for ( int k = -d ; k <= d ; k += 2 )
+                    {
+                    int x = ( ( k == -d ) ||
+                              ( ( k != d ) && ( forward[ offset + k - 1 ] < forward[ offset + k + 1 ] ) ) )
+                        ? forward[ offset + k + 1 ]
+                        : forward[ offset + k - 1 ] + 1 ;
+                    int y = x - k ;
+                    final int startX = x ;
+                    final int startY = y ;
+
+                    while ( ( x < n ) && ( y < m ) && matches( expectedFrom + x, actualFrom + y ) )
+                        {
+                        x++ ;
+                        y++ ;
+                        }
+
+                    forward[ offset + k ] = x ;
+
+                    // reverse diagonal c corresponds to forward diagonal delta - c
+                    final int c = delta - k ;
+
+                    if ( oddDelta &&
+                         ( c >= -( d - 1 ) ) &&
+                         ( c <= ( d - 1 ) ) &&
+                         ( x + reverse[ offset + c ] >= n ) )
+                        {
+                        this.snakeStartX = startX ;
+                        this.snakeStartY = startY ;
+                        this.snakeEndX = x ;
+                        this.snakeEndY = y ;
+
+                        return true ;
+                        }
+
+                    }
+
+                // reverse paths - x and y count from the ends
+                for ( int c = -d ; c <= d ; c += 2 )
+                    {
+                    int x = ( ( c == -d ) ||
+                              ( ( c != d ) && ( reverse[ offset + c - 1 ] < reverse[ offset + c + 1 ] ) ) )
+                        ? reverse[ offset + c + 1 ]
+                        : reverse[ offset + c - 1 ] + 1 ;
+                    int y = x - c ;
+                    final int startX = x ;
+                    final int startY = y ;
+
+                    while ( ( x < n ) &&
+                            ( y < m ) &&
+                            matches( expectedTo - 1 - x, actualTo - 1 - y ) )
+                        {
+                        x++ ;
+                        y++ ;
+                        }
+
+                    reverse[ offset + c ] = x ;
+
+                    final int k = delta - c ;
+
+                    if ( !oddDelta &&
+                         ( k >= -d ) &&
+                         ( k <= d ) &&
+                         ( x + forward[ offset + k ] >= n ) )
+                        {
+                        this.snakeStartX = n - x ;
+                        this.snakeStartY = m - y ;
+                        this.snakeEndX = n - startX ;
+                        this.snakeEndY = m - startY ;
+
+                        return true ;
+                        }
+
+                    }
+
+                }
+
+            return false ;
+
+            }   // end middleSnake()
+
+
+        /**
+         * Add deletions and insertions to the current hunk
+         *
+         * @param expectedIndex
+         *     where the deletions start
+         * @param expectedCount
+         *     number of deletions
+         * @param actualIndex
+         *     where the insertions start
+         * @param actualCount
+         *     number of insertions
+         */
+        private void change( final int expectedIndex,
+                             final int expectedCount,
+                             final int actualIndex,
+                             final int actualCount )
+            {
+
+            if ( ( 0 == expectedCount ) && ( 0 == actualCount ) )
+                {
+                return ;
+                }
+
+            if ( -1 == this.hunkExpectedIndex )
+                {
+                this.hunkExpectedIndex = expectedIndex ;
+                this.hunkActualIndex = actualIndex ;
+                this.hunkExpectedCount = 0 ;
+                this.hunkActualCount = 0 ;
+                }
+
+            this.hunkExpectedCount += expectedCount ;
+            this.hunkActualCount += actualCount ;
+            this.editDistance += expectedCount + actualCount ;
+
+            }   // end change()
+
+
+        /**
+         * Close the current hunk, if any, because a match follows
+         */
+        private void endHunk()
+            {
+
+            if ( -1 == this.hunkExpectedIndex )
+                {
+                return ;
+                }
+
+            this.hunks.add( new Hunk( this.hunkExpectedIndex,
+                                      this.hunkExpectedCount,
+                                      this.hunkActualIndex,
+                                      this.hunkActualCount ) ) ;
+            this.hunkExpectedIndex = -1 ;
+
+            }   // end endHunk()
+
+        }   // end class Differ
+
+    }   // end record DatasetDiff
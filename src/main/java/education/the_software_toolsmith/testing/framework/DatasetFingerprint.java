@@ -0,0 +1,1006 @@
+/* @formatter:off
+ *
+ * © David M Rosenberg, The Software Toolsmith (education)
+ *
+ * This file is part of the Testing Framework for Java.
+ * Repository: https://github.com/The-Software-Toolsmith/testing-framework-for-java
+ *
+ * Licensed under the Creative Commons Attribution-NonCommercial 4.0 International License.
+ * You may obtain a copy of the license at:
+ *     https://creativecommons.org/licenses/by-nc/4.0/
+ *
+ * You may use, share, and adapt this file for non-commercial purposes,
+ * provided you give appropriate credit.
+ *
+ * @formatter:on
+ */
+
+
+package education.the_software_toolsmith.testing.framework ;
+
+import java.math.BigDecimal ;
+import java.math.BigInteger ;
+import java.util.Collection ;
+import java.util.HexFormat ;
+import java.util.List ;
+import java.util.Map ;
+import java.util.Set ;
+
+/**
+ * A 128-bit digest of a dataset's contents - an expected result can be kept (or cached on disk,
+ * via {@code toString()} and {@code parse()}) as a fingerprint instead of as the dataset itself,
+ * and an actual result checked against it in O(n) time, e.g.
+ *
+ * <pre>
+ * if ( !expectedFingerprint.matches( actual ) )
+ *     {
+ *     compareDatasets( regenerateExpected(), actual, IS_ORDERED ) ;     // full diagnostics
+ *     }
+ * </pre>
+ *
+ * an <em>ordered</em> fingerprint is MurmurHash3 (x64, 128-bit) over the elements in order; an
+ * <em>unordered</em> fingerprint is the per-lane sum of the elements' individual digests, so it
+ * doesn't depend on their order but does count duplicates
+ * <p>
+ * elements are digested by value consistently with {@code Arrays.deepEquals()}: boxed and
+ * primitive values of the same type match ({@code Long 5} and {@code long 5}) but different types
+ * don't ({@code Long 5} and {@code Integer 5}); {@code Double}s and {@code Float}s by their
+ * canonical bits; {@code String}s by their characters; arrays, to any depth, by component type,
+ * length, and elements
+ * <p>
+ * other elements are digested structurally, consistently with their {@code equals()}:
+ * {@code List}s by their elements in order; {@code Set}s by their elements and {@code Map}s by
+ * their entries, in any order; other {@code Collection}s by their elements in iteration order;
+ * {@code BigInteger}s by their bytes; {@code BigDecimal}s by their unscaled bytes and scale (so
+ * {@code 2.0} and {@code 2.00} differ); and enum constants by their declaring class's name and
+ * their name - no {@code hashCode()} is used, so fingerprints are the same from run to run; any
+ * other element is rejected since neither its {@code hashCode()} nor its identity hash code
+ * identifies its value
+ *
+ * @param ordered
+ *     {@code IS_ORDERED} if the element order contributed to the digest
+ * @param elementCount
+ *     the number of (top-level) elements digested
+ * @param high
+ *     the first 64 bits of the digest
+ * @param low
+ *     the last 64 bits of the digest
+ *
+ * @author David M Rosenberg
+ *
+ * @version 1.0 2026-10-18 Initial implementation
+ * @version 1.1 2026-10-18 fingerprint {@code LongRange}s without expanding them
+ * @version 1.2 2026-10-19 digest collections, {@code BigInteger}s, {@code BigDecimal}s, and enum
+ *     constants structurally and reject other elements rather than digesting their
+ *     {@code hashCode()}, which let different elements collide and changed from run to run
+ */
+public record DatasetFingerprint( boolean ordered,
+                                  long elementCount,
+                                  long high,
+                                  long low )
+    {
+
+    /*
+     * element encoding tags - each element's encoding is self-delimiting
+     */
+
+
+    /** tag for {@code null} */
+    private final static long TAG_NULL = 1 ;
+    /** tag for a {@code long} */
+    private final static long TAG_LONG = 2 ;
+    /** tag for an {@code int} */
+    private final static long TAG_INT = 3 ;
+    /** tag for a {@code short} */
+    private final static long TAG_SHORT = 4 ;
+    /** tag for a {@code byte} */
+    private final static long TAG_BYTE = 5 ;
+    /** tag for a {@code char} */
+    private final static long TAG_CHAR = 6 ;
+    /** tag for a {@code boolean} */
+    private final static long TAG_BOOLEAN = 7 ;
+    /** tag for a {@code double} */
+    private final static long TAG_DOUBLE = 8 ;
+    /** tag for a {@code float} */
+    private final static long TAG_FLOAT = 9 ;
+    /** tag for a {@code String} */
+    private final static long TAG_STRING = 10 ;
+    /** tag for an array - followed by its component tag and length */
+    private final static long TAG_ARRAY = 11 ;
+    /** component tag for a reference array */
+    private final static long TAG_OBJECT = 12 ;
+    /** tag for a {@code List} - followed by its size */
+    private final static long TAG_LIST = 13 ;
+    /** tag for a {@code Set} - followed by its size and its elements' unordered fingerprint */
+    private final static long TAG_SET = 14 ;
+    /** tag for a {@code Map} - followed by its size and its entries' unordered fingerprint */
+    private final static long TAG_MAP = 15 ;
+    /** tag for any other {@code Collection} - followed by its size */
+    private final static long TAG_COLLECTION = 16 ;
+    /** tag for a {@code BigInteger} - followed by its byte count */
+    private final static long TAG_BIG_INTEGER = 17 ;
+    /** tag for a {@code BigDecimal} - followed by its scale and unscaled value */
+    private final static long TAG_BIG_DECIMAL = 18 ;
+    /** tag for an enum constant - followed by its declaring class's name and its name */
+    private final static long TAG_ENUM = 19 ;
+
+    /** seed for ordered digests */
+    private final static long ORDERED_SEED = 0x5D58_4C7B_2A3E_9F01L ;
+    /** seed for each element's digest in an unordered fingerprint */
+    private final static long ELEMENT_SEED = 0x1B87_3593_CC9E_2D51L ;
+    /** seed for combining the sums of an unordered fingerprint */
+    private final static long UNORDERED_SEED = 0x7A39_10E5_B492_6C3DL ;
+
+
+    /*
+     * factories
+     */
+
+
+    /**
+     * Fingerprint a dataset
+     *
+     * @param dataset
+     *     the elements
+     * @param ordered
+     *     {@code IS_ORDERED} or {@code IS_UNORDERED}
+     *
+     * @return the fingerprint or null if dataset is null
+     *
+     * @throws TestingException
+     *     if an element, at any depth, is of a type which can't be fingerprinted
+     */
+    public static DatasetFingerprint of( final Object[] dataset,
+                                         final boolean ordered )
+        {
+
+        if ( null == dataset )
+            {
+            return null ;
+            }
+
+        final Builder builder = builder( ordered ) ;
+
+        for ( final Object element : dataset )
+            {
+            builder.add( element ) ;
+            }
+
+        return builder.build() ;
+
+        }   // end Object[] of()
+
+
+    /**
+     * Fingerprint a numeric dataset without boxing its elements - the same fingerprint as its
+     * {@code toObjectArray()}
+     *
+     * @param dataset
+     *     the elements
+     * @param ordered
+     *     {@code IS_ORDERED} or {@code IS_UNORDERED}
+     *
+     * @return the fingerprint or null if dataset is null
+     */
+    public static DatasetFingerprint of( final NumericDataset dataset,
+                                         final boolean ordered )
+        {
+
+        if ( null == dataset )
+            {
+            return null ;
+            }
+
+        final Builder builder = builder( ordered ) ;
+
+        switch ( dataset )
+            {
+            case IntDataset( int[] ints )
+                -> {
+                for ( final int element : ints )
+                    {
+                    builder.add( element ) ;
+                    }
+                }
+            case LongDataset( long[] longs )
+                -> {
+                for ( final long element : longs )
+                    {
+                    builder.add( element ) ;
+                    }
+                }
+            case DoubleDataset( double[] doubles )
+                -> {
+                for ( final double element : doubles )
+                    {
+                    builder.add( element ) ;
+                    }
+                }
+            case final LongRange range
+                -> {
+                for ( int i = 0 ; i < range.length() ; i++ )
+                    {
+                    builder.add( range.get( i ) ) ;
+                    }
+                }
+            }
+
+        return builder.build() ;
+
+        }   // end NumericDataset of()
+
+
+    /**
+     * Start a fingerprint which is fed one element at a time - e.g. for generated datasets too
+     * large to hold in memory
+     *
+     * @param ordered
+     *     {@code IS_ORDERED} or {@code IS_UNORDERED}
+     *
+     * @return an empty builder
+     */
+    public static Builder builder( final boolean ordered )
+        {
+
+        return new Builder( ordered ) ;
+
+        }   // end builder()
+
+
+    /**
+     * Recreate a fingerprint from its {@code toString()}
+     *
+     * @param text
+     *     e.g. {@code ordered/1000000/0123456789abcdef0123456789abcdef}
+     *
+     * @return the fingerprint
+     *
+     * @throws IllegalArgumentException
+     *     if text isn't in the format produced by {@code toString()}
+     */
+    public static DatasetFingerprint parse( final CharSequence text )
+        {
+
+        final String[] parts = text.toString().trim().split( "/" ) ;
+
+        if ( ( 3 != parts.length ) ||
+             ( 32 != parts[ 2 ].length() ) ||
+             !( "ordered".equals( parts[ 0 ] ) || "unordered".equals( parts[ 0 ] ) ) )
+            {
+            throw new IllegalArgumentException( String.format( "not a dataset fingerprint: \"%s\"",
+                                                               text ) ) ;
+            }
+
+        return new DatasetFingerprint( "ordered".equals( parts[ 0 ] ),
+                                       Long.parseLong( parts[ 1 ] ),
+                                       HexFormat.fromHexDigitsToLong( parts[ 2 ], 0, 16 ),
+                                       HexFormat.fromHexDigitsToLong( parts[ 2 ], 16, 32 ) ) ;
+
+        }   // end parse()
+
+
+    /*
+     * queries
+     */
+
+
+    /**
+     * Determine if a dataset has this fingerprint
+     *
+     * @param dataset
+     *     the dataset to check
+     *
+     * @return true if the dataset's fingerprint (ordered or not, as this one) is the same
+     *
+     * @throws TestingException
+     *     if an element, at any depth, is of a type which can't be fingerprinted
+     */
+    public boolean matches( final Object[] dataset )
+        {
+
+        return equals( of( dataset, this.ordered ) ) ;
+
+        }   // end Object[] matches()
+
+
+    /**
+     * Determine if a numeric dataset has this fingerprint
+     *
+     * @param dataset
+     *     the dataset to check
+     *
+     * @return true if the dataset's fingerprint (ordered or not, as this one) is the same
+     */
+    public boolean matches( final NumericDataset dataset )
+        {
+
+        return equals( of( dataset, this.ordered ) ) ;
+
+        }   // end NumericDataset matches()
+
+
+    /**
+     * the text form, readable by {@code parse()}
+     *
+     * @return e.g. {@code ordered/1000000/0123456789abcdef0123456789abcdef}
+     */
+    @Override
+    public String toString()
+        {
+
+        return String.format( "%s/%d/%016x%016x",
+                              this.ordered
+                                  ? "ordered"
+                                  : "unordered",
+                              this.elementCount,
+                              this.high,
+                              this.low ) ;
+
+        }   // end toString()
+
+
+    /*
+     * streaming
+     */
+
+
+    /**
+     * Accumulates a fingerprint one element at a time
+     */
+    public static final class Builder
+        {
+
+        /** {@code IS_ORDERED} or {@code IS_UNORDERED} */
+        private final boolean ordered ;
+        /** ordered: the digest of all elements; unordered: the digest of the current element */
+        private final Murmur128 digest ;
+        /** number of elements added */
+        private long elementCount = 0 ;
+        /** unordered: sum of the elements' first halves */
+        private long highSum = 0 ;
+        /** unordered: sum of the elements' second halves */
+        private long lowSum = 0 ;
+
+
+        /**
+         * Start an empty fingerprint
+         *
+         * @param ordered
+         *     {@code IS_ORDERED} or {@code IS_UNORDERED}
+         */
+        private Builder( final boolean ordered )
+            {
+
+            this.ordered = ordered ;
+            this.digest = new Murmur128( ordered
+                ? ORDERED_SEED
+                : ELEMENT_SEED ) ;
+
+            }   // end constructor
+
+
+        /**
+         * Add an element
+         *
+         * @param element
+         *     the element - may be {@code null}, an array, or a collection
+         *
+         * @return this builder
+         *
+         * @throws TestingException
+         *     if the element, or anything it contains, is of a type which can't be fingerprinted
+         */
+        public Builder add( final Object element )
+            {
+
+            encode( element ) ;
+
+            return elementAdded() ;
+
+            }   // end Object add()
+
+
+        /**
+         * Add a {@code long} element - same as adding a {@code Long}
+         *
+         * @param element
+         *     the element
+         *
+         * @return this builder
+         */
+        public Builder add( final long element )
+            {
+
+            this.digest.word( TAG_LONG ) ;
+            this.digest.word( element ) ;
+
+            return elementAdded() ;
+
+            }   // end long add()
+
+
+        /**
+         * Add an {@code int} element - same as adding an {@code Integer}
+         *
+         * @param element
+         *     the element
+         *
+         * @return this builder
+         */
+        public Builder add( final int element )
+            {
+
+            this.digest.word( TAG_INT ) ;
+            this.digest.word( element ) ;
+
+            return elementAdded() ;
+
+            }   // end int add()
+
+
+        /**
+         * Add a {@code double} element - same as adding a {@code Double}
+         *
+         * @param element
+         *     the element
+         *
+         * @return this builder
+         */
+        public Builder add( final double element )
+            {
+
+            this.digest.word( TAG_DOUBLE ) ;
+            this.digest.word( Double.doubleToLongBits( element ) ) ;
+
+            return elementAdded() ;
+
+            }   // end double add()
+
+
+        /**
+         * Finish the fingerprint - the builder may continue to be used, e.g. to fingerprint
+         * successive prefixes of a stream
+         *
+         * @return the fingerprint of the elements added so far
+         */
+        public DatasetFingerprint build()
+            {
+
+            if ( this.ordered )
+                {
+                final Murmur128 result = this.digest.copy() ;
+                result.finish() ;
+
+                return new DatasetFingerprint( true, this.elementCount, result.h1, result.h2 ) ;
+                }
+
+            final Murmur128 result = new Murmur128( UNORDERED_SEED ) ;
+            result.word( this.highSum ) ;
+            result.word( this.lowSum ) ;
+            result.word( this.elementCount ) ;
+            result.finish() ;
+
+            return new DatasetFingerprint( false, this.elementCount, result.h1, result.h2 ) ;
+
+            }   // end build()
+
+
+        /**
+         * Account for an element whose encoding has been digested
+         *
+         * @return this builder
+         */
+        private Builder elementAdded()
+            {
+
+            this.elementCount++ ;
+
+            if ( !this.ordered )
+                {
+                this.digest.finish() ;
+                this.highSum += this.digest.h1 ;
+                this.lowSum += this.digest.h2 ;
+                this.digest.reset( ELEMENT_SEED ) ;
+                }
+
+            return this ;
+
+            }   // end elementAdded()
+
+
+        /**
+         * Digest an element's encoding
+         *
+         * @param element
+         *     the element
+         */
+        private void encode( final Object element )
+            {
+
+            final Murmur128 d = this.digest ;
+
+            switch ( element )
+                {
+                case null
+                    -> d.word( TAG_NULL ) ;
+                case final Long value
+                    -> d.words( TAG_LONG, value ) ;
+                case final Integer value
+                    -> d.words( TAG_INT, value ) ;
+                case final Short value
+                    -> d.words( TAG_SHORT, value ) ;
+                case final Byte value
+                    -> d.words( TAG_BYTE, value ) ;
+                case final Character value
+                    -> d.words( TAG_CHAR, value ) ;
+                case final Boolean value
+                    -> d.words( TAG_BOOLEAN,
+                                value
+                                    ? 1
+                                    : 0 ) ;
+                case final Double value
+                    -> d.words( TAG_DOUBLE, Double.doubleToLongBits( value ) ) ;
+                case final Float value
+                    -> d.words( TAG_FLOAT, Float.floatToIntBits( value ) ) ;
+                case final String value
+                    -> {
+                    d.words( TAG_STRING, value.length() ) ;
+                    encodeChars( value ) ;
+                    }
+                case final Object[] array
+                    -> {
+                    d.words( TAG_ARRAY, TAG_OBJECT ) ;
+                    d.word( array.length ) ;
+
+                    for ( final Object nested : array )
+                        {
+                        encode( nested ) ;
+                        }
+                    }
+                case final long[] array
+                    -> {
+                    d.words( TAG_ARRAY, TAG_LONG ) ;
+                    d.word( array.length ) ;
+
+                    for ( final long value : array )
+                        {
+                        d.word( value ) ;
+                        }
+                    }
+                case final int[] array
+                    -> {
+                    d.words( TAG_ARRAY, TAG_INT ) ;
+                    d.word( array.length ) ;
+
+                    for ( final int value : array )
+                        {
+                        d.word( value ) ;
+                        }
+                    }
+                case final short[] array
+                    -> {
+                    d.words( TAG_ARRAY, TAG_SHORT ) ;
+                    d.word( array.length ) ;
+
+                    for ( final short value : array )
+                        {
+                        d.word( value ) ;
+                        }
+                    }
+                case final byte[] array
+                    -> {
+                    d.words( TAG_ARRAY, TAG_BYTE ) ;
+                    d.word( array.length ) ;
+
+                    for ( final byte value : array )
+                        {
+                        d.word( value ) ;
+                        }
+                    }
+                case final char[] array
+                    -> {
+                    d.words( TAG_ARRAY, TAG_CHAR ) ;
+                    d.word( array.length ) ;
+                    encodeChars( new String( array ) ) ;
+                    }
+                case final boolean[] array
+                    -> {
+                    d.words( TAG_ARRAY, TAG_BOOLEAN ) ;
+                    d.word( array.length ) ;
+
+                    for ( final boolean value : array )
+                        {
+                        d.word( value
+                            ? 1
+                            : 0 ) ;
+                        }
+                    }
+                case final double[] array
+                    -> {
+                    d.words( TAG_ARRAY, TAG_DOUBLE ) ;
+                    d.word( array.length ) ;
+
+                    for ( final double value : array )
+                        {
+                        d.word( Double.doubleToLongBits( value ) ) ;
+                        }
+                    }
+                case final float[] array
+                    -> {
+                    d.words( TAG_ARRAY, TAG_FLOAT ) ;
+                    d.word( array.length ) ;
+
+                    for ( final float value : array )
+                        {
+                        d.word( Float.floatToIntBits( value ) ) ;
+                        }
+                    }
+                case final List<?> list
+                    -> {
+                    d.words( TAG_LIST, list.size() ) ;
+
+                    for ( final Object nested : list )
+                        {
+                        encode( nested ) ;
+                        }
+                    }
+                case final Set<?> set
+                    -> {
+                    d.words( TAG_SET, set.size() ) ;
+                    encodeFingerprint( of( set.toArray(), false ) ) ;
+                    }
+                case final Collection<?> collection
+                    -> {
+                    d.words( TAG_COLLECTION, collection.size() ) ;
+
+                    for ( final Object nested : collection )
+                        {
+                        encode( nested ) ;
+                        }
+                    }
+                case final Map<?, ?> map
+                    -> {
+                    d.words( TAG_MAP, map.size() ) ;
+                    encodeFingerprint( entriesFingerprint( map ) ) ;
+                    }
+                case final BigInteger value
+                    -> {
+                    d.word( TAG_BIG_INTEGER ) ;
+                    encodeBytes( value.toByteArray() ) ;
+                    }
+                case final BigDecimal value
+                    -> {
+                    d.words( TAG_BIG_DECIMAL, value.scale() ) ;
+                    encodeBytes( value.unscaledValue().toByteArray() ) ;
+                    }
+                case final Enum<?> value
+                    -> {
+                    d.word( TAG_ENUM ) ;
+                    encode( value.getDeclaringClass().getName() ) ;
+                    encode( value.name() ) ;
+                    }
+                default
+                    -> throw new TestingException( String.format( "bad test configuration: can't fingerprint a %s element - its hashCode() doesn't identify its value",
+                                                                  element.getClass().getName() ) ) ;
+                }
+
+            }   // end encode()
+
+
+        /**
+         * Fingerprint a map's entries, in any order
+         *
+         * @param map
+         *     the map
+         *
+         * @return the unordered fingerprint of its {key, value} pairs
+         */
+        private static DatasetFingerprint entriesFingerprint( final Map<?, ?> map )
+            {
+
+            final Builder entries = builder( false ) ;
+
+            for ( final Map.Entry<?, ?> entry : map.entrySet() )
+                {
+                entries.add( new Object[] { entry.getKey(), entry.getValue() } ) ;
+                }
+
+            return entries.build() ;
+
+            }   // end entriesFingerprint()
+
+
+        /**
+         * Digest a nested fingerprint
+         *
+         * @param nested
+         *     the fingerprint of an element's members
+         */
+        private void encodeFingerprint( final DatasetFingerprint nested )
+            {
+
+            this.digest.words( nested.high, nested.low ) ;
+
+            }   // end encodeFingerprint()
+
+
+        /**
+         * Digest a byte count and bytes 8 to a word
+         *
+         * @param bytes
+         *     the bytes
+         */
+        private void encodeBytes( final byte[] bytes )
+            {
+
+            this.digest.word( bytes.length ) ;
+
+            long packed = 0 ;
+            int packedCount = 0 ;
+
+            for ( final byte value : bytes )
+                {
+                packed = ( packed << 8 ) | ( value & 0xFF ) ;
+
+                if ( 8 == ++packedCount )
+                    {
+                    this.digest.word( packed ) ;
+                    packed = 0 ;
+                    packedCount = 0 ;
+                    }
+
+                }
+
+            if ( 0 != packedCount )
+                {
+                this.digest.word( packed ) ;
+                }
+
+            }   // end encodeBytes()
+
+
+        /**
+         * Digest characters 4 to a word
+         *
+         * @param text
+         *     the characters
+         */
+        private void encodeChars( final String text )
+            {
+
+            long packed = 0 ;
+            int packedCount = 0 ;
+
+            for ( int i = 0 ; i < text.length() ; i++ )
+                {
+                packed = ( packed << 16 ) | text.charAt( i ) ;
+
+                if ( 4 == ++packedCount )
+                    {
+                    this.digest.word( packed ) ;
+                    packed = 0 ;
+                    packedCount = 0 ;
+                    }
+
+                }
+
+            if ( 0 != packedCount )
+                {
+                this.digest.word( packed ) ;
+                }
+
+            }   // end encodeChars()
+
+        }   // end class Builder
+
+
+    /**
+     * MurmurHash3 x64 128-bit over a stream of 64-bit words (equivalent to hashing their
+     * little-endian bytes)
+     */
+    private static final class Murmur128
+        {
+
+        /** mixing constant */
+        private final static long C1 = 0x87C3_7B91_1142_53D5L ;
+        /** mixing constant */
+        private final static long C2 = 0x4CF5_AD43_2745_937FL ;
+
+        /** first lane; the first half of the digest after {@code finish()} */
+        private long h1 ;
+        /** second lane; the second half of the digest after {@code finish()} */
+        private long h2 ;
+        /** the first word of an incomplete block */
+        private long pending ;
+        /** true if {@code pending} holds a word */
+        private boolean hasPending ;
+        /** words digested */
+        private long wordCount ;
+
+
+        /**
+         * Start a digest
+         *
+         * @param seed
+         *     the seed
+         */
+        private Murmur128( final long seed )
+            {
+
+            reset( seed ) ;
+
+            }   // end constructor
+
+
+        /**
+         * Restart the digest
+         *
+         * @param seed
+         *     the seed
+         */
+        private void reset( final long seed )
+            {
+
+            this.h1 = seed ;
+            this.h2 = seed ;
+            this.pending = 0 ;
+            this.hasPending = false ;
+            this.wordCount = 0 ;
+
+            }   // end reset()
+
+
+        /**
+         * Copy the state so far
+         *
+         * @return an independent copy
+         */
+        private Murmur128 copy()
+            {
+
+            final Murmur128 duplicate = new Murmur128( 0 ) ;
+            duplicate.h1 = this.h1 ;
+            duplicate.h2 = this.h2 ;
+            duplicate.pending = this.pending ;
+            duplicate.hasPending = this.hasPending ;
+            duplicate.wordCount = this.wordCount ;
+
+            return duplicate ;
+
+            }   // end copy()
+
+
+        /**
+         * Digest a tag and a value
+         *
+         * @param tag
+         *     the first word
+         * @param value
+         *     the second word
+         */
+        private void words( final long tag,
+                            final long value )
+            {
+
+            word( tag ) ;
+            word( value ) ;
+
+            }   // end words()
+
+
+        /**
+         * Digest a word
+         *
+         * @param k
+         *     the word
+         */
+        private void word( final long k )
+            {
+
+            this.wordCount++ ;
+
+            if ( !this.hasPending )
+                {
+                this.pending = k ;
+                this.hasPending = true ;
+
+                return ;
+                }
+
+            this.hasPending = false ;
+
+            this.h1 ^= mixK1( this.pending ) ;
+            this.h1 = Long.rotateLeft( this.h1, 27 ) + this.h2 ;
+            this.h1 = ( this.h1 * 5 ) + 0x52DC_E729 ;
+
+            this.h2 ^= mixK2( k ) ;
+            this.h2 = Long.rotateLeft( this.h2, 31 ) + this.h1 ;
+            this.h2 = ( this.h2 * 5 ) + 0x3849_5AB5 ;
+
+            }   // end word()
+
+
+        /**
+         * Complete the digest - leaves the result in {@code h1} and {@code h2}
+         */
+        private void finish()
+            {
+
+            if ( this.hasPending )
+                {
+                this.h1 ^= mixK1( this.pending ) ;
+                this.hasPending = false ;
+                }
+
+            final long byteCount = this.wordCount * Long.BYTES ;
+            this.h1 ^= byteCount ;
+            this.h2 ^= byteCount ;
+
+            this.h1 += this.h2 ;
+            this.h2 += this.h1 ;
+
+            this.h1 = fmix64( this.h1 ) ;
+            this.h2 = fmix64( this.h2 ) ;
+
+            this.h1 += this.h2 ;
+            this.h2 += this.h1 ;
+
+            }   // end finish()
+
+
+        /**
+         * Mix the first word of a block
+         *
+         * @param k1
+         *     the word
+         *
+         * @return the mixed word
+         */
+        private static long mixK1( final long k1 )
+            {
+
+            return Long.rotateLeft( k1 * C1, 31 ) * C2 ;
+
+            }   // end mixK1()
+
+
+        /**
+         * Mix the second word of a block
+         *
+         * @param k2
+         *     the word
+         *
+         * @return the mixed word
+         */
+        private static long mixK2( final long k2 )
+            {
+
+            return Long.rotateLeft( k2 * C2, 33 ) * C1 ;
+
+            }   // end mixK2()
+
+
+        /**
+         * MurmurHash3's 64-bit finalizer
+         *
+         * @param k
+         *     the value
+         *
+         * @return the avalanched value
+         */
+        private static long fmix64( long k )
+            {
+
+            k ^= k >>> 33 ;
+            k *= 0xFF51_AFD7_ED55_8CCDL ;
+            k ^= k >>> 33 ;
+            k *= 0xC4CE_B9FE_1A85_EC53L ;
+            k ^= k >>> 33 ;
+
+            return k ;
+
+            }   // end fmix64()
+
+        }   // end class Murmur128
+
+    }   // end record DatasetFingerprint
@@ -0,0 +1,470 @@
+/* @formatter:off
+ *
+ * © David M Rosenberg, The Software Toolsmith (education)
+ *
+ * This file is part of the Testing Framework for Java.
+ * Repository: https://github.com/The-Software-Toolsmith/testing-framework-for-java
+ *
+ * Licensed under the Creative Commons Attribution-NonCommercial 4.0 International License.
+ * You may obtain a copy of the license at:
+ *     https://creativecommons.org/licenses/by-nc/4.0/
+ *
+ * You may use, share, and adapt this file for non-commercial purposes,
+ * provided you give appropriate credit.
+ *
+ * @formatter:on
+ */
+
+
+package education.the_software_toolsmith.testing.framework ;
+
+import java.util.Arrays ;
+import java.util.Objects ;
+
+/**
+ * An immutable multiset view of a dataset - built once, in O(n) expected time, then answers
+ * membership and occurrence count queries in O(1) expected time instead of scanning the dataset
+ * <p>
+ * e.g. a bag test which checks each expected element against the student's contents:
+ *
+ * <pre>
+ * final DatasetIndex actualContents = DatasetIndex.of( ReflectBackingStores.getContentsOfDataset( testBag ) ) ;
+ *
+ * for ( final Object expectedElement : expected )
+ *     {
+ *     assertEquals( countOccurrences( expected, expectedElement ),
+ *                   actualContents.count( expectedElement ) ) ;
+ *     }
+ * </pre>
+ *
+ * elements are kept in the order of their first occurrence in a compact array; the hash table
+ * holds only indices into it and is probed linearly; {@code null} elements are supported
+ *
+ * @author David M Rosenberg
+ *
+ * @version 1.0 2026-10-18 Initial implementation
+ * @version 1.1 2026-10-19 size the table in long arithmetic, capped at the largest power of 2
+ *     array length, so indexing a dataset of 2^30 or more elements doesn't overflow
+ */
+public final class DatasetIndex
+    {
+
+    /*
+     * constants
+     */
+
+
+    /** the largest power of 2 which is a valid array length */
+    private final static int MAXIMUM_TABLE_LENGTH = 1 << 30 ;
+
+
+    /*
+     * data fields
+     */
+
+
+    /** {@code equals()} vs {@code ==} */
+    private final boolean compareEquality ;
+
+    /** the distinct elements in order of first occurrence */
+    private final Object[] distinctElements ;
+    /** occurrences of each distinct element */
+    private final int[] counts ;
+    /** hash code of each distinct element */
+    private final int[] hashes ;
+    /** number of distinct elements */
+    private final int distinctCount ;
+    /** total number of elements */
+    private final int size ;
+
+    /** open addressing table: 1 + the index of a distinct element or 0 if the slot is empty */
+    private final int[] table ;
+    /** {@code table.length - 1} - the table's length is a power of 2 */
+    private final int mask ;
+
+
+    /*
+     * constructors
+     */
+
+
+    /**
+     * Index a dataset
+     *
+     * @param dataset
+     *     the elements
+     * @param compareEquality
+     *     {@code equals()} vs {@code ==}
+     */
+    private DatasetIndex( final Object[] dataset,
+                          final boolean compareEquality )
+        {
+
+        this.compareEquality = compareEquality ;
+        this.size = dataset.length ;
+
+        final int tableLength = tableLengthFor( dataset.length ) ;
+        this.table = new int[ tableLength ] ;
+        this.mask = tableLength - 1 ;
+
+        final Object[] elements = new Object[ dataset.length ] ;
+        final int[] elementCounts = new int[ dataset.length ] ;
+        final int[] elementHashes = new int[ dataset.length ] ;
+        int distinct = 0 ;
+
+        for ( final Object element : dataset )
+            {
+            final int hash = hash( element ) ;
+            int slot = hash & this.mask ;
+
+            while ( true )
+                {
+                final int entry = this.table[ slot ] ;
+
+                if ( 0 == entry )
+                    {
+                    // probing needs at least one empty slot
+                    if ( distinct == this.mask )
+                        {
+                        throw new TestingException( String.format( "can't index more than %,d distinct elements",
+                                                                   this.mask ) ) ;
+                        }
+
+                    elements[ distinct ] = element ;
+                    elementCounts[ distinct ] = 1 ;
+                    elementHashes[ distinct ] = hash ;
+                    this.table[ slot ] = ++distinct ;
+
+                    break ;
+                    }
+
+                if ( ( hash == elementHashes[ entry - 1 ] ) &&
+                     sameElement( elements[ entry - 1 ], element ) )
+                    {
+                    elementCounts[ entry - 1 ]++ ;
+
+                    break ;
+                    }
+
+                slot = ( slot + 1 ) & this.mask ;
+                }
+
+            }
+
+        this.distinctElements = elements ;
+        this.counts = elementCounts ;
+        this.hashes = elementHashes ;
+        this.distinctCount = distinct ;
+
+        }   // end constructor
+
+
+    /**
+     * Index a dataset, matching elements with {@code equals()}
+     *
+     * @param dataset
+     *     the elements
+     *
+     * @return the index
+     */
+    public static DatasetIndex of( final Object[] dataset )
+        {
+
+        return of( dataset, TestData.COMPARE_EQUALITY ) ;
+
+        }   // end 1-arg of()
+
+
+    /**
+     * Index a dataset
+     *
+     * @param dataset
+     *     the elements
+     * @param compareEquality
+     *     if true ({@code COMPARE_EQUALITY}), elements are matched using {@code equals()} and
+     *     {@code hashCode()}; if false ({@code COMPARE_IDENTITY}), using {@code ==} and
+     *     {@code System.identityHashCode()}
+     *
+     * @return the index
+     */
+    public static DatasetIndex of( final Object[] dataset,
+                                   final boolean compareEquality )
+        {
+
+        return new DatasetIndex( Objects.requireNonNull( dataset, "dataset" ),
+                                 compareEquality ) ;
+
+        }   // end 2-arg of()
+
+
+    /*
+     * queries
+     */
+
+
+    /**
+     * Count the occurrences of a value
+     *
+     * @param testValue
+     *     the value to look for - may be {@code null}
+     *
+     * @return the number of times {@code testValue} occurs in the dataset
+     */
+    public int count( final Object testValue )
+        {
+
+        final int ordinal = ordinalOf( testValue ) ;
+
+        return -1 == ordinal
+            ? 0
+            : this.counts[ ordinal ] ;
+
+        }   // end count()
+
+
+    /**
+     * Determine if a value occurs at least once
+     *
+     * @param testValue
+     *     the value to look for - may be {@code null}
+     *
+     * @return true if {@code testValue} occurs in the dataset
+     */
+    public boolean contains( final Object testValue )
+        {
+
+        return -1 != ordinalOf( testValue ) ;
+
+        }   // end contains()
+
+
+    /**
+     * Determine if another dataset contains the same elements with the same multiplicities, in
+     * any order
+     *
+     * @param dataset
+     *     the dataset to check
+     *
+     * @return true if {@code dataset} is a permutation of the indexed dataset
+     */
+    public boolean matches( final Object[] dataset )
+        {
+
+        if ( ( null == dataset ) || ( dataset.length != this.size ) )
+            {
+            return false ;
+            }
+
+        // with equal totals, no count can end above 0 unless another went below 0
+        final int[] remaining = remainingCounts() ;
+
+        for ( final Object element : dataset )
+            {
+            final int ordinal = ordinalOf( element ) ;
+
+            if ( ( -1 == ordinal ) || ( 0 == remaining[ ordinal ]-- ) )
+                {
+                return false ;
+                }
+
+            }
+
+        return true ;
+
+        }   // end matches()
+
+
+    /**
+     * the number of elements in the dataset
+     *
+     * @return the number of elements, including duplicates
+     */
+    public int size()
+        {
+
+        return this.size ;
+
+        }   // end size()
+
+
+    /**
+     * the number of distinct elements in the dataset
+     *
+     * @return the number of distinct elements
+     */
+    public int distinctCount()
+        {
+
+        return this.distinctCount ;
+
+        }   // end distinctCount()
+
+
+    /**
+     * how elements are matched
+     *
+     * @return {@code COMPARE_EQUALITY} or {@code COMPARE_IDENTITY}
+     */
+    public boolean comparesEquality()
+        {
+
+        return this.compareEquality ;
+
+        }   // end comparesEquality()
+
+
+    @Override
+    public String toString()
+        {
+
+        return String.format( "DatasetIndex: %,d elements, %,d distinct",
+                              this.size,
+                              this.distinctCount ) ;
+
+        }   // end toString()
+
+
+    /*
+     * package access - for reporting differences
+     */
+
+
+    /**
+     * Find a value's position in the order of first occurrence
+     *
+     * @param testValue
+     *     the value to look for - may be {@code null}
+     *
+     * @return the position or -1 if {@code testValue} doesn't occur
+     */
+    int ordinalOf( final Object testValue )
+        {
+
+        final int hash = hash( testValue ) ;
+        int slot = hash & this.mask ;
+
+        while ( true )
+            {
+            final int entry = this.table[ slot ] ;
+
+            if ( 0 == entry )
+                {
+                return -1 ;
+                }
+
+            if ( ( hash == this.hashes[ entry - 1 ] ) &&
+                 sameElement( this.distinctElements[ entry - 1 ], testValue ) )
+                {
+                return entry - 1 ;
+                }
+
+            slot = ( slot + 1 ) & this.mask ;
+            }
+
+        }   // end ordinalOf()
+
+
+    /**
+     * Retrieve a distinct element
+     *
+     * @param ordinal
+     *     its position in the order of first occurrence
+     *
+     * @return the element
+     */
+    Object elementAt( final int ordinal )
+        {
+
+        return this.distinctElements[ ordinal ] ;
+
+        }   // end elementAt()
+
+
+    /**
+     * Copy the occurrence counts so they can be decremented
+     *
+     * @return the count of each distinct element in the order of first occurrence
+     */
+    int[] remainingCounts()
+        {
+
+        return Arrays.copyOf( this.counts, this.distinctCount ) ;
+
+        }   // end remainingCounts()
+
+
+    /*
+     * utilities
+     */
+
+
+    /**
+     * Size the hash table for a dataset
+     *
+     * @param elementCount
+     *     the number of elements in the dataset
+     *
+     * @return a power of 2 at least twice {@code elementCount} so the table is at most half full
+     *     even if every element is distinct - or {@code MAXIMUM_TABLE_LENGTH} if that's smaller
+     *
+     * @since 1.1
+     */
+    private static int tableLengthFor( final int elementCount )
+        {
+
+        // in long arithmetic, twice a large count doesn't overflow
+        final long halfFullLength = Math.max( 2L, elementCount ) * 2L ;
+
+        if ( halfFullLength >= MAXIMUM_TABLE_LENGTH )
+            {
+            return MAXIMUM_TABLE_LENGTH ;
+            }
+
+        // round up to a power of 2
+        return Integer.highestOneBit( (int) halfFullLength - 1 ) * 2 ;
+
+        }   // end tableLengthFor()
+
+
+    /**
+     * Compute an element's hash code, spread as {@code HashMap} does
+     *
+     * @param element
+     *     the element - may be {@code null}
+     *
+     * @return the hash code
+     */
+    private int hash( final Object element )
+        {
+
+        final int hash = this.compareEquality
+            ? Objects.hashCode( element )
+            : System.identityHashCode( element ) ;
+
+        return hash ^ ( hash >>> 16 ) ;
+
+        }   // end hash()
+
+
+    /**
+     * Compare an indexed element with a value
+     *
+     * @param indexedElement
+     *     the indexed element
+     * @param testValue
+     *     the value
+     *
+     * @return true if they match
+     */
+    private boolean sameElement( final Object indexedElement,
+                                 final Object testValue )
+        {
+
+        return ( indexedElement == testValue ) ||
+               ( this.compareEquality &&
+                 ( null != indexedElement ) &&
+                 indexedElement.equals( testValue ) ) ;
+
+        }   // end sameElement()
+
+    }   // end class DatasetIndex
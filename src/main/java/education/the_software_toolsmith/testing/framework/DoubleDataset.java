@@ -0,0 +1,128 @@
+/* @formatter:off
+ *
+ * © David M Rosenberg, The Software Toolsmith (education)
+ *
+ * This file is part of the Testing Framework for Java.
+ * Repository: https://github.com/The-Software-Toolsmith/testing-framework-for-java
+ *
+ * Licensed under the Creative Commons Attribution-NonCommercial 4.0 International License.
+ * You may obtain a copy of the license at:
+ *     https://creativecommons.org/licenses/by-nc/4.0/
+ *
+ * You may use, share, and adapt this file for non-commercial purposes,
+ * provided you give appropriate credit.
+ *
+ * @formatter:on
+ */
+
+
+package education.the_software_toolsmith.testing.framework ;
+
+import java.util.Arrays ;
+
+/**
+ * A dataset of {@code double}s backed by a {@code double[]}
+ * <p>
+ * the array isn't copied - the record is as mutable as the array it wraps; {@code equals()} and
+ * {@code hashCode()} compare contents
+ *
+ * @param elements
+ *     the elements in order
+ *
+ * @author David M Rosenberg
+ *
+ * @version 1.0 2026-10-18 Initial implementation
+ */
+public record DoubleDataset( double[] elements ) implements NumericDataset
+    {
+
+
+    /**
+     * Wrap elements in a dataset
+     *
+     * @param elements
+     *     the elements in order
+     *
+     * @return the dataset
+     *
+     * @since 1.0
+     */
+    public static DoubleDataset of( final double... elements )
+        {
+
+        return new DoubleDataset( elements ) ;
+
+        }   // end of()
+
+
+    /**
+     * Retrieve an element
+     *
+     * @param index
+     *     the position of the element
+     *
+     * @return the element
+     *
+     * @since 1.0
+     */
+    public double get( final int index )
+        {
+
+        return this.elements[ index ] ;
+
+        }   // end get()
+
+
+    @Override
+    public int length()
+        {
+
+        return this.elements.length ;
+
+        }   // end length()
+
+
+    @Override
+    public Object[] toObjectArray()
+        {
+
+        final Object[] boxed = new Object[ this.elements.length ] ;
+
+        for ( int i = 0 ; i < boxed.length ; i++ )
+            {
+            boxed[ i ] = this.elements[ i ] ;
+            }
+
+        return boxed ;
+
+        }   // end toObjectArray()
+
+
+    @Override
+    public boolean equals( final Object otherObject )
+        {
+
+        return ( otherObject instanceof final DoubleDataset otherDataset ) &&
+               Arrays.equals( this.elements, otherDataset.elements ) ;
+
+        }   // end equals()
+
+
+    @Override
+    public int hashCode()
+        {
+
+        return Arrays.hashCode( this.elements ) ;
+
+        }   // end hashCode()
+
+
+    @Override
+    public String toString()
+        {
+
+        return TestData.datasetToString( this ) ;
+
+        }   // end toString()
+
+    }   // end record DoubleDataset
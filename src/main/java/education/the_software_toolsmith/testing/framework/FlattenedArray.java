@@ -0,0 +1,330 @@
+/* @formatter:off
+ *
+ * © David M Rosenberg, The Software Toolsmith (education)
+ *
+ * This file is part of the Testing Framework for Java.
+ * Repository: https://github.com/The-Software-Toolsmith/testing-framework-for-java
+ *
+ * Licensed under the Creative Commons Attribution-NonCommercial 4.0 International License.
+ * You may obtain a copy of the license at:
+ *     https://creativecommons.org/licenses/by-nc/4.0/
+ *
+ * You may use, share, and adapt this file for non-commercial purposes,
+ * provided you give appropriate credit.
+ *
+ * @formatter:on
+ */
+
+
+package education.the_software_toolsmith.testing.framework ;
+
+import java.lang.reflect.Array ;
+import java.util.Arrays ;
+import java.util.Objects ;
+
+/**
+ * The elements of a (possibly ragged) N-dimensional array copied, in row-major order, into a
+ * single one-dimensional array along with a description of its shape
+ * <p>
+ * {@code equals()}, {@code hashCode()}, and {@code toString()} use the arrays' contents rather
+ * than their identities
+ *
+ * @param elements
+ *     the innermost elements in row-major order - a primitive array when the innermost component
+ *     type is primitive (e.g. {@code int[]} for an {@code int[][][]}), otherwise an
+ *     {@code Object[]}
+ * @param shape
+ *     the length of every (sub)array in depth-first order, starting with the outermost array;
+ *     {@code -1} represents a {@code null} subarray
+ * @param extents
+ *     element {@code k} is the common length of all subarrays at depth {@code k} or {@code -1}
+ *     if they differ or any is {@code null}
+ *
+ * @author David M Rosenberg
+ *
+ * @version 1.0 2026-10-18 Initial implementation
+ * @version 1.1 2026-10-19 compare, hash, and format the array components by content
+ */
+public record FlattenedArray( Object elements,
+                              int[] shape,
+                              int[] extents )
+    {
+
+
+    /**
+     * the number of dimensions of the original array
+     *
+     * @return the number of dimensions
+     *
+     * @since 1.0
+     */
+    public int dimensions()
+        {
+
+        return this.extents.length ;
+
+        }   // end dimensions()
+
+
+    /**
+     * the number of innermost elements
+     *
+     * @return the number of elements
+     *
+     * @since 1.0
+     */
+    public int elementCount()
+        {
+
+        return Array.getLength( this.elements ) ;
+
+        }   // end elementCount()
+
+
+    /**
+     * Determine if every subarray at each depth has the same length
+     *
+     * @return {@code true} if the original array was rectangular (no ragged or {@code null}
+     *     subarrays); {@code false} otherwise
+     *
+     * @since 1.0
+     */
+    public boolean isRectangular()
+        {
+
+        for ( final int extent : this.extents )
+            {
+
+            if ( extent < 0 )
+                {
+                return false ;
+                }
+
+            }
+
+        return true ;
+
+        }   // end isRectangular()
+
+
+    /**
+     * Describe the position of an element in terms of the original array's indices
+     *
+     * @param elementIndex
+     *     the index of an element in {@code elements}
+     *
+     * @return e.g. "[2][3]" for a rectangular array; "element 11 (row-major)" for a ragged array
+     *
+     * @since 1.0
+     */
+    public String describePosition( final int elementIndex )
+        {
+
+        if ( !isRectangular() )
+            {
+            return String.format( "element %,d (row-major)", elementIndex ) ;
+            }
+
+        final int[] indices = new int[ this.extents.length ] ;
+        int remainder = elementIndex ;
+
+        for ( int k = this.extents.length - 1 ; k >= 0 ; k-- )
+            {
+            indices[ k ] = remainder % this.extents[ k ] ;
+            remainder /= this.extents[ k ] ;
+            }
+
+        final StringBuilder position = new StringBuilder() ;
+
+        for ( final int index : indices )
+            {
+            position.append( '[' ).append( index ).append( ']' ) ;
+            }
+
+        return position.toString() ;
+
+        }   // end describePosition()
+
+
+    /**
+     * Produce the flattened transpose of a rectangular array - its elements in column-major order
+     * (first index varying fastest) and its extents reversed
+     * <p>
+     * useful when a student's array is indexed [column][row] but the expected data is indexed
+     * [row][column]
+     *
+     * @return the transposed equivalent of this instance
+     *
+     * @throws TestingException
+     *     if the original array wasn't rectangular
+     *
+     * @since 1.0
+     */
+    public FlattenedArray inColumnMajorOrder()
+        throws TestingException
+        {
+
+        if ( !isRectangular() )
+            {
+            throw new TestingException( "column-major order requires a rectangular array" ) ;
+            }
+
+        final int dimensions = this.extents.length ;
+        final int elementCount = elementCount() ;
+
+        // column-major strides - the first index varies fastest
+        final int[] strides = new int[ dimensions ] ;
+        int stride = 1 ;
+
+        for ( int k = 0 ; k < dimensions ; k++ )
+            {
+            strides[ k ] = stride ;
+            stride *= this.extents[ k ] ;
+            }
+
+        final Object transposed = Array.newInstance( this.elements.getClass()
+                                                                  .getComponentType(),
+                                                     elementCount ) ;
+
+        // walk the elements in row-major order, tracking the column-major position incrementally
+        final int[] indices = new int[ dimensions ] ;
+        int target = 0 ;
+
+        for ( int source = 0 ; source < elementCount ; source++ )
+            {
+            // single-element arraycopy avoids boxing for primitive component types
+            System.arraycopy( this.elements, source, transposed, target, 1 ) ;
+
+            // advance the row-major odometer
+            int k = dimensions - 1 ;
+
+            while ( k >= 0 )
+                {
+                indices[ k ]++ ;
+                target += strides[ k ] ;
+
+                if ( indices[ k ] < this.extents[ k ] )
+                    {
+                    break ;
+                    }
+
+                target -= indices[ k ] * strides[ k ] ;
+                indices[ k ] = 0 ;
+                k-- ;
+                }
+
+            }
+
+        final int[] reversedExtents = new int[ dimensions ] ;
+
+        for ( int k = 0 ; k < dimensions ; k++ )
+            {
+            reversedExtents[ k ] = this.extents[ dimensions - 1 - k ] ;
+            }
+
+        return new FlattenedArray( transposed,
+                                   rectangularShape( reversedExtents ),
+                                   reversedExtents ) ;
+
+        }   // end inColumnMajorOrder()
+
+
+    @Override
+    public boolean equals( final Object otherObject )
+        {
+
+        // elements may be a primitive array
+        return ( otherObject instanceof final FlattenedArray otherArray ) &&
+               Objects.deepEquals( this.elements, otherArray.elements ) &&
+               Arrays.equals( this.shape, otherArray.shape ) &&
+               Arrays.equals( this.extents, otherArray.extents ) ;
+
+        }   // end equals()
+
+
+    @Override
+    public int hashCode()
+        {
+
+        // wrapping elements lets deepHashCode() dispatch on its array type
+        return Objects.hash( Arrays.deepHashCode( new Object[] { this.elements } ),
+                             Arrays.hashCode( this.shape ),
+                             Arrays.hashCode( this.extents ) ) ;
+
+        }   // end hashCode()
+
+
+    @Override
+    public String toString()
+        {
+
+        // wrapping elements lets deepToString() dispatch on its array type - then unwrap it
+        final String wrappedElements = Arrays.deepToString( new Object[] { this.elements } ) ;
+
+        return String.format( "FlattenedArray[elements=%s, shape=%s, extents=%s]",
+                              wrappedElements.substring( 1, wrappedElements.length() - 1 ),
+                              Arrays.toString( this.shape ),
+                              Arrays.toString( this.extents ) ) ;
+
+        }   // end toString()
+
+
+    /**
+     * Generate the depth-first shape of a rectangular array
+     *
+     * @param extents
+     *     the length of the subarrays at each depth
+     *
+     * @return the length of every (sub)array in depth-first order
+     *
+     * @since 1.0
+     */
+    private static int[] rectangularShape( final int[] extents )
+        {
+
+        int arrayCount = 0 ;
+        int arraysAtDepth = 1 ;
+
+        for ( final int extent : extents )
+            {
+            arrayCount += arraysAtDepth ;
+            arraysAtDepth *= extent ;
+            }
+
+        final int[] shape = new int[ arrayCount ] ;
+        int shapeLength = 0 ;
+
+        // depth-first: a stack of depths still to visit
+        int[] pendingDepths = new int[ 16 ] ;
+        int pendingCount = 0 ;
+        pendingDepths[ pendingCount++ ] = 0 ;
+
+        while ( pendingCount > 0 )
+            {
+            final int depth = pendingDepths[ --pendingCount ] ;
+            shape[ shapeLength++ ] = extents[ depth ] ;
+
+            if ( depth < extents.length - 1 )
+                {
+
+                if ( pendingCount + extents[ depth ] > pendingDepths.length )
+                    {
+                    pendingDepths = Arrays.copyOf( pendingDepths,
+                                                   Math.max( pendingDepths.length * 2,
+                                                             pendingCount + extents[ depth ] ) ) ;
+                    }
+
+                Arrays.fill( pendingDepths,
+                             pendingCount,
+                             pendingCount + extents[ depth ],
+                             depth + 1 ) ;
+                pendingCount += extents[ depth ] ;
+                }
+
+            }
+
+        return shape ;
+
+        }   // end rectangularShape()
+
+    }   // end record FlattenedArray
@@ -0,0 +1,531 @@
+/* @formatter:off
+ *
+ * © David M Rosenberg, The Software Toolsmith (education)
+ *
+ * This file is part of the Testing Framework for Java.
+ * Repository: https://github.com/The-Software-Toolsmith/testing-framework-for-java
+ *
+ * Licensed under the Creative Commons Attribution-NonCommercial 4.0 International License.
+ * You may obtain a copy of the license at:
+ *     https://creativecommons.org/licenses/by-nc/4.0/
+ *
+ * You may use, share, and adapt this file for non-commercial purposes,
+ * provided you give appropriate credit.
+ *
+ * @formatter:on
+ */
+
+
+package education.the_software_toolsmith.testing.framework ;
+
+import java.util.Arrays ;
+
+/**
+ * Finds the first pair of floating point elements which differ by more than a tolerance
+ * <p>
+ * a pair of elements matches if they are equal ({@code ==}), both {@code NaN}, or both finite and
+ * within <em>any</em> of:
+ * <ul>
+ * <li>the absolute tolerance: {@code |expected - actual| <= absolute}
+ * <li>the relative tolerance: {@code |expected - actual| <= relative * max( |expected|, |actual| )}
+ * <li>the ULP tolerance: at most {@code maxUlps} representable values apart
+ * </ul>
+ * a tolerance of 0 disables that test
+ * <p>
+ * the arrays are scanned a block at a time: runs of identical elements are skipped with
+ * {@code Arrays.mismatch()}, then each block is screened with a test which is never looser than
+ * the exact rules - only a block the screen flags is rescanned element by element
+ * <p>
+ * the screen runs on the Vector API ({@link VectorFloatingPointScreen}) when the incubating
+ * {@code jdk.incubator.vector} module is in the boot layer, e.g. when the JVM is started with
+ * {@code --add-modules jdk.incubator.vector}; otherwise it is a branch-free scalar loop the JIT
+ * may auto-vectorize - both screens flag the same blocks
+ * <p>
+ * the screen measures the relative and ULP tolerances against {@code |expected|} rather than the
+ * larger or smaller magnitude: when the difference is at most 1/16 of {@code |expected|}, the
+ * smaller magnitude is at least 15/16 of it, which the halved ULP scale covers
+ *
+ * @author David M Rosenberg
+ *
+ * @version 1.0 2026-10-18 Initial implementation
+ * @version 1.1 2026-10-19 screen blocks with the Vector API when its module is present, with the
+ *     scalar screen as the fallback
+ */
+final class FloatingPointMismatch
+    {
+
+    /** elements screened between exact-run skips */
+    private final static int BLOCK_SIZE = 512 ;
+
+    /**
+     * {@code 2^-54} - half the lower bound on {@code ulp( x ) / x} for doubles, leaving room for
+     * rounding
+     */
+    private final static double DOUBLE_ULP_SCALE = 0x1p-54 ;
+    /**
+     * {@code 2^-25} - half the lower bound on {@code ulp( x ) / x} for floats, leaving room for
+     * rounding
+     */
+    private final static double FLOAT_ULP_SCALE = 0x1p-25 ;
+    /**
+     * the largest ULP tolerance the double screen applies - keeps the scale at most 1/16
+     */
+    private final static long DOUBLE_SCREEN_ULPS = 1L << 50 ;
+    /** the largest ULP tolerance the float screen applies - keeps the scale at most 1/16 */
+    private final static long FLOAT_SCREEN_ULPS = 1L << 21 ;
+
+    /**
+     * screen with the Vector API - {@code VectorFloatingPointScreen} is only loaded if its module
+     * was resolved at startup
+     */
+    private final static boolean VECTOR_SCREEN = ModuleLayer.boot()
+                                                            .findModule( "jdk.incubator.vector" )
+                                                            .isPresent() ;
+
+
+    /**
+     * prevent instantiation
+     */
+    private FloatingPointMismatch()
+        {
+        // nothing to do
+
+        }   // end constructor
+
+
+    /**
+     * Find the first mismatch in a range of two double arrays
+     *
+     * @param expected
+     *     the elements as they should appear
+     * @param actual
+     *     the elements to check
+     * @param fromIndex
+     *     first index to compare (inclusive)
+     * @param toIndex
+     *     last index to compare (exclusive)
+     * @param absolute
+     *     the absolute tolerance
+     * @param relative
+     *     the relative tolerance
+     * @param maxUlps
+     *     the ULP tolerance
+     *
+     * @return the index of the first mismatch or -1 if there is none
+     */
+    static int mismatch( final double[] expected,
+                         final double[] actual,
+                         final int fromIndex,
+                         final int toIndex,
+                         final double absolute,
+                         final double relative,
+                         final long maxUlps )
+        {
+
+        final long screenUlps = Math.min( maxUlps, DOUBLE_SCREEN_ULPS ) ;
+        final double floor = Math.max( absolute, screenUlps * Double.MIN_VALUE ) ;
+        final double scale = Math.max( relative, screenUlps * DOUBLE_ULP_SCALE ) ;
+
+        int blockStart = fromIndex ;
+
+        while ( blockStart < toIndex )
+            {
+            final int identical = Arrays.mismatch( expected,
+                                                   blockStart,
+                                                   toIndex,
+                                                   actual,
+                                                   blockStart,
+                                                   toIndex ) ;
+
+            if ( -1 == identical )
+                {
+                return -1 ;
+                }
+
+            blockStart += identical ;
+            final int blockEnd = Math.min( toIndex, blockStart + BLOCK_SIZE ) ;
+            final boolean blockPasses = VECTOR_SCREEN
+                ? VectorFloatingPointScreen.passes( expected,
+                                                    actual,
+                                                    blockStart,
+                                                    blockEnd,
+                                                    floor,
+                                                    scale )
+                : passesScreen( expected, actual, blockStart, blockEnd, floor, scale ) ;
+
+            if ( !blockPasses )
+                {
+
+                for ( int i = blockStart ; i < blockEnd ; i++ )
+                    {
+
+                    if ( !matches( expected[ i ], actual[ i ], absolute, relative, maxUlps ) )
+                        {
+                        return i ;
+                        }
+
+                    }
+
+                }
+
+            blockStart = blockEnd ;
+            }
+
+        return -1 ;
+
+        }   // end double[] mismatch()
+
+
+    /**
+     * Find the first mismatch in a range of two float arrays
+     *
+     * @param expected
+     *     the elements as they should appear
+     * @param actual
+     *     the elements to check
+     * @param fromIndex
+     *     first index to compare (inclusive)
+     * @param toIndex
+     *     last index to compare (exclusive)
+     * @param absolute
+     *     the absolute tolerance
+     * @param relative
+     *     the relative tolerance
+     * @param maxUlps
+     *     the ULP tolerance, in float ULPs
+     *
+     * @return the index of the first mismatch or -1 if there is none
+     */
+    static int mismatch( final float[] expected,
+                         final float[] actual,
+                         final int fromIndex,
+                         final int toIndex,
+                         final double absolute,
+                         final double relative,
+                         final long maxUlps )
+        {
+
+        final long screenUlps = Math.min( maxUlps, FLOAT_SCREEN_ULPS ) ;
+        final double floor = Math.max( absolute, screenUlps * (double) Float.MIN_VALUE ) ;
+        final double scale = Math.max( relative, screenUlps * FLOAT_ULP_SCALE ) ;
+
+        int blockStart = fromIndex ;
+
+        while ( blockStart < toIndex )
+            {
+            final int identical = Arrays.mismatch( expected,
+                                                   blockStart,
+                                                   toIndex,
+                                                   actual,
+                                                   blockStart,
+                                                   toIndex ) ;
+
+            if ( -1 == identical )
+                {
+                return -1 ;
+                }
+
+            blockStart += identical ;
+            final int blockEnd = Math.min( toIndex, blockStart + BLOCK_SIZE ) ;
+            final boolean blockPasses = VECTOR_SCREEN
+                ? VectorFloatingPointScreen.passes( expected,
+                                                    actual,
+                                                    blockStart,
+                                                    blockEnd,
+                                                    floor,
+                                                    scale )
+                : passesScreen( expected, actual, blockStart, blockEnd, floor, scale ) ;
+
+            if ( !blockPasses )
+                {
+
+                for ( int i = blockStart ; i < blockEnd ; i++ )
+                    {
+
+                    if ( !matches( expected[ i ], actual[ i ], absolute, relative, maxUlps ) )
+                        {
+                        return i ;
+                        }
+
+                    }
+
+                }
+
+            blockStart = blockEnd ;
+            }
+
+        return -1 ;
+
+        }   // end float[] mismatch()
+
+
+    /**
+     * Screen a range of two double arrays - without branching on the elements
+     * <p>
+     * a pair passes if its difference is finite and within {@code floor} or within
+     * {@code scale * |expected|}; the caller chooses {@code floor} and {@code scale} so the screen
+     * is never looser than {@code matches()}
+     *
+     * @param expected
+     *     the elements as they should appear
+     * @param actual
+     *     the elements to check
+     * @param fromIndex
+     *     first index to screen (inclusive)
+     * @param toIndex
+     *     last index to screen (exclusive)
+     * @param floor
+     *     the absolute bound
+     * @param scale
+     *     the bound relative to {@code |expected|}
+     *
+     * @return true if every pair passes
+     *
+     * @since 1.1
+     */
+    static boolean passesScreen( final double[] expected,
+                                 final double[] actual,
+                                 final int fromIndex,
+                                 final int toIndex,
+                                 final double floor,
+                                 final double scale )
+        {
+
+        // NaN and infinite differences fail the screen
+        int flagged = 0 ;
+
+        for ( int i = fromIndex ; i < toIndex ; i++ )
+            {
+            final double e = expected[ i ] ;
+            final double difference = Math.abs( e - actual[ i ] ) ;
+
+            flagged |= ( difference <= Double.MAX_VALUE ) &
+                       ( ( difference <= floor ) | ( difference <= scale * Math.abs( e ) ) )
+                ? 0
+                : 1 ;
+            }
+
+        return 0 == flagged ;
+
+        }   // end double[] passesScreen()
+
+
+    /**
+     * Screen a range of two float arrays - without branching on the elements; see the
+     * {@code double[]} version
+     *
+     * @param expected
+     *     the elements as they should appear
+     * @param actual
+     *     the elements to check
+     * @param fromIndex
+     *     first index to screen (inclusive)
+     * @param toIndex
+     *     last index to screen (exclusive)
+     * @param floor
+     *     the absolute bound
+     * @param scale
+     *     the bound relative to {@code |expected|}
+     *
+     * @return true if every pair passes
+     *
+     * @since 1.1
+     */
+    static boolean passesScreen( final float[] expected,
+                                 final float[] actual,
+                                 final int fromIndex,
+                                 final int toIndex,
+                                 final double floor,
+                                 final double scale )
+        {
+
+        // the difference of two floats is exact as a double
+        int flagged = 0 ;
+
+        for ( int i = fromIndex ; i < toIndex ; i++ )
+            {
+            final double e = expected[ i ] ;
+            final double difference = Math.abs( e - actual[ i ] ) ;
+
+            flagged |= ( difference <= Double.MAX_VALUE ) &
+                       ( ( difference <= floor ) | ( difference <= scale * Math.abs( e ) ) )
+                ? 0
+                : 1 ;
+            }
+
+        return 0 == flagged ;
+
+        }   // end float[] passesScreen()
+
+
+    /**
+     * Determine if a pair of doubles match within the tolerances
+     *
+     * @param expected
+     *     the element as it should appear
+     * @param actual
+     *     the element to check
+     * @param absolute
+     *     the absolute tolerance
+     * @param relative
+     *     the relative tolerance
+     * @param maxUlps
+     *     the ULP tolerance
+     *
+     * @return true if they match
+     */
+    static boolean matches( final double expected,
+                            final double actual,
+                            final double absolute,
+                            final double relative,
+                            final long maxUlps )
+        {
+
+        if ( expected == actual )
+            {
+            return true ;
+            }
+
+        if ( Double.isNaN( expected ) || Double.isNaN( actual ) )
+            {
+            return Double.isNaN( expected ) && Double.isNaN( actual ) ;
+            }
+
+        // unequal infinities are never close
+        if ( Double.isInfinite( expected ) || Double.isInfinite( actual ) )
+            {
+            return false ;
+            }
+
+        final double difference = Math.abs( expected - actual ) ;
+
+        return ( difference <= absolute ) ||
+               ( difference <= relative *
+                               Math.max( Math.abs( expected ), Math.abs( actual ) ) ) ||
+               ( ( maxUlps > 0 ) &&
+                 withinUlps( orderedBits( Double.doubleToRawLongBits( expected ) ),
+                             orderedBits( Double.doubleToRawLongBits( actual ) ),
+                             maxUlps ) ) ;
+
+        }   // end double matches()
+
+
+    /**
+     * Determine if a pair of floats match within the tolerances
+     *
+     * @param expected
+     *     the element as it should appear
+     * @param actual
+     *     the element to check
+     * @param absolute
+     *     the absolute tolerance
+     * @param relative
+     *     the relative tolerance
+     * @param maxUlps
+     *     the ULP tolerance, in float ULPs
+     *
+     * @return true if they match
+     */
+    static boolean matches( final float expected,
+                            final float actual,
+                            final double absolute,
+                            final double relative,
+                            final long maxUlps )
+        {
+
+        if ( expected == actual )
+            {
+            return true ;
+            }
+
+        if ( Float.isNaN( expected ) || Float.isNaN( actual ) )
+            {
+            return Float.isNaN( expected ) && Float.isNaN( actual ) ;
+            }
+
+        if ( Float.isInfinite( expected ) || Float.isInfinite( actual ) )
+            {
+            return false ;
+            }
+
+        final double difference = Math.abs( (double) expected - actual ) ;
+
+        return ( difference <= absolute ) ||
+               ( difference <= relative *
+                               Math.max( Math.abs( expected ), Math.abs( actual ) ) ) ||
+               ( ( maxUlps > 0 ) &&
+                 withinUlps( orderedBits( Float.floatToRawIntBits( expected ) ),
+                             orderedBits( Float.floatToRawIntBits( actual ) ),
+                             maxUlps ) ) ;
+
+        }   // end float matches()
+
+
+    /**
+     * Map the bits of a double to a long which orders the same way as the double's value, with
+     * {@code -0.0} and {@code 0.0} both mapping to 0
+     *
+     * @param bits
+     *     the raw bits
+     *
+     * @return adjacent doubles map to adjacent longs
+     */
+    private static long orderedBits( final long bits )
+        {
+
+        return bits < 0
+            ? Long.MIN_VALUE - bits
+            : bits ;
+
+        }   // end long orderedBits()
+
+
+    /**
+     * Map the bits of a float to a long which orders the same way as the float's value, with
+     * {@code -0.0f} and {@code 0.0f} both mapping to 0
+     *
+     * @param bits
+     *     the raw bits
+     *
+     * @return adjacent floats map to adjacent longs
+     */
+    private static long orderedBits( final int bits )
+        {
+
+        return bits < 0
+            ? (long) Integer.MIN_VALUE - bits
+            : bits ;
+
+        }   // end int orderedBits()
+
+
+    /**
+     * Determine if two ordered bit patterns are at most {@code maxUlps} apart
+     *
+     * @param expectedBits
+     *     result of {@code orderedBits()}
+     * @param actualBits
+     *     result of {@code orderedBits()}
+     * @param maxUlps
+     *     the ULP tolerance
+     *
+     * @return true if they're close enough
+     */
+    private static boolean withinUlps( final long expectedBits,
+                                       final long actualBits,
+                                       final long maxUlps )
+        {
+
+        final long distance = expectedBits - actualBits ;
+
+        // values far enough apart to overflow are never within tolerance
+        if ( ( ( expectedBits ^ actualBits ) & ( expectedBits ^ distance ) ) < 0 )
+            {
+            return false ;
+            }
+
+        return ( distance <= maxUlps ) && ( distance >= -maxUlps ) ;
+
+        }   // end withinUlps()
+
+    }   // end class FloatingPointMismatch
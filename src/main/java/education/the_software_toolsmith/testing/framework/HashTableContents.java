@@ -0,0 +1,177 @@
+/* @formatter:off
+ *
+ * © David M Rosenberg, The Software Toolsmith (education)
+ *
+ * This file is part of the Testing Framework for Java.
+ * Repository: https://github.com/The-Software-Toolsmith/testing-framework-for-java
+ *
+ * Licensed under the Creative Commons Attribution-NonCommercial 4.0 International License.
+ * You may obtain a copy of the license at:
+ *     https://creativecommons.org/licenses/by-nc/4.0/
+ *
+ * You may use, share, and adapt this file for non-commercial purposes,
+ * provided you give appropriate credit.
+ *
+ * @formatter:on
+ */
+
+
+package education.the_software_toolsmith.testing.framework ;
+
+import java.util.Arrays ;
+import java.util.Objects ;
+
+/**
+ * The entries extracted from a hash table's backing store along with its bucket occupancy
+ * statistics
+ * <p>
+ * the probe length of an entry is the number of slots (open addressing) or nodes (separate
+ * chaining) a successful search must examine to reach it - an entry in its home slot or at the
+ * head of its bucket's chain has a probe length of 1
+ * <p>
+ * {@code equals()}, {@code hashCode()}, and {@code toString()} use the arrays' contents rather
+ * than their identities
+ *
+ * @param keys
+ *     the keys in bucket order
+ * @param values
+ *     the values corresponding to {@code keys}
+ * @param capacity
+ *     the length of the bucket array
+ * @param occupiedBuckets
+ *     the number of buckets holding at least one entry
+ * @param tombstoneCount
+ *     the number of slots marked as removed (always 0 for separate chaining)
+ * @param probeLengthHistogram
+ *     element {@code i} is the number of entries with a probe length of {@code i}
+ *
+ * @author David M Rosenberg
+ *
+ * @version 1.0 2026-10-18 Initial implementation
+ * @version 1.1 2026-10-19 compare, hash, and format the array components by content
+ */
+public record HashTableContents( Object[] keys,
+                                 Object[] values,
+                                 int capacity,
+                                 int occupiedBuckets,
+                                 int tombstoneCount,
+                                 int[] probeLengthHistogram )
+    {
+
+
+    /**
+     * the number of entries found in the table
+     *
+     * @return the number of entries
+     *
+     * @since 1.0
+     */
+    public int entryCount()
+        {
+
+        return this.keys.length ;
+
+        }   // end entryCount()
+
+
+    /**
+     * the ratio of entries to buckets
+     *
+     * @return the load factor or 0.0 if the table has no buckets
+     *
+     * @since 1.0
+     */
+    public double loadFactor()
+        {
+
+        return 0 == this.capacity
+            ? 0.0
+            : (double) this.keys.length / this.capacity ;
+
+        }   // end loadFactor()
+
+
+    /**
+     * the worst-case successful search cost - for separate chaining, the length of the longest
+     * chain
+     *
+     * @return the longest probe length or 0 if the table is empty
+     *
+     * @since 1.0
+     */
+    public int longestProbeLength()
+        {
+
+        return Math.max( 0, this.probeLengthHistogram.length - 1 ) ;
+
+        }   // end longestProbeLength()
+
+
+    /**
+     * the average successful search cost
+     *
+     * @return the mean probe length over all entries or 0.0 if the table is empty
+     *
+     * @since 1.0
+     */
+    public double averageProbeLength()
+        {
+
+        long totalProbes = 0 ;
+
+        for ( int i = 1 ; i < this.probeLengthHistogram.length ; i++ )
+            {
+            totalProbes += (long) i * this.probeLengthHistogram[ i ] ;
+            }
+
+        return 0 == this.keys.length
+            ? 0.0
+            : (double) totalProbes / this.keys.length ;
+
+        }   // end averageProbeLength()
+
+
+    @Override
+    public boolean equals( final Object otherObject )
+        {
+
+        return ( otherObject instanceof final HashTableContents otherContents ) &&
+               ( this.capacity == otherContents.capacity ) &&
+               ( this.occupiedBuckets == otherContents.occupiedBuckets ) &&
+               ( this.tombstoneCount == otherContents.tombstoneCount ) &&
+               Arrays.deepEquals( this.keys, otherContents.keys ) &&
+               Arrays.deepEquals( this.values, otherContents.values ) &&
+               Arrays.equals( this.probeLengthHistogram, otherContents.probeLengthHistogram ) ;
+
+        }   // end equals()
+
+
+    @Override
+    public int hashCode()
+        {
+
+        return Objects.hash( Arrays.deepHashCode( this.keys ),
+                             Arrays.deepHashCode( this.values ),
+                             this.capacity,
+                             this.occupiedBuckets,
+                             this.tombstoneCount,
+                             Arrays.hashCode( this.probeLengthHistogram ) ) ;
+
+        }   // end hashCode()
+
+
+    @Override
+    public String toString()
+        {
+
+        return String.format( "HashTableContents[keys=%s, values=%s, capacity=%d, occupiedBuckets=%d, tombstoneCount=%d, probeLengthHistogram=%s]",
+                              Arrays.deepToString( this.keys ),
+                              Arrays.deepToString( this.values ),
+                              this.capacity,
+                              this.occupiedBuckets,
+                              this.tombstoneCount,
+                              Arrays.toString( this.probeLengthHistogram ) ) ;
+
+        }   // end toString()
+
+    }   // end record HashTableContents
@@ -0,0 +1,920 @@
+/* @formatter:off
+ *
+ * © David M Rosenberg, The Software Toolsmith (education)
+ *
+ * This file is part of the Testing Framework for Java.
+ * Repository: https://github.com/The-Software-Toolsmith/testing-framework-for-java
+ *
+ * Licensed under the Creative Commons Attribution-NonCommercial 4.0 International License.
+ * You may obtain a copy of the license at:
+ *     https://creativecommons.org/licenses/by-nc/4.0/
+ *
+ * You may use, share, and adapt this file for non-commercial purposes,
+ * provided you give appropriate credit.
+ *
+ * @formatter:on
+ */
+
+
+package education.the_software_toolsmith.testing.framework ;
+
+import static education.the_software_toolsmith.testing.framework.TestData.itemToString ;
+
+import java.util.ArrayList ;
+import java.util.Arrays ;
+import java.util.Collections ;
+import java.util.IdentityHashMap ;
+import java.util.List ;
+import java.util.Objects ;
+import java.util.Set ;
+import java.util.function.IntFunction ;
+
+import education.the_software_toolsmith.testing.framework.BackingStoreLayout.Kind ;
+/**
+ * Tracks a student collection's contents across a sequence of operations without re-extracting
+ * the entire backing store after each one
+ * <p>
+ * the extractor keeps a snapshot of the contents; after each operation the test tells it what
+ * should have changed (an insertion at an index, a removal, or a change at the front or back)
+ * and it verifies only the part of the backing store the operation must have touched:
+ * <ul>
+ * <li>chain-backed - the links around the affected position, using the node references cached
+ * from earlier operations, and the entry count
+ * <li>array-backed and circular-array-backed - the entry count, (front index,) every slot whose
+ * entry the operation shifted, and the slots next to the affected position and at both ends.
+ * the shifted slots are those after the affected position unless a circular array's front index
+ * moved, in which case they are those before it; if the backing store was replaced, every slot
+ * is compared
+ * </ul>
+ * if that check fails, the extractor falls back to a full scan, compares it with the expected
+ * contents, and resynchronizes its snapshot with the actual contents - verifying an operation
+ * therefore costs no more than the operation itself as long as the student's implementation
+ * behaves
+ *
+ * @author David M Rosenberg
+ *
+ * @version 1.0 2026-10-18 Initial implementation
+ * @version 1.1 2026-10-18 add tracking with a backing store plan
+ * @version 1.2 2026-10-19 compare every shifted slot rather than only the slots around the
+ *     affected position; format mismatched entries with {@code TestData.itemToString()}
+ * @version 1.3 2026-10-19 track array-backed stacks whose plan counts entries with a top index
+ * @version 1.4 2026-10-19 read every field through a compiled backing store plan - the
+ *     factories which take field names share cached plans with {@code forDataset()}
+ * @version 1.5 2026-10-19 spot check the entry count from the plan's live region so queues
+ *     whose entry count is derived from a back index can be tracked
+ */
+public final class IncrementalDatasetExtractor
+    {
+
+    /*
+     * data fields
+     */
+
+
+    /** the student's collection */
+    private final Object collection ;
+    /** how the collection stores its entries - every read goes through its accessors */
+    private final BackingStoreLayout plan ;
+
+    /** the expected contents after the most recent operation */
+    private final List<Object> snapshot = new ArrayList<>() ;
+    /** the node holding each entry (chain layout only) */
+    private final List<Object> nodes = new ArrayList<>() ;
+
+    /** the front index after the most recent operation (array layouts only) */
+    private int previousFrontIndex = 0 ;
+    /** the backing store's length after the most recent operation or -1 (array layouts only) */
+    private int previousCapacity = -1 ;
+
+    /** number of times a spot check failed and the backing store was rescanned */
+    private int fullScanCount = 0 ;
+    /** description of the most recent mismatch or {@code null} */
+    private String lastMismatch = null ;
+
+
+    /*
+     * constructors
+     */
+
+
+    /**
+     * Set up an extractor and take the initial snapshot
+     *
+     * @param collection
+     *     the student's collection
+     * @param plan
+     *     how the collection stores its entries
+     *
+     * @throws TestingException
+     *     any wrapped exceptions which may be thrown by reflection
+     */
+    private IncrementalDatasetExtractor( final Object collection,
+                                         final BackingStoreLayout plan )
+        throws TestingException
+        {
+
+        this.collection = collection ;
+        this.plan = plan ;
+
+        rescan() ;
+
+        }   // end constructor
+
+
+    /**
+     * Track an array-backed collection
+     *
+     * @param collection
+     *     the student's collection
+     * @param backingStoreFieldName
+     *     field name of the collection's backing store
+     * @param entryCountFieldName
+     *     field name of the collection's entry count (optional - defaults to "numberOfEntries")
+     *
+     * @return the extractor holding the initial snapshot
+     *
+     * @throws TestingException
+     *     any wrapped exceptions which may be thrown by reflection
+     */
+    public static IncrementalDatasetExtractor forArrayBackedDataset( final Object collection,
+                                                                     final String backingStoreFieldName,
+                                                                     final String entryCountFieldName )
+        throws TestingException
+        {
+
+        return new IncrementalDatasetExtractor( collection,
+                                                BackingStoreLayout.of( classOf( collection ),
+                                                                       Kind.ARRAY,
+                                                                       backingStoreFieldName,
+                                                                       null == entryCountFieldName
+                                                                           ? "numberOfEntries"
+                                                                           : entryCountFieldName,
+                                                                       null,
+                                                                       ReflectBackingStores.NO_SUCH_FIELD,
+                                                                       ReflectBackingStores.BACK_INDEX_INCLUSIVE,
+                                                                       null,
+                                                                       null ) ) ;
+
+        }   // end forArrayBackedDataset()
+
+
+    /**
+     * Track a circular-array-backed collection
+     *
+     * @param collection
+     *     the student's collection
+     * @param backingStoreFieldName
+     *     field name of the collection's backing store
+     * @param frontIndexFieldName
+     *     field name of the collection's front index (optional - defaults to "frontIndex")
+     * @param entryCountFieldName
+     *     field name of the collection's entry count (optional - defaults to "numberOfEntries")
+     *
+     * @return the extractor holding the initial snapshot
+     *
+     * @throws TestingException
+     *     any wrapped exceptions which may be thrown by reflection
+     */
+    public static IncrementalDatasetExtractor forCircularArrayBackedDataset( final Object collection,
+                                                                             final String backingStoreFieldName,
+                                                                             final String frontIndexFieldName,
+                                                                             final String entryCountFieldName )
+        throws TestingException
+        {
+
+        return new IncrementalDatasetExtractor( collection,
+                                                BackingStoreLayout.of( classOf( collection ),
+                                                                       Kind.CIRCULAR_ARRAY,
+                                                                       backingStoreFieldName,
+                                                                       null == entryCountFieldName
+                                                                           ? "numberOfEntries"
+                                                                           : entryCountFieldName,
+                                                                       null == frontIndexFieldName
+                                                                           ? "frontIndex"
+                                                                           : frontIndexFieldName,
+                                                                       ReflectBackingStores.NO_SUCH_FIELD,
+                                                                       ReflectBackingStores.BACK_INDEX_INCLUSIVE,
+                                                                       null,
+                                                                       null ) ) ;
+
+        }   // end forCircularArrayBackedDataset()
+
+
+    /**
+     * Track a chain-backed collection
+     * <p>
+     * the node class is the declared type of the first node field
+     *
+     * @param collection
+     *     the student's collection
+     * @param headFieldName
+     *     field name of the collection's first node (optional - defaults to "firstNode")
+     * @param entryCountFieldName
+     *     field name of the collection's entry count (optional - defaults to "numberOfEntries" -
+     *     {@code NO_SUCH_FIELD} if the collection doesn't have one)
+     * @param nodeDataFieldName
+     *     field name of the node's data reference (optional - defaults to "data")
+     * @param nodeNextFieldName
+     *     field name of the node's next reference (optional - defaults to "next")
+     *
+     * @return the extractor holding the initial snapshot
+     *
+     * @throws TestingException
+     *     any wrapped exceptions which may be thrown by reflection
+     * @throws LoopDetectedException
+     *     if the chain loops back on itself
+     */
+    public static IncrementalDatasetExtractor forChainBackedDataset( final Object collection,
+                                                                     final String headFieldName,
+                                                                     final String entryCountFieldName,
+                                                                     final String nodeDataFieldName,
+                                                                     final String nodeNextFieldName )
+        throws TestingException
+        {
+
+        return new IncrementalDatasetExtractor( collection,
+                                                BackingStoreLayout.of( classOf( collection ),
+                                                                       Kind.CHAIN,
+                                                                       null == headFieldName
+                                                                           ? "firstNode"
+                                                                           : headFieldName,
+                                                                       null == entryCountFieldName
+                                                                           ? "numberOfEntries"
+                                                                           : entryCountFieldName,
+                                                                       null,
+                                                                       ReflectBackingStores.NO_SUCH_FIELD,
+                                                                       ReflectBackingStores.BACK_INDEX_INCLUSIVE,
+                                                                       null == nodeDataFieldName
+                                                                           ? "data"
+                                                                           : nodeDataFieldName,
+                                                                       null == nodeNextFieldName
+                                                                           ? "next"
+                                                                           : nodeNextFieldName ) ) ;
+
+        }   // end forChainBackedDataset()
+
+
+    /**
+     * Track a collection using a detected or declared backing store plan
+     *
+     * @param collection
+     *     the student's collection
+     * @param layout
+     *     the plan for {@code collection}'s class
+     *
+     * @return the extractor holding the initial snapshot
+     *
+     * @throws TestingException
+     *     any wrapped exceptions which may be thrown by reflection or if {@code layout} wasn't
+     *     built for {@code collection}'s class
+     * @throws LoopDetectedException
+     *     if the chain loops back on itself
+     *
+     * @see BackingStoreLayout#of(Class, Class)
+     */
+    public static IncrementalDatasetExtractor forDataset( final Object collection,
+                                                          final BackingStoreLayout layout )
+        throws TestingException
+        {
+
+        classOf( collection ) ;
+
+        return new IncrementalDatasetExtractor( collection, layout ) ;
+
+        }   // end forDataset()
+
+
+    /**
+     * Ensure there's a collection to track
+     *
+     * @param collection
+     *     the student's collection
+     *
+     * @return its class
+     *
+     * @throws TestingException
+     *     if {@code collection} is {@code null}
+     */
+    private static Class<?> classOf( final Object collection )
+        throws TestingException
+        {
+
+        if ( null == collection )
+            {
+            throw new TestingException( "bad test configuration: can't track the contents of a null collection" ) ;
+            }
+
+        return collection.getClass() ;
+
+        }   // end classOf()
+
+
+    /*
+     * public API
+     */
+
+
+    /**
+     * Verify that {@code entry} was inserted at {@code index}, shifting subsequent entries
+     *
+     * @param index
+     *     the position of the new entry - 0 through the previous entry count
+     * @param entry
+     *     the new entry
+     *
+     * @return {@code true} if the collection's contents match the expected contents
+     *
+     * @throws TestingException
+     *     any wrapped exceptions which may be thrown by reflection during a full scan
+     */
+    public boolean verifyInsertion( final int index,
+                                    final Object entry )
+        throws TestingException
+        {
+
+        Objects.checkIndex( index, this.snapshot.size() + 1 ) ;
+
+        final boolean spotCheckPassed = switch ( this.plan.kind() )
+            {
+            case CHAIN
+                -> spotCheckChainInsertion( index, entry ) ;
+            default
+                -> spotCheckArray( this.snapshot.size() + 1,
+                                   index,
+                                   -1,
+                                   position -> position < index
+                                       ? this.snapshot.get( position )
+                                       : position == index
+                                           ? entry
+                                           : this.snapshot.get( position - 1 ) ) ;
+            } ;
+
+        this.snapshot.add( index, entry ) ;
+
+        return spotCheckPassed || rescanAndCompare() ;
+
+        }   // end verifyInsertion()
+
+
+    /**
+     * Verify that the entry at {@code index} was removed, shifting subsequent entries
+     *
+     * @param index
+     *     the position of the removed entry
+     *
+     * @return {@code true} if the collection's contents match the expected contents
+     *
+     * @throws TestingException
+     *     any wrapped exceptions which may be thrown by reflection during a full scan
+     */
+    public boolean verifyRemoval( final int index )
+        throws TestingException
+        {
+
+        Objects.checkIndex( index, this.snapshot.size() ) ;
+
+        final boolean spotCheckPassed = switch ( this.plan.kind() )
+            {
+            case CHAIN
+                -> spotCheckChainRemoval( index ) ;
+            default
+                -> spotCheckArray( this.snapshot.size() - 1,
+                                   index,
+                                   1,
+                                   position -> position < index
+                                       ? this.snapshot.get( position )
+                                       : this.snapshot.get( position + 1 ) ) ;
+            } ;
+
+        this.snapshot.remove( index ) ;
+
+        if ( Kind.CHAIN == this.plan.kind() )
+            {
+            this.nodes.remove( index ) ;
+            }
+
+        return spotCheckPassed || rescanAndCompare() ;
+
+        }   // end verifyRemoval()
+
+
+    /**
+     * Verify that {@code entry} was added at the front
+     *
+     * @param entry
+     *     the new entry
+     *
+     * @return {@code true} if the collection's contents match the expected contents
+     *
+     * @throws TestingException
+     *     any wrapped exceptions which may be thrown by reflection during a full scan
+     */
+    public boolean verifyAddToFront( final Object entry )
+        throws TestingException
+        {
+
+        return verifyInsertion( 0, entry ) ;
+
+        }   // end verifyAddToFront()
+
+
+    /**
+     * Verify that {@code entry} was added at the back
+     *
+     * @param entry
+     *     the new entry
+     *
+     * @return {@code true} if the collection's contents match the expected contents
+     *
+     * @throws TestingException
+     *     any wrapped exceptions which may be thrown by reflection during a full scan
+     */
+    public boolean verifyAddToBack( final Object entry )
+        throws TestingException
+        {
+
+        return verifyInsertion( this.snapshot.size(), entry ) ;
+
+        }   // end verifyAddToBack()
+
+
+    /**
+     * Verify that the front entry was removed
+     *
+     * @return {@code true} if the collection's contents match the expected contents
+     *
+     * @throws TestingException
+     *     any wrapped exceptions which may be thrown by reflection during a full scan
+     */
+    public boolean verifyRemoveFront()
+        throws TestingException
+        {
+
+        return verifyRemoval( 0 ) ;
+
+        }   // end verifyRemoveFront()
+
+
+    /**
+     * Verify that the back entry was removed
+     *
+     * @return {@code true} if the collection's contents match the expected contents
+     *
+     * @throws TestingException
+     *     any wrapped exceptions which may be thrown by reflection during a full scan
+     */
+    public boolean verifyRemoveBack()
+        throws TestingException
+        {
+
+        return verifyRemoval( this.snapshot.size() - 1 ) ;
+
+        }   // end verifyRemoveBack()
+
+
+    /**
+     * Verify the entire contents with a full scan - e.g. periodically or at the end of an
+     * operation sequence
+     *
+     * @return {@code true} if the collection's contents match the expected contents
+     *
+     * @throws TestingException
+     *     any wrapped exceptions which may be thrown by reflection
+     */
+    public boolean verifyAll()
+        throws TestingException
+        {
+
+        return rescanAndCompare() ;
+
+        }   // end verifyAll()
+
+
+    /**
+     * the tracked contents - after a mismatch, the collection's actual contents
+     *
+     * @return a copy of the snapshot
+     */
+    public Object[] contents()
+        {
+
+        return this.snapshot.toArray() ;
+
+        }   // end contents()
+
+
+    /**
+     * the number of times a spot check failed (or {@code verifyAll()} was called) and the backing
+     * store was rescanned
+     *
+     * @return the number of full scans after the initial snapshot
+     */
+    public int fullScanCount()
+        {
+
+        return this.fullScanCount ;
+
+        }   // end fullScanCount()
+
+
+    /**
+     * Describe how the most recent full scan differed from the expected contents
+     *
+     * @return the description or {@code null} if the most recent full scan matched
+     */
+    public String lastMismatch()
+        {
+
+        return this.lastMismatch ;
+
+        }   // end lastMismatch()
+
+
+    /*
+     * spot checks
+     */
+
+
+
+    /**
+     * Check an array-backed store against the expected contents at every position an insertion
+     * or removal at {@code index} shifted, the positions next to it, and both ends
+     * <p>
+     * if the front index didn't move, the entries after {@code index} were shifted; if it moved
+     * by {@code frontShift}, the entries before {@code index} were shifted instead; if the
+     * backing store's capacity or front index changed any other way, it was rebuilt and every
+     * position is compared
+     *
+     * @param expectedCount
+     *     the entry count after the operation
+     * @param index
+     *     the position of the operation
+     * @param frontShift
+     *     the change in the front index if the entries before {@code index} were shifted - -1
+     *     for an insertion, 1 for a removal
+     * @param expectedAt
+     *     maps a logical position to its expected entry after the operation
+     *
+     * @return {@code true} if every examined position matches
+     */
+    private boolean spotCheckArray( final int expectedCount,
+                                    final int index,
+                                    final int frontShift,
+                                    final IntFunction<Object> expectedAt )
+        {
+
+        try
+            {
+
+            final Object[] backingStore = this.plan.backingStore( this.collection ) ;
+            final int capacity = backingStore.length ;
+            final int[] liveRegion = this.plan.liveRegion( this.collection, capacity ) ;
+            final int frontIndex = liveRegion[ 0 ] ;
+
+            // the plan may derive the entry count from a back index
+            if ( liveRegion[ 1 ] != expectedCount )
+                {
+                return false ;
+                }
+
+            // the logical positions whose entries were shifted
+            int shiftedStart = 0 ;
+            int shiftedEnd = expectedCount ;
+
+            if ( capacity == this.previousCapacity )
+                {
+
+                if ( frontIndex == this.previousFrontIndex )
+                    {
+                    shiftedStart = index ;
+                    }
+                else if ( frontIndex == Math.floorMod( this.previousFrontIndex + frontShift,
+                                                       capacity ) )
+                    {
+                    shiftedEnd = Math.min( index + 1, expectedCount ) ;
+                    }
+
+                }
+
+            for ( int position = shiftedStart ; position < shiftedEnd ; position++ )
+                {
+
+                if ( !slotMatches( backingStore, frontIndex, position, expectedAt ) )
+                    {
+                    return false ;
+                    }
+
+                }
+
+            for ( final int position : new int[] { 0, index - 1, index, index + 1, expectedCount - 1 } )
+                {
+
+                if ( ( position >= 0 ) &&
+                     ( position < expectedCount ) &&
+                     !slotMatches( backingStore, frontIndex, position, expectedAt ) )
+                    {
+                    return false ;
+                    }
+
+                }
+
+            this.previousFrontIndex = frontIndex ;
+            this.previousCapacity = capacity ;
+
+            return true ;
+            }
+        catch ( final TestingException e )
+            {
+            // let the full scan report the problem
+            return false ;
+            }
+
+        }   // end spotCheckArray()
+
+
+    /**
+     * Compare the slot holding a logical position with its expected entry
+     *
+     * @param backingStore
+     *     the backing store
+     * @param frontIndex
+     *     the slot holding logical position 0
+     * @param position
+     *     the logical position
+     * @param expectedAt
+     *     maps a logical position to its expected entry
+     *
+     * @return {@code true} if the slot holds an entry equal to the expected entry
+     */
+    private static boolean slotMatches( final Object[] backingStore,
+                                        final int frontIndex,
+                                        final int position,
+                                        final IntFunction<Object> expectedAt )
+        {
+
+        int slot = frontIndex + position ;
+
+        if ( slot >= backingStore.length )
+            {
+            slot -= backingStore.length ;
+            }
+
+        return Objects.equals( expectedAt.apply( position ), backingStore[ slot ] ) ;
+
+        }   // end slotMatches()
+
+
+    /**
+     * Check that a new node holding {@code entry} was linked in at {@code index} - on success,
+     * the new node is recorded
+     *
+     * @param index
+     *     the position of the new entry
+     * @param entry
+     *     the new entry
+     *
+     * @return {@code true} if the links around the new node and the entry count are as expected
+     */
+    private boolean spotCheckChainInsertion( final int index,
+                                             final Object entry )
+        {
+
+        try
+            {
+            final int previousCount = this.nodes.size() ;
+
+            if ( !chainEntryCountIs( previousCount + 1 ) )
+                {
+                return false ;
+                }
+
+            final Object newNode = linkAfter( index - 1 ) ;
+            final Object expectedSuccessor = index < previousCount
+                ? this.nodes.get( index )
+                : null ;
+
+            if ( ( null == newNode ) ||
+                 ( newNode == expectedSuccessor ) ||
+                 !Objects.equals( entry, this.plan.nodeData( newNode ) ) ||
+                 ( this.plan.nodeNext( newNode ) != expectedSuccessor ) )
+                {
+                return false ;
+                }
+
+            this.nodes.add( index, newNode ) ;
+
+            return true ;
+            }
+        catch ( final TestingException e )
+            {
+            // let the full scan report the problem
+            return false ;
+            }
+
+        }   // end spotCheckChainInsertion()
+
+
+    /**
+     * Check that the node at {@code index} was unlinked
+     *
+     * @param index
+     *     the position of the removed entry
+     *
+     * @return {@code true} if its predecessor now links to its successor and the entry count is
+     *     as expected
+     */
+    private boolean spotCheckChainRemoval( final int index )
+        {
+
+        try
+            {
+            final int previousCount = this.nodes.size() ;
+
+            return chainEntryCountIs( previousCount - 1 ) &&
+                   ( linkAfter( index - 1 ) == ( index + 1 < previousCount
+                       ? this.nodes.get( index + 1 )
+                       : null ) ) ;
+            }
+        catch ( final TestingException e )
+            {
+            // let the full scan report the problem
+            return false ;
+            }
+
+        }   // end spotCheckChainRemoval()
+
+
+    /**
+     * Retrieve the node following a tracked node
+     *
+     * @param nodeIndex
+     *     the index of a tracked node or -1 for the head reference
+     *
+     * @return the next node
+     *
+     * @throws TestingException
+     *     any wrapped exceptions which may be thrown by reflection
+     */
+    private Object linkAfter( final int nodeIndex )
+        throws TestingException
+        {
+
+        return nodeIndex < 0
+            ? this.plan.head( this.collection )
+            : this.plan.nodeNext( this.nodes.get( nodeIndex ) ) ;
+
+        }   // end linkAfter()
+
+
+    /**
+     * Check a chain-backed collection's entry count, if it has one
+     *
+     * @param expectedCount
+     *     the entry count after the operation
+     *
+     * @return {@code true} if the collection doesn't track its entry count or it matches
+     */
+    private boolean chainEntryCountIs( final int expectedCount )
+        {
+
+        try
+            {
+            return !this.plan.hasEntryCount() ||
+                   ( this.plan.entryCount( this.collection ) == expectedCount ) ;
+            }
+        catch ( final TestingException e )
+            {
+            return false ;
+            }
+
+        }   // end chainEntryCountIs()
+
+
+    /*
+     * full scans
+     */
+
+
+    /**
+     * Rescan the backing store, compare it with the expected contents, and resynchronize the
+     * snapshot with the actual contents
+     *
+     * @return {@code true} if the actual contents match the expected contents
+     *
+     * @throws TestingException
+     *     any wrapped exceptions which may be thrown by reflection
+     */
+    private boolean rescanAndCompare()
+        throws TestingException
+        {
+
+        final Object[] expected = this.snapshot.toArray() ;
+
+        rescan() ;
+        this.fullScanCount++ ;
+
+        final int mismatchIndex = Arrays.mismatch( expected, this.snapshot.toArray() ) ;
+
+        if ( -1 == mismatchIndex )
+            {
+            // array layouts derive the contents from the entry count - a chain doesn't
+            this.lastMismatch = chainEntryCountIs( this.snapshot.size() )
+                ? null
+                : String.format( "entry count field %s doesn't match the %,d node%s in the chain",
+                                 this.plan.entryCountFieldName(),
+                                 this.snapshot.size(),
+                                 1 == this.snapshot.size()
+                                     ? ""
+                                     : "s" ) ;
+
+            return null == this.lastMismatch ;
+            }
+
+        this.lastMismatch = ( mismatchIndex >= expected.length ) ||
+                            ( mismatchIndex >= this.snapshot.size() )
+            ? String.format( "expected %,d entr%s, found %,d",
+                             expected.length,
+                             1 == expected.length
+                                 ? "y"
+                                 : "ies",
+                             this.snapshot.size() )
+            : String.format( "index %,d: expected %s, found %s",
+                             mismatchIndex,
+                             itemToString( expected[ mismatchIndex ] ),
+                             itemToString( this.snapshot.get( mismatchIndex ) ) ) ;
+
+        return false ;
+
+        }   // end rescanAndCompare()
+
+
+    /**
+     * Replace the snapshot (and tracked nodes) with the collection's actual contents
+     *
+     * @throws TestingException
+     *     any wrapped exceptions which may be thrown by reflection or if the instance state is
+     *     inconsistent
+     * @throws LoopDetectedException
+     *     if a chain loops back on itself
+     */
+    private void rescan()
+        throws TestingException
+        {
+
+        this.snapshot.clear() ;
+        this.nodes.clear() ;
+
+        if ( Kind.CHAIN == this.plan.kind() )
+            {
+            rescanChain() ;
+
+            return ;
+            }
+
+        Collections.addAll( this.snapshot, this.plan.extract( this.collection ) ) ;
+
+        // extract() verified the live region
+        final int capacity = this.plan.backingStore( this.collection ).length ;
+        this.previousCapacity = capacity ;
+        this.previousFrontIndex = this.plan.liveRegion( this.collection, capacity )[ 0 ] ;
+
+        }   // end rescan()
+
+
+    /**
+     * Walk the chain, recording each node and its data
+     *
+     * @throws TestingException
+     *     any wrapped exceptions which may be thrown by reflection
+     * @throws LoopDetectedException
+     *     if the chain loops back on itself
+     */
+    private void rescanChain()
+        throws TestingException
+        {
+
+        // for loop detection - identity, not equals(), since students' nodes may override it
+        final Set<Object> nodesVisited = Collections.newSetFromMap( new IdentityHashMap<>() ) ;
+
+        Object currentNode = this.plan.head( this.collection ) ;
+
+        while ( null != currentNode )
+            {
+
+            if ( !nodesVisited.add( currentNode ) )
+                {
+                throw new LoopDetectedException( String.format( "node reached twice while traversing chain from class %s, field %s",
+                                                                this.collection.getClass()
+                                                                               .getSimpleName(),
+                                                                this.plan.storeFieldName() ) ) ;
+                }
+
+            this.nodes.add( currentNode ) ;
+            this.snapshot.add( this.plan.nodeData( currentNode ) ) ;
+
+            currentNode = this.plan.nodeNext( currentNode ) ;
+            }
+
+        }   // end rescanChain()
+
+    }   // end class IncrementalDatasetExtractor
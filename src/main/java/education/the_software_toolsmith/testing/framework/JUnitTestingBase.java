@@ -104,6 +104,8 @@ import org.junit.jupiter.api.TestInstance.Lifecycle ;
  *     <li>keep {@code xxxEachTest()} as deprecated, temporary pass-throughs
  *     </ul>
  * @version 7.0.1 2025-07-29 remove deprecated methods - they were executing twice
+ * @version 7.1 2026-10-18 pass through {@code TestingBase}'s {@code startTest()} overload which can
+ *     return numeric datasets
  */
 @DisplayName( "JUnit Testing Base" )
 @TestInstance( Lifecycle.PER_CLASS )
@@ -350,4 +352,41 @@ public class JUnitTestingBase extends TestingBase
 
         }   // end startTest() pass-through
 
+
+    /**
+     * Utility to pre-process test parameters, optionally parsing numeric arguments into primitive
+     * datasets
+     *
+     * @param testInfo
+     *     info about the test - ignored
+     * @param isLastTest
+     *     flag to indicate that this is the last dataset for this test
+     * @param isStubBehavior
+     *     flag to indicate that the result of testing this dataset matches the stubbed behavior
+     * @param numericDatasets
+     *     {@code NUMERIC_DATASETS} or {@code OBJECT_DATASETS}
+     * @param argumentLabels
+     *     descriptive text for each of the collectionContentArguments elements
+     * @param collectionContentsArguments
+     *     contents of one or more collections to populate
+     *
+     * @return the parsed collectionContentsArguments in order of appearance in the argument list -
+     *     each is a {@code NumericDataset}, an {@code Object[]}, or null
+     */
+    protected Object[] startTest( final TestInfo testInfo,
+                                  final boolean isLastTest,
+                                  final boolean isStubBehavior,
+                                  final boolean numericDatasets,
+                                  final String[] argumentLabels,
+                                  final String... collectionContentsArguments )
+        {
+
+        return super.startTest( isLastTest,
+                                isStubBehavior,
+                                numericDatasets,
+                                argumentLabels,
+                                collectionContentsArguments ) ;
+
+        }   // end startTest() pass-through
+
     }	// end class JUnitTestingBase
\ No newline at end of file
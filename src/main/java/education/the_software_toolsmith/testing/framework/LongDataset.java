@@ -0,0 +1,153 @@
+/* @formatter:off
+ *
+ * © David M Rosenberg, The Software Toolsmith (education)
+ *
+ * This file is part of the Testing Framework for Java.
+ * Repository: https://github.com/The-Software-Toolsmith/testing-framework-for-java
+ *
+ * Licensed under the Creative Commons Attribution-NonCommercial 4.0 International License.
+ * You may obtain a copy of the license at:
+ *     https://creativecommons.org/licenses/by-nc/4.0/
+ *
+ * You may use, share, and adapt this file for non-commercial purposes,
+ * provided you give appropriate credit.
+ *
+ * @formatter:on
+ */
+
+
+package education.the_software_toolsmith.testing.framework ;
+
+import java.util.Arrays ;
+
+/**
+ * A dataset of {@code long}s backed by a {@code long[]}
+ * <p>
+ * the array isn't copied - the record is as mutable as the array it wraps; {@code equals()} and
+ * {@code hashCode()} compare contents
+ *
+ * @param elements
+ *     the elements in order
+ *
+ * @author David M Rosenberg
+ *
+ * @version 1.0 2026-10-18 Initial implementation
+ */
+public record LongDataset( long[] elements ) implements NumericDataset
+    {
+
+
+    /**
+     * Wrap elements in a dataset
+     *
+     * @param elements
+     *     the elements in order
+     *
+     * @return the dataset
+     *
+     * @since 1.0
+     */
+    public static LongDataset of( final long... elements )
+        {
+
+        return new LongDataset( elements ) ;
+
+        }   // end of()
+
+
+    /**
+     * Retrieve an element
+     *
+     * @param index
+     *     the position of the element
+     *
+     * @return the element
+     *
+     * @since 1.0
+     */
+    public long get( final int index )
+        {
+
+        return this.elements[ index ] ;
+
+        }   // end get()
+
+
+    @Override
+    public int length()
+        {
+
+        return this.elements.length ;
+
+        }   // end length()
+
+
+    @Override
+    public Object[] toObjectArray()
+        {
+
+        final Object[] boxed = new Object[ this.elements.length ] ;
+
+        for ( int i = 0 ; i < boxed.length ; i++ )
+            {
+            boxed[ i ] = this.elements[ i ] ;
+            }
+
+        return boxed ;
+
+        }   // end toObjectArray()
+
+
+    /**
+     * Narrow the elements to {@code int}s - e.g. to populate a collection of {@code Integer}s
+     *
+     * @return a new dataset with the same elements
+     *
+     * @throws ArithmeticException
+     *     if an element is outside the range of an {@code int}
+     *
+     * @since 1.0
+     */
+    public IntDataset toIntDataset()
+        {
+
+        final int[] narrowed = new int[ this.elements.length ] ;
+
+        for ( int i = 0 ; i < narrowed.length ; i++ )
+            {
+            narrowed[ i ] = Math.toIntExact( this.elements[ i ] ) ;
+            }
+
+        return new IntDataset( narrowed ) ;
+
+        }   // end toIntDataset()
+
+
+    @Override
+    public boolean equals( final Object otherObject )
+        {
+
+        return ( otherObject instanceof final LongDataset otherDataset ) &&
+               Arrays.equals( this.elements, otherDataset.elements ) ;
+
+        }   // end equals()
+
+
+    @Override
+    public int hashCode()
+        {
+
+        return Arrays.hashCode( this.elements ) ;
+
+        }   // end hashCode()
+
+
+    @Override
+    public String toString()
+        {
+
+        return TestData.datasetToString( this ) ;
+
+        }   // end toString()
+
+    }   // end record LongDataset
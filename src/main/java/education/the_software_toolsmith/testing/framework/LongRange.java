@@ -0,0 +1,495 @@
+/* @formatter:off
+ *
+ * © David M Rosenberg, The Software Toolsmith (education)
+ *
+ * This file is part of the Testing Framework for Java.
+ * Repository: https://github.com/The-Software-Toolsmith/testing-framework-for-java
+ *
+ * Licensed under the Creative Commons Attribution-NonCommercial 4.0 International License.
+ * You may obtain a copy of the license at:
+ *     https://creativecommons.org/licenses/by-nc/4.0/
+ *
+ * You may use, share, and adapt this file for non-commercial purposes,
+ * provided you give appropriate credit.
+ *
+ * @formatter:on
+ */
+
+
+package education.the_software_toolsmith.testing.framework ;
+
+import java.util.Objects ;
+import java.util.stream.IntStream ;
+import java.util.stream.LongStream ;
+
+/**
+ * A lazy arithmetic sequence of {@code long}s - the contents of a
+ * {@code [leftBound:rightBound:step:duplicates:groups]} range argument, computed on demand instead
+ * of being expanded into an array, e.g. {@code [1:10000000]} occupies a few dozen bytes
+ * <p>
+ * the sequence is {@code groups} repetitions of the terms {@code leftBound},
+ * {@code leftBound + step}, ... up to and including {@code rightBound}, each term repeated
+ * {@code duplicates} times in a row; a slice is a window onto that sequence
+ * <p>
+ * elements are computed in O(1) time and memory by {@code get()}; {@code count()} and
+ * {@code contains()} are also O(1); {@code TestData} compares and formats ranges without
+ * materializing them
+ * <p>
+ * {@code equals()} and {@code hashCode()} compare elements, in O(n) time, so ranges described
+ * differently (e.g. {@code [1:1:1:1:3]} and {@code [1:1:1:3]}) or a slice and a range with the same
+ * elements are equal; a {@code LongRange} never equals a {@code LongDataset} but has the same
+ * hash code as one with the same elements
+ *
+ * @author David M Rosenberg
+ *
+ * @version 1.0 2026-10-18 Initial implementation
+ * @version 1.1 2026-10-19 add {@code equals()} and {@code hashCode()} which compare elements
+ */
+public final class LongRange implements NumericDataset
+    {
+
+    /*
+     * data fields
+     */
+
+
+    /** the first term */
+    private final long first ;
+    /** the difference between successive terms - never 0 */
+    private final long step ;
+    /** the number of distinct terms */
+    private final int termCount ;
+    /** the number of times each term is repeated in a row */
+    private final int duplicates ;
+    /** {@code termCount * duplicates} - the length of one group */
+    private final long period ;
+    /** the position in the full sequence of this (slice's) first element */
+    private final long offset ;
+    /** the number of elements in this (slice of the) sequence */
+    private final int length ;
+
+
+    /*
+     * constructors
+     */
+
+
+    /**
+     * Describe a window onto a sequence
+     *
+     * @param first
+     *     the first term
+     * @param step
+     *     the difference between successive terms
+     * @param termCount
+     *     the number of distinct terms
+     * @param duplicates
+     *     the number of times each term is repeated
+     * @param offset
+     *     the position of the first element of the window
+     * @param length
+     *     the number of elements in the window
+     */
+    private LongRange( final long first,
+                       final long step,
+                       final int termCount,
+                       final int duplicates,
+                       final long offset,
+                       final int length )
+        {
+
+        this.first = first ;
+        this.step = step ;
+        this.termCount = termCount ;
+        this.duplicates = duplicates ;
+        this.period = (long) termCount * duplicates ;
+        this.offset = offset ;
+        this.length = length ;
+
+        }   // end constructor
+
+
+    /**
+     * Describe a range as {@code parseArguments()} expands it
+     *
+     * @param leftBound
+     *     the first term
+     * @param rightBound
+     *     the limit of the terms (inclusive)
+     * @param step
+     *     the difference between successive terms - there are no terms if it leads away from
+     *     rightBound
+     * @param duplicates
+     *     the number of times each term is repeated in a row - none if less than 1
+     * @param groups
+     *     the number of times the sequence of terms is repeated - none if less than 1
+     *
+     * @return the range
+     *
+     * @throws IllegalArgumentException
+     *     if step is 0
+     * @throws ArithmeticException
+     *     if the range has more than {@code Integer.MAX_VALUE} elements or its bounds are more
+     *     than {@code Long.MAX_VALUE} apart
+     */
+    public static LongRange of( final long leftBound,
+                                final long rightBound,
+                                final long step,
+                                final int duplicates,
+                                final int groups )
+        {
+
+        if ( 0 == step )
+            {
+            throw new IllegalArgumentException( "range step must not be 0" ) ;
+            }
+
+        // no terms if the step leads away from the right bound
+        final boolean isReachable = step > 0
+            ? leftBound <= rightBound
+            : leftBound >= rightBound ;
+        final long termCount = isReachable
+            ? Math.floorDiv( Math.subtractExact( rightBound, leftBound ), step ) + 1
+            : 0 ;
+        final int repeats = Math.max( 0, duplicates ) ;
+
+        final int length = Math.toIntExact( Math.multiplyExact( Math.multiplyExact( termCount,
+                                                                                    repeats ),
+                                                                Math.max( 0, groups ) ) ) ;
+
+        return new LongRange( leftBound,
+                              step,
+                              0 == length
+                                  ? 0
+                                  : Math.toIntExact( termCount ),
+                              repeats,
+                              0,
+                              length ) ;
+
+        }   // end of()
+
+
+    /*
+     * queries
+     */
+
+
+    @Override
+    public int length()
+        {
+
+        return this.length ;
+
+        }   // end length()
+
+
+    /**
+     * Compute an element
+     *
+     * @param index
+     *     the position of the element
+     *
+     * @return the element
+     *
+     * @throws IndexOutOfBoundsException
+     *     if index isn't a valid position
+     */
+    public long get( final int index )
+        {
+
+        Objects.checkIndex( index, this.length ) ;
+
+        return termAt( this.offset + index ) ;
+
+        }   // end get()
+
+
+    /**
+     * A window onto this range
+     *
+     * @param fromIndex
+     *     the first position (inclusive)
+     * @param toIndex
+     *     the last position (exclusive)
+     *
+     * @return the elements from fromIndex up to toIndex, computed lazily
+     *
+     * @throws IndexOutOfBoundsException
+     *     if the positions aren't valid
+     */
+    public LongRange slice( final int fromIndex,
+                            final int toIndex )
+        {
+
+        Objects.checkFromToIndex( fromIndex, toIndex, this.length ) ;
+
+        return new LongRange( this.first,
+                              this.step,
+                              this.termCount,
+                              this.duplicates,
+                              this.offset + fromIndex,
+                              toIndex - fromIndex ) ;
+
+        }   // end slice()
+
+
+    /**
+     * Count the occurrences of a value
+     *
+     * @param value
+     *     the value to look for
+     *
+     * @return the number of times value occurs
+     */
+    public int count( final long value )
+        {
+
+        final int term = termIndexOf( value ) ;
+
+        if ( -1 == term )
+            {
+            return 0 ;
+            }
+
+        return (int) ( occurrencesBefore( term, this.offset + this.length ) -
+                       occurrencesBefore( term, this.offset ) ) ;
+
+        }   // end count()
+
+
+    /**
+     * Determine if a value occurs
+     *
+     * @param value
+     *     the value to look for
+     *
+     * @return true if value occurs at least once
+     */
+    public boolean contains( final long value )
+        {
+
+        return count( value ) > 0 ;
+
+        }   // end contains()
+
+
+    /**
+     * Determine if the terms increase
+     *
+     * @return true if the step is positive
+     */
+    public boolean isAscending()
+        {
+
+        return this.step > 0 ;
+
+        }   // end isAscending()
+
+
+    /**
+     * Compute the {@code k}th smallest term of the underlying sequence
+     *
+     * @param k
+     *     0 for the smallest term
+     *
+     * @return the term
+     */
+    long termInAscendingOrder( final int k )
+        {
+
+        return isAscending()
+            ? this.first + ( k * this.step )
+            : this.first + ( ( this.termCount - 1 - k ) * this.step ) ;
+
+        }   // end termInAscendingOrder()
+
+
+    /**
+     * the number of distinct terms in the underlying sequence
+     *
+     * @return the number of terms
+     */
+    int termCount()
+        {
+
+        return this.termCount ;
+
+        }   // end termCount()
+
+
+    /**
+     * Locate a value among the terms
+     *
+     * @param value
+     *     the value
+     *
+     * @return the index of the term in sequence order or -1 if value isn't a term
+     */
+    int termIndexOf( final long value )
+        {
+
+        if ( 0 == this.termCount )
+            {
+            return -1 ;
+            }
+
+        // terms lie between the smallest and the largest - so the distance can't overflow
+        if ( ( value < termInAscendingOrder( 0 ) ) ||
+             ( value > termInAscendingOrder( this.termCount - 1 ) ) )
+            {
+            return -1 ;
+            }
+
+        final long distance = value - this.first ;
+
+        if ( 0 != ( distance % this.step ) )
+            {
+            return -1 ;
+            }
+
+        return (int) ( distance / this.step ) ;
+
+        }   // end termIndexOf()
+
+
+    /**
+     * Count the occurrences of a term before a position in the full sequence
+     *
+     * @param term
+     *     the index of the term
+     * @param position
+     *     the position (exclusive)
+     *
+     * @return the number of occurrences
+     */
+    private long occurrencesBefore( final int term,
+                                    final long position )
+        {
+
+        final long termStart = (long) term * this.duplicates ;
+        final long intoGroup = position % this.period ;
+
+        return ( ( position / this.period ) * this.duplicates ) +
+               Math.clamp( intoGroup - termStart, 0, this.duplicates ) ;
+
+        }   // end occurrencesBefore()
+
+
+    /**
+     * Compute the element at a position in the full sequence
+     *
+     * @param position
+     *     the position
+     *
+     * @return the element
+     */
+    private long termAt( final long position )
+        {
+
+        return this.first +
+               ( ( ( position % this.period ) / this.duplicates ) * this.step ) ;
+
+        }   // end termAt()
+
+
+    /*
+     * conversions
+     */
+
+
+    /**
+     * Stream the elements
+     *
+     * @return the elements in order, computed as they're consumed
+     */
+    public LongStream stream()
+        {
+
+        return IntStream.range( 0, this.length ).mapToLong( this::get ) ;
+
+        }   // end stream()
+
+
+    /**
+     * Materialize the elements
+     *
+     * @return a new dataset containing the elements
+     */
+    public LongDataset toLongDataset()
+        {
+
+        return new LongDataset( stream().toArray() ) ;
+
+        }   // end toLongDataset()
+
+
+    @Override
+    public Object[] toObjectArray()
+        {
+
+        return stream().boxed().toArray() ;
+
+        }   // end toObjectArray()
+
+
+    /*
+     * object methods
+     */
+
+
+    @Override
+    public boolean equals( final Object otherObject )
+        {
+
+        if ( this == otherObject )
+            {
+            return true ;
+            }
+
+        if ( !( otherObject instanceof final LongRange otherRange ) ||
+             ( this.length != otherRange.length ) )
+            {
+            return false ;
+            }
+
+        for ( int i = 0 ; i < this.length ; i++ )
+            {
+
+            if ( termAt( this.offset + i ) != otherRange.termAt( otherRange.offset + i ) )
+                {
+                return false ;
+                }
+
+            }
+
+        return true ;
+
+        }   // end equals()
+
+
+    @Override
+    public int hashCode()
+        {
+
+        // the same as Arrays.hashCode() of the elements
+        int hash = 1 ;
+
+        for ( int i = 0 ; i < this.length ; i++ )
+            {
+            hash = ( 31 * hash ) + Long.hashCode( termAt( this.offset + i ) ) ;
+            }
+
+        return hash ;
+
+        }   // end hashCode()
+
+
+    @Override
+    public String toString()
+        {
+
+        return TestData.datasetToString( this ) ;
+
+        }   // end toString()
+
+    }   // end class LongRange
@@ -0,0 +1,56 @@
+/* @formatter:off
+ *
+ * © David M Rosenberg, The Software Toolsmith (education)
+ *
+ * This file is part of the Testing Framework for Java.
+ * Repository: https://github.com/The-Software-Toolsmith/testing-framework-for-java
+ *
+ * Licensed under the Creative Commons Attribution-NonCommercial 4.0 International License.
+ * You may obtain a copy of the license at:
+ *     https://creativecommons.org/licenses/by-nc/4.0/
+ *
+ * You may use, share, and adapt this file for non-commercial purposes,
+ * provided you give appropriate credit.
+ *
+ * @formatter:on
+ */
+
+
+package education.the_software_toolsmith.testing.framework ;
+
+/**
+ * A dataset of numbers held in a primitive array rather than as boxed elements of an
+ * {@code Object[]} - e.g. a numeric test sweep with millions of values allocates a single array
+ * instead of millions of {@code Long}s
+ * <p>
+ * {@code TestData} has {@code compareDatasets()}, {@code datasetToString()},
+ * {@code countOccurrences()}, and {@code datasetContains()} overloads for each kind; use
+ * {@code toObjectArray()} where an {@code Object[]} is required
+ *
+ * @author David M Rosenberg
+ *
+ * @version 1.0 2026-10-18 Initial implementation
+ */
+public sealed interface NumericDataset permits IntDataset, LongDataset, DoubleDataset, LongRange
+    {
+
+    /**
+     * the number of elements
+     *
+     * @return the number of elements
+     *
+     * @since 1.0
+     */
+    int length() ;
+
+
+    /**
+     * Box the elements - for use with methods which only accept {@code Object[]}
+     *
+     * @return a new array containing the boxed elements in order
+     *
+     * @since 1.0
+     */
+    Object[] toObjectArray() ;
+
+    }   // end interface NumericDataset
@@ -18,14 +18,34 @@
 
 package education.the_software_toolsmith.testing.framework ;
 
+import static education.the_software_toolsmith.testing.framework.ReflectDataFields.getField ;
 import static education.the_software_toolsmith.testing.framework.ReflectDataFields.getIntField ;
 import static education.the_software_toolsmith.testing.framework.ReflectDataFields.getReferenceField ;
 
+import java.lang.management.ManagementFactory ;
+import java.lang.reflect.Array ;
+import java.lang.reflect.Field ;
+import java.lang.reflect.Modifier ;
+import java.util.AbstractList ;
 import java.util.ArrayList ;
 import java.util.Arrays ;
+import java.util.Collection ;
+import java.util.Collections ;
+import java.util.Comparator ;
+import java.util.HashMap ;
 import java.util.HashSet ;
+import java.util.IdentityHashMap ;
+import java.util.Iterator ;
 import java.util.LinkedList ;
 import java.util.List ;
+import java.util.Map ;
+import java.util.Objects ;
+import java.util.RandomAccess ;
+import java.util.Set ;
+import java.util.concurrent.ConcurrentHashMap ;
+import java.util.function.IntBinaryOperator ;
+
+import com.sun.management.HotSpotDiagnosticMXBean ;
 
 /**
  * Reflective access to backing stores
@@ -37,6 +57,39 @@ import java.util.List ;
  *     <li>Initial implementation - extracted from framework's {@link Reflection}
  *     <li>rename {@code xxxCollect()} to {@code xxxDataset()} for consistency with other classes
  *     </ul>
+ * @version 1.1 2026-10-18 add separate chaining and open addressing hash table extraction with
+ *     bucket occupancy statistics
+ * @version 1.2 2026-10-18
+ *     <ul>
+ *     <li>add array-backed heap extraction with heap property verification
+ *     <li>consolidate entry count retrieval
+ *     </ul>
+ * @version 1.3 2026-10-18 add read-only, non-copying list views of array-backed and
+ *     circular-array-backed collections
+ * @version 1.4 2026-10-18 rebuild circular-array extraction to copy only the live entries, verify
+ *     the back index, and support exclusive back indices and collections without an entry count
+ * @version 1.5 2026-10-18 add int, long, double, and char array-backed extraction without boxing
+ * @version 1.6 2026-10-18 add flattening extraction of (ragged) multi-dimensional arrays
+ * @version 1.7 2026-10-18 add single-pass skip list extraction with level structure verification
+ * @version 1.8 2026-10-18 add adjacency map, adjacency matrix, and vertex-held edge graph extraction
+ *     to compressed sparse row form
+ * @version 1.9 2026-10-18 add retained memory size estimation for grading space requirements
+ * @version 1.10 2026-10-18 add loitering reference detection for array-backed and
+ *     circular-array-backed collections
+ * @version 1.11 2026-10-18 add extraction using backing store layouts detected once per class
+ * @version 1.12 2026-10-18 add extraction, views, and loitering reference detection using detected
+ *     or {@code @BackingStore}-declared plans
+ * @version 1.13 2026-10-19 cache resolved node fields per concrete class so a subclass which
+ *     shadows a field resolves to its own declaration
+ * @version 1.14 2026-10-19 report a negative entry count or one which exceeds the backing store
+ *     before copying array-backed collections, heaps, and primitive backing stores
+ * @version 1.15 2026-10-19 share one copy routine across the primitive backing store extractors
+ * @version 1.16 2026-10-19 verify each skip list level against the level directly below it rather
+ *     than only against level 0
+ * @version 1.17 2026-10-19 query the JVM's object layout sizes on first use through a lazy holder
+ *     class rather than during class initialization
+ * @version 1.18 2026-10-19 add heap and primitive backing store extraction using precompiled plans;
+ *     share one loitering reference scan across the array and circular array layouts
  */
 public class ReflectBackingStores
     {
@@ -428,45 +481,23 @@ public class ReflectBackingStores
                 }
 
             // get current entry count from the collection if not provided
-            if ( entryCount < 0 )
-                {
-
-                try
-                    {
-                    entryCount = getIntField( collectionToCopy,
-                                              entryCountFieldName ) ;
-                    }
-                catch ( IllegalArgumentException | SecurityException e )
-                    {
-                    final String exceptionClassName = e.getClass()
-                                                       .getSimpleName() ;
-
-                    final String errorMessage = String.format( "Failed to retrieve entry count from class %s, field %s, instance %s: %s%s%s",
-                                                               collectionToCopy.getClass()
-                                                                               .getSimpleName(),
-                                                               entryCountFieldName,
-                                                               collectionToCopy.toString(),
-                                                               exceptionClassName,
-                                                               ( null ==
-                                                                 e.getMessage()
-                                                                     ? ""
-                                                                     : ": " ),
-                                                               ( null ==
-                                                                 e.getMessage()
-                                                                     ? ""
-                                                                     : e.getMessage() ) ) ;
-
-                    throw new TestingException( errorMessage, e ) ;
-                    }
-
-                }
+            entryCount = retrieveEntryCount( collectionToCopy,
+                                             entryCountFieldName,
+                                             entryCount ) ;
 
             // collect the contents of the collection
             try
                 {
-                collectionContents = Arrays.copyOf( (Object[]) getReferenceField( collectionToCopy,
-                                                                                  backingStoreFieldName ),
-                                                    entryCount ) ;
+                final Object[] backingStoreArray = (Object[]) getReferenceField( collectionToCopy,
+                                                                                 backingStoreFieldName ) ;
+
+                verifyEntryCount( collectionToCopy,
+                                  backingStoreFieldName,
+                                  entryCount,
+                                  0,
+                                  backingStoreArray.length ) ;
+
+                collectionContents = Arrays.copyOf( backingStoreArray, entryCount ) ;
                 }
             catch ( IllegalArgumentException | SecurityException ex )
                 {
@@ -596,8 +627,28 @@ public class ReflectBackingStores
         }   // end getContentsOfCircularArrayBackedCollection()
 
 
+    /**
+     * flag that a circular-array-backed collection's back index references its last entry -
+     * paired with BACK_INDEX_EXCLUSIVE
+     */
+    public final static boolean BACK_INDEX_INCLUSIVE = true ;
+    /**
+     * flag that a circular-array-backed collection's back index references the slot following its
+     * last entry - paired with BACK_INDEX_INCLUSIVE
+     */
+    public final static boolean BACK_INDEX_EXCLUSIVE = false ;
+    /**
+     * field name which indicates that the collection doesn't have the corresponding field - e.g.,
+     * a circular-array-backed collection without a back index or without an entry count
+     */
+    public final static String NO_SUCH_FIELD = "" ;
+
+
     /**
      * Utility to copy a circular-array-backed collection's contents into an array
+     * <p>
+     * convenience method for all-arg {@code getContentsOfCircularArrayBackedDataset()} with an
+     * inclusive back index
      *
      * @param collectionToCopy
      *     the collection to copy
@@ -616,306 +667,428 @@ public class ReflectBackingStores
      *     {@code collectionToCopy} is {@code null}
      *
      * @throws TestingException
-     *     any wrapped exceptions which may be thrown by reflection
+     *     any wrapped exceptions which may be thrown by reflection or if the instance state is
+     *     inconsistent
      */
     public static Object[] getContentsOfCircularArrayBackedDataset(
                                                                     final Object collectionToCopy,
                                                                     final String backingStoreFieldName,
-                                                                    String frontIndexFieldName,
-                                                                    String backIndexFieldName,
-                                                                    String entryCountFieldName,
-                                                                    int entryCount )
+                                                                    final String frontIndexFieldName,
+                                                                    final String backIndexFieldName,
+                                                                    final String entryCountFieldName,
+                                                                    final int entryCount )
         throws TestingException
         {
 
-        Object[] collectionContents = null ;
-
-        if ( null != collectionToCopy )
-            {
-
-            // handle optional parameters
-            if ( null == entryCountFieldName )
-                {
-                entryCountFieldName = "numberOfEntries" ;
-                }
-
-            if ( null == frontIndexFieldName )
-                {
-                frontIndexFieldName = "frontIndex" ;
-                }
-
-            if ( null == backIndexFieldName )
-                {
-                backIndexFieldName = "backIndex" ;
-                }
-
-            // get current entry count from the collection if not provided
-            if ( entryCount < 0 )
-                {
-
-                try
-                    {
-                    entryCount = getIntField( collectionToCopy,
-                                              entryCountFieldName ) ;
-                    }
-                catch ( IllegalArgumentException | SecurityException e )
-                    {
-                    final String exceptionClassName = e.getClass()
-                                                       .getSimpleName() ;
-
-                    final String errorMessage = String.format( "Failed to retrieve entry count from class %s, field %s, instance %s: %s%s%s",
-                                                               collectionToCopy.getClass()
-                                                                               .getSimpleName(),
-                                                               entryCountFieldName,
-                                                               collectionToCopy.toString(),
-                                                               exceptionClassName,
-                                                               ( null ==
-                                                                 e.getMessage()
-                                                                     ? ""
-                                                                     : ": " ),
-                                                               ( null ==
-                                                                 e.getMessage()
-                                                                     ? ""
-                                                                     : e.getMessage() ) ) ;
-
-                    throw new TestingException( errorMessage, e ) ;
-                    }
-
-                }
-
-            int frontIndex ;
-
-            try
-                {
-                frontIndex = getIntField( collectionToCopy,
-                                          frontIndexFieldName ) ;
-                }
-            catch ( IllegalArgumentException | SecurityException e )
-                {
-                final String exceptionClassName = e.getClass().getSimpleName() ;
-
-                final String errorMessage = String.format( "Failed to retrieve front index from class %s, field %s, instance %s: %s%s%s",
-                                                           collectionToCopy.getClass()
-                                                                           .getSimpleName(),
-                                                           frontIndexFieldName,
-                                                           collectionToCopy.toString(),
-                                                           exceptionClassName,
-                                                           ( null ==
-                                                             e.getMessage()
-                                                                 ? ""
-                                                                 : ": " ),
-                                                           ( null ==
-                                                             e.getMessage()
-                                                                 ? ""
-                                                                 : e.getMessage() ) ) ;
-
-                throw new TestingException( errorMessage, e ) ;
-                }
-
-            @SuppressWarnings( "unused" )
-            int backIndex ;     // FUTURE
-
-            try
-                {
-                backIndex = getIntField( collectionToCopy,
-                                         backIndexFieldName ) ;
-                }
-            catch ( IllegalArgumentException | SecurityException e )
-                {
-                final String exceptionClassName = e.getClass().getSimpleName() ;
-
-                final String errorMessage = String.format( "Failed to retrieve back index from class %s, field %s, instance %s: %s%s%s",
-                                                           collectionToCopy.getClass()
-                                                                           .getSimpleName(),
-                                                           backIndexFieldName,
-                                                           collectionToCopy.toString(),
-                                                           exceptionClassName,
-                                                           ( null ==
-                                                             e.getMessage()
-                                                                 ? ""
-                                                                 : ": " ),
-                                                           ( null ==
-                                                             e.getMessage()
-                                                                 ? ""
-                                                                 : e.getMessage() ) ) ;
-
-                throw new TestingException( errorMessage, e ) ;
-                }
-
-            Object[] backingStoreArray ;
-
-            try
-                {
-                backingStoreArray = (Object[]) getReferenceField( collectionToCopy,
-                                                                  backingStoreFieldName ) ;
-                }
-            catch ( IllegalArgumentException | SecurityException e )
-                {
-                final String exceptionClassName = e.getClass().getSimpleName() ;
-
-                final String errorMessage = String.format( "Failed to retrieve backing store array from class %s, field %s, instance %s: %s%s%s",
-                                                           collectionToCopy.getClass()
-                                                                           .getSimpleName(),
-                                                           backingStoreFieldName,
-                                                           collectionToCopy.toString(),
-                                                           exceptionClassName,
-                                                           ( null ==
-                                                             e.getMessage()
-                                                                 ? ""
-                                                                 : ": " ),
-                                                           ( null ==
-                                                             e.getMessage()
-                                                                 ? ""
-                                                                 : e.getMessage() ) ) ;
-
-                throw new TestingException( errorMessage, e ) ;
-                }
-
-            // collect the contents of the collection
-            try
-                {
-                // instantiate an array sized according to the entry count
-                collectionContents = new Object[ entryCount ] ;
-
-                if ( entryCount > 0 )
-                    {
-                    // copy the front elements
-                    System.arraycopy( backingStoreArray,            // from
-                                      frontIndex,
-                                      collectionContents,           // to
-                                      0,
-                                      backingStoreArray.length - frontIndex ) ;
-                    // how many elements
-
-                    // copy the back elements
-                    System.arraycopy( backingStoreArray,            // from
-                                      0,
-                                      collectionContents,           // to
-                                      backingStoreArray.length - frontIndex,
-                                      frontIndex ) ;                // how many elements
-                    }
-
-                }
-            catch ( IllegalArgumentException | SecurityException ex )
-                {
-                final String exceptionClassName = ex.getClass()
-                                                    .getSimpleName() ;
-
-                final String errorMessage = String.format( "Failed to retrieve backing array from class %s, field %s, instance %s: %s%s%s",
-                                                           collectionToCopy.getClass()
-                                                                           .getSimpleName(),
-                                                           backingStoreFieldName,
-                                                           collectionToCopy.toString(),
-                                                           exceptionClassName,
-                                                           ( null ==
-                                                             ex.getMessage()
-                                                                 ? ""
-                                                                 : ": " ),
-                                                           ( null ==
-                                                             ex.getMessage()
-                                                                 ? ""
-                                                                 : ex.getMessage() ) ) ;
-
-                throw new TestingException( errorMessage, ex ) ;
-                }
-            catch ( final ArrayIndexOutOfBoundsException ex )
-                {
-                final String exceptionClassName = ex.getClass()
-                                                    .getSimpleName() ;
-
-                final String errorMessage = String.format( "Failed to retrieve backing array from class %s, field %s, instance %s: inconsistent instance state: %s%s%s",
-                                                           collectionToCopy.getClass()
-                                                                           .getSimpleName(),
-                                                           backingStoreFieldName,
-                                                           collectionToCopy.toString(),
-                                                           exceptionClassName,
-                                                           ( null ==
-                                                             ex.getMessage()
-                                                                 ? ""
-                                                                 : ": " ),
-                                                           ( null ==
-                                                             ex.getMessage()
-                                                                 ? ""
-                                                                 : ex.getMessage() ) ) ;
-
-                throw new TestingException( errorMessage, ex ) ;
-                }
-
-            }
-
-        return collectionContents ;
+        return getContentsOfCircularArrayBackedDataset( collectionToCopy,
+                                                        backingStoreFieldName,
+                                                        frontIndexFieldName,
+                                                        backIndexFieldName,
+                                                        entryCountFieldName,
+                                                        entryCount,
+                                                        BACK_INDEX_INCLUSIVE ) ;
 
-        }   // end getContentsOfCircularArrayBackedDataset()
+        }   // end 6-arg getContentsOfCircularArrayBackedDataset()
 
 
     /**
-     * Utility to copy a chain-backed collection's contents into an array
+     * Utility to copy a circular-array-backed collection's contents into an array
+     * <p>
+     * exactly {@code entryCount} entries are copied, starting at the front index and wrapping
+     * around to index 0 if necessary
+     * <p>
+     * the entry count is determined, in order of preference, from {@code entryCount}, the entry
+     * count field, or the front and back indices; in the last case, the collection is assumed to
+     * leave at least one slot unused so a full backing store can be distinguished from an empty
+     * one
+     * <p>
+     * when both the entry count and back index are available, the back index is verified against
+     * the front index and entry count
      *
      * @param collectionToCopy
      *     the collection to copy
+     * @param backingStoreFieldName
+     *     field name of the collection's backing store
+     * @param frontIndexFieldName
+     *     field name of the collection's front index (optional - defaults to "frontIndex"
+     * @param backIndexFieldName
+     *     field name of the collection's back index (optional - defaults to "backIndex" -
+     *     {@code NO_SUCH_FIELD} if the collection doesn't have one)
+     * @param entryCountFieldName
+     *     field name of the collection's entry count (optional - defaults to "numberOfEntries" -
+     *     {@code NO_SUCH_FIELD} if the collection doesn't have one)
+     * @param entryCount
+     *     expected number of entries in the collection - only used if non-negative
+     * @param backIndexIsInclusive
+     *     {@code BACK_INDEX_INCLUSIVE} or {@code BACK_INDEX_EXCLUSIVE}
      *
      * @return array of the contents of {@code collectionToCopy} or {@code null} if
      *     {@code collectionToCopy} is {@code null}
+     *
+     * @throws TestingException
+     *     any wrapped exceptions which may be thrown by reflection or if the instance state is
+     *     inconsistent
+     *
+     * @since 1.4
      */
-    @Deprecated( forRemoval = true, since = "1.7" )
-    public static Object[] getContentsOfChainBackedCollection(
-                                                               final Object collectionToCopy )
+    public static Object[] getContentsOfCircularArrayBackedDataset(
+                                                                    final Object collectionToCopy,
+                                                                    final String backingStoreFieldName,
+                                                                    String frontIndexFieldName,
+                                                                    String backIndexFieldName,
+                                                                    String entryCountFieldName,
+                                                                    int entryCount,
+                                                                    final boolean backIndexIsInclusive )
+        throws TestingException
         {
 
-        return getContentsOfChainBackedCollection( collectionToCopy,
-                                                   "firstNode" ) ;
+        if ( null == collectionToCopy )
+            {
+            return null ;
+            }
 
-        }   // end getContentsOfChainBackedCollection()
+        // handle optional parameters
+        if ( null == entryCountFieldName )
+            {
+            entryCountFieldName = "numberOfEntries" ;
+            }
+
+        if ( null == frontIndexFieldName )
+            {
+            frontIndexFieldName = "frontIndex" ;
+            }
+
+        if ( null == backIndexFieldName )
+            {
+            backIndexFieldName = "backIndex" ;
+            }
+
+        final CircularState state = resolveCircularState( collectionToCopy,
+                                                          backingStoreFieldName,
+                                                          frontIndexFieldName,
+                                                          backIndexFieldName,
+                                                          entryCountFieldName,
+                                                          entryCount,
+                                                          backIndexIsInclusive ) ;
+        final Object[] backingStoreArray = state.backingStore() ;
+        final int frontIndex = state.frontIndex() ;
+        entryCount = state.entryCount() ;
+        final int capacity = backingStoreArray.length ;
+
+        // collect the contents of the collection - at most two segments
+        final Object[] collectionContents = new Object[ entryCount ] ;
+
+        final int frontSegmentLength = Math.min( entryCount, capacity - frontIndex ) ;
+
+        // copy the front elements - from the front index toward the end of the backing store
+        System.arraycopy( backingStoreArray,            // from
+                          frontIndex,
+                          collectionContents,           // to
+                          0,
+                          frontSegmentLength ) ;        // how many elements
+
+        // copy the wrapped elements, if any - from the beginning of the backing store
+        System.arraycopy( backingStoreArray,            // from
+                          0,
+                          collectionContents,           // to
+                          frontSegmentLength,
+                          entryCount - frontSegmentLength ) ;   // how many elements
+
+        return collectionContents ;
+
+        }   // end all-arg getContentsOfCircularArrayBackedDataset()
 
 
     /**
-     * Utility to copy a chain-backed collection's contents into an array
+     * Utility to locate stale references an array-backed collection retains beyond its entries
+     * <p>
+     * convenience method for all-arg {@code getLoiteringIndicesOfArrayBackedDataset()} with
+     * default values for the entry count field name and the entry count
      *
-     * @param collectionToCopy
-     *     the collection to copy
+     * @param collectionToScan
+     *     the collection to scan
      * @param backingStoreFieldName
      *     field name of the collection's backing store
      *
-     * @return array of the contents of {@code collectionToCopy} or {@code null} if
-     *     {@code collectionToCopy} is {@code null}
+     * @return the indices of the loitering references or {@code null} if
+     *     {@code collectionToScan} is {@code null}
+     *
+     * @throws TestingException
+     *     any wrapped exceptions which may be thrown by reflection or if the instance state is
+     *     inconsistent
+     *
+     * @since 1.10
      */
-    @Deprecated( forRemoval = true, since = "1.7" )
-    public static Object[] getContentsOfChainBackedCollection(
-                                                               final Object collectionToCopy,
-                                                               final String backingStoreFieldName )
+    public static int[] getLoiteringIndicesOfArrayBackedDataset( final Object collectionToScan,
+                                                                 final String backingStoreFieldName )
+        throws TestingException
         {
 
-        return getContentsOfChainBackedDataset( collectionToCopy,
-                                                backingStoreFieldName,
-                                                null,
-                                                -1,
-                                                null,
-                                                null ) ;
+        return getLoiteringIndicesOfArrayBackedDataset( collectionToScan,
+                                                        backingStoreFieldName,
+                                                        null,
+                                                        -1 ) ;
 
-        }   // end getContentsOfChainBackedCollection()
+        }   // end 2-arg getLoiteringIndicesOfArrayBackedDataset()
 
 
     /**
-     * Utility to copy a chain-backed collection's contents into an array
+     * Utility to locate stale references an array-backed collection retains beyond its entries
+     * <p>
+     * after {@code remove()} or {@code clear()}, a correct implementation {@code null}s the
+     * vacated slots so the removed entries can be garbage collected; any non-{@code null} slot at
+     * or beyond the entry count is a loitering reference (memory leak)
+     * <p>
+     * the backing store is scanned in place - only the slots outside the logical range are
+     * examined and nothing is copied
      *
-     * @param collectionToCopy
-     *     the collection to copy
+     * @param collectionToScan
+     *     the collection to scan
      * @param backingStoreFieldName
      *     field name of the collection's backing store
      * @param entryCountFieldName
      *     field name of the collection's entry count (optional - defaults to "numberOfEntries")
      * @param entryCount
      *     expected number of entries in the collection - only used if non-negative
-     * @param nodeDataFieldName
-     *     field name of the collection's node's data reference (optional - defaults to "data")
-     * @param nodeNextFieldName
-     *     field name of the collection's node's next reference (optional - defaults to "next")
      *
-     * @return array of the contents of {@code collectionToCopy} or {@code null} if
-     *     {@code collectionToCopy} is {@code null}
+     * @return the indices, in ascending order, of the non-{@code null} slots outside the logical
+     *     range (empty if there are none) or {@code null} if {@code collectionToScan} is
+     *     {@code null}
      *
      * @throws TestingException
-     *     any wrapped exceptions which may be thrown by reflection
+     *     any wrapped exceptions which may be thrown by reflection or if the instance state is
+     *     inconsistent
+     *
+     * @since 1.10
+     */
+    public static int[] getLoiteringIndicesOfArrayBackedDataset( final Object collectionToScan,
+                                                                 final String backingStoreFieldName,
+                                                                 String entryCountFieldName,
+                                                                 int entryCount )
+        throws TestingException
+        {
+
+        if ( null == collectionToScan )
+            {
+            return null ;
+            }
+
+        // handle optional parameters
+        if ( null == entryCountFieldName )
+            {
+            entryCountFieldName = "numberOfEntries" ;
+            }
+
+        entryCount = retrieveEntryCount( collectionToScan, entryCountFieldName, entryCount ) ;
+
+        final Object[] backingStoreArray = getReferenceArray( collectionToScan,
+                                                              backingStoreFieldName ) ;
+
+        if ( ( entryCount < 0 ) || ( entryCount > backingStoreArray.length ) )
+            {
+            throw new TestingException( String.format( "Failed to scan backing array from class %s, field %s, instance %s: inconsistent instance state: entry count %,d is outside 0..capacity %,d",
+                                                       collectionToScan.getClass()
+                                                                       .getSimpleName(),
+                                                       backingStoreFieldName,
+                                                       collectionToScan.toString(),
+                                                       entryCount,
+                                                       backingStoreArray.length ) ) ;
+            }
+
+        return collectLoiteringIndices( backingStoreArray, 0, entryCount ) ;
+
+        }   // end all-arg getLoiteringIndicesOfArrayBackedDataset()
+
+
+    /**
+     * Utility to locate stale references a circular-array-backed collection retains outside its
+     * entries
+     * <p>
+     * convenience method for all-arg {@code getLoiteringIndicesOfCircularArrayBackedDataset()}
+     * with default values for the field names, the entry count, and an inclusive back index
+     *
+     * @param collectionToScan
+     *     the collection to scan
+     * @param backingStoreFieldName
+     *     field name of the collection's backing store
+     *
+     * @return the indices of the loitering references or {@code null} if
+     *     {@code collectionToScan} is {@code null}
+     *
+     * @throws TestingException
+     *     any wrapped exceptions which may be thrown by reflection or if the instance state is
+     *     inconsistent
+     *
+     * @since 1.10
+     */
+    public static int[] getLoiteringIndicesOfCircularArrayBackedDataset( final Object collectionToScan,
+                                                                         final String backingStoreFieldName )
+        throws TestingException
+        {
+
+        return getLoiteringIndicesOfCircularArrayBackedDataset( collectionToScan,
+                                                                backingStoreFieldName,
+                                                                null,
+                                                                null,
+                                                                null,
+                                                                -1,
+                                                                BACK_INDEX_INCLUSIVE ) ;
+
+        }   // end 2-arg getLoiteringIndicesOfCircularArrayBackedDataset()
+
+
+    /**
+     * Utility to locate stale references a circular-array-backed collection retains outside its
+     * entries
+     * <p>
+     * the live entries occupy {@code entryCount} slots starting at the front index and wrapping
+     * around to index 0 if necessary; any other non-{@code null} slot is a loitering reference.
+     * the front index, back index, and entry count are determined and verified exactly as for
+     * all-arg {@code getContentsOfCircularArrayBackedDataset()}
+     * <p>
+     * the backing store is scanned in place - only the slots outside the live region (at most two
+     * segments) are examined and nothing is copied
+     *
+     * @param collectionToScan
+     *     the collection to scan
+     * @param backingStoreFieldName
+     *     field name of the collection's backing store
+     * @param frontIndexFieldName
+     *     field name of the collection's front index (optional - defaults to "frontIndex")
+     * @param backIndexFieldName
+     *     field name of the collection's back index (optional - defaults to "backIndex" -
+     *     {@code NO_SUCH_FIELD} if the collection doesn't have one)
+     * @param entryCountFieldName
+     *     field name of the collection's entry count (optional - defaults to "numberOfEntries" -
+     *     {@code NO_SUCH_FIELD} if the collection doesn't have one)
+     * @param entryCount
+     *     expected number of entries in the collection - only used if non-negative
+     * @param backIndexIsInclusive
+     *     {@code BACK_INDEX_INCLUSIVE} or {@code BACK_INDEX_EXCLUSIVE}
+     *
+     * @return the indices, in ascending order, of the non-{@code null} slots outside the live
+     *     region (empty if there are none) or {@code null} if {@code collectionToScan} is
+     *     {@code null}
+     *
+     * @throws TestingException
+     *     any wrapped exceptions which may be thrown by reflection or if the instance state is
+     *     inconsistent
+     *
+     * @since 1.10
+     */
+    public static int[] getLoiteringIndicesOfCircularArrayBackedDataset( final Object collectionToScan,
+                                                                         final String backingStoreFieldName,
+                                                                         String frontIndexFieldName,
+                                                                         String backIndexFieldName,
+                                                                         String entryCountFieldName,
+                                                                         final int entryCount,
+                                                                         final boolean backIndexIsInclusive )
+        throws TestingException
+        {
+
+        if ( null == collectionToScan )
+            {
+            return null ;
+            }
+
+        // handle optional parameters
+        if ( null == entryCountFieldName )
+            {
+            entryCountFieldName = "numberOfEntries" ;
+            }
+
+        if ( null == frontIndexFieldName )
+            {
+            frontIndexFieldName = "frontIndex" ;
+            }
+
+        if ( null == backIndexFieldName )
+            {
+            backIndexFieldName = "backIndex" ;
+            }
+
+        final CircularState state = resolveCircularState( collectionToScan,
+                                                          backingStoreFieldName,
+                                                          frontIndexFieldName,
+                                                          backIndexFieldName,
+                                                          entryCountFieldName,
+                                                          entryCount,
+                                                          backIndexIsInclusive ) ;
+        return collectLoiteringIndices( state.backingStore(),
+                                        state.frontIndex(),
+                                        state.entryCount() ) ;
+
+        }   // end all-arg getLoiteringIndicesOfCircularArrayBackedDataset()
+
+
+    /**
+     * Utility to copy a chain-backed collection's contents into an array
+     *
+     * @param collectionToCopy
+     *     the collection to copy
+     *
+     * @return array of the contents of {@code collectionToCopy} or {@code null} if
+     *     {@code collectionToCopy} is {@code null}
+     */
+    @Deprecated( forRemoval = true, since = "1.7" )
+    public static Object[] getContentsOfChainBackedCollection(
+                                                               final Object collectionToCopy )
+        {
+
+        return getContentsOfChainBackedCollection( collectionToCopy,
+                                                   "firstNode" ) ;
+
+        }   // end getContentsOfChainBackedCollection()
+
+
+    /**
+     * Utility to copy a chain-backed collection's contents into an array
+     *
+     * @param collectionToCopy
+     *     the collection to copy
+     * @param backingStoreFieldName
+     *     field name of the collection's backing store
+     *
+     * @return array of the contents of {@code collectionToCopy} or {@code null} if
+     *     {@code collectionToCopy} is {@code null}
+     */
+    @Deprecated( forRemoval = true, since = "1.7" )
+    public static Object[] getContentsOfChainBackedCollection(
+                                                               final Object collectionToCopy,
+                                                               final String backingStoreFieldName )
+        {
+
+        return getContentsOfChainBackedDataset( collectionToCopy,
+                                                backingStoreFieldName,
+                                                null,
+                                                -1,
+                                                null,
+                                                null ) ;
+
+        }   // end getContentsOfChainBackedCollection()
+
+
+    /**
+     * Utility to copy a chain-backed collection's contents into an array
+     *
+     * @param collectionToCopy
+     *     the collection to copy
+     * @param backingStoreFieldName
+     *     field name of the collection's backing store
+     * @param entryCountFieldName
+     *     field name of the collection's entry count (optional - defaults to "numberOfEntries")
+     * @param entryCount
+     *     expected number of entries in the collection - only used if non-negative
+     * @param nodeDataFieldName
+     *     field name of the collection's node's data reference (optional - defaults to "data")
+     * @param nodeNextFieldName
+     *     field name of the collection's node's next reference (optional - defaults to "next")
+     *
+     * @return array of the contents of {@code collectionToCopy} or {@code null} if
+     *     {@code collectionToCopy} is {@code null}
+     *
+     * @throws TestingException
+     *     any wrapped exceptions which may be thrown by reflection
      *
      * @deprecated Use
      *     {@link #getContentsOfChainBackedDataset(Object,String,String,int,String,String)} instead
@@ -995,38 +1168,9 @@ public class ReflectBackingStores
                 }
 
             // get current entry count from the collection if not provided
-            if ( entryCount < 0 )
-                {
-
-                try
-                    {
-                    entryCount = getIntField( collectionToCopy,
-                                              entryCountFieldName ) ;
-                    }
-                catch ( IllegalArgumentException | SecurityException e )
-                    {
-                    final String exceptionClassName = e.getClass()
-                                                       .getSimpleName() ;
-
-                    final String errorMessage = String.format( "Failed to retrieve entry count from class %s, field %s, instance %s: %s%s%s",
-                                                               collectionToCopy.getClass()
-                                                                               .getSimpleName(),
-                                                               entryCountFieldName,
-                                                               collectionToCopy.toString(),
-                                                               exceptionClassName,
-                                                               ( null ==
-                                                                 e.getMessage()
-                                                                     ? ""
-                                                                     : ": " ),
-                                                               ( null ==
-                                                                 e.getMessage()
-                                                                     ? ""
-                                                                     : e.getMessage() ) ) ;
-
-                    throw new TestingException( errorMessage, e ) ;
-                    }
-
-                }
+            entryCount = retrieveEntryCount( collectionToCopy,
+                                             entryCountFieldName,
+                                             entryCount ) ;
 
             // instantiate an array to hold the collection's contents
             collectionContents = new Object[ entryCount ] ;
@@ -1082,4 +1226,3968 @@ public class ReflectBackingStores
 
         }   // end getContentsOfChainBackedDataset()
 
+
+    /*
+     * detected layouts
+     */
+
+
+    /**
+     * Utility to copy a collection's contents without naming its fields - the backing store
+     * (array, circular array, or chain) is detected from the class's field types the first time
+     * the class is seen and the resulting plan is cached for all later calls
+     *
+     * @param collectionToCopy
+     *     the collection to copy
+     *
+     * @return array of the contents of {@code collectionToCopy} or {@code null} if
+     *     {@code collectionToCopy} is {@code null}
+     *
+     * @throws TestingException
+     *     if the backing store can't be detected, any wrapped exceptions which may be thrown by
+     *     reflection, or if the instance state is inconsistent
+     * @throws LoopDetectedException
+     *     if a chain loops back on itself
+     *
+     * @see BackingStoreLayout
+     *
+     * @since 1.11
+     */
+    public static Object[] getContentsOfDataset( final Object collectionToCopy )
+        throws TestingException
+        {
+
+        if ( null == collectionToCopy )
+            {
+            return null ;
+            }
+
+        return BackingStoreLayout.of( collectionToCopy.getClass() )
+                                 .extract( collectionToCopy ) ;
+
+        }   // end 1-arg getContentsOfDataset()
+
+
+    /**
+     * Utility to copy a collection's contents using a precompiled plan - typically one declared on
+     * the test class with {@link BackingStore}
+     *
+     * @param collectionToCopy
+     *     the collection to copy
+     * @param layout
+     *     the plan for {@code collectionToCopy}'s class
+     *
+     * @return array of the contents of {@code collectionToCopy} or {@code null} if
+     *     {@code collectionToCopy} is {@code null}
+     *
+     * @throws TestingException
+     *     if the plan doesn't apply to {@code collectionToCopy}, any wrapped exceptions which may
+     *     be thrown by reflection, or if the instance state is inconsistent
+     * @throws LoopDetectedException
+     *     if a chain loops back on itself
+     *
+     * @see BackingStoreLayout#of(Class, Class)
+     *
+     * @since 1.12
+     */
+    public static Object[] getContentsOfDataset( final Object collectionToCopy,
+                                                 final BackingStoreLayout layout )
+        throws TestingException
+        {
+
+        return layout.extract( collectionToCopy ) ;
+
+        }   // end 2-arg getContentsOfDataset()
+
+
+    /**
+     * Utility to provide a read-only view of an array-backed or circular-array-backed collection's
+     * contents using a precompiled plan
+     * <p>
+     * the view reads through to the backing store; the array reference, front index and entry
+     * count are captured when the view is created
+     *
+     * @param collectionToView
+     *     the collection to view
+     * @param layout
+     *     the plan for {@code collectionToView}'s class
+     *
+     * @return a view of the contents of {@code collectionToView}, starting at the front, or
+     *     {@code null} if {@code collectionToView} is {@code null}
+     *
+     * @throws TestingException
+     *     if the plan doesn't apply to {@code collectionToView} or isn't for an array layout, any
+     *     wrapped exceptions which may be thrown by reflection, or if the instance state is
+     *     inconsistent
+     *
+     * @since 1.12
+     */
+    public static List<Object> getDatasetView( final Object collectionToView,
+                                               final BackingStoreLayout layout )
+        throws TestingException
+        {
+
+        if ( null == collectionToView )
+            {
+            return null ;
+            }
+
+        final Object[] backingStore = layout.backingStore( collectionToView ) ;
+        final int[] liveRegion = layout.liveRegion( collectionToView, backingStore.length ) ;
+
+        return new BackingArrayView( collectionToView,
+                                     layout.storeFieldName(),
+                                     backingStore,
+                                     liveRegion[ 0 ],
+                                     liveRegion[ 1 ] ) ;
+
+        }   // end getDatasetView()
+
+
+    /**
+     * Utility to find loitering references in an array-backed or circular-array-backed
+     * collection using a precompiled plan
+     *
+     * @param collectionToScan
+     *     the collection to scan
+     * @param layout
+     *     the plan for {@code collectionToScan}'s class
+     *
+     * @return the backing store indices outside the live region which aren't {@code null}, in
+     *     ascending order, or {@code null} if {@code collectionToScan} is {@code null}
+     *
+     * @throws TestingException
+     *     if the plan doesn't apply to {@code collectionToScan} or isn't for an array layout, any
+     *     wrapped exceptions which may be thrown by reflection, or if the instance state is
+     *     inconsistent
+     *
+     * @since 1.12
+     */
+    public static int[] getLoiteringIndicesOfDataset( final Object collectionToScan,
+                                                      final BackingStoreLayout layout )
+        throws TestingException
+        {
+
+        if ( null == collectionToScan )
+            {
+            return null ;
+            }
+
+        final Object[] backingStore = layout.backingStore( collectionToScan ) ;
+        final int[] liveRegion = layout.liveRegion( collectionToScan, backingStore.length ) ;
+
+        return collectLoiteringIndices( backingStore, liveRegion[ 0 ], liveRegion[ 1 ] ) ;
+
+        }   // end getLoiteringIndicesOfDataset()
+
+
+    /*
+     * hash tables
+     */
+
+
+    /**
+     * Utility to extract the entries and bucket occupancy statistics from a hash table which
+     * resolves collisions by separate chaining
+     * <p>
+     * convenience method for all-arg {@code getContentsOfChainedHashTable()} with default values
+     * for the field names
+     *
+     * @param tableToCopy
+     *     the hash table to copy
+     *
+     * @return the entries and statistics or {@code null} if {@code tableToCopy} is {@code null}
+     *
+     * @throws TestingException
+     *     any wrapped exceptions which may be thrown by reflection
+     *
+     * @since 1.1
+     */
+    public static HashTableContents getContentsOfChainedHashTable( final Object tableToCopy )
+        throws TestingException
+        {
+
+        return getContentsOfChainedHashTable( tableToCopy, null, null, null, null ) ;
+
+        }   // end 1-arg getContentsOfChainedHashTable()
+
+
+    /**
+     * Utility to extract the entries and bucket occupancy statistics from a hash table which
+     * resolves collisions by separate chaining
+     * <p>
+     * each bucket array element is either {@code null} (empty bucket) or the first node of a chain
+     * of entries - for a hash set, pass the same field name for the key and value
+     *
+     * @param tableToCopy
+     *     the hash table to copy
+     * @param bucketArrayFieldName
+     *     field name of the table's bucket array (optional - defaults to "hashTable")
+     * @param nodeKeyFieldName
+     *     field name of the node's key reference (optional - defaults to "key")
+     * @param nodeValueFieldName
+     *     field name of the node's value reference (optional - defaults to "value")
+     * @param nodeNextFieldName
+     *     field name of the node's next reference (optional - defaults to "next")
+     *
+     * @return the entries, in bucket then chain order, and statistics or {@code null} if
+     *     {@code tableToCopy} is {@code null}
+     *
+     * @throws TestingException
+     *     any wrapped exceptions which may be thrown by reflection
+     * @throws LoopDetectedException
+     *     if a chain loops back on itself or a node is reachable from more than one bucket
+     *
+     * @since 1.1
+     */
+    public static HashTableContents getContentsOfChainedHashTable( final Object tableToCopy,
+                                                                   String bucketArrayFieldName,
+                                                                   String nodeKeyFieldName,
+                                                                   String nodeValueFieldName,
+                                                                   String nodeNextFieldName )
+        throws TestingException
+        {
+
+        if ( null == tableToCopy )
+            {
+            return null ;
+            }
+
+        // handle optional parameters
+        if ( null == bucketArrayFieldName )
+            {
+            bucketArrayFieldName = "hashTable" ;
+            }
+
+        if ( null == nodeKeyFieldName )
+            {
+            nodeKeyFieldName = "key" ;
+            }
+
+        if ( null == nodeValueFieldName )
+            {
+            nodeValueFieldName = "value" ;
+            }
+
+        if ( null == nodeNextFieldName )
+            {
+            nodeNextFieldName = "next" ;
+            }
+
+        final Object[] buckets = getReferenceArray( tableToCopy,
+                                                    bucketArrayFieldName ) ;
+
+        final List<Object> keys = new ArrayList<>() ;
+        final List<Object> values = new ArrayList<>() ;
+
+        int[] probeLengthHistogram = new int[ 2 ] ;
+        int longestChain = 0 ;
+        int occupiedBuckets = 0 ;
+
+        // for loop detection - identity, not equals(), since students' nodes may override it
+        final Set<Object> nodesVisited = Collections.newSetFromMap( new IdentityHashMap<>() ) ;
+
+        // resolved once then reused for every node of the same class
+        Field keyField = null ;
+        Field valueField = null ;
+        Field nextField = null ;
+
+        for ( final Object bucket : buckets )
+            {
+
+            if ( null == bucket )
+                {
+                continue ;
+                }
+
+            occupiedBuckets++ ;
+
+            int chainLength = 0 ;
+            Object currentNode = bucket ;
+
+            while ( null != currentNode )
+                {
+
+                if ( !nodesVisited.add( currentNode ) )
+                    {
+                    throw new LoopDetectedException( String.format( "node reached twice while traversing bucket chains in class %s, field %s",
+                                                                    tableToCopy.getClass()
+                                                                               .getSimpleName(),
+                                                                    bucketArrayFieldName ) ) ;
+                    }
+
+                keyField = resolveField( keyField, currentNode, nodeKeyFieldName ) ;
+                valueField = resolveField( valueField, currentNode, nodeValueFieldName ) ;
+                nextField = resolveField( nextField, currentNode, nodeNextFieldName ) ;
+
+                keys.add( readReferenceField( keyField, currentNode ) ) ;
+                values.add( readReferenceField( valueField, currentNode ) ) ;
+
+                chainLength++ ;
+                probeLengthHistogram = tallyProbeLength( probeLengthHistogram,
+                                                         chainLength ) ;
+
+                currentNode = readReferenceField( nextField, currentNode ) ;
+                }
+
+            longestChain = Math.max( longestChain, chainLength ) ;
+            }
+
+        return new HashTableContents( keys.toArray(),
+                                      values.toArray(),
+                                      buckets.length,
+                                      occupiedBuckets,
+                                      0,
+                                      Arrays.copyOf( probeLengthHistogram,
+                                                     0 == longestChain
+                                                         ? 0
+                                                         : longestChain + 1 ) ) ;
+
+        }   // end all-arg getContentsOfChainedHashTable()
+
+
+    /**
+     * Utility to extract the entries and bucket occupancy statistics from a hash table which
+     * resolves collisions by open addressing
+     * <p>
+     * convenience method for all-arg {@code getContentsOfOpenAddressedHashTable()} with default
+     * values for the field names, no tombstone sentinel, and home slots calculated as
+     * {@code Math.floorMod( key.hashCode(), capacity )}
+     *
+     * @param tableToCopy
+     *     the hash table to copy
+     *
+     * @return the entries and statistics or {@code null} if {@code tableToCopy} is {@code null}
+     *
+     * @throws TestingException
+     *     any wrapped exceptions which may be thrown by reflection
+     *
+     * @since 1.1
+     */
+    public static HashTableContents getContentsOfOpenAddressedHashTable( final Object tableToCopy )
+        throws TestingException
+        {
+
+        return getContentsOfOpenAddressedHashTable( tableToCopy,
+                                                    null,
+                                                    null,
+                                                    null,
+                                                    null,
+                                                    null ) ;
+
+        }   // end 1-arg getContentsOfOpenAddressedHashTable()
+
+
+    /**
+     * Utility to extract the entries and bucket occupancy statistics from a hash table which
+     * resolves collisions by open addressing
+     * <p>
+     * each slot is either {@code null} (never used), the tombstone sentinel (removed), or an entry
+     * <p>
+     * probe lengths are calculated as the (wrapped) distance from an entry's home slot to the slot
+     * it occupies, plus 1 - this is the exact search cost for linear probing and a lower bound for
+     * other probe sequences
+     *
+     * @param tableToCopy
+     *     the hash table to copy
+     * @param slotArrayFieldName
+     *     field name of the table's slot array (optional - defaults to "hashTable")
+     * @param entryKeyFieldName
+     *     field name of the entry's key reference (optional - defaults to "key")
+     * @param entryValueFieldName
+     *     field name of the entry's value reference (optional - defaults to "value")
+     * @param tombstoneFieldName
+     *     field name (instance or class variable) of the table's removed-entry sentinel - slots
+     *     referencing the same instance are counted as tombstones (optional - if {@code null}, the
+     *     table is assumed not to use tombstones)
+     * @param homeIndexFunction
+     *     maps a key's {@code hashCode()} and the table's capacity to the key's home slot
+     *     (optional - defaults to {@code Math::floorMod}); a {@code null} key has a hash code of 0
+     *
+     * @return the entries, in slot order, and statistics or {@code null} if {@code tableToCopy}
+     *     is {@code null}
+     *
+     * @throws TestingException
+     *     any wrapped exceptions which may be thrown by reflection or if
+     *     {@code homeIndexFunction} produces an index outside the slot array
+     *
+     * @since 1.1
+     */
+    public static HashTableContents getContentsOfOpenAddressedHashTable( final Object tableToCopy,
+                                                                         String slotArrayFieldName,
+                                                                         String entryKeyFieldName,
+                                                                         String entryValueFieldName,
+                                                                         final String tombstoneFieldName,
+                                                                         IntBinaryOperator homeIndexFunction )
+        throws TestingException
+        {
+
+        if ( null == tableToCopy )
+            {
+            return null ;
+            }
+
+        // handle optional parameters
+        if ( null == slotArrayFieldName )
+            {
+            slotArrayFieldName = "hashTable" ;
+            }
+
+        if ( null == entryKeyFieldName )
+            {
+            entryKeyFieldName = "key" ;
+            }
+
+        if ( null == entryValueFieldName )
+            {
+            entryValueFieldName = "value" ;
+            }
+
+        if ( null == homeIndexFunction )
+            {
+            homeIndexFunction = Math::floorMod ;
+            }
+
+        final Object tombstone = ( null == tombstoneFieldName )
+            ? null
+            : getReferenceField( tableToCopy, tombstoneFieldName ) ;
+
+        final Object[] slots = getReferenceArray( tableToCopy, slotArrayFieldName ) ;
+        final int capacity = slots.length ;
+
+        final List<Object> keys = new ArrayList<>() ;
+        final List<Object> values = new ArrayList<>() ;
+
+        int[] probeLengthHistogram = new int[ 2 ] ;
+        int longestProbe = 0 ;
+        int tombstoneCount = 0 ;
+
+        // resolved once then reused for every entry of the same class
+        Field keyField = null ;
+        Field valueField = null ;
+
+        for ( int slot = 0 ; slot < capacity ; slot++ )
+            {
+            final Object entry = slots[ slot ] ;
+
+            if ( null == entry )
+                {
+                continue ;
+                }
+
+            if ( ( null != tombstone ) && ( tombstone == entry ) )
+                {
+                tombstoneCount++ ;
+
+                continue ;
+                }
+
+            keyField = resolveField( keyField, entry, entryKeyFieldName ) ;
+            valueField = resolveField( valueField, entry, entryValueFieldName ) ;
+
+            final Object key = readReferenceField( keyField, entry ) ;
+
+            keys.add( key ) ;
+            values.add( readReferenceField( valueField, entry ) ) ;
+
+            final int homeIndex = homeIndexFunction.applyAsInt( null == key
+                                                                    ? 0
+                                                                    : key.hashCode(),
+                                                                capacity ) ;
+
+            if ( ( homeIndex < 0 ) || ( homeIndex >= capacity ) )
+                {
+                throw new TestingException( String.format( "home index %,d for key %s at slot %,d is outside the table (capacity %,d)",
+                                                           homeIndex,
+                                                           TestData.itemToString( key ),
+                                                           slot,
+                                                           capacity ) ) ;
+                }
+
+            final int probeLength = Math.floorMod( slot - homeIndex, capacity ) + 1 ;
+
+            probeLengthHistogram = tallyProbeLength( probeLengthHistogram,
+                                                     probeLength ) ;
+            longestProbe = Math.max( longestProbe, probeLength ) ;
+            }
+
+        return new HashTableContents( keys.toArray(),
+                                      values.toArray(),
+                                      capacity,
+                                      keys.size(),
+                                      tombstoneCount,
+                                      Arrays.copyOf( probeLengthHistogram,
+                                                     0 == longestProbe
+                                                         ? 0
+                                                         : longestProbe + 1 ) ) ;
+
+        }   // end all-arg getContentsOfOpenAddressedHashTable()
+
+
+    /*
+     * heaps
+     */
+
+
+    /**
+     * flag that a heap's root holds its largest entry - paired with IS_MIN_HEAP
+     */
+    public final static boolean IS_MAX_HEAP = true ;
+    /**
+     * flag that a heap's root holds its smallest entry - paired with IS_MAX_HEAP
+     */
+    public final static boolean IS_MIN_HEAP = false ;
+
+
+    /**
+     * Utility to copy an array-backed heap's contents into an array and verify the heap property
+     * <p>
+     * convenience method for all-arg {@code getContentsOfArrayBackedHeap()} with default values
+     * for the entry count field name and natural ordering
+     *
+     * @param heapToCopy
+     *     the heap to copy
+     * @param backingStoreFieldName
+     *     field name of the heap's backing store
+     * @param rootIndex
+     *     index of the root in the backing store - 0 or 1
+     * @param isMaxHeap
+     *     {@code IS_MAX_HEAP} or {@code IS_MIN_HEAP}
+     *
+     * @return array of the contents of {@code heapToCopy} in backing store order or {@code null}
+     *     if {@code heapToCopy} is {@code null}
+     *
+     * @throws TestingException
+     *     any wrapped exceptions which may be thrown by reflection or if the contents don't
+     *     satisfy the heap property
+     *
+     * @since 1.2
+     */
+    public static Object[] getContentsOfArrayBackedHeap( final Object heapToCopy,
+                                                         final String backingStoreFieldName,
+                                                         final int rootIndex,
+                                                         final boolean isMaxHeap )
+        throws TestingException
+        {
+
+        return getContentsOfArrayBackedHeap( heapToCopy,
+                                             backingStoreFieldName,
+                                             null,
+                                             -1,
+                                             rootIndex,
+                                             isMaxHeap,
+                                             null ) ;
+
+        }   // end 4-arg getContentsOfArrayBackedHeap()
+
+
+    /**
+     * Utility to copy an array-backed heap's contents into an array and verify the heap property
+     * <p>
+     * the heap property is checked in a single pass which compares each entry with its parent -
+     * with the root at index 0, the parent of index {@code i} is {@code (i - 1) / 2}; with the root
+     * at index 1, it is {@code i / 2}
+     *
+     * @param heapToCopy
+     *     the heap to copy
+     * @param backingStoreFieldName
+     *     field name of the heap's backing store
+     * @param entryCountFieldName
+     *     field name of the heap's entry count (optional - defaults to "numberOfEntries")
+     * @param entryCount
+     *     expected number of entries in the heap - only used if non-negative
+     * @param rootIndex
+     *     index of the root in the backing store - 0 or 1
+     * @param isMaxHeap
+     *     {@code IS_MAX_HEAP} or {@code IS_MIN_HEAP}
+     * @param comparator
+     *     orders the entries (optional - defaults to the entries' natural ordering)
+     *
+     * @return array of the contents of {@code heapToCopy} in backing store order, starting with
+     *     the root, or {@code null} if {@code heapToCopy} is {@code null}
+     *
+     * @throws TestingException
+     *     any wrapped exceptions which may be thrown by reflection or if the contents don't
+     *     satisfy the heap property
+     *
+     * @since 1.2
+     */
+    @SuppressWarnings( "unchecked" )
+    public static Object[] getContentsOfArrayBackedHeap( final Object heapToCopy,
+                                                         final String backingStoreFieldName,
+                                                         String entryCountFieldName,
+                                                         int entryCount,
+                                                         final int rootIndex,
+                                                         final boolean isMaxHeap,
+                                                         Comparator<Object> comparator )
+        throws TestingException
+        {
+
+        if ( null == heapToCopy )
+            {
+            return null ;
+            }
+
+        if ( ( 0 != rootIndex ) && ( 1 != rootIndex ) )
+            {
+            throw new TestingException( String.format( "heap root index must be 0 or 1, not %,d",
+                                                       rootIndex ) ) ;
+            }
+
+        // handle optional parameters
+        if ( null == entryCountFieldName )
+            {
+            entryCountFieldName = "numberOfEntries" ;
+            }
+
+        if ( null == comparator )
+            {
+            comparator = (Comparator<Object>) (Comparator<?>) Comparator.naturalOrder() ;
+            }
+
+        // get current entry count from the heap if not provided
+        entryCount = retrieveEntryCount( heapToCopy,
+                                         entryCountFieldName,
+                                         entryCount ) ;
+
+        final Object[] backingStoreArray = getReferenceArray( heapToCopy,
+                                                              backingStoreFieldName ) ;
+
+        verifyEntryCount( heapToCopy,
+                          backingStoreFieldName,
+                          entryCount,
+                          rootIndex,
+                          backingStoreArray.length ) ;
+
+        return verifyHeapProperty( Arrays.copyOfRange( backingStoreArray,
+                                                       rootIndex,
+                                                       rootIndex + entryCount ),
+                                   rootIndex,
+                                   isMaxHeap,
+                                   comparator ) ;
+
+        }   // end all-arg getContentsOfArrayBackedHeap()
+
+
+    /**
+     * Utility to copy an array-backed heap's contents into an array and verify the heap property
+     * using a precompiled plan
+     *
+     * @param heapToCopy
+     *     the heap to copy
+     * @param layout
+     *     the {@code ARRAY} plan for {@code heapToCopy}'s class
+     * @param rootIndex
+     *     index of the root in the backing store - 0 or 1
+     * @param isMaxHeap
+     *     {@code IS_MAX_HEAP} or {@code IS_MIN_HEAP}
+     * @param comparator
+     *     orders the entries (optional - defaults to the entries' natural ordering)
+     *
+     * @return array of the contents of {@code heapToCopy} in backing store order, starting with
+     *     the root, or {@code null} if {@code heapToCopy} is {@code null}
+     *
+     * @throws TestingException
+     *     if the plan doesn't apply to {@code heapToCopy} or isn't for an array layout, any
+     *     wrapped exceptions which may be thrown by reflection, or if the contents don't satisfy
+     *     the heap property
+     *
+     * @since 1.18
+     */
+    @SuppressWarnings( "unchecked" )
+    public static Object[] getContentsOfArrayBackedHeap( final Object heapToCopy,
+                                                         final BackingStoreLayout layout,
+                                                         final int rootIndex,
+                                                         final boolean isMaxHeap,
+                                                         Comparator<Object> comparator )
+        throws TestingException
+        {
+
+        if ( null == heapToCopy )
+            {
+            return null ;
+            }
+
+        if ( ( 0 != rootIndex ) && ( 1 != rootIndex ) )
+            {
+            throw new TestingException( String.format( "heap root index must be 0 or 1, not %,d",
+                                                       rootIndex ) ) ;
+            }
+
+        if ( BackingStoreLayout.Kind.ARRAY != layout.kind() )
+            {
+            throw new TestingException( String.format( "bad test configuration: a heap needs an ARRAY plan, not %s",
+                                                       layout.kind() ) ) ;
+            }
+
+        // handle optional parameters
+        if ( null == comparator )
+            {
+            comparator = (Comparator<Object>) (Comparator<?>) Comparator.naturalOrder() ;
+            }
+
+        final Object[] backingStoreArray = layout.backingStore( heapToCopy ) ;
+        final int entryCount = layout.entryCount( heapToCopy ) ;
+
+        verifyEntryCount( heapToCopy,
+                          layout.storeFieldName(),
+                          entryCount,
+                          rootIndex,
+                          backingStoreArray.length ) ;
+
+        return verifyHeapProperty( Arrays.copyOfRange( backingStoreArray,
+                                                       rootIndex,
+                                                       rootIndex + entryCount ),
+                                   rootIndex,
+                                   isMaxHeap,
+                                   comparator ) ;
+
+        }   // end plan getContentsOfArrayBackedHeap()
+
+
+    /**
+     * Verify the heap property in a single pass which compares each entry with its parent - with
+     * 0-based positions, the parent of position {@code i} is {@code (i - 1) / 2}
+     *
+     * @param heapContents
+     *     the live entries, starting with the root
+     * @param rootIndex
+     *     index of the root in the backing store - to report backing store indices
+     * @param isMaxHeap
+     *     {@code IS_MAX_HEAP} or {@code IS_MIN_HEAP}
+     * @param comparator
+     *     orders the entries
+     *
+     * @return {@code heapContents}
+     *
+     * @throws TestingException
+     *     if an entry is {@code null}, two entries aren't mutually comparable, or an entry is out
+     *     of order with its parent
+     *
+     * @since 1.18
+     */
+    private static Object[] verifyHeapProperty( final Object[] heapContents,
+                                                final int rootIndex,
+                                                final boolean isMaxHeap,
+                                                final Comparator<Object> comparator )
+        throws TestingException
+        {
+
+        for ( int i = 0 ; i < heapContents.length ; i++ )
+            {
+
+            if ( null == heapContents[ i ] )
+                {
+                throw new TestingException( String.format( "heap property violated: null entry at index %,d",
+                                                           i + rootIndex ) ) ;
+                }
+
+            if ( 0 == i )
+                {
+                continue ;
+                }
+
+            final int parent = ( i - 1 ) / 2 ;
+            int comparison ;
+
+            try
+                {
+                comparison = comparator.compare( heapContents[ parent ],
+                                                 heapContents[ i ] ) ;
+                }
+            catch ( final ClassCastException e )
+                {
+                throw new TestingException( String.format( "heap entries at indices %,d and %,d are not mutually comparable",
+                                                           parent + rootIndex,
+                                                           i + rootIndex ),
+                                            e ) ;
+                }
+
+            if ( isMaxHeap
+                ? comparison < 0
+                : comparison > 0 )
+                {
+                throw new TestingException( String.format( "heap property violated: parent %s at index %,d is %s than child %s at index %,d",
+                                                           TestData.itemToString( heapContents[ parent ] ),
+                                                           parent + rootIndex,
+                                                           isMaxHeap
+                                                               ? "smaller"
+                                                               : "larger",
+                                                           TestData.itemToString( heapContents[ i ] ),
+                                                           i + rootIndex ) ) ;
+                }
+
+            }
+
+        return heapContents ;
+
+        }   // end verifyHeapProperty()
+
+
+    /*
+     * views
+     */
+
+
+    /**
+     * Utility to provide a read-only view of an array-backed collection's contents without copying
+     * its backing store
+     * <p>
+     * convenience method for all-arg {@code getArrayBackedDatasetView()} with default values for
+     * the entry count
+     *
+     * @param collectionToView
+     *     the collection to view
+     * @param backingStoreFieldName
+     *     field name of the collection's backing store
+     *
+     * @return a view of the contents of {@code collectionToView} or {@code null} if
+     *     {@code collectionToView} is {@code null}
+     *
+     * @throws TestingException
+     *     any wrapped exceptions which may be thrown by reflection
+     *
+     * @since 1.3
+     */
+    public static List<Object> getArrayBackedDatasetView( final Object collectionToView,
+                                                          final String backingStoreFieldName )
+        throws TestingException
+        {
+
+        return getArrayBackedDatasetView( collectionToView,
+                                          backingStoreFieldName,
+                                          null,
+                                          -1 ) ;
+
+        }   // end 2-arg getArrayBackedDatasetView()
+
+
+    /**
+     * Utility to provide a read-only view of an array-backed collection's contents without copying
+     * its backing store
+     * <p>
+     * the view reads through to the backing store so it reflects later changes to the elements of
+     * the array; the array reference and entry count are captured when the view is created so a
+     * resized backing store or a changed entry count requires a new view
+     *
+     * @param collectionToView
+     *     the collection to view
+     * @param backingStoreFieldName
+     *     field name of the collection's backing store
+     * @param entryCountFieldName
+     *     field name of the collection's entry count (optional - defaults to "numberOfEntries")
+     * @param entryCount
+     *     expected number of entries in the collection - only used if non-negative
+     *
+     * @return a view of the contents of {@code collectionToView} or {@code null} if
+     *     {@code collectionToView} is {@code null}
+     *
+     * @throws TestingException
+     *     any wrapped exceptions which may be thrown by reflection or if the entry count exceeds
+     *     the capacity of the backing store
+     *
+     * @since 1.3
+     */
+    public static List<Object> getArrayBackedDatasetView( final Object collectionToView,
+                                                          final String backingStoreFieldName,
+                                                          String entryCountFieldName,
+                                                          int entryCount )
+        throws TestingException
+        {
+
+        if ( null == collectionToView )
+            {
+            return null ;
+            }
+
+        // handle optional parameters
+        if ( null == entryCountFieldName )
+            {
+            entryCountFieldName = "numberOfEntries" ;
+            }
+
+        entryCount = retrieveEntryCount( collectionToView,
+                                         entryCountFieldName,
+                                         entryCount ) ;
+
+        return new BackingArrayView( collectionToView,
+                                     backingStoreFieldName,
+                                     getReferenceArray( collectionToView,
+                                                        backingStoreFieldName ),
+                                     0,
+                                     entryCount ) ;
+
+        }   // end all-arg getArrayBackedDatasetView()
+
+
+    /**
+     * Utility to provide a read-only view of a circular-array-backed collection's contents without
+     * copying its backing store
+     * <p>
+     * convenience method for all-arg {@code getCircularArrayBackedDatasetView()} with default
+     * values for the front index and entry count
+     *
+     * @param collectionToView
+     *     the collection to view
+     * @param backingStoreFieldName
+     *     field name of the collection's backing store
+     *
+     * @return a view of the contents of {@code collectionToView}, starting at the front, or
+     *     {@code null} if {@code collectionToView} is {@code null}
+     *
+     * @throws TestingException
+     *     any wrapped exceptions which may be thrown by reflection
+     *
+     * @since 1.3
+     */
+    public static List<Object> getCircularArrayBackedDatasetView( final Object collectionToView,
+                                                                  final String backingStoreFieldName )
+        throws TestingException
+        {
+
+        return getCircularArrayBackedDatasetView( collectionToView,
+                                                  backingStoreFieldName,
+                                                  null,
+                                                  null,
+                                                  -1 ) ;
+
+        }   // end 2-arg getCircularArrayBackedDatasetView()
+
+
+    /**
+     * Utility to provide a read-only view of a circular-array-backed collection's contents without
+     * copying its backing store
+     * <p>
+     * logical index {@code i} maps to backing store index {@code (frontIndex + i) % capacity}; the
+     * view reads through to the backing store so it reflects later changes to the elements of the
+     * array; the array reference, front index and entry count are captured when the view is
+     * created
+     *
+     * @param collectionToView
+     *     the collection to view
+     * @param backingStoreFieldName
+     *     field name of the collection's backing store
+     * @param frontIndexFieldName
+     *     field name of the collection's front index (optional - defaults to "frontIndex")
+     * @param entryCountFieldName
+     *     field name of the collection's entry count (optional - defaults to "numberOfEntries")
+     * @param entryCount
+     *     expected number of entries in the collection - only used if non-negative
+     *
+     * @return a view of the contents of {@code collectionToView}, starting at the front, or
+     *     {@code null} if {@code collectionToView} is {@code null}
+     *
+     * @throws TestingException
+     *     any wrapped exceptions which may be thrown by reflection or if the front index or entry
+     *     count is inconsistent with the capacity of the backing store
+     *
+     * @since 1.3
+     */
+    public static List<Object> getCircularArrayBackedDatasetView( final Object collectionToView,
+                                                                  final String backingStoreFieldName,
+                                                                  String frontIndexFieldName,
+                                                                  String entryCountFieldName,
+                                                                  int entryCount )
+        throws TestingException
+        {
+
+        if ( null == collectionToView )
+            {
+            return null ;
+            }
+
+        // handle optional parameters
+        if ( null == frontIndexFieldName )
+            {
+            frontIndexFieldName = "frontIndex" ;
+            }
+
+        if ( null == entryCountFieldName )
+            {
+            entryCountFieldName = "numberOfEntries" ;
+            }
+
+        entryCount = retrieveEntryCount( collectionToView,
+                                         entryCountFieldName,
+                                         entryCount ) ;
+
+        return new BackingArrayView( collectionToView,
+                                     backingStoreFieldName,
+                                     getReferenceArray( collectionToView,
+                                                        backingStoreFieldName ),
+                                     getIntField( collectionToView,
+                                                  frontIndexFieldName ),
+                                     entryCount ) ;
+
+        }   // end all-arg getCircularArrayBackedDatasetView()
+
+
+    /**
+     * Read-only, fixed-size {@code List} over a contiguous, possibly wrapped, range of a backing
+     * store array
+     *
+     * @since 1.3
+     */
+    private static class BackingArrayView extends AbstractList<Object>
+                                          implements RandomAccess
+        {
+
+        /** the student's backing store - not a copy */
+        private final Object[] backingStore ;
+        /** backing store index of logical index 0 */
+        private final int frontIndex ;
+        /** number of logical entries */
+        private final int entryCount ;
+
+
+        /**
+         * Set up a view of {@code entryCount} elements of {@code backingStore} starting at
+         * {@code frontIndex} and wrapping around to index 0 if necessary
+         *
+         * @param collectionToView
+         *     the collection which owns the backing store - for error reporting
+         * @param backingStoreFieldName
+         *     field name of the collection's backing store - for error reporting
+         * @param backingStore
+         *     the array to view
+         * @param frontIndex
+         *     backing store index of the first entry
+         * @param entryCount
+         *     number of entries to view
+         *
+         * @throws TestingException
+         *     if {@code frontIndex} or {@code entryCount} is inconsistent with the length of
+         *     {@code backingStore}
+         */
+        private BackingArrayView( final Object collectionToView,
+                                  final String backingStoreFieldName,
+                                  final Object[] backingStore,
+                                  final int frontIndex,
+                                  final int entryCount )
+            throws TestingException
+            {
+
+            if ( ( entryCount < 0 ) ||
+                 ( entryCount > backingStore.length ) ||
+                 ( frontIndex < 0 ) ||
+                 ( ( frontIndex >= backingStore.length ) && ( 0 != frontIndex ) ) )
+                {
+                throw new TestingException( String.format( "Failed to view backing array from class %s, field %s: inconsistent instance state: front index %,d, entry count %,d, capacity %,d",
+                                                           collectionToView.getClass()
+                                                                           .getSimpleName(),
+                                                           backingStoreFieldName,
+                                                           frontIndex,
+                                                           entryCount,
+                                                           backingStore.length ) ) ;
+                }
+
+            this.backingStore = backingStore ;
+            this.frontIndex = frontIndex ;
+            this.entryCount = entryCount ;
+
+            }   // end constructor
+
+
+        @Override
+        public Object get( final int index )
+            {
+
+            Objects.checkIndex( index, this.entryCount ) ;
+
+            // avoid % - the sum can't reach twice the capacity
+            int backingIndex = this.frontIndex + index ;
+
+            if ( backingIndex >= this.backingStore.length )
+                {
+                backingIndex -= this.backingStore.length ;
+                }
+
+            return this.backingStore[ backingIndex ] ;
+
+            }   // end get()
+
+
+        @Override
+        public int size()
+            {
+
+            return this.entryCount ;
+
+            }   // end size()
+
+        }   // end class BackingArrayView
+
+
+    /*
+     * primitive backing stores
+     */
+
+
+    /**
+     * Utility to copy an int-array-backed collection's contents into an array without boxing
+     * <p>
+     * convenience method for all-arg {@code getContentsOfIntArrayBackedDataset()} with default values
+     * for the entry count
+     *
+     * @param collectionToCopy
+     *     the collection to copy
+     * @param backingStoreFieldName
+     *     field name of the collection's backing store
+     *
+     * @return array of the contents of {@code collectionToCopy} or {@code null} if
+     *     {@code collectionToCopy} is {@code null}
+     *
+     * @throws TestingException
+     *     any wrapped exceptions which may be thrown by reflection
+     *
+     * @since 1.5
+     */
+    public static int[] getContentsOfIntArrayBackedDataset( final Object collectionToCopy,
+                                                            final String backingStoreFieldName )
+        throws TestingException
+        {
+
+        return getContentsOfIntArrayBackedDataset( collectionToCopy,
+                                                   backingStoreFieldName,
+                                                   null,
+                                                   -1 ) ;
+
+        }   // end 2-arg getContentsOfIntArrayBackedDataset()
+
+
+    /**
+     * Utility to copy an int-array-backed collection's contents into an array without boxing
+     *
+     * @param collectionToCopy
+     *     the collection to copy
+     * @param backingStoreFieldName
+     *     field name of the collection's backing store
+     * @param entryCountFieldName
+     *     field name of the collection's entry count (optional - defaults to "numberOfEntries" -
+     *     {@code NO_SUCH_FIELD} to copy the entire backing store)
+     * @param entryCount
+     *     expected number of entries in the collection - only used if non-negative
+     *
+     * @return array of the contents of {@code collectionToCopy} or {@code null} if
+     *     {@code collectionToCopy} is {@code null}
+     *
+     * @throws TestingException
+     *     any wrapped exceptions which may be thrown by reflection or if the entry count exceeds
+     *     the capacity of the backing store
+     *
+     * @since 1.5
+     */
+    public static int[] getContentsOfIntArrayBackedDataset( final Object collectionToCopy,
+                                                            final String backingStoreFieldName,
+                                                            final String entryCountFieldName,
+                                                            final int entryCount )
+        throws TestingException
+        {
+
+        return copyPrimitiveBackingStore( collectionToCopy,
+                                          backingStoreFieldName,
+                                          entryCountFieldName,
+                                          entryCount,
+                                          int[].class ) ;
+
+        }   // end all-arg getContentsOfIntArrayBackedDataset()
+
+
+    /**
+     * Utility to copy a long-array-backed collection's contents into an array without boxing
+     * <p>
+     * convenience method for all-arg {@code getContentsOfLongArrayBackedDataset()} with default values
+     * for the entry count
+     *
+     * @param collectionToCopy
+     *     the collection to copy
+     * @param backingStoreFieldName
+     *     field name of the collection's backing store
+     *
+     * @return array of the contents of {@code collectionToCopy} or {@code null} if
+     *     {@code collectionToCopy} is {@code null}
+     *
+     * @throws TestingException
+     *     any wrapped exceptions which may be thrown by reflection
+     *
+     * @since 1.5
+     */
+    public static long[] getContentsOfLongArrayBackedDataset( final Object collectionToCopy,
+                                                              final String backingStoreFieldName )
+        throws TestingException
+        {
+
+        return getContentsOfLongArrayBackedDataset( collectionToCopy,
+                                                    backingStoreFieldName,
+                                                    null,
+                                                    -1 ) ;
+
+        }   // end 2-arg getContentsOfLongArrayBackedDataset()
+
+
+    /**
+     * Utility to copy a long-array-backed collection's contents into an array without boxing
+     *
+     * @param collectionToCopy
+     *     the collection to copy
+     * @param backingStoreFieldName
+     *     field name of the collection's backing store
+     * @param entryCountFieldName
+     *     field name of the collection's entry count (optional - defaults to "numberOfEntries" -
+     *     {@code NO_SUCH_FIELD} to copy the entire backing store)
+     * @param entryCount
+     *     expected number of entries in the collection - only used if non-negative
+     *
+     * @return array of the contents of {@code collectionToCopy} or {@code null} if
+     *     {@code collectionToCopy} is {@code null}
+     *
+     * @throws TestingException
+     *     any wrapped exceptions which may be thrown by reflection or if the entry count exceeds
+     *     the capacity of the backing store
+     *
+     * @since 1.5
+     */
+    public static long[] getContentsOfLongArrayBackedDataset( final Object collectionToCopy,
+                                                              final String backingStoreFieldName,
+                                                              final String entryCountFieldName,
+                                                              final int entryCount )
+        throws TestingException
+        {
+
+        return copyPrimitiveBackingStore( collectionToCopy,
+                                          backingStoreFieldName,
+                                          entryCountFieldName,
+                                          entryCount,
+                                          long[].class ) ;
+
+        }   // end all-arg getContentsOfLongArrayBackedDataset()
+
+
+    /**
+     * Utility to copy a double-array-backed collection's contents into an array without boxing
+     * <p>
+     * convenience method for all-arg {@code getContentsOfDoubleArrayBackedDataset()} with default values
+     * for the entry count
+     *
+     * @param collectionToCopy
+     *     the collection to copy
+     * @param backingStoreFieldName
+     *     field name of the collection's backing store
+     *
+     * @return array of the contents of {@code collectionToCopy} or {@code null} if
+     *     {@code collectionToCopy} is {@code null}
+     *
+     * @throws TestingException
+     *     any wrapped exceptions which may be thrown by reflection
+     *
+     * @since 1.5
+     */
+    public static double[] getContentsOfDoubleArrayBackedDataset( final Object collectionToCopy,
+                                                                  final String backingStoreFieldName )
+        throws TestingException
+        {
+
+        return getContentsOfDoubleArrayBackedDataset( collectionToCopy,
+                                                      backingStoreFieldName,
+                                                      null,
+                                                      -1 ) ;
+
+        }   // end 2-arg getContentsOfDoubleArrayBackedDataset()
+
+
+    /**
+     * Utility to copy a double-array-backed collection's contents into an array without boxing
+     *
+     * @param collectionToCopy
+     *     the collection to copy
+     * @param backingStoreFieldName
+     *     field name of the collection's backing store
+     * @param entryCountFieldName
+     *     field name of the collection's entry count (optional - defaults to "numberOfEntries" -
+     *     {@code NO_SUCH_FIELD} to copy the entire backing store)
+     * @param entryCount
+     *     expected number of entries in the collection - only used if non-negative
+     *
+     * @return array of the contents of {@code collectionToCopy} or {@code null} if
+     *     {@code collectionToCopy} is {@code null}
+     *
+     * @throws TestingException
+     *     any wrapped exceptions which may be thrown by reflection or if the entry count exceeds
+     *     the capacity of the backing store
+     *
+     * @since 1.5
+     */
+    public static double[] getContentsOfDoubleArrayBackedDataset( final Object collectionToCopy,
+                                                                  final String backingStoreFieldName,
+                                                                  final String entryCountFieldName,
+                                                                  final int entryCount )
+        throws TestingException
+        {
+
+        return copyPrimitiveBackingStore( collectionToCopy,
+                                          backingStoreFieldName,
+                                          entryCountFieldName,
+                                          entryCount,
+                                          double[].class ) ;
+
+        }   // end all-arg getContentsOfDoubleArrayBackedDataset()
+
+
+    /**
+     * Utility to copy a char-array-backed collection's contents into an array without boxing
+     * <p>
+     * convenience method for all-arg {@code getContentsOfCharArrayBackedDataset()} with default values
+     * for the entry count
+     *
+     * @param collectionToCopy
+     *     the collection to copy
+     * @param backingStoreFieldName
+     *     field name of the collection's backing store
+     *
+     * @return array of the contents of {@code collectionToCopy} or {@code null} if
+     *     {@code collectionToCopy} is {@code null}
+     *
+     * @throws TestingException
+     *     any wrapped exceptions which may be thrown by reflection
+     *
+     * @since 1.5
+     */
+    public static char[] getContentsOfCharArrayBackedDataset( final Object collectionToCopy,
+                                                              final String backingStoreFieldName )
+        throws TestingException
+        {
+
+        return getContentsOfCharArrayBackedDataset( collectionToCopy,
+                                                    backingStoreFieldName,
+                                                    null,
+                                                    -1 ) ;
+
+        }   // end 2-arg getContentsOfCharArrayBackedDataset()
+
+
+    /**
+     * Utility to copy a char-array-backed collection's contents into an array without boxing
+     *
+     * @param collectionToCopy
+     *     the collection to copy
+     * @param backingStoreFieldName
+     *     field name of the collection's backing store
+     * @param entryCountFieldName
+     *     field name of the collection's entry count (optional - defaults to "numberOfEntries" -
+     *     {@code NO_SUCH_FIELD} to copy the entire backing store)
+     * @param entryCount
+     *     expected number of entries in the collection - only used if non-negative
+     *
+     * @return array of the contents of {@code collectionToCopy} or {@code null} if
+     *     {@code collectionToCopy} is {@code null}
+     *
+     * @throws TestingException
+     *     any wrapped exceptions which may be thrown by reflection or if the entry count exceeds
+     *     the capacity of the backing store
+     *
+     * @since 1.5
+     */
+    public static char[] getContentsOfCharArrayBackedDataset( final Object collectionToCopy,
+                                                              final String backingStoreFieldName,
+                                                              final String entryCountFieldName,
+                                                              final int entryCount )
+        throws TestingException
+        {
+
+        return copyPrimitiveBackingStore( collectionToCopy,
+                                          backingStoreFieldName,
+                                          entryCountFieldName,
+                                          entryCount,
+                                          char[].class ) ;
+
+        }   // end all-arg getContentsOfCharArrayBackedDataset()
+
+
+    /**
+     * Utility to copy an int-array-backed collection's contents into an array without boxing using a
+     * precompiled plan
+     *
+     * @param collectionToCopy
+     *     the collection to copy
+     * @param layout
+     *     the {@code ARRAY} or {@code CIRCULAR_ARRAY} plan for {@code collectionToCopy}'s class
+     *
+     * @return array of the contents of {@code collectionToCopy}, starting at the front, or
+     *     {@code null} if {@code collectionToCopy} is {@code null}
+     *
+     * @throws TestingException
+     *     if the plan doesn't apply to {@code collectionToCopy} or isn't for an array layout, any
+     *     wrapped exceptions which may be thrown by reflection, or if the instance state is
+     *     inconsistent
+     *
+     * @since 1.18
+     */
+    public static int[] getContentsOfIntArrayBackedDataset( final Object collectionToCopy,
+                                                            final BackingStoreLayout layout )
+        throws TestingException
+        {
+
+        return copyPrimitiveBackingStore( collectionToCopy, layout, int[].class ) ;
+
+        }   // end plan getContentsOfIntArrayBackedDataset()
+
+
+    /**
+     * Utility to copy a long-array-backed collection's contents into an array without boxing using a
+     * precompiled plan
+     *
+     * @param collectionToCopy
+     *     the collection to copy
+     * @param layout
+     *     the {@code ARRAY} or {@code CIRCULAR_ARRAY} plan for {@code collectionToCopy}'s class
+     *
+     * @return array of the contents of {@code collectionToCopy}, starting at the front, or
+     *     {@code null} if {@code collectionToCopy} is {@code null}
+     *
+     * @throws TestingException
+     *     if the plan doesn't apply to {@code collectionToCopy} or isn't for an array layout, any
+     *     wrapped exceptions which may be thrown by reflection, or if the instance state is
+     *     inconsistent
+     *
+     * @since 1.18
+     */
+    public static long[] getContentsOfLongArrayBackedDataset( final Object collectionToCopy,
+                                                              final BackingStoreLayout layout )
+        throws TestingException
+        {
+
+        return copyPrimitiveBackingStore( collectionToCopy, layout, long[].class ) ;
+
+        }   // end plan getContentsOfLongArrayBackedDataset()
+
+
+    /**
+     * Utility to copy a double-array-backed collection's contents into an array without boxing using a
+     * precompiled plan
+     *
+     * @param collectionToCopy
+     *     the collection to copy
+     * @param layout
+     *     the {@code ARRAY} or {@code CIRCULAR_ARRAY} plan for {@code collectionToCopy}'s class
+     *
+     * @return array of the contents of {@code collectionToCopy}, starting at the front, or
+     *     {@code null} if {@code collectionToCopy} is {@code null}
+     *
+     * @throws TestingException
+     *     if the plan doesn't apply to {@code collectionToCopy} or isn't for an array layout, any
+     *     wrapped exceptions which may be thrown by reflection, or if the instance state is
+     *     inconsistent
+     *
+     * @since 1.18
+     */
+    public static double[] getContentsOfDoubleArrayBackedDataset( final Object collectionToCopy,
+                                                                  final BackingStoreLayout layout )
+        throws TestingException
+        {
+
+        return copyPrimitiveBackingStore( collectionToCopy, layout, double[].class ) ;
+
+        }   // end plan getContentsOfDoubleArrayBackedDataset()
+
+
+    /**
+     * Utility to copy a char-array-backed collection's contents into an array without boxing using a
+     * precompiled plan
+     *
+     * @param collectionToCopy
+     *     the collection to copy
+     * @param layout
+     *     the {@code ARRAY} or {@code CIRCULAR_ARRAY} plan for {@code collectionToCopy}'s class
+     *
+     * @return array of the contents of {@code collectionToCopy}, starting at the front, or
+     *     {@code null} if {@code collectionToCopy} is {@code null}
+     *
+     * @throws TestingException
+     *     if the plan doesn't apply to {@code collectionToCopy} or isn't for an array layout, any
+     *     wrapped exceptions which may be thrown by reflection, or if the instance state is
+     *     inconsistent
+     *
+     * @since 1.18
+     */
+    public static char[] getContentsOfCharArrayBackedDataset( final Object collectionToCopy,
+                                                              final BackingStoreLayout layout )
+        throws TestingException
+        {
+
+        return copyPrimitiveBackingStore( collectionToCopy, layout, char[].class ) ;
+
+        }   // end plan getContentsOfCharArrayBackedDataset()
+
+
+    /*
+     * multi-dimensional arrays
+     */
+
+
+    /**
+     * Utility to copy a multi-dimensional array field's innermost elements into a single
+     * one-dimensional array
+     *
+     * @param instanceToCopy
+     *     the instance containing the array
+     * @param arrayFieldName
+     *     field name of the array
+     *
+     * @return the flattened array or {@code null} if {@code instanceToCopy} or the field is
+     *     {@code null}
+     *
+     * @throws TestingException
+     *     any wrapped exceptions which may be thrown by reflection or if the field isn't an array
+     *
+     * @since 1.6
+     */
+    public static FlattenedArray getContentsOfMultidimensionalArray( final Object instanceToCopy,
+                                                                     final String arrayFieldName )
+        throws TestingException
+        {
+
+        if ( null == instanceToCopy )
+            {
+            return null ;
+            }
+
+        return flattenArray( getReferenceField( instanceToCopy, arrayFieldName ) ) ;
+
+        }   // end getContentsOfMultidimensionalArray()
+
+
+    /**
+     * Copy a (possibly ragged) multi-dimensional array's innermost elements, in row-major order,
+     * into a single one-dimensional array
+     * <p>
+     * the number of dimensions is determined by the array's declared type, so an
+     * {@code Object[][]} whose elements happen to be arrays is flattened to an {@code Object[]} of
+     * those arrays; primitive elements are copied without boxing and subarrays are walked
+     * iteratively so the depth of the array doesn't affect the call stack
+     *
+     * @param theArray
+     *     the array to flatten
+     *
+     * @return the flattened array or {@code null} if {@code theArray} is {@code null}
+     *
+     * @throws TestingException
+     *     if {@code theArray} isn't an array or has too many elements to flatten
+     *
+     * @since 1.6
+     */
+    public static FlattenedArray flattenArray( final Object theArray )
+        throws TestingException
+        {
+
+        if ( null == theArray )
+            {
+            return null ;
+            }
+
+        if ( !Reflection.isArray( theArray.getClass() ) )
+            {
+            throw new TestingException( String.format( "can't flatten a %s - it isn't an array",
+                                                       theArray.getClass()
+                                                               .getSimpleName() ) ) ;
+            }
+
+        // determine the number of dimensions and the innermost component type
+        int dimensions = 0 ;
+        Class<?> componentType = theArray.getClass() ;
+
+        while ( Reflection.isArray( componentType ) )
+            {
+            dimensions++ ;
+            componentType = componentType.getComponentType() ;
+            }
+
+        final int innermostDepth = dimensions - 1 ;
+
+        final int unset = Integer.MIN_VALUE ;
+        final int[] extents = new int[ dimensions ] ;
+        Arrays.fill( extents, unset ) ;
+
+        int[] shape = new int[ 16 ] ;
+        int shapeLength = 0 ;
+
+        final List<Object> innermostArrays = new ArrayList<>() ;
+        long elementCount = 0 ;
+
+        // depth-first traversal with an explicit stack - parallel arrays since subarrays may be null
+        Object[] pendingArrays = new Object[ 16 ] ;
+        int[] pendingDepths = new int[ 16 ] ;
+        int pendingCount = 0 ;
+
+        pendingArrays[ pendingCount ] = theArray ;
+        pendingDepths[ pendingCount++ ] = 0 ;
+
+        while ( pendingCount > 0 )
+            {
+            final Object currentArray = pendingArrays[ --pendingCount ] ;
+            final int depth = pendingDepths[ pendingCount ] ;
+            pendingArrays[ pendingCount ] = null ;
+
+            final int length = ( null == currentArray )
+                ? -1
+                : Array.getLength( currentArray ) ;
+
+            // record the shape
+            if ( shapeLength == shape.length )
+                {
+                shape = Arrays.copyOf( shape, shape.length * 2 ) ;
+                }
+
+            shape[ shapeLength++ ] = length ;
+
+            if ( unset == extents[ depth ] )
+                {
+                extents[ depth ] = length ;
+                }
+            else if ( extents[ depth ] != length )
+                {
+                extents[ depth ] = -1 ;
+                }
+
+            if ( null == currentArray )
+                {
+                continue ;
+                }
+
+            if ( innermostDepth == depth )
+                {
+                innermostArrays.add( currentArray ) ;
+                elementCount += length ;
+
+                continue ;
+                }
+
+            // push the subarrays in reverse so they're visited in index order
+            if ( pendingCount + length > pendingArrays.length )
+                {
+                final int newCapacity = Math.max( pendingArrays.length * 2,
+                                                  pendingCount + length ) ;
+                pendingArrays = Arrays.copyOf( pendingArrays, newCapacity ) ;
+                pendingDepths = Arrays.copyOf( pendingDepths, newCapacity ) ;
+                }
+
+            final Object[] subarrays = (Object[]) currentArray ;
+
+            for ( int i = length - 1 ; i >= 0 ; i-- )
+                {
+                pendingArrays[ pendingCount ] = subarrays[ i ] ;
+                pendingDepths[ pendingCount++ ] = depth + 1 ;
+                }
+
+            }
+
+        if ( elementCount > Integer.MAX_VALUE - 8 )
+            {
+            throw new TestingException( String.format( "can't flatten %,d elements into a single array",
+                                                       elementCount ) ) ;
+            }
+
+        // depths below an empty outer array were never reached
+        for ( int k = 0 ; k < dimensions ; k++ )
+            {
+
+            if ( unset == extents[ k ] )
+                {
+                extents[ k ] = 0 ;
+                }
+
+            }
+
+        // copy the innermost arrays into a single buffer
+        final Object elements = Array.newInstance( componentType, (int) elementCount ) ;
+        int nextElement = 0 ;
+
+        for ( final Object innermostArray : innermostArrays )
+            {
+            final int length = Array.getLength( innermostArray ) ;
+
+            System.arraycopy( innermostArray, 0, elements, nextElement, length ) ;
+            nextElement += length ;
+            }
+
+        return new FlattenedArray( elements,
+                                   Arrays.copyOf( shape, shapeLength ),
+                                   extents ) ;
+
+        }   // end flattenArray()
+
+
+    /*
+     * skip lists
+     */
+
+
+    /**
+     * Utility to extract the entries and per-level occupancy of a skip list
+     * <p>
+     * convenience method for all-arg {@code getContentsOfSkipList()} with default values for the
+     * field names
+     *
+     * @param skipListToCopy
+     *     the skip list to copy
+     *
+     * @return the entries and level occupancy or {@code null} if {@code skipListToCopy} is
+     *     {@code null}
+     *
+     * @throws TestingException
+     *     any wrapped exceptions which may be thrown by reflection or if a level isn't a
+     *     subsequence of the level below it
+     *
+     * @since 1.7
+     */
+    public static SkipListContents getContentsOfSkipList( final Object skipListToCopy )
+        throws TestingException
+        {
+
+        return getContentsOfSkipList( skipListToCopy, null, null, null ) ;
+
+        }   // end 1-arg getContentsOfSkipList()
+
+
+    /**
+     * Utility to extract the entries and per-level occupancy of a skip list
+     * <p>
+     * the skip list's head field references a sentinel node whose forward references, one per
+     * level, lead to the first node linked at each level; each node's forward references are
+     * either an array or a {@code List} with {@code forward[ i ]} referencing the next node at
+     * level {@code i}
+     * <p>
+     * the structure is verified during a single traversal of level 0: the nodes linked at every
+     * higher level must appear, in the same order, among the nodes linked at the level directly
+     * below it - i.e., each level is a subsequence of the level below it; a node reached at level
+     * {@code L} is only accepted if it was also reached at level {@code L - 1}
+     *
+     * @param skipListToCopy
+     *     the skip list to copy
+     * @param headFieldName
+     *     field name of the skip list's head (sentinel) node (optional - defaults to "head")
+     * @param nodeDataFieldName
+     *     field name of the node's data reference (optional - defaults to "data")
+     * @param nodeForwardFieldName
+     *     field name of the node's array or list of forward references (optional - defaults to
+     *     "next")
+     *
+     * @return the entries and level occupancy or {@code null} if {@code skipListToCopy} is
+     *     {@code null}
+     *
+     * @throws TestingException
+     *     any wrapped exceptions which may be thrown by reflection or if a level isn't a
+     *     subsequence of the level below it
+     * @throws LoopDetectedException
+     *     if the level 0 chain loops back on itself
+     *
+     * @since 1.7
+     */
+    public static SkipListContents getContentsOfSkipList( final Object skipListToCopy,
+                                                          String headFieldName,
+                                                          String nodeDataFieldName,
+                                                          String nodeForwardFieldName )
+        throws TestingException
+        {
+
+        if ( null == skipListToCopy )
+            {
+            return null ;
+            }
+
+        // handle optional parameters
+        if ( null == headFieldName )
+            {
+            headFieldName = "head" ;
+            }
+
+        if ( null == nodeDataFieldName )
+            {
+            nodeDataFieldName = "data" ;
+            }
+
+        if ( null == nodeForwardFieldName )
+            {
+            nodeForwardFieldName = "next" ;
+            }
+
+        final Object headNode = getReferenceField( skipListToCopy, headFieldName ) ;
+
+        if ( null == headNode )
+            {
+            throw new TestingException( String.format( "Failed to retrieve head node from class %s, field %s: field is null",
+                                                       skipListToCopy.getClass()
+                                                                     .getSimpleName(),
+                                                       headFieldName ) ) ;
+            }
+
+        Field dataField = null ;
+        Field forwardField = resolveField( null, headNode, nodeForwardFieldName ) ;
+
+        final Object headForward = readReferenceField( forwardField, headNode ) ;
+        final int levelCount = forwardHeight( headForward,
+                                              headNode,
+                                              nodeForwardFieldName ) ;
+
+        // the next node expected at each level - consumed as level 0 reaches it
+        final Object[] expectedAtLevel = new Object[ levelCount ] ;
+
+        for ( int level = 1 ; level < levelCount ; level++ )
+            {
+            expectedAtLevel[ level ] = forwardLink( headForward, level ) ;
+            }
+
+        final int[] levelOccupancy = new int[ levelCount ] ;
+        final List<Object> contents = new ArrayList<>() ;
+
+        // for loop detection - identity, not equals(), since students' nodes may override it
+        final Set<Object> nodesVisited = Collections.newSetFromMap( new IdentityHashMap<>() ) ;
+
+        Object currentNode = 0 == levelCount
+            ? null
+            : forwardLink( headForward, 0 ) ;
+
+        while ( null != currentNode )
+            {
+
+            if ( !nodesVisited.add( currentNode ) )
+                {
+                throw new LoopDetectedException( String.format( "node reached twice while traversing level 0 of skip list class %s",
+                                                                skipListToCopy.getClass()
+                                                                              .getSimpleName() ) ) ;
+                }
+
+            dataField = resolveField( dataField, currentNode, nodeDataFieldName ) ;
+            forwardField = resolveField( forwardField, currentNode, nodeForwardFieldName ) ;
+
+            contents.add( readReferenceField( dataField, currentNode ) ) ;
+            levelOccupancy[ 0 ]++ ;
+
+            final Object forward = readReferenceField( forwardField, currentNode ) ;
+            final int height = Math.min( levelCount,
+                                         forwardHeight( forward,
+                                                        currentNode,
+                                                        nodeForwardFieldName ) ) ;
+
+            // consume this node at each higher level which expects it next - only while it was
+            // also consumed at the level directly below
+            boolean linkedBelow = true ;
+
+            for ( int level = 1 ; level < height ; level++ )
+                {
+                final boolean linkedHere = currentNode == expectedAtLevel[ level ] ;
+
+                if ( linkedHere )
+                    {
+
+                    if ( !linkedBelow )
+                        {
+                        throw new TestingException( String.format( "skip list level %,d is not a subsequence of level %,d: level %,d links to the node holding %s (entry %,d) but level %,d skips it",
+                                                                   level,
+                                                                   level - 1,
+                                                                   level,
+                                                                   TestData.itemToString( contents.get( contents.size() - 1 ) ),
+                                                                   contents.size() - 1,
+                                                                   level - 1 ) ) ;
+                        }
+
+                    levelOccupancy[ level ]++ ;
+                    expectedAtLevel[ level ] = forwardLink( forward, level ) ;
+                    }
+
+                linkedBelow = linkedHere ;
+                }
+
+            currentNode = 0 == height
+                ? null
+                : forwardLink( forward, 0 ) ;
+            }
+
+        // every higher level must have been fully consumed
+        for ( int level = 1 ; level < levelCount ; level++ )
+            {
+
+            if ( null != expectedAtLevel[ level ] )
+                {
+                throw new TestingException( String.format( "skip list level %,d is not a subsequence of level %,d: after %,d node%s, level %,d links to a node which level %,d doesn't reach in order or which has no level %,d forward reference",
+                                                           level,
+                                                           level - 1,
+                                                           levelOccupancy[ level ],
+                                                           1 == levelOccupancy[ level ]
+                                                               ? ""
+                                                               : "s",
+                                                           level,
+                                                           level - 1,
+                                                           level ) ) ;
+                }
+
+            }
+
+        return new SkipListContents( contents.toArray(), levelOccupancy ) ;
+
+        }   // end all-arg getContentsOfSkipList()
+
+
+    /**
+     * Determine how many levels a skip list node's forward references cover
+     *
+     * @param forward
+     *     the node's forward references - an array or a {@code List}
+     * @param aNode
+     *     the node - for error reporting
+     * @param nodeForwardFieldName
+     *     field name of the node's forward references - for error reporting
+     *
+     * @return the number of forward references
+     *
+     * @throws TestingException
+     *     if {@code forward} is neither an array nor a {@code List}
+     *
+     * @since 1.7
+     */
+    private static int forwardHeight( final Object forward,
+                                      final Object aNode,
+                                      final String nodeForwardFieldName )
+        throws TestingException
+        {
+
+        return switch ( forward )
+            {
+            case final Object[] forwardArray
+                -> forwardArray.length ;
+            case final List<?> forwardList
+                -> forwardList.size() ;
+            case null
+                -> 0 ;
+            default
+                -> throw new TestingException( String.format( "skip list node class %s, field %s is a %s, not an array or List of forward references",
+                                                              aNode.getClass()
+                                                                   .getSimpleName(),
+                                                              nodeForwardFieldName,
+                                                              forward.getClass()
+                                                                     .getSimpleName() ) ) ;
+            } ;
+
+        }   // end forwardHeight()
+
+
+    /**
+     * Retrieve one of a skip list node's forward references
+     *
+     * @param forward
+     *     the node's forward references - an array or a {@code List}
+     * @param level
+     *     the level of the reference - must be less than {@code forwardHeight()}
+     *
+     * @return the next node at {@code level}
+     *
+     * @since 1.7
+     */
+    private static Object forwardLink( final Object forward,
+                                       final int level )
+        {
+
+        return forward instanceof final Object[] forwardArray
+            ? forwardArray[ level ]
+            : ( (List<?>) forward ).get( level ) ;
+
+        }   // end forwardLink()
+
+
+    /*
+     * graphs
+     */
+
+
+    /**
+     * Utility to extract a graph stored as a map from each vertex to its neighbors (adjacency
+     * lists) in compressed sparse row form
+     *
+     * @param graphToCopy
+     *     the graph to copy
+     * @param adjacencyFieldName
+     *     field name of the graph's {@code Map} of vertex to neighbors
+     *
+     * @return the graph or {@code null} if {@code graphToCopy} is {@code null}
+     *
+     * @throws TestingException
+     *     any wrapped exceptions which may be thrown by reflection or if the field isn't a
+     *     {@code Map} or a neighbor collection isn't an array or {@code Iterable}
+     *
+     * @since 1.8
+     */
+    public static CsrGraph getContentsOfAdjacencyMapGraph( final Object graphToCopy,
+                                                           final String adjacencyFieldName )
+        throws TestingException
+        {
+
+        if ( null == graphToCopy )
+            {
+            return null ;
+            }
+
+        final Object adjacencyMap = getReferenceField( graphToCopy, adjacencyFieldName ) ;
+
+        if ( !( adjacencyMap instanceof Map<?, ?> ) )
+            {
+            throw new TestingException( String.format( "Failed to retrieve adjacency map from class %s, field %s: field is %s",
+                                                       graphToCopy.getClass()
+                                                                  .getSimpleName(),
+                                                       adjacencyFieldName,
+                                                       null == adjacencyMap
+                                                           ? "null"
+                                                           : "a " +
+                                                             adjacencyMap.getClass()
+                                                                         .getSimpleName() +
+                                                             ", not a Map" ) ) ;
+            }
+
+        return adjacencyMapToGraph( (Map<?, ?>) adjacencyMap ) ;
+
+        }   // end getContentsOfAdjacencyMapGraph()
+
+
+    /**
+     * Convert a map from each vertex to its neighbors (adjacency lists) to compressed sparse row
+     * form - also useful for building an expected graph
+     * <p>
+     * vertices are numbered in the map's iteration order; a neighbor which isn't a key (i.e. has
+     * no outgoing edges) is numbered after all the keys in the order it is first encountered.
+     * vertices are matched with {@code equals()}. since equal maps may iterate in different
+     * orders, compare graphs with {@code CsrGraph.hasSameEdges()} rather than by their arrays
+     *
+     * @param adjacencyMap
+     *     maps each vertex to an array or {@code Iterable} of its neighbors
+     *
+     * @return the graph or {@code null} if {@code adjacencyMap} is {@code null}
+     *
+     * @throws TestingException
+     *     if a neighbor collection isn't an array or {@code Iterable}
+     *
+     * @since 1.8
+     */
+    public static CsrGraph adjacencyMapToGraph( final Map<?, ?> adjacencyMap )
+        throws TestingException
+        {
+
+        if ( null == adjacencyMap )
+            {
+            return null ;
+            }
+
+        final List<Object> vertices = new ArrayList<>( adjacencyMap.keySet() ) ;
+        final Map<Object, Integer> vertexNumbers = HashMap.newHashMap( vertices.size() ) ;
+
+        for ( int v = 0 ; v < vertices.size() ; v++ )
+            {
+            vertexNumbers.put( vertices.get( v ), v ) ;
+            }
+
+        final CsrBuilder graph = new CsrBuilder( vertices.size(), false ) ;
+
+        for ( final Map.Entry<?, ?> adjacencies : adjacencyMap.entrySet() )
+            {
+
+            for ( final Object neighbor : asIterable( adjacencies.getValue(),
+                                                      adjacencies.getKey() ) )
+                {
+                Integer neighborNumber = vertexNumbers.get( neighbor ) ;
+
+                if ( null == neighborNumber )
+                    {
+                    neighborNumber = vertices.size() ;
+                    vertices.add( neighbor ) ;
+                    vertexNumbers.put( neighbor, neighborNumber ) ;
+                    }
+
+                graph.addEdge( neighborNumber, 0.0 ) ;
+                }
+
+            graph.endVertex() ;
+            }
+
+        return graph.build( vertices.toArray() ) ;
+
+        }   // end adjacencyMapToGraph()
+
+
+    /**
+     * Utility to extract a graph stored as an adjacency matrix in compressed sparse row form
+     * <p>
+     * convenience method for {@code adjacencyMatrixToGraph()} which retrieves the matrix from an
+     * instance
+     *
+     * @param graphToCopy
+     *     the graph to copy
+     * @param matrixFieldName
+     *     field name of the graph's {@code boolean[][]}, {@code int[][]}, or {@code double[][]}
+     *     adjacency matrix
+     *
+     * @return the graph or {@code null} if {@code graphToCopy} is {@code null}
+     *
+     * @throws TestingException
+     *     any wrapped exceptions which may be thrown by reflection or if the matrix isn't square
+     *     or of a supported type
+     *
+     * @since 1.8
+     */
+    public static CsrGraph getContentsOfAdjacencyMatrixGraph( final Object graphToCopy,
+                                                              final String matrixFieldName )
+        throws TestingException
+        {
+
+        if ( null == graphToCopy )
+            {
+            return null ;
+            }
+
+        final Object matrix = getReferenceField( graphToCopy, matrixFieldName ) ;
+
+        if ( null == matrix )
+            {
+            throw new TestingException( String.format( "Failed to retrieve adjacency matrix from class %s, field %s: field is null",
+                                                       graphToCopy.getClass()
+                                                                  .getSimpleName(),
+                                                       matrixFieldName ) ) ;
+            }
+
+        return adjacencyMatrixToGraph( matrix ) ;
+
+        }   // end getContentsOfAdjacencyMatrixGraph()
+
+
+    /**
+     * Convert an adjacency matrix to compressed sparse row form - also useful for building an
+     * expected graph
+     * <p>
+     * {@code matrix[ u ][ v ]} describes the edge from vertex {@code u} to vertex {@code v}:
+     * <ul>
+     * <li>{@code boolean[][]} - {@code true} is an edge; the graph is unweighted
+     * <li>{@code int[][]} - a non-zero value is an edge with that weight
+     * <li>{@code double[][]} - a non-zero, finite value is an edge with that weight
+     * </ul>
+     * the graph's vertices are identified only by their numbers
+     *
+     * @param matrix
+     *     the square adjacency matrix
+     *
+     * @return the graph or {@code null} if {@code matrix} is {@code null}
+     *
+     * @throws TestingException
+     *     if {@code matrix} isn't square or isn't one of the supported types
+     *
+     * @since 1.8
+     */
+    public static CsrGraph adjacencyMatrixToGraph( final Object matrix )
+        throws TestingException
+        {
+
+        if ( null == matrix )
+            {
+            return null ;
+            }
+
+        if ( !( matrix instanceof boolean[][] ) &&
+             !( matrix instanceof int[][] ) &&
+             !( matrix instanceof double[][] ) )
+            {
+            throw new TestingException( String.format( "adjacency matrix must be boolean[][], int[][], or double[][], not %s",
+                                                       matrix.getClass()
+                                                             .getSimpleName() ) ) ;
+            }
+
+        final int vertexCount = Array.getLength( matrix ) ;
+
+        for ( int u = 0 ; u < vertexCount ; u++ )
+            {
+            final Object row = Array.get( matrix, u ) ;
+
+            if ( ( null == row ) || ( vertexCount != Array.getLength( row ) ) )
+                {
+                throw new TestingException( String.format( "adjacency matrix is not square: %,d rows but row %,d %s",
+                                                           vertexCount,
+                                                           u,
+                                                           null == row
+                                                               ? "is null"
+                                                               : String.format( "has %,d column%s",
+                                                                                Array.getLength( row ),
+                                                                                1 == Array.getLength( row )
+                                                                                    ? ""
+                                                                                    : "s" ) ) ) ;
+                }
+
+            }
+
+        final CsrBuilder graph = new CsrBuilder( vertexCount,
+                                                 !( matrix instanceof boolean[][] ) ) ;
+
+        // scan the rows directly - no boxing
+        switch ( matrix )
+            {
+            case final boolean[][] booleanMatrix
+                ->
+                {
+                for ( final boolean[] row : booleanMatrix )
+                    {
+
+                    for ( int v = 0 ; v < vertexCount ; v++ )
+                        {
+
+                        if ( row[ v ] )
+                            {
+                            graph.addEdge( v, 0.0 ) ;
+                            }
+
+                        }
+
+                    graph.endVertex() ;
+                    }
+                }
+            case final int[][] intMatrix
+                ->
+                {
+                for ( final int[] row : intMatrix )
+                    {
+
+                    for ( int v = 0 ; v < vertexCount ; v++ )
+                        {
+
+                        if ( 0 != row[ v ] )
+                            {
+                            graph.addEdge( v, row[ v ] ) ;
+                            }
+
+                        }
+
+                    graph.endVertex() ;
+                    }
+                }
+            default
+                ->
+                {
+                for ( final double[] row : (double[][]) matrix )
+                    {
+
+                    for ( int v = 0 ; v < vertexCount ; v++ )
+                        {
+
+                        if ( ( 0.0 != row[ v ] ) && Double.isFinite( row[ v ] ) )
+                            {
+                            graph.addEdge( v, row[ v ] ) ;
+                            }
+
+                        }
+
+                    graph.endVertex() ;
+                    }
+                }
+            }
+
+        return graph.build( null ) ;
+
+        }   // end adjacencyMatrixToGraph()
+
+
+    /**
+     * Utility to extract a graph whose vertex objects each hold their own edges in compressed
+     * sparse row form
+     * <p>
+     * convenience method for all-arg {@code getContentsOfVertexChainGraph()} with default values
+     * for the field names and no edge weights
+     *
+     * @param graphToCopy
+     *     the graph to copy
+     *
+     * @return the graph or {@code null} if {@code graphToCopy} is {@code null}
+     *
+     * @throws TestingException
+     *     any wrapped exceptions which may be thrown by reflection
+     *
+     * @since 1.8
+     */
+    public static CsrGraph getContentsOfVertexChainGraph( final Object graphToCopy )
+        throws TestingException
+        {
+
+        return getContentsOfVertexChainGraph( graphToCopy, null, null, null, null, null ) ;
+
+        }   // end 1-arg getContentsOfVertexChainGraph()
+
+
+    /**
+     * Utility to extract a graph whose vertex objects each hold their own edges in compressed
+     * sparse row form
+     * <p>
+     * the graph's vertices field holds the vertex objects in an array, an {@code Iterable}, or a
+     * {@code Map} (its values); each vertex's edges field either references the first edge node
+     * of a chain linked through the edges' next field or holds an array or {@code Iterable} of
+     * edge objects. each edge's target field references the destination vertex object.
+     * <p>
+     * vertices are numbered in the container's order and matched by identity; a target vertex
+     * which isn't in the container is numbered after the others and its edges are extracted as
+     * well
+     *
+     * @param graphToCopy
+     *     the graph to copy
+     * @param verticesFieldName
+     *     field name of the graph's vertex container (optional - defaults to "vertices")
+     * @param vertexEdgesFieldName
+     *     field name of the vertex's first edge or edge collection (optional - defaults to
+     *     "edges")
+     * @param edgeTargetFieldName
+     *     field name of the edge's destination vertex reference (optional - defaults to "vertex";
+     *     {@code NO_SUCH_FIELD} if the edge collection holds the destination vertices themselves)
+     * @param edgeNextFieldName
+     *     field name of the edge's next reference - only used for chained edges (optional -
+     *     defaults to "next")
+     * @param edgeWeightFieldName
+     *     field name of the edge's numeric weight (optional - if {@code null}, the graph is
+     *     unweighted)
+     *
+     * @return the graph or {@code null} if {@code graphToCopy} is {@code null}
+     *
+     * @throws TestingException
+     *     any wrapped exceptions which may be thrown by reflection or if the vertex container or
+     *     an edge collection isn't a supported type
+     * @throws LoopDetectedException
+     *     if an edge chain loops back on itself or shares a node with another vertex's chain
+     *
+     * @since 1.8
+     */
+    public static CsrGraph getContentsOfVertexChainGraph( final Object graphToCopy,
+                                                          String verticesFieldName,
+                                                          String vertexEdgesFieldName,
+                                                          String edgeTargetFieldName,
+                                                          String edgeNextFieldName,
+                                                          final String edgeWeightFieldName )
+        throws TestingException
+        {
+
+        if ( null == graphToCopy )
+            {
+            return null ;
+            }
+
+        // handle optional parameters
+        if ( null == verticesFieldName )
+            {
+            verticesFieldName = "vertices" ;
+            }
+
+        if ( null == vertexEdgesFieldName )
+            {
+            vertexEdgesFieldName = "edges" ;
+            }
+
+        if ( null == edgeTargetFieldName )
+            {
+            edgeTargetFieldName = "vertex" ;
+            }
+
+        if ( null == edgeNextFieldName )
+            {
+            edgeNextFieldName = "next" ;
+            }
+
+        final boolean edgesAreTargets = NO_SUCH_FIELD.equals( edgeTargetFieldName ) ;
+        final boolean isWeighted = null != edgeWeightFieldName ;
+
+        Object vertexContainer = getReferenceField( graphToCopy, verticesFieldName ) ;
+
+        if ( vertexContainer instanceof final Map<?, ?> vertexMap )
+            {
+            vertexContainer = vertexMap.values() ;
+            }
+
+        final List<Object> vertices = new ArrayList<>() ;
+
+        for ( final Object vertex : asIterable( vertexContainer, graphToCopy ) )
+            {
+            vertices.add( vertex ) ;
+            }
+
+        // identity, not equals(), since students' vertices may override it
+        final Map<Object, Integer> vertexNumbers = new IdentityHashMap<>( vertices.size() ) ;
+
+        for ( int v = 0 ; v < vertices.size() ; v++ )
+            {
+            vertexNumbers.put( vertices.get( v ), v ) ;
+            }
+
+        final CsrBuilder graph = new CsrBuilder( vertices.size(), isWeighted ) ;
+
+        // for loop detection - an edge node may appear only once in the whole graph
+        final Set<Object> edgesVisited = Collections.newSetFromMap( new IdentityHashMap<>() ) ;
+
+        Field edgesField = null ;
+        Field targetField = null ;
+        Field nextField = null ;
+        Field weightField = null ;
+
+        // vertices may be appended as previously unseen targets are found
+        for ( int v = 0 ; v < vertices.size() ; v++ )
+            {
+            final Object vertex = vertices.get( v ) ;
+
+            edgesField = resolveField( edgesField, vertex, vertexEdgesFieldName ) ;
+            final Object edges = readReferenceField( edgesField, vertex ) ;
+
+            final boolean isChain = ( null != edges ) &&
+                                    !edges.getClass().isArray() &&
+                                    !( edges instanceof Iterable<?> ) ;
+
+            final Iterable<?> edgeCollection = isChain || ( null == edges )
+                ? List.of()
+                : asIterable( edges, vertex ) ;
+
+            Object currentEdge = isChain
+                ? edges
+                : null ;
+
+            for ( final Iterator<?> edgeIterator = edgeCollection.iterator() ;
+                  ( null != currentEdge ) || edgeIterator.hasNext() ; )
+                {
+                final Object edge = isChain
+                    ? currentEdge
+                    : edgeIterator.next() ;
+
+                if ( isChain && !edgesVisited.add( edge ) )
+                    {
+                    throw new LoopDetectedException( String.format( "edge node reached twice while traversing the edges of vertex %,d of graph class %s",
+                                                                    v,
+                                                                    graphToCopy.getClass()
+                                                                               .getSimpleName() ) ) ;
+                    }
+
+                final Object target ;
+
+                if ( edgesAreTargets )
+                    {
+                    target = edge ;
+                    }
+                else
+                    {
+                    targetField = resolveField( targetField, edge, edgeTargetFieldName ) ;
+                    target = readReferenceField( targetField, edge ) ;
+                    }
+
+                Integer targetNumber = vertexNumbers.get( target ) ;
+
+                if ( null == targetNumber )
+                    {
+
+                    if ( null == target )
+                        {
+                        throw new TestingException( String.format( "edge %,d of vertex %,d of graph class %s has no destination vertex",
+                                                                   graph.outDegree(),
+                                                                   v,
+                                                                   graphToCopy.getClass()
+                                                                              .getSimpleName() ) ) ;
+                        }
+
+                    targetNumber = vertices.size() ;
+                    vertices.add( target ) ;
+                    vertexNumbers.put( target, targetNumber ) ;
+                    }
+
+                double weight = 0.0 ;
+
+                if ( isWeighted )
+                    {
+                    weightField = resolveField( weightField, edge, edgeWeightFieldName ) ;
+                    weight = readNumericField( weightField, edge ) ;
+                    }
+
+                graph.addEdge( targetNumber, weight ) ;
+
+                if ( isChain )
+                    {
+                    nextField = resolveField( nextField, edge, edgeNextFieldName ) ;
+                    currentEdge = readReferenceField( nextField, edge ) ;
+                    }
+
+                }
+
+            graph.endVertex() ;
+            }
+
+        return graph.build( vertices.toArray() ) ;
+
+        }   // end all-arg getContentsOfVertexChainGraph()
+
+
+    /**
+     * Retrieve the value of a resolved numeric field from an instance as a {@code double}
+     *
+     * @param theField
+     *     the field to read - any primitive numeric type or wrapper
+     * @param anInstance
+     *     the instance to interrogate
+     *
+     * @return the value stored in the field
+     *
+     * @throws TestingException
+     *     any wrapped exceptions which may be thrown by reflection or if the field isn't numeric
+     *
+     * @since 1.8
+     */
+    private static double readNumericField( final Field theField,
+                                            final Object anInstance )
+        throws TestingException
+        {
+
+        final Object value = readReferenceField( theField, anInstance ) ;
+
+        if ( value instanceof final Number number )
+            {
+            return number.doubleValue() ;
+            }
+
+        throw new TestingException( String.format( "Failed to retrieve numeric value from class %s, field %s: field is %s",
+                                                   anInstance.getClass()
+                                                             .getSimpleName(),
+                                                   theField.getName(),
+                                                   null == value
+                                                       ? "null"
+                                                       : "a " +
+                                                         value.getClass()
+                                                              .getSimpleName() ) ) ;
+
+        }   // end readNumericField()
+
+
+    /**
+     * Treat a vertex container or neighbor/edge collection uniformly
+     *
+     * @param collection
+     *     an array or {@code Iterable}
+     * @param owner
+     *     the instance holding {@code collection} - for error reporting
+     *
+     * @return {@code collection} as an {@code Iterable}
+     *
+     * @throws TestingException
+     *     if {@code collection} is neither an array nor an {@code Iterable}
+     *
+     * @since 1.8
+     */
+    private static Iterable<?> asIterable( final Object collection,
+                                           final Object owner )
+        throws TestingException
+        {
+
+        return switch ( collection )
+            {
+            case final Object[] array
+                -> Arrays.asList( array ) ;
+            case final Iterable<?> iterable
+                -> iterable ;
+            default
+                -> throw new TestingException( String.format( "graph collection held by %s is %s, not an array or Iterable",
+                                                              null == owner
+                                                                  ? "null"
+                                                                  : owner.getClass()
+                                                                         .getSimpleName(),
+                                                              null == collection
+                                                                  ? "null"
+                                                                  : "a " +
+                                                                    collection.getClass()
+                                                                              .getSimpleName() ) ) ;
+            } ;
+
+        }   // end asIterable()
+
+
+    /**
+     * Accumulates a graph's edges, one source vertex at a time in vertex number order, directly
+     * into compressed sparse row arrays
+     *
+     * @since 1.8
+     */
+    private static class CsrBuilder
+        {
+
+        /** start of each completed vertex's edges */
+        private int[] offsets ;
+        /** number of completed vertices */
+        private int completedVertices = 0 ;
+        /** destination of each edge */
+        private int[] targets = new int[ 16 ] ;
+        /** weight of each edge or {@code null} for an unweighted graph */
+        private double[] weights ;
+        /** number of edges added */
+        private int edgeCount = 0 ;
+
+
+        /**
+         * Set up an empty graph
+         *
+         * @param expectedVertexCount
+         *     initial vertex capacity
+         * @param isWeighted
+         *     {@code true} if the edges have weights
+         */
+        private CsrBuilder( final int expectedVertexCount,
+                            final boolean isWeighted )
+            {
+
+            this.offsets = new int[ expectedVertexCount + 1 ] ;
+            this.weights = isWeighted
+                ? new double[ 16 ]
+                : null ;
+
+            }   // end constructor
+
+
+        /**
+         * Add an edge leaving the current vertex
+         *
+         * @param target
+         *     the destination vertex number
+         * @param weight
+         *     the edge's weight - ignored for an unweighted graph
+         */
+        private void addEdge( final int target,
+                              final double weight )
+            {
+
+            if ( this.edgeCount == this.targets.length )
+                {
+                this.targets = Arrays.copyOf( this.targets, this.edgeCount * 2 ) ;
+
+                if ( null != this.weights )
+                    {
+                    this.weights = Arrays.copyOf( this.weights, this.edgeCount * 2 ) ;
+                    }
+
+                }
+
+            this.targets[ this.edgeCount ] = target ;
+
+            if ( null != this.weights )
+                {
+                this.weights[ this.edgeCount ] = weight ;
+                }
+
+            this.edgeCount++ ;
+
+            }   // end addEdge()
+
+
+        /**
+         * the number of edges added to the current vertex so far
+         *
+         * @return the current vertex's out-degree
+         */
+        private int outDegree()
+            {
+
+            return this.edgeCount - this.offsets[ this.completedVertices ] ;
+
+            }   // end outDegree()
+
+
+        /**
+         * Finish the current vertex - subsequent edges leave the next vertex
+         */
+        private void endVertex()
+            {
+
+            if ( this.completedVertices + 1 == this.offsets.length )
+                {
+                this.offsets = Arrays.copyOf( this.offsets, this.offsets.length * 2 ) ;
+                }
+
+            this.completedVertices++ ;
+            this.offsets[ this.completedVertices ] = this.edgeCount ;
+
+            }   // end endVertex()
+
+
+        /**
+         * Produce the graph
+         *
+         * @param vertices
+         *     the vertex objects in number order or {@code null} if they have no identity
+         *
+         * @return the graph - vertices without a completed entry (e.g. targets discovered after
+         *     their turn) have no outgoing edges
+         */
+        private CsrGraph build( final Object[] vertices )
+            {
+
+            while ( ( null != vertices ) && ( this.completedVertices < vertices.length ) )
+                {
+                endVertex() ;
+                }
+
+            return new CsrGraph( vertices,
+                                 Arrays.copyOf( this.offsets, this.completedVertices + 1 ),
+                                 Arrays.copyOf( this.targets, this.edgeCount ),
+                                 null == this.weights
+                                     ? null
+                                     : Arrays.copyOf( this.weights, this.edgeCount ) ) ;
+
+            }   // end build()
+
+        }   // end class CsrBuilder
+
+
+    /*
+     * memory footprint
+     */
+
+
+    /**
+     * Utility to estimate the memory retained by a data structure
+     * <p>
+     * convenience method for 2-arg {@code retainedSize()} which excludes nothing
+     *
+     * @param root
+     *     the data structure to measure
+     *
+     * @return the estimated footprint or {@code null} if {@code root} is {@code null}
+     *
+     * @throws TestingException
+     *     any wrapped exceptions which may be thrown by reflection
+     *
+     * @since 1.9
+     */
+    public static RetainedSize retainedSize( final Object root )
+        throws TestingException
+        {
+
+        return retainedSize( root, List.of() ) ;
+
+        }   // end 1-arg retainedSize()
+
+
+    /**
+     * Utility to estimate the memory retained by a data structure - the sum of the shallow sizes
+     * of every object reachable from {@code root}
+     * <p>
+     * the object graph is walked iteratively (no recursion depth limit) with identity-based
+     * tracking so shared and cyclic references are counted once. static fields, {@code Class}
+     * objects, and enum constants are not followed or counted since they don't belong to the
+     * structure. shallow sizes come from a model of the running JVM's layout: object header,
+     * array header, reference size (compressed oops), and alignment; field padding between a
+     * class and its superclass is ignored
+     * <p>
+     * pass the expected entries as {@code excludedObjects} to measure only the structure's own
+     * overhead (nodes, backing arrays, bookkeeping)
+     *
+     * @param root
+     *     the data structure to measure
+     * @param excludedObjects
+     *     objects (compared by identity) which are neither counted nor followed
+     *
+     * @return the estimated footprint or {@code null} if {@code root} is {@code null}
+     *
+     * @throws TestingException
+     *     any wrapped exceptions which may be thrown by reflection
+     *
+     * @since 1.9
+     */
+    public static RetainedSize retainedSize( final Object root,
+                                             final Collection<?> excludedObjects )
+        throws TestingException
+        {
+
+        if ( null == root )
+            {
+            return null ;
+            }
+
+        final Set<Object> visited = Collections.newSetFromMap( new IdentityHashMap<>() ) ;
+        visited.addAll( excludedObjects ) ;
+
+        // per-class shallow size, instance count, and reference fields - resolved once per class
+        final Map<Class<?>, InstanceLayout> layouts = new HashMap<>() ;
+        final Map<Class<?>, long[]> tallies = new HashMap<>() ;
+
+        long totalBytes = 0 ;
+        int objectCount = 0 ;
+        int opaqueObjectCount = 0 ;
+
+        // explicit stack - student structures may be too deep to recurse
+        final List<Object> pending = new ArrayList<>() ;
+
+        if ( visited.add( root ) )
+            {
+            pending.add( root ) ;
+            }
+
+        while ( !pending.isEmpty() )
+            {
+            final Object current = pending.removeLast() ;
+            final Class<?> currentClass = current.getClass() ;
+            long shallowSize ;
+
+            if ( currentClass.isArray() )
+                {
+                final Class<?> componentType = currentClass.getComponentType() ;
+                final int length = Array.getLength( current ) ;
+
+                shallowSize = align( VmLayout.ARRAY_HEADER_SIZE +
+                                     ( (long) length * slotSize( componentType ) ) ) ;
+
+                if ( !componentType.isPrimitive() )
+                    {
+
+                    for ( final Object element : (Object[]) current )
+                        {
+                        pushUnvisited( element, visited, pending ) ;
+                        }
+
+                    }
+
+                }
+            else
+                {
+                final InstanceLayout layout = layouts.computeIfAbsent( currentClass,
+                                                                       ReflectBackingStores::layoutOf ) ;
+                shallowSize = layout.shallowSize() ;
+
+                if ( current instanceof final String aString )
+                    {
+                    // its value array is encapsulated - estimate it from the contents
+                    shallowSize += stringValueSize( aString ) ;
+                    }
+                else if ( null == layout.referenceFields() )
+                    {
+                    opaqueObjectCount++ ;
+                    }
+                else
+                    {
+
+                    for ( final Field referenceField : layout.referenceFields() )
+                        {
+                        pushUnvisited( readReferenceField( referenceField, current ),
+                                       visited,
+                                       pending ) ;
+                        }
+
+                    }
+
+                }
+
+            totalBytes += shallowSize ;
+            objectCount++ ;
+
+            final long[] tally = tallies.computeIfAbsent( currentClass, _ -> new long[ 2 ] ) ;
+            tally[ 0 ]++ ;
+            tally[ 1 ] += shallowSize ;
+            }
+
+        final List<RetainedSize.ClassFootprint> footprints = new ArrayList<>( tallies.size() ) ;
+
+        for ( final Map.Entry<Class<?>, long[]> tally : tallies.entrySet() )
+            {
+            footprints.add( new RetainedSize.ClassFootprint( tally.getKey(),
+                                                             (int) tally.getValue()[ 0 ],
+                                                             tally.getValue()[ 1 ] ) ) ;
+            }
+
+        footprints.sort( Comparator.comparingLong( RetainedSize.ClassFootprint::totalBytes )
+                                   .reversed() ) ;
+
+        return new RetainedSize( totalBytes,
+                                 objectCount,
+                                 List.copyOf( footprints ),
+                                 opaqueObjectCount ) ;
+
+        }   // end 2-arg retainedSize()
+
+
+    /**
+     * Schedule a referenced object for measurement unless it has been seen or doesn't belong to
+     * the structure
+     *
+     * @param referenced
+     *     the value of a reference field or array element
+     * @param visited
+     *     objects already scheduled or excluded
+     * @param pending
+     *     the traversal stack
+     *
+     * @since 1.9
+     */
+    private static void pushUnvisited( final Object referenced,
+                                       final Set<Object> visited,
+                                       final List<Object> pending )
+        {
+
+        if ( ( null == referenced ) ||
+             ( referenced instanceof Class<?> ) ||
+             ( referenced instanceof Enum<?> ) )
+            {
+            return ;
+            }
+
+        if ( visited.add( referenced ) )
+            {
+            pending.add( referenced ) ;
+            }
+
+        }   // end pushUnvisited()
+
+
+    /**
+     * The shallow size and followable references of a non-array class
+     *
+     * @param shallowSize
+     *     aligned size of an instance in bytes
+     * @param referenceFields
+     *     the accessible, non-static reference fields declared by the class and its superclasses
+     *     or {@code null} if any of them is inaccessible
+     *
+     * @since 1.9
+     */
+    private record InstanceLayout( long shallowSize,
+                                   Field[] referenceFields )
+        {
+        }
+
+
+    /**
+     * Build the layout model for a class
+     *
+     * @param aClass
+     *     a non-array class
+     *
+     * @return its layout
+     *
+     * @since 1.9
+     */
+    private static InstanceLayout layoutOf( final Class<?> aClass )
+        {
+
+        long fieldBytes = 0 ;
+        final List<Field> referenceFields = new ArrayList<>() ;
+        boolean isOpaque = false ;
+
+        for ( Class<?> currentClass = aClass ;
+              null != currentClass ;
+              currentClass = currentClass.getSuperclass() )
+            {
+
+            for ( final Field aField : currentClass.getDeclaredFields() )
+                {
+
+                if ( Modifier.isStatic( aField.getModifiers() ) )
+                    {
+                    continue ;
+                    }
+
+                fieldBytes += slotSize( aField.getType() ) ;
+
+                if ( !aField.getType().isPrimitive() )
+                    {
+
+                    if ( aField.trySetAccessible() )
+                        {
+                        referenceFields.add( aField ) ;
+                        }
+                    else
+                        {
+                        isOpaque = true ;
+                        }
+
+                    }
+
+                }
+
+            }
+
+        return new InstanceLayout( align( VmLayout.OBJECT_HEADER_SIZE + fieldBytes ),
+                                   isOpaque
+                                       ? null
+                                       : referenceFields.toArray( new Field[ 0 ] ) ) ;
+
+        }   // end layoutOf()
+
+
+    /**
+     * Estimate the size of a string's encapsulated value array - Latin-1 strings use 1 byte per
+     * character (compact strings), others 2
+     *
+     * @param aString
+     *     the string
+     *
+     * @return the aligned size of its {@code byte[]}
+     *
+     * @since 1.9
+     */
+    private static long stringValueSize( final String aString )
+        {
+
+        int bytesPerCharacter = 1 ;
+
+        for ( int i = 0 ; i < aString.length() ; i++ )
+            {
+
+            if ( aString.charAt( i ) > 0xFF )
+                {
+                bytesPerCharacter = 2 ;
+                break ;
+                }
+
+            }
+
+        return align( VmLayout.ARRAY_HEADER_SIZE + ( (long) aString.length() * bytesPerCharacter ) ) ;
+
+        }   // end stringValueSize()
+
+
+    /**
+     * the number of bytes a field or array element of a type occupies
+     *
+     * @param type
+     *     the field or component type
+     *
+     * @return its size in bytes
+     *
+     * @since 1.9
+     */
+    private static int slotSize( final Class<?> type )
+        {
+
+        if ( !type.isPrimitive() )
+            {
+            return VmLayout.REFERENCE_SIZE ;
+            }
+
+        if ( ( long.class == type ) || ( double.class == type ) )
+            {
+            return 8 ;
+            }
+
+        if ( ( int.class == type ) || ( float.class == type ) )
+            {
+            return 4 ;
+            }
+
+        if ( ( short.class == type ) || ( char.class == type ) )
+            {
+            return 2 ;
+            }
+
+        return 1 ;  // byte, boolean
+
+        }   // end slotSize()
+
+
+    /**
+     * Round a size up to the JVM's object alignment
+     *
+     * @param size
+     *     the unaligned size in bytes
+     *
+     * @return the aligned size in bytes
+     *
+     * @since 1.9
+     */
+    private static long align( final long size )
+        {
+
+        final int alignment = VmLayout.OBJECT_ALIGNMENT ;
+
+        return ( ( size + alignment - 1 ) / alignment ) * alignment ;
+
+        }   // end align()
+
+
+    /**
+     * Holds the JVM's object layout sizes - they are queried from the
+     * {@code HotSpotDiagnosticMXBean} when a size is first needed rather than when
+     * {@code ReflectBackingStores} is loaded, so extractors which never estimate memory never
+     * start the management infrastructure
+     *
+     * @since 1.17
+     */
+    private final static class VmLayout
+        {
+
+        /** bytes per reference field or array element - 4 with compressed oops */
+        private final static int REFERENCE_SIZE = vmLayoutFlag( "UseCompressedOops", true )
+            ? 4
+            : 8 ;
+
+        /** bytes in an object header (mark word + class pointer) */
+        private final static int OBJECT_HEADER_SIZE = vmLayoutFlag( "UseCompactObjectHeaders", false )
+            ? 8
+            : vmLayoutFlag( "UseCompressedClassPointers", true )
+                ? 12
+                : 16 ;
+
+        /** bytes before an array's first element (object header + length, padded to 8) */
+        private final static int ARRAY_HEADER_SIZE = ( ( OBJECT_HEADER_SIZE + 4 + 7 ) / 8 ) * 8 ;
+
+        /** objects occupy a multiple of this many bytes */
+        private final static int OBJECT_ALIGNMENT = vmLayoutSize( "ObjectAlignmentInBytes", 8 ) ;
+
+
+        /**
+         * Query a boolean HotSpot option which affects object layout
+         *
+         * @param optionName
+         *     the VM option
+         * @param defaultValue
+         *     the value to assume if it can't be queried (e.g. a non-HotSpot JVM)
+         *
+         * @return the option's value
+         *
+         * @since 1.9
+         */
+        private static boolean vmLayoutFlag( final String optionName,
+                                             final boolean defaultValue )
+            {
+
+            final String value = vmOption( optionName ) ;
+
+            return null == value
+                ? defaultValue
+                : Boolean.parseBoolean( value ) ;
+
+            }   // end vmLayoutFlag()
+
+
+        /**
+         * Query a numeric HotSpot option which affects object layout
+         *
+         * @param optionName
+         *     the VM option
+         * @param defaultValue
+         *     the value to assume if it can't be queried (e.g. a non-HotSpot JVM)
+         *
+         * @return the option's value
+         *
+         * @since 1.9
+         */
+        private static int vmLayoutSize( final String optionName,
+                                         final int defaultValue )
+            {
+
+            final String value = vmOption( optionName ) ;
+
+            try
+                {
+                return null == value
+                    ? defaultValue
+                    : Integer.parseInt( value ) ;
+                }
+            catch ( final NumberFormatException e )
+                {
+                return defaultValue ;
+                }
+
+            }   // end vmLayoutSize()
+
+
+        /**
+         * Retrieve a HotSpot VM option's current value
+         *
+         * @param optionName
+         *     the VM option
+         *
+         * @return its value or {@code null} if it isn't available
+         *
+         * @since 1.9
+         */
+        private static String vmOption( final String optionName )
+            {
+
+            try
+                {
+                return ManagementFactory.getPlatformMXBean( HotSpotDiagnosticMXBean.class )
+                                        .getVMOption( optionName )
+                                        .getValue() ;
+                }
+            catch ( final RuntimeException | LinkageError e )
+                {
+                return null ;
+                }
+
+            }   // end vmOption()
+
+        }   // end class VmLayout
+
+
+    /*
+     * utilities
+     */
+
+
+    /**
+     * Retrieve a collection's entry count unless the caller already supplied it
+     *
+     * @param collectionToCopy
+     *     the collection to interrogate
+     * @param entryCountFieldName
+     *     field name of the collection's entry count
+     * @param entryCount
+     *     expected number of entries in the collection - only used if non-negative
+     *
+     * @return {@code entryCount} if non-negative; otherwise, the value of the entry count field
+     *
+     * @throws TestingException
+     *     any wrapped exceptions which may be thrown by reflection
+     *
+     * @since 1.2
+     */
+    private static int retrieveEntryCount( final Object collectionToCopy,
+                                           final String entryCountFieldName,
+                                           final int entryCount )
+        throws TestingException
+        {
+
+        if ( entryCount >= 0 )
+            {
+            return entryCount ;
+            }
+
+        try
+            {
+            return getIntField( collectionToCopy, entryCountFieldName ) ;
+            }
+        catch ( IllegalArgumentException | SecurityException e )
+            {
+            final String exceptionClassName = e.getClass().getSimpleName() ;
+
+            final String errorMessage = String.format( "Failed to retrieve entry count from class %s, field %s, instance %s: %s%s%s",
+                                                       collectionToCopy.getClass()
+                                                                       .getSimpleName(),
+                                                       entryCountFieldName,
+                                                       collectionToCopy.toString(),
+                                                       exceptionClassName,
+                                                       ( null == e.getMessage()
+                                                           ? ""
+                                                           : ": " ),
+                                                       ( null == e.getMessage()
+                                                           ? ""
+                                                           : e.getMessage() ) ) ;
+
+            throw new TestingException( errorMessage, e ) ;
+            }
+
+        }   // end retrieveEntryCount()
+
+
+    /**
+     * Verify that an entry count retrieved from (or supplied for) a collection describes a range
+     * of its backing store - checked before anything is copied so a corrupt count is reported
+     * instead of surfacing as an {@code ArrayIndexOutOfBoundsException},
+     * {@code NegativeArraySizeException}, or silent {@code null} padding
+     *
+     * @param aCollection
+     *     the collection being interrogated
+     * @param backingStoreFieldName
+     *     field name of the collection's backing store
+     * @param entryCount
+     *     the entry count
+     * @param firstIndex
+     *     backing store index of the first entry
+     * @param capacity
+     *     the length of the backing store
+     *
+     * @throws TestingException
+     *     if {@code entryCount} is negative or the entries would extend past the end of the
+     *     backing store
+     *
+     * @since 1.14
+     */
+    private static void verifyEntryCount( final Object aCollection,
+                                          final String backingStoreFieldName,
+                                          final int entryCount,
+                                          final int firstIndex,
+                                          final int capacity )
+        throws TestingException
+        {
+
+        if ( ( entryCount >= 0 ) && ( entryCount <= capacity - firstIndex ) )
+            {
+            return ;
+            }
+
+        throw new TestingException( String.format( "Failed to retrieve backing array from class %s, field %s: inconsistent instance state: entry count %,d is outside 0..%,d (capacity %,d%s)",
+                                                   aCollection.getClass()
+                                                              .getSimpleName(),
+                                                   backingStoreFieldName,
+                                                   entryCount,
+                                                   Math.max( 0, capacity - firstIndex ),
+                                                   capacity,
+                                                   0 == firstIndex
+                                                       ? ""
+                                                       : String.format( ", first entry at index %,d",
+                                                                        firstIndex ) ) ) ;
+
+        }   // end verifyEntryCount()
+
+
+    /**
+     * The live region of a circular-array-backed collection's backing store
+     *
+     * @param backingStore
+     *     the student's backing store - not a copy
+     * @param frontIndex
+     *     backing store index of the first entry
+     * @param entryCount
+     *     number of entries, starting at {@code frontIndex} and wrapping around to index 0 if
+     *     necessary
+     *
+     * @since 1.10
+     */
+    private record CircularState( Object[] backingStore,
+                                  int frontIndex,
+                                  int entryCount )
+        {
+        }
+
+
+    /**
+     * Retrieve and verify the backing store, front index, and entry count of a
+     * circular-array-backed collection - see all-arg
+     * {@code getContentsOfCircularArrayBackedDataset()} for the parameters and how the entry
+     * count is determined
+     *
+     * @param collectionToCopy
+     *     the collection to interrogate
+     * @param backingStoreFieldName
+     *     field name of the collection's backing store
+     * @param frontIndexFieldName
+     *     field name of the collection's front index
+     * @param backIndexFieldName
+     *     field name of the collection's back index or {@code NO_SUCH_FIELD}
+     * @param entryCountFieldName
+     *     field name of the collection's entry count or {@code NO_SUCH_FIELD}
+     * @param requestedEntryCount
+     *     expected number of entries in the collection - only used if non-negative
+     * @param backIndexIsInclusive
+     *     {@code BACK_INDEX_INCLUSIVE} or {@code BACK_INDEX_EXCLUSIVE}
+     *
+     * @return the verified state
+     *
+     * @throws TestingException
+     *     any wrapped exceptions which may be thrown by reflection or if the instance state is
+     *     inconsistent
+     *
+     * @since 1.10
+     */
+    private static CircularState resolveCircularState( final Object collectionToCopy,
+                                                       final String backingStoreFieldName,
+                                                       final String frontIndexFieldName,
+                                                       final String backIndexFieldName,
+                                                       final String entryCountFieldName,
+                                                       final int requestedEntryCount,
+                                                       final boolean backIndexIsInclusive )
+        throws TestingException
+        {
+
+        final boolean hasBackIndex = !NO_SUCH_FIELD.equals( backIndexFieldName ) ;
+        final boolean hasEntryCount = ( requestedEntryCount >= 0 ) ||
+                                      !NO_SUCH_FIELD.equals( entryCountFieldName ) ;
+
+        if ( !hasBackIndex && !hasEntryCount )
+            {
+            throw new TestingException( "bad test configuration: a circular-array-backed collection needs an entry count or a back index" ) ;
+            }
+
+        final Object[] backingStoreArray = getReferenceArray( collectionToCopy,
+                                                              backingStoreFieldName ) ;
+        final int capacity = backingStoreArray.length ;
+
+        final int frontIndex = getIntField( collectionToCopy, frontIndexFieldName ) ;
+
+        final Integer backIndex = hasBackIndex
+            ? getIntField( collectionToCopy, backIndexFieldName )
+            : null ;
+
+        int entryCount = requestedEntryCount ;
+
+        // get current entry count from the collection if not provided
+        if ( hasEntryCount )
+            {
+            entryCount = retrieveEntryCount( collectionToCopy,
+                                             entryCountFieldName,
+                                             entryCount ) ;
+            }
+        else if ( capacity > 0 )
+            {
+            entryCount = Math.floorMod( backIndex - frontIndex +
+                                        ( backIndexIsInclusive
+                                            ? 1
+                                            : 0 ),
+                                        capacity ) ;
+            }
+        else
+            {
+            entryCount = 0 ;
+            }
+
+        // verify the instance state before copying anything
+        String inconsistency = null ;
+
+        if ( ( entryCount < 0 ) || ( entryCount > capacity ) )
+            {
+            inconsistency = String.format( "entry count %,d is outside 0..capacity %,d",
+                                           entryCount,
+                                           capacity ) ;
+            }
+        else if ( ( frontIndex < 0 ) ||
+                  ( ( frontIndex >= capacity ) && ( 0 != frontIndex ) ) )
+            {
+            inconsistency = String.format( "front index %,d is outside the backing store (capacity %,d)",
+                                           frontIndex,
+                                           capacity ) ;
+            }
+        else if ( hasBackIndex && hasEntryCount && ( capacity > 0 ) )
+            {
+            final int expectedBackIndex = Math.floorMod( frontIndex + entryCount -
+                                                         ( backIndexIsInclusive
+                                                             ? 1
+                                                             : 0 ),
+                                                         capacity ) ;
+
+            if ( Math.floorMod( backIndex, capacity ) != expectedBackIndex )
+                {
+                inconsistency = String.format( "%s back index %,d does not match front index %,d and entry count %,d (expected %,d)",
+                                               backIndexIsInclusive
+                                                   ? "inclusive"
+                                                   : "exclusive",
+                                               backIndex,
+                                               frontIndex,
+                                               entryCount,
+                                               expectedBackIndex ) ;
+                }
+
+            }
+
+        if ( null != inconsistency )
+            {
+            throw new TestingException( String.format( "Failed to retrieve backing array from class %s, field %s, instance %s: inconsistent instance state: %s",
+                                                       collectionToCopy.getClass()
+                                                                       .getSimpleName(),
+                                                       backingStoreFieldName,
+                                                       collectionToCopy.toString(),
+                                                       inconsistency ) ) ;
+            }
+
+        return new CircularState( backingStoreArray, frontIndex, entryCount ) ;
+
+        }   // end resolveCircularState()
+
+
+    /**
+     * Locate the non-{@code null} slots outside a backing store's live region - shared by the
+     * array-backed, circular-array-backed, and plan-based loitering reference scans
+     * <p>
+     * the live region occupies {@code entryCount} slots starting at {@code frontIndex}, wrapping
+     * around to index 0 if necessary; it has already been verified to fit the backing store
+     *
+     * @param backingStore
+     *     the backing store
+     * @param frontIndex
+     *     the slot holding the first entry - 0 for an array-backed collection
+     * @param entryCount
+     *     the number of live slots
+     *
+     * @return the indices of the loitering references in ascending order
+     *
+     * @since 1.18
+     */
+    private static int[] collectLoiteringIndices( final Object[] backingStore,
+                                                  final int frontIndex,
+                                                  final int entryCount )
+        {
+
+        final int capacity = backingStore.length ;
+        final int liveEnd = frontIndex + entryCount ;
+
+        if ( liveEnd <= capacity )
+            {
+            // contiguous live region - stale slots lie before and after it
+            return collectNonNullIndices( backingStore,
+                                          liveEnd,
+                                          capacity,
+                                          collectNonNullIndices( backingStore,
+                                                                 0,
+                                                                 frontIndex,
+                                                                 new int[ 0 ] ) ) ;
+            }
+
+        // wrapped live region - stale slots lie between its end and its start
+        return collectNonNullIndices( backingStore,
+                                      liveEnd - capacity,
+                                      frontIndex,
+                                      new int[ 0 ] ) ;
+
+        }   // end collectLoiteringIndices()
+
+
+    /**
+     * Append the indices of the non-{@code null} slots in a range of an array to those found so
+     * far
+     *
+     * @param anArray
+     *     the array to scan
+     * @param fromIndex
+     *     first index to examine (inclusive)
+     * @param toIndex
+     *     last index to examine (exclusive)
+     * @param foundSoFar
+     *     indices found in earlier ranges
+     *
+     * @return {@code foundSoFar} followed by the newly found indices
+     *
+     * @since 1.10
+     */
+    private static int[] collectNonNullIndices( final Object[] anArray,
+                                                final int fromIndex,
+                                                final int toIndex,
+                                                final int[] foundSoFar )
+        {
+
+        int[] found = foundSoFar ;
+        int foundCount = foundSoFar.length ;
+
+        for ( int i = fromIndex ; i < toIndex ; i++ )
+            {
+
+            if ( null != anArray[ i ] )
+                {
+
+                if ( foundCount == found.length )
+                    {
+                    found = Arrays.copyOf( found, Math.max( 8, foundCount * 2 ) ) ;
+                    }
+
+                found[ foundCount++ ] = i ;
+                }
+
+            }
+
+        return foundCount == found.length
+            ? found
+            : Arrays.copyOf( found, foundCount ) ;
+
+        }   // end collectNonNullIndices()
+
+
+    /**
+     * Retrieve a reference array field from an instance
+     *
+     * @param anInstance
+     *     the instance to interrogate
+     * @param arrayFieldName
+     *     the name of the array field
+     *
+     * @return the array
+     *
+     * @throws TestingException
+     *     if the field can't be retrieved or doesn't reference an array of references
+     *
+     * @since 1.1
+     */
+    private static Object[] getReferenceArray( final Object anInstance,
+                                               final String arrayFieldName )
+        throws TestingException
+        {
+
+        final Object theArray = getReferenceField( anInstance, arrayFieldName ) ;
+
+        if ( theArray instanceof final Object[] referenceArray )
+            {
+            return referenceArray ;
+            }
+
+        throw new TestingException( String.format( "Failed to retrieve backing array from class %s, field %s: %s",
+                                                   anInstance.getClass()
+                                                             .getSimpleName(),
+                                                   arrayFieldName,
+                                                   null == theArray
+                                                       ? "field is null"
+                                                       : "field is a " +
+                                                         theArray.getClass()
+                                                                 .getSimpleName() +
+                                                         ", not an array of references" ) ) ;
+
+        }   // end getReferenceArray()
+
+
+    /**
+     * Copy the live entries of a primitive backing store - shared by the {@code int},
+     * {@code long}, {@code double}, and {@code char} extractors; the elements are copied with
+     * {@code System.arraycopy()} so none of them are boxed
+     *
+     * @param <A>
+     *     the primitive array type
+     * @param collectionToCopy
+     *     the collection to copy
+     * @param backingStoreFieldName
+     *     field name of the collection's backing store
+     * @param entryCountFieldName
+     *     field name of the collection's entry count (optional - defaults to "numberOfEntries" -
+     *     {@code NO_SUCH_FIELD} to copy the entire backing store)
+     * @param entryCount
+     *     expected number of entries in the collection - only used if non-negative
+     * @param arrayType
+     *     the expected primitive array type - e.g. {@code int[].class}
+     *
+     * @return array of the contents of {@code collectionToCopy} or {@code null} if
+     *     {@code collectionToCopy} is {@code null}
+     *
+     * @throws TestingException
+     *     any wrapped exceptions which may be thrown by reflection or if the entry count is
+     *     outside 0..capacity of the backing store
+     *
+     * @since 1.15
+     */
+    private static <A> A copyPrimitiveBackingStore( final Object collectionToCopy,
+                                                    final String backingStoreFieldName,
+                                                    final String entryCountFieldName,
+                                                    final int entryCount,
+                                                    final Class<A> arrayType )
+        throws TestingException
+        {
+
+        if ( null == collectionToCopy )
+            {
+            return null ;
+            }
+
+        final Object backingStoreArray = getPrimitiveArray( collectionToCopy,
+                                                            backingStoreFieldName,
+                                                            arrayType ) ;
+
+        final int useEntryCount = retrievePrimitiveEntryCount( collectionToCopy,
+                                                               backingStoreFieldName,
+                                                               entryCountFieldName,
+                                                               entryCount,
+                                                               Array.getLength( backingStoreArray ) ) ;
+
+        final Object collectionContents = Array.newInstance( arrayType.getComponentType(),
+                                                             useEntryCount ) ;
+
+        System.arraycopy( backingStoreArray,            // from
+                          0,
+                          collectionContents,           // to
+                          0,
+                          useEntryCount ) ;
+
+        return arrayType.cast( collectionContents ) ;
+
+        }   // end copyPrimitiveBackingStore()
+
+
+    /**
+     * Copy the live entries of a primitive backing store using a precompiled plan - at most two
+     * segments for a circular array, copied with {@code System.arraycopy()}
+     *
+     * @param <A>
+     *     the primitive array type
+     * @param collectionToCopy
+     *     the collection to copy
+     * @param layout
+     *     the {@code ARRAY} or {@code CIRCULAR_ARRAY} plan for {@code collectionToCopy}'s class
+     * @param arrayType
+     *     the expected primitive array type - e.g. {@code int[].class}
+     *
+     * @return array of the contents of {@code collectionToCopy} or {@code null} if
+     *     {@code collectionToCopy} is {@code null}
+     *
+     * @throws TestingException
+     *     if the plan doesn't apply to {@code collectionToCopy}, the backing store isn't an
+     *     {@code arrayType}, any wrapped exceptions which may be thrown by reflection, or if the
+     *     instance state is inconsistent
+     *
+     * @since 1.18
+     */
+    private static <A> A copyPrimitiveBackingStore( final Object collectionToCopy,
+                                                    final BackingStoreLayout layout,
+                                                    final Class<A> arrayType )
+        throws TestingException
+        {
+
+        if ( null == collectionToCopy )
+            {
+            return null ;
+            }
+
+        final Object backingStoreArray = layout.storeArray( collectionToCopy ) ;
+
+        if ( !arrayType.isInstance( backingStoreArray ) )
+            {
+            throw new TestingException( String.format( "Failed to retrieve backing array from class %s, field %s: field is a %s, not a %s",
+                                                       collectionToCopy.getClass()
+                                                                       .getSimpleName(),
+                                                       layout.storeFieldName(),
+                                                       backingStoreArray.getClass()
+                                                                        .getSimpleName(),
+                                                       arrayType.getSimpleName() ) ) ;
+            }
+
+        final int capacity = Array.getLength( backingStoreArray ) ;
+        final int[] liveRegion = layout.liveRegion( collectionToCopy, capacity ) ;
+        final int frontIndex = liveRegion[ 0 ] ;
+        final int entryCount = liveRegion[ 1 ] ;
+
+        final Object collectionContents = Array.newInstance( arrayType.getComponentType(),
+                                                             entryCount ) ;
+        final int frontSegmentLength = Math.min( entryCount, capacity - frontIndex ) ;
+
+        System.arraycopy( backingStoreArray,
+                          frontIndex,
+                          collectionContents,
+                          0,
+                          frontSegmentLength ) ;
+        System.arraycopy( backingStoreArray,
+                          0,
+                          collectionContents,
+                          frontSegmentLength,
+                          entryCount - frontSegmentLength ) ;
+
+        return arrayType.cast( collectionContents ) ;
+
+        }   // end plan copyPrimitiveBackingStore()
+
+
+    /**
+     * Retrieve a primitive array field from an instance
+     *
+     * @param anInstance
+     *     the instance to interrogate
+     * @param arrayFieldName
+     *     the name of the array field
+     * @param arrayType
+     *     the expected primitive array type - e.g. {@code int[].class}
+     *
+     * @return the array
+     *
+     * @throws TestingException
+     *     if the field can't be retrieved or doesn't reference an array of {@code arrayType}
+     *
+     * @since 1.5
+     */
+    private static Object getPrimitiveArray( final Object anInstance,
+                                             final String arrayFieldName,
+                                             final Class<?> arrayType )
+        throws TestingException
+        {
+
+        final Object theArray = getReferenceField( anInstance, arrayFieldName ) ;
+
+        if ( arrayType.isInstance( theArray ) )
+            {
+            return theArray ;
+            }
+
+        throw new TestingException( String.format( "Failed to retrieve backing array from class %s, field %s: %s",
+                                                   anInstance.getClass()
+                                                             .getSimpleName(),
+                                                   arrayFieldName,
+                                                   null == theArray
+                                                       ? "field is null"
+                                                       : "field is a " +
+                                                         theArray.getClass()
+                                                                 .getSimpleName() +
+                                                         ", not a " +
+                                                         arrayType.getSimpleName() ) ) ;
+
+        }   // end getPrimitiveArray()
+
+
+    /**
+     * Determine how many elements of a primitive backing store hold entries
+     *
+     * @param collectionToCopy
+     *     the collection to interrogate
+     * @param backingStoreFieldName
+     *     field name of the collection's backing store - for error reporting
+     * @param entryCountFieldName
+     *     field name of the collection's entry count (optional - defaults to "numberOfEntries" -
+     *     {@code NO_SUCH_FIELD} for the entire backing store)
+     * @param entryCount
+     *     expected number of entries in the collection - only used if non-negative
+     * @param capacity
+     *     the length of the backing store
+     *
+     * @return the number of entries
+     *
+     * @throws TestingException
+     *     any wrapped exceptions which may be thrown by reflection or if the entry count is
+     *     outside 0..{@code capacity}
+     *
+     * @since 1.5
+     */
+    private static int retrievePrimitiveEntryCount( final Object collectionToCopy,
+                                                    final String backingStoreFieldName,
+                                                    final String entryCountFieldName,
+                                                    final int entryCount,
+                                                    final int capacity )
+        throws TestingException
+        {
+
+        final int useEntryCount = ( ( entryCount < 0 ) &&
+                                    NO_SUCH_FIELD.equals( entryCountFieldName ) )
+            ? capacity
+            : retrieveEntryCount( collectionToCopy,
+                                  null == entryCountFieldName
+                                      ? "numberOfEntries"
+                                      : entryCountFieldName,
+                                  entryCount ) ;
+
+        verifyEntryCount( collectionToCopy,
+                          backingStoreFieldName,
+                          useEntryCount,
+                          0,
+                          capacity ) ;
+
+        return useEntryCount ;
+
+        }   // end retrievePrimitiveEntryCount()
+
+
+    /**
+     * Resolve a named field for an instance, reusing a previously resolved field when it applies
+     * <p>
+     * avoids repeating the {@code getDeclaredField()} search for every node in a large structure
+     * <p>
+     * a field resolved for one class is only reused for another class through
+     * {@code RESOLVED_FIELDS}, which is keyed by the concrete class - a subclass which shadows a
+     * superclass field of the same name resolves to its own field
+     *
+     * @param cachedField
+     *     the field resolved for a previous instance or {@code null}
+     * @param anInstance
+     *     the instance to interrogate
+     * @param fieldName
+     *     the name of the field
+     *
+     * @return {@code cachedField} if it is declared by {@code anInstance}'s class; otherwise, the
+     *     field {@code anInstance}'s class resolves {@code fieldName} to
+     *
+     * @throws TestingException
+     *     any wrapped exceptions which may be thrown by reflection
+     *
+     * @since 1.1
+     */
+    static Field resolveField( final Field cachedField,
+                               final Object anInstance,
+                               final String fieldName )
+        throws TestingException
+        {
+
+        final Class<?> instanceClass = anInstance.getClass() ;
+
+        // declared by the concrete class itself so nothing can shadow it
+        if ( ( null != cachedField ) &&
+             ( cachedField.getDeclaringClass() == instanceClass ) &&
+             cachedField.getName().equals( fieldName ) )
+            {
+            return cachedField ;
+            }
+
+        final Map<String, Field> classFields = RESOLVED_FIELDS.get( instanceClass ) ;
+        final Field resolvedField = classFields.get( fieldName ) ;
+
+        if ( null != resolvedField )
+            {
+            return resolvedField ;
+            }
+
+        final Field newlyResolvedField = getField( anInstance, fieldName, "reference" ) ;
+        classFields.putIfAbsent( fieldName, newlyResolvedField ) ;
+
+        return newlyResolvedField ;
+
+        }   // end resolveField()
+
+
+    /** fields resolved by {@code resolveField()} - by the instances' concrete class, then by name */
+    private final static ClassValue<Map<String, Field>> RESOLVED_FIELDS = new ClassValue<>()
+        {
+
+        @Override
+        protected Map<String, Field> computeValue( final Class<?> instanceClass )
+            {
+
+            return new ConcurrentHashMap<>() ;
+
+            }   // end computeValue()
+
+        } ;
+
+
+    /**
+     * Retrieve the value of a resolved reference field from an instance
+     *
+     * @param theField
+     *     the field to read
+     * @param anInstance
+     *     the instance to interrogate
+     *
+     * @return the value stored in the field
+     *
+     * @throws TestingException
+     *     any wrapped exceptions which may be thrown by reflection
+     *
+     * @since 1.1
+     */
+    static Object readReferenceField( final Field theField,
+                                      final Object anInstance )
+        throws TestingException
+        {
+
+        try
+            {
+            return theField.get( anInstance ) ;
+            }
+        catch ( IllegalArgumentException | IllegalAccessException e )
+            {
+            throw new TestingException( String.format( "Failed to retrieve reference value from class %s, field %s: %s%s%s",
+                                                       anInstance.getClass()
+                                                                 .getSimpleName(),
+                                                       theField.getName(),
+                                                       e.getClass()
+                                                        .getSimpleName(),
+                                                       ( null == e.getMessage()
+                                                           ? ""
+                                                           : ": " ),
+                                                       ( null == e.getMessage()
+                                                           ? ""
+                                                           : e.getMessage() ) ),
+                                        e ) ;
+            }
+
+        }   // end readReferenceField()
+
+
+    /**
+     * Count one occurrence of a probe length, growing the histogram as needed
+     *
+     * @param histogram
+     *     the current histogram
+     * @param probeLength
+     *     the probe length to count
+     *
+     * @return {@code histogram} or its enlarged replacement
+     *
+     * @since 1.1
+     */
+    private static int[] tallyProbeLength( int[] histogram,
+                                           final int probeLength )
+        {
+
+        if ( probeLength >= histogram.length )
+            {
+            histogram = Arrays.copyOf( histogram,
+                                       Math.max( histogram.length * 2,
+                                                 probeLength + 1 ) ) ;
+            }
+
+        histogram[ probeLength ]++ ;
+
+        return histogram ;
+
+        }   // end tallyProbeLength()
+
     }   // end class ReflectBackingStores
\ No newline at end of file
@@ -0,0 +1,137 @@
+/* @formatter:off
+ *
+ * © David M Rosenberg, The Software Toolsmith (education)
+ *
+ * This file is part of the Testing Framework for Java.
+ * Repository: https://github.com/The-Software-Toolsmith/testing-framework-for-java
+ *
+ * Licensed under the Creative Commons Attribution-NonCommercial 4.0 International License.
+ * You may obtain a copy of the license at:
+ *     https://creativecommons.org/licenses/by-nc/4.0/
+ *
+ * You may use, share, and adapt this file for non-commercial purposes,
+ * provided you give appropriate credit.
+ *
+ * @formatter:on
+ */
+
+
+package education.the_software_toolsmith.testing.framework ;
+
+import java.util.List ;
+
+/**
+ * The estimated memory footprint of everything reachable from a root object, broken down by
+ * class
+ * <p>
+ * sizes are estimates from a model of the running JVM's object layout (header size, reference
+ * size, and alignment) - they are consistent across runs and across implementations, which is
+ * what grading space requirements needs, but may differ slightly from a heap dump
+ *
+ * @param totalBytes
+ *     the sum of the shallow sizes of all reachable objects
+ * @param objectCount
+ *     the number of reachable objects, including arrays
+ * @param footprints
+ *     per-class totals, largest first
+ * @param opaqueObjectCount
+ *     the number of objects whose size was counted but whose references couldn't be followed
+ *     (e.g. instances of encapsulated JDK classes) - if non-zero, {@code totalBytes} is a lower
+ *     bound
+ *
+ * @author David M Rosenberg
+ *
+ * @version 1.0 2026-10-18 Initial implementation
+ */
+public record RetainedSize( long totalBytes,
+                            int objectCount,
+                            List<ClassFootprint> footprints,
+                            int opaqueObjectCount )
+    {
+
+
+    /**
+     * The instances of one class reachable from the root
+     *
+     * @param type
+     *     the class (or array type)
+     * @param instanceCount
+     *     the number of reachable instances
+     * @param totalBytes
+     *     the sum of their shallow sizes
+     *
+     * @since 1.0
+     */
+    public record ClassFootprint( Class<?> type,
+                                  int instanceCount,
+                                  long totalBytes )
+        {
+
+
+        /**
+         * the average shallow size of an instance - constant for a class, varies for arrays
+         *
+         * @return the average number of bytes per instance
+         *
+         * @since 1.0
+         */
+        public double averageBytes()
+            {
+
+            return (double) this.totalBytes / this.instanceCount ;
+
+            }   // end averageBytes()
+
+        }   // end record ClassFootprint
+
+
+    /**
+     * the cost of the structure amortized over its entries - e.g. to compare a student's linked
+     * list's per-node overhead with a reference implementation's
+     *
+     * @param elementCount
+     *     the number of entries in the structure
+     *
+     * @return {@code totalBytes} divided by {@code elementCount} or {@code totalBytes} if
+     *     {@code elementCount} isn't positive
+     *
+     * @since 1.0
+     */
+    public double bytesPerElement( final int elementCount )
+        {
+
+        return elementCount <= 0
+            ? this.totalBytes
+            : (double) this.totalBytes / elementCount ;
+
+        }   // end bytesPerElement()
+
+
+    /**
+     * Look up the footprint of one class
+     *
+     * @param type
+     *     the class (or array type) of interest
+     *
+     * @return its footprint or {@code null} if no instances were reachable
+     *
+     * @since 1.0
+     */
+    public ClassFootprint footprintOf( final Class<?> type )
+        {
+
+        for ( final ClassFootprint footprint : this.footprints )
+            {
+
+            if ( type == footprint.type() )
+                {
+                return footprint ;
+                }
+
+            }
+
+        return null ;
+
+        }   // end footprintOf()
+
+    }   // end record RetainedSize
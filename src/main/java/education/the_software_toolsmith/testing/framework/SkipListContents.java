@@ -0,0 +1,116 @@
+/* @formatter:off
+ *
+ * © David M Rosenberg, The Software Toolsmith (education)
+ *
+ * This file is part of the Testing Framework for Java.
+ * Repository: https://github.com/The-Software-Toolsmith/testing-framework-for-java
+ *
+ * Licensed under the Creative Commons Attribution-NonCommercial 4.0 International License.
+ * You may obtain a copy of the license at:
+ *     https://creativecommons.org/licenses/by-nc/4.0/
+ *
+ * You may use, share, and adapt this file for non-commercial purposes,
+ * provided you give appropriate credit.
+ *
+ * @formatter:on
+ */
+
+
+package education.the_software_toolsmith.testing.framework ;
+
+import java.util.Arrays ;
+
+/**
+ * The entries extracted from a skip list along with the number of nodes linked at each level
+ * <p>
+ * {@code equals()}, {@code hashCode()}, and {@code toString()} use the arrays' contents rather
+ * than their identities
+ *
+ * @param contents
+ *     the data from the level 0 chain, in order
+ * @param levelOccupancy
+ *     element {@code i} is the number of nodes linked at level {@code i} - element 0 is the
+ *     number of entries
+ *
+ * @author David M Rosenberg
+ *
+ * @version 1.0 2026-10-18 Initial implementation
+ * @version 1.1 2026-10-19 compare, hash, and format the array components by content
+ */
+public record SkipListContents( Object[] contents,
+                                int[] levelOccupancy )
+    {
+
+
+    /**
+     * the number of levels the head node supports
+     *
+     * @return the number of levels
+     *
+     * @since 1.0
+     */
+    public int levelCount()
+        {
+
+        return this.levelOccupancy.length ;
+
+        }   // end levelCount()
+
+
+    /**
+     * the highest level with at least one node
+     *
+     * @return the index of the highest occupied level or -1 if the skip list is empty
+     *
+     * @since 1.0
+     */
+    public int highestOccupiedLevel()
+        {
+
+        for ( int level = this.levelOccupancy.length - 1 ; level >= 0 ; level-- )
+            {
+
+            if ( this.levelOccupancy[ level ] > 0 )
+                {
+                return level ;
+                }
+
+            }
+
+        return -1 ;
+
+        }   // end highestOccupiedLevel()
+
+
+    @Override
+    public boolean equals( final Object otherObject )
+        {
+
+        return ( otherObject instanceof final SkipListContents otherContents ) &&
+               Arrays.deepEquals( this.contents, otherContents.contents ) &&
+               Arrays.equals( this.levelOccupancy, otherContents.levelOccupancy ) ;
+
+        }   // end equals()
+
+
+    @Override
+    public int hashCode()
+        {
+
+        return ( 31 * Arrays.deepHashCode( this.contents ) ) +
+               Arrays.hashCode( this.levelOccupancy ) ;
+
+        }   // end hashCode()
+
+
+    @Override
+    public String toString()
+        {
+
+        return String.format( "SkipListContents[contents=%s, levelOccupancy=%s]",
+                              Arrays.deepToString( this.contents ),
+                              Arrays.toString( this.levelOccupancy ) ) ;
+
+        }   // end toString()
+
+    }   // end record SkipListContents
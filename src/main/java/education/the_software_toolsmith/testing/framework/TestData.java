@@ -20,8 +20,20 @@ package education.the_software_toolsmith.testing.framework ;
 
 import static education.the_software_toolsmith.testing.framework.Reflection.isArray ;
 
+import java.io.IOException ;
+import java.io.UncheckedIOException ;
 import java.lang.reflect.Array ;
+import java.text.DecimalFormat ;
+import java.text.DecimalFormatSymbols ;
+import java.text.NumberFormat ;
+import java.util.ArrayList ;
 import java.util.Arrays ;
+import java.util.List ;
+import java.util.Locale ;
+import java.util.Objects ;
+import java.util.concurrent.ForkJoinPool ;
+import java.util.concurrent.ForkJoinTask ;
+import java.util.concurrent.atomic.AtomicInteger ;
 
 /**
  * Utility class for testing: data collection manipulations.
@@ -113,6 +125,55 @@ import java.util.Arrays ;
  *     </ul>
  * @version 6.0.1 2025-07-18 swap operands to '==' and '!=' when comparing against a constant so the
  *     constant is the left operand
+ * @version 6.1 2026-10-18 add {@code compareDatasets()} for int, long, double, and char datasets
+ *     which compares the elements without boxing them
+ * @version 6.2 2026-10-18 add {@code compareDatasets()} for flattened multi-dimensional arrays in
+ *     row-major or column-major order
+ * @version 6.3 2026-10-18 add {@code appendDataset()} - {@code datasetToString()} no longer formats
+ *     the whole dataset to show its first and last elements
+ * @version 6.4 2026-10-18 add {@code appendItem()} which writes common types without
+ *     {@code String.format()}
+ * @version 6.5 2026-10-18 add {@code appendArray()} which formats primitive arrays without boxing
+ *     their elements
+ * @version 6.6 2026-10-18 compare unordered datasets by counting occurrences rather than sorting -
+ *     supports non-{@code Comparable} and {@code null} elements and reports all missing and extra
+ *     elements
+ * @version 6.7 2026-10-18 add {@code REPORT_DIFFERENCES} mode to {@code compareDatasets()} which
+ *     reports a minimal edit script for ordered datasets
+ * @version 6.8 2026-10-18 compare datasets with at least {@code DEFAULT_PARALLEL_THRESHOLD} elements
+ *     on the common fork-join pool
+ * @version 6.9 2026-10-18 add {@code DatasetIndex} overloads of {@code compareDatasets()},
+ *     {@code countOccurrences()}, and {@code datasetContains()}; unordered comparisons use a
+ *     {@code DatasetIndex}
+ * @version 6.10 2026-10-18 add {@code IntDataset}, {@code LongDataset}, and {@code DoubleDataset}
+ *     overloads of {@code compareDatasets()}, {@code datasetToString()},
+ *     {@code countOccurrences()}, and {@code datasetContains()}
+ * @version 6.11 2026-10-18 add epsilon- and ULP-tolerant ordered comparisons of {@code double[]}
+ *     and {@code float[]} datasets
+ * @version 6.12 2026-10-18 add {@code Tolerance} overloads of {@code compareDatasets()} for
+ *     {@code double[]}, {@code float[]}, and {@code Object[]} datasets, including nested arrays
+ * @version 6.13 2026-10-18 add {@code datasetFingerprint()} and {@code DatasetFingerprint}
+ *     overloads of {@code compareDatasets()}
+ * @version 6.14 2026-10-18 compare, format, and search {@code LongRange}s without expanding them
+ * @version 6.15 2026-10-19 format every element exactly once when the leading and trailing
+ *     elements of a truncated dataset would overlap
+ * @version 6.16 2026-10-19 hash each element once in the parallel unordered comparison instead
+ *     of once per partition
+ * @version 6.17 2026-10-19 {@code compareNestedArrays()} is void - it only ever reported a
+ *     mismatch by throwing
+ * @version 6.18 2026-10-19 add {@code LAZY_RANGES} and {@code EXPANDED_RANGES}
+ * @version 6.19 2026-10-19 the epsilon and ULP {@code double[]}/{@code float[]} comparisons only
+ *     delegate to the {@code Tolerance} overloads
+ * @version 6.20 2026-10-19
+ *     <ul>
+ *     <li>{@code Object[]} datasets are compared in parallel only when the caller passes a
+ *     parallel threshold, so elements' {@code equals()} and {@code hashCode()} otherwise run on
+ *     the caller's thread alone
+ *     <li>add a {@code compareDatasets()} overload which runs on a caller-supplied
+ *     {@code ForkJoinPool}
+ *     <li>the parallel unordered comparison groups the elements by partition once rather than
+ *     having every partition scan every hash
+ *     </ul>
  *
  * @since 5.6
  */
@@ -137,6 +198,29 @@ public class TestData
      */
     public final static int DEFAULT_DATASET_TO_STRING_ELEMENTS = 50 ;
 
+    /*
+     * constants for use with TestingBase.startTest()
+     */
+    /**
+     * flag that an argument whose entries are all numbers should be parsed into a
+     * {@code LongDataset} or {@code DoubleDataset} - paired with OBJECT_DATASETS
+     */
+    public final static boolean NUMERIC_DATASETS = true ;
+    /**
+     * flag that every argument should be parsed into an {@code Object[]} - paired with
+     * NUMERIC_DATASETS
+     */
+    public final static boolean OBJECT_DATASETS = false ;
+    /**
+     * flag that an argument which is a single range should be parsed into a lazy
+     * {@code LongRange} - paired with EXPANDED_RANGES
+     */
+    public final static boolean LAZY_RANGES = true ;
+    /**
+     * flag that every range should be expanded into the parsed dataset - paired with LAZY_RANGES
+     */
+    public final static boolean EXPANDED_RANGES = false ;
+
 
     /**
      * Return a limited portion of a text representation of a dataset
@@ -170,7 +254,7 @@ public class TestData
      *
      * @return if the full text representation has no more than maximumLength characters, the full
      *     text; otherwise the first maximumElements / 2 elements followed by " ... " then the last
-     *     maximumElements / 2 elements
+     *     maximumElements / 2 elements - or the full text if those would include every element
      * 
      * @since 6.0
      */
@@ -179,38 +263,368 @@ public class TestData
                                           final int maximumElements )
         {
 
-        final String fullString = datasetToFullString( theDataset ) ;
+        if ( null == theDataset )
+            {
+            return null ;
+            }
+
+        return appendDataset( new StringBuilder(),
+                              theDataset,
+                              maximumLength,
+                              maximumElements ).toString() ;
+
+        }   // end 3-arg datasetToString()
+
+
+    /**
+     * Return a limited portion of a text representation of a numeric dataset
+     *
+     * @param theDataset
+     *     the dataset to convert to text
+     *
+     * @return the result of
+     *     {@code datasetToString( theDataset, DEFAULT_DATASET_TO_STRING_LENGTH, DEFAULT_DATASET_TO_STRING_ELEMENTS )}
+     *
+     * @since 6.10
+     */
+    public static String datasetToString( final NumericDataset theDataset )
+        {
+
+        return datasetToString( theDataset,
+                                DEFAULT_DATASET_TO_STRING_LENGTH,
+                                DEFAULT_DATASET_TO_STRING_ELEMENTS ) ;
+
+        }   // end 1-arg NumericDataset datasetToString()
+
+
+    /**
+     * Return a limited portion of a text representation of a numeric dataset - the same text as
+     * the boxed dataset would produce, formatted without boxing
+     *
+     * @param theDataset
+     *     the dataset to convert to text
+     * @param maximumLength
+     *     the maximum number of characters to return
+     * @param maximumElements
+     *     the maximum number of elements to return
+     *
+     * @return see 3-arg {@code datasetToString( Object[], int, int )}
+     *
+     * @since 6.10
+     */
+    public static String datasetToString( final NumericDataset theDataset,
+                                          final int maximumLength,
+                                          final int maximumElements )
+        {
 
-        if ( ( null == fullString ) ||
-             ( fullString.length() <= maximumLength ) )
+        if ( null == theDataset )
             {
-            return fullString ;
+            return null ;
             }
 
-        final int halfCount = maximumElements / 2 ;
-        final StringBuilder partsString = new StringBuilder( "[" ) ;
+        final StringBuilder text = new StringBuilder() ;
 
-        for ( int i = 0 ; i < halfCount ; i++ )
+        switch ( theDataset )
             {
-            partsString.append( itemToString( theDataset[ i ] ) ) ;
-            partsString.append( ", " ) ;
+            case IntDataset( int[] ints )
+                -> appendArray( text, ints, maximumLength, maximumElements ) ;
+            case LongDataset( long[] longs )
+                -> appendArray( text, longs, maximumLength, maximumElements ) ;
+            case DoubleDataset( double[] doubles )
+                -> appendArray( text, doubles, maximumLength, maximumElements ) ;
+            case final LongRange range
+                -> {
+                // only the elements which appear in the text are computed
+                try
+                    {
+                    appendBounded( text,
+                                   range.length(),
+                                   maximumLength,
+                                   maximumElements,
+                                   index -> appendGroupedInteger( text, range.get( index ) ) ) ;
+                    }
+                catch ( final IOException e )
+                    {
+                    // a StringBuilder doesn't throw
+                    throw new UncheckedIOException( e ) ;
+                    }
+                }
             }
 
-        partsString.append( "..." ) ;
+        return text.toString() ;
+
+        }   // end 3-arg NumericDataset datasetToString()
+
+
+    /**
+     * Append a limited portion of a text representation of a dataset to a (reusable) buffer
+     * <p>
+     * produces the same text as {@code datasetToString( theDataset, maximumLength,
+     * maximumElements )} but stops formatting elements as soon as the text is known to exceed
+     * {@code maximumLength} - only the leading and trailing elements which will appear in the
+     * truncated text are formatted, regardless of the size of the dataset
+     *
+     * @param destination
+     *     the buffer to append to - its existing contents are left alone
+     * @param theDataset
+     *     the dataset to convert to text
+     * @param maximumLength
+     *     the maximum number of characters to append
+     * @param maximumElements
+     *     the maximum number of elements to append
+     *
+     * @return {@code destination}
+     *
+     * @since 6.3
+     */
+    public static StringBuilder appendDataset( final StringBuilder destination,
+                                               final Object[] theDataset,
+                                               final int maximumLength,
+                                               final int maximumElements )
+        {
+
+        return appendArray( destination, theDataset, maximumLength, maximumElements ) ;
+
+        }   // end appendDataset()
+
+
+    /**
+     * Append a limited portion of a text representation of an array of references or primitives
+     * to a (reusable) buffer
+     * <p>
+     * same text and truncation as {@code appendDataset()}; elements of primitive arrays are read
+     * and formatted directly - they aren't boxed and the array isn't copied - so only the elements
+     * which appear in the text are examined
+     *
+     * @param destination
+     *     the buffer to append to - its existing contents are left alone
+     * @param anArray
+     *     the array to convert to text
+     * @param maximumLength
+     *     the maximum number of characters to append
+     * @param maximumElements
+     *     the maximum number of elements to append
+     *
+     * @return {@code destination}
+     *
+     * @throws IllegalArgumentException
+     *     if {@code anArray} isn't an array
+     *
+     * @since 6.5
+     */
+    public static StringBuilder appendArray( final StringBuilder destination,
+                                             final Object anArray,
+                                             final int maximumLength,
+                                             final int maximumElements )
+        {
+
+        final ElementAppender elementAppender = switch ( anArray )
+            {
+            case null
+                -> null ;
+            case final Object[] references
+                -> index -> appendItem( destination, references[ index ] ) ;
+            case final int[] ints
+                -> index -> appendGroupedInteger( destination, ints[ index ] ) ;
+            case final long[] longs
+                -> index -> appendGroupedInteger( destination, longs[ index ] ) ;
+            case final short[] shorts
+                -> index -> appendGroupedInteger( destination, shorts[ index ] ) ;
+            case final byte[] bytes
+                -> index -> appendGroupedInteger( destination, bytes[ index ] ) ;
+            case final double[] doubles
+                -> index -> appendGroupedFixedPoint( destination, doubles[ index ] ) ;
+            case final float[] floats
+                -> index -> appendGroupedFixedPoint( destination, floats[ index ] ) ;
+            case final char[] chars
+                -> index -> destination.append( '\'' ).append( chars[ index ] ).append( '\'' ) ;
+            case final boolean[] booleans
+                -> index -> destination.append( booleans[ index ] ) ;
+            default
+                -> throw new IllegalArgumentException( String.format( "not an array: %s",
+                                                                      anArray.getClass()
+                                                                             .getSimpleName() ) ) ;
+            } ;
+
+        if ( null == elementAppender )
+            {
+            return destination.append( "null" ) ;
+            }
 
-        for ( int i = theDataset.length - halfCount ;
-              i < theDataset.length ;
-              i++ )
+        try
             {
-            partsString.append( ", " ) ;
-            partsString.append( itemToString( theDataset[ i ] ) ) ;
+            appendBounded( destination,
+                           Array.getLength( anArray ),
+                           maximumLength,
+                           maximumElements,
+                           elementAppender ) ;
+            }
+        catch ( final IOException e )
+            {
+            // a StringBuilder doesn't throw
+            throw new UncheckedIOException( e ) ;
             }
 
-        partsString.append( "]" ) ;
+        return destination ;
 
-        return partsString.toString() ;
+        }   // end appendArray()
 
-        }   // end 3-arg datasetToString()
+
+    /**
+     * Writes the text for one element of an array
+     *
+     * @since 6.5
+     */
+    @FunctionalInterface
+    private interface ElementAppender
+        {
+
+        /**
+         * Append the text for an element
+         *
+         * @param index
+         *     the element's index
+         *
+         * @throws IOException
+         *     if the destination does
+         */
+        void append( int index ) throws IOException ;
+
+        }   // end interface ElementAppender
+
+
+    /**
+     * Append the full text for {@code elementCount} elements if it fits in {@code maximumLength}
+     * characters, otherwise the leading and trailing {@code maximumElements / 2} elements -
+     * formatting the elements in order until the text can't fit, then only those which remain to
+     * be shown
+     * <p>
+     * if the leading and trailing elements would cover every element, nothing could be elided so
+     * the full text is appended regardless of its length - each element appears exactly once
+     *
+     * @param destination
+     *     the buffer to append to
+     * @param elementCount
+     *     the number of elements
+     * @param maximumLength
+     *     the maximum number of characters to append
+     * @param maximumElements
+     *     the maximum number of elements to append
+     * @param elementAppender
+     *     writes an element's text to {@code destination}
+     *
+     * @throws IOException
+     *     if {@code elementAppender} does
+     *
+     * @since 6.5
+     */
+    private static void appendBounded( final StringBuilder destination,
+                                       final int elementCount,
+                                       final int maximumLength,
+                                       final int maximumElements,
+                                       final ElementAppender elementAppender )
+        throws IOException
+        {
+
+        final int start = destination.length() ;
+        final int halfCount = Math.max( 0, maximumElements / 2 ) ;
+
+        if ( 2L * halfCount >= elementCount )
+            {
+            destination.append( '[' ) ;
+
+            for ( int i = 0 ; i < elementCount ; i++ )
+                {
+
+                if ( i > 0 )
+                    {
+                    destination.append( ", " ) ;
+                    }
+
+                elementAppender.append( i ) ;
+                }
+
+            destination.append( ']' ) ;
+
+            return ;
+            }
+
+        // position just past the delimiter following the last leading element
+        int headEnd = start + 1 ;
+
+        destination.append( '[' ) ;
+
+        // optimistically format the full text until it can't fit, keeping the leading elements
+        int i = 0 ;
+
+        while ( i < elementCount )
+            {
+
+            if ( i > 0 )
+                {
+                destination.append( ", " ) ;
+                }
+
+            if ( i == halfCount )
+                {
+                headEnd = destination.length() ;
+                }
+
+            elementAppender.append( i++ ) ;
+
+            // +1 for the closing ']'
+            if ( destination.length() - start + 1 > maximumLength )
+                {
+                break ;
+                }
+
+            }
+
+        if ( ( i == elementCount ) &&
+             ( destination.length() - start + 1 <= maximumLength ) )
+            {
+            destination.append( ']' ) ;
+
+            return ;
+            }
+
+        // too long - keep (or finish) the leading elements then skip to the trailing elements
+        if ( i > halfCount )
+            {
+            destination.setLength( headEnd ) ;
+            }
+        else
+            {
+
+            while ( i < halfCount )
+                {
+
+                if ( i > 0 )
+                    {
+                    destination.append( ", " ) ;
+                    }
+
+                elementAppender.append( i++ ) ;
+                }
+
+            if ( halfCount > 0 )
+                {
+                destination.append( ", " ) ;
+                }
+
+            }
+
+        destination.append( "..." ) ;
+
+        for ( int j = elementCount - halfCount ; j < elementCount ; j++ )
+            {
+            destination.append( ", " ) ;
+            elementAppender.append( j ) ;
+            }
+
+        destination.append( ']' ) ;
+
+        }   // end appendBounded()
 
 
     /**
@@ -295,108 +709,622 @@ public class TestData
             return "null" ;
             }
 
-        if ( isArray( item.getClass() ) )
+        final StringBuilder itemString = new StringBuilder() ;
+        appendItem( itemString, item ) ;
+
+        return itemString.toString() ;
+
+        }   // end itemToString()
+
+
+    /**
+     * Append an {@code item}'s text representation, delimited appropriately - the same text as
+     * {@code itemToString( item )}
+     * <p>
+     * Strings, Characters, integral and floating point numbers, and Booleans are written directly
+     * to {@code destination} rather than through {@code String.format()}; numbers are grouped and
+     * use the separators of the default locale exactly as {@code "%,d"} and {@code "%,f"} would
+     *
+     * @param destination
+     *     where to write the text
+     * @param item
+     *     the object to convert
+     *
+     * @throws UncheckedIOException
+     *     if {@code destination} throws an {@code IOException}
+     *
+     * @since 6.4
+     */
+    public static void appendItem( final Appendable destination,
+                                   final Object item )
+        {
+
+        try
             {
-            final int itemCount = Array.getLength( item ) ;
-            final Object[] items = new Object[ itemCount ] ;
 
-            for ( int i = 0 ; i < itemCount ; i++ )
+            switch ( item )
                 {
-                items[ i ] = Array.get( item, i ) ;
+                case null
+                    -> destination.append( "null" ) ;
+                case final String aString
+                    -> destination.append( '"' ).append( aString ).append( '"' ) ;
+                case final Character aCharacter
+                    -> destination.append( '\'' ).append( aCharacter ).append( '\'' ) ;
+                case final Long aLong
+                    -> appendGroupedInteger( destination, aLong ) ;
+                case final Integer anInteger
+                    -> appendGroupedInteger( destination, anInteger ) ;
+                case final Short aShort
+                    -> appendGroupedInteger( destination, aShort ) ;
+                case final Byte aByte
+                    -> appendGroupedInteger( destination, aByte ) ;
+                case final Double aDouble
+                    -> appendGroupedFixedPoint( destination, aDouble ) ;
+                case final Float aFloat
+                    -> appendGroupedFixedPoint( destination, aFloat ) ;
+                case final Boolean aBoolean
+                    -> destination.append( aBoolean ? "true" : "false" ) ;
+                default
+                    -> appendOtherItem( destination, item ) ;
                 }
 
-            return datasetToString( items ) ;
+            }
+        catch ( final IOException e )
+            {
+            throw new UncheckedIOException( e ) ;
             }
 
-        final String stringDelimiter = "\"" ;
-        final String charDelimiter = "'" ;
-        String useDelimiter = "" ;
+        }   // end appendItem()
 
-        String conversionSpecifier = "%s" ;
 
-        switch ( item )
-            {
-            case final String _
-                -> useDelimiter = stringDelimiter ;
-            case final Character _
-                -> useDelimiter = charDelimiter ;
-            case final Long _,final Integer _,final Short _,final Byte _
-                -> conversionSpecifier = "%,d" ;
-            case final Double _,final Float _
-                -> conversionSpecifier = "%,f" ;
-            case final Boolean _
-                ->
-                { /* noop - use default %s */ }
-            // can't have null here
-            default
-                ->
-                { /* all others - noop - use default %s */ }
-            }
+    /**
+     * Append the text of an array or an item of a type without a fast path
+     *
+     * @param destination
+     *     where to write the text
+     * @param item
+     *     the object to convert
+     *
+     * @throws IOException
+     *     if {@code destination} does
+     *
+     * @since 6.5
+     */
+    private static void appendOtherItem( final Appendable destination,
+                                         final Object item )
+        throws IOException
+        {
 
-        return String.format( "%s" + conversionSpecifier + "%s",
-                              useDelimiter,
-                              item,
-                              useDelimiter ) ;
+        if ( !isArray( item.getClass() ) )
+            {
+            destination.append( String.format( "%s", item ) ) ;
 
-        }   // end itemToString()
+            return ;
+            }
 
+        // arrays are formatted in place when possible
+        if ( destination instanceof final StringBuilder builder )
+            {
+            appendArray( builder,
+                         item,
+                         DEFAULT_DATASET_TO_STRING_LENGTH,
+                         DEFAULT_DATASET_TO_STRING_ELEMENTS ) ;
 
-    /*
-     * constants for use with compareDatasets()
-     */
+            return ;
+            }
 
+        destination.append( appendArray( new StringBuilder(),
+                                         item,
+                                         DEFAULT_DATASET_TO_STRING_LENGTH,
+                                         DEFAULT_DATASET_TO_STRING_ELEMENTS ) ) ;
 
-    /**
-     * flag that dataset is ordered and may not be reordered for comparison - paired with
-     * IS_UNORDERED
-     */
-    public final static boolean IS_ORDERED = true ;
-    /**
-     * flag that dataset is unordered and may be reordered for comparison - paired with IS_ORDERED
-     */
-    public final static boolean IS_UNORDERED = false ;
-    /**
-     * flag that dataset comparison should test for equal, not identical, instances - paired with
-     * COMPARE_IDENTITY
-     */
-    public final static boolean COMPARE_EQUALITY = true ;
-    /**
-     * flag that dataset comparison should test for identical instances, implicitly equal - paired
-     * with COMPARE_EQUALITY
-     */
-    public final static boolean COMPARE_IDENTITY = false ;
+        }   // end appendOtherItem()
 
 
     /**
-     * Determine if two datasets contain the same contents ({@code equals()} - convenience method
-     * for backward compatibility
+     * Write an integral value as {@code String.format( "%,d", value )} would
      *
-     * @param expected
-     *     the dataset of elements as they should appear
-     * @param actual
-     *     the dataset of elements to be verified against {@code expected}
-     * @param ordered
-     *     if true, elements of expected and actual must appear in the same order; if false, the
-     *     contents may appear in any order
-     * 
-     * @throws TestingException
-     *     when an operation (e.g., comparison) fails, indicates the nature of the failure
-     * 
-     * @since 6.0
+     * @param destination
+     *     where to write the text
+     * @param value
+     *     the value to write
+     *
+     * @throws IOException
+     *     if {@code destination} does
+     *
+     * @since 6.4
      */
-    public static void compareDatasets( final Object[] expected,
-                                        final Object[] actual,
-                                        final boolean ordered )
-        throws TestingException
+    private static void appendGroupedInteger( final Appendable destination,
+                                              final long value )
+        throws IOException
         {
 
-        compareDatasets( expected, actual, ordered, COMPARE_EQUALITY ) ;
+        // accumulate the digits from the right - negated so Long.MIN_VALUE doesn't overflow
+        final char[] digits = new char[ 19 ] ;
+        int firstDigit = digits.length ;
+        long remaining = value < 0
+            ? value
+            : -value ;
 
-        }   // end 3-arg compareDatasets() pass-through
+        do
+            {
+            digits[ --firstDigit ] = (char) ( '0' - ( remaining % 10 ) ) ;
+            remaining /= 10 ;
+            }
+        while ( 0 != remaining ) ;
 
+        if ( value < 0 )
+            {
+            destination.append( '-' ) ;
+            }
 
-    /**
-     * Determine if two datasets contain the same contents
+        appendGroupedDigits( destination,
+                             NumberSymbols.current(),
+                             digits,
+                             firstDigit,
+                             digits.length ) ;
+
+        }   // end appendGroupedInteger()
+
+
+    /**
+     * Write a floating point value as {@code String.format( "%,f", value )} would - rounded
+     * half-up to 6 decimal places from the shortest decimal representation of {@code value}
+     *
+     * @param destination
+     *     where to write the text
+     * @param value
+     *     the value to write - {@code float}s are widened first, as {@code Formatter} does
+     *
+     * @throws IOException
+     *     if {@code destination} does
+     *
+     * @since 6.4
+     */
+    private static void appendGroupedFixedPoint( final Appendable destination,
+                                                 final double value )
+        throws IOException
+        {
+
+        final int fractionDigits = 6 ;
+
+        if ( Double.isNaN( value ) )
+            {
+            destination.append( "NaN" ) ;
+
+            return ;
+            }
+
+        // -0.0 is written with its sign
+        if ( Double.compare( value, 0.0 ) < 0 )
+            {
+            destination.append( '-' ) ;
+            }
+
+        if ( Double.isInfinite( value ) )
+            {
+            destination.append( "Infinity" ) ;
+
+            return ;
+            }
+
+        // split the shortest representation, d.dddE[-]n or ddd.ddd, into its significant digits
+        // and the position of the decimal point relative to the first of them
+        final String shortest = Double.toString( Math.abs( value ) ) ;
+        final int exponentAt = shortest.indexOf( 'E' ) ;
+        final int pointAt = shortest.indexOf( '.' ) ;
+        final int significandEnd = exponentAt < 0
+            ? shortest.length()
+            : exponentAt ;
+        final int pointPosition = pointAt +
+                                  ( exponentAt < 0
+                                      ? 0
+                                      : Integer.parseInt( shortest, exponentAt + 1, shortest.length(), 10 ) ) ;
+        final int significantDigits = significandEnd - 1 ;
+
+        // the value scaled by 10^6, truncated, with a spare leading position for a carry
+        final int scaledLength = Math.max( 0, pointPosition + fractionDigits ) ;
+        final char[] scaled = new char[ Math.max( scaledLength, fractionDigits + 1 ) + 1 ] ;
+        final int scaledEnd = scaled.length ;
+        final int scaledStart = scaledEnd - scaledLength ;
+        Arrays.fill( scaled, '0' ) ;
+
+        for ( int i = 0 ; ( i < scaledLength ) && ( i < significantDigits ) ; i++ )
+            {
+            scaled[ scaledStart + i ] = significandDigit( shortest, pointAt, i ) ;
+            }
+
+        // round half-up on the first digit dropped
+        if ( ( scaledLength < significantDigits ) &&
+             ( pointPosition + fractionDigits >= 0 ) &&
+             ( significandDigit( shortest, pointAt, scaledLength ) >= '5' ) )
+            {
+            int carryAt = scaledEnd - 1 ;
+
+            while ( '9' == scaled[ carryAt ] )
+                {
+                scaled[ carryAt-- ] = '0' ;
+                }
+
+            scaled[ carryAt ]++ ;
+            }
+
+        // skip leading zeros of the integer part but keep its units digit
+        final int integerEnd = scaledEnd - fractionDigits ;
+        int integerStart = 0 ;
+
+        while ( ( integerStart < integerEnd - 1 ) && ( '0' == scaled[ integerStart ] ) )
+            {
+            integerStart++ ;
+            }
+
+        final NumberSymbols symbols = NumberSymbols.current() ;
+
+        appendGroupedDigits( destination, symbols, scaled, integerStart, integerEnd ) ;
+        destination.append( symbols.decimalSeparator() ) ;
+
+        for ( int i = integerEnd ; i < scaledEnd ; i++ )
+            {
+            destination.append( symbols.localize( scaled[ i ] ) ) ;
+            }
+
+        }   // end appendGroupedFixedPoint()
+
+
+    /**
+     * Retrieve a significant digit of a {@code Double.toString()} representation, skipping its
+     * decimal point
+     *
+     * @param shortest
+     *     the representation
+     * @param pointAt
+     *     index of its decimal point
+     * @param digitIndex
+     *     which significant digit
+     *
+     * @return the digit
+     *
+     * @since 6.4
+     */
+    private static char significandDigit( final String shortest,
+                                          final int pointAt,
+                                          final int digitIndex )
+        {
+
+        return shortest.charAt( digitIndex < pointAt
+            ? digitIndex
+            : digitIndex + 1 ) ;
+
+        }   // end significandDigit()
+
+
+    /**
+     * Write a run of ASCII digits with the locale's digits and grouping separators
+     *
+     * @param destination
+     *     where to write the text
+     * @param symbols
+     *     the locale's number formatting symbols
+     * @param digits
+     *     holds the ASCII digits
+     * @param fromIndex
+     *     index of the first digit (inclusive)
+     * @param toIndex
+     *     index of the last digit (exclusive)
+     *
+     * @throws IOException
+     *     if {@code destination} does
+     *
+     * @since 6.4
+     */
+    private static void appendGroupedDigits( final Appendable destination,
+                                             final NumberSymbols symbols,
+                                             final char[] digits,
+                                             final int fromIndex,
+                                             final int toIndex )
+        throws IOException
+        {
+
+        for ( int i = fromIndex ; i < toIndex ; i++ )
+            {
+            destination.append( symbols.localize( digits[ i ] ) ) ;
+
+            // same placement rule as Formatter
+            if ( ( 0 != symbols.groupingSeparator() ) &&
+                 ( i != toIndex - 1 ) &&
+                 ( 1 == ( ( toIndex - i ) % symbols.groupingSize() ) ) )
+                {
+                destination.append( symbols.groupingSeparator() ) ;
+                }
+
+            }
+
+        }   // end appendGroupedDigits()
+
+
+    /**
+     * The number formatting symbols {@code Formatter} uses for a locale - looked up once per
+     * default locale rather than for every number
+     *
+     * @param locale
+     *     the locale the symbols are for
+     * @param zeroDigit
+     *     the locale's zero digit
+     * @param groupingSeparator
+     *     the locale's grouping separator or {@code 0} if it doesn't group
+     * @param groupingSize
+     *     the number of digits in a group
+     * @param decimalSeparator
+     *     the locale's decimal separator
+     *
+     * @since 6.4
+     */
+    private record NumberSymbols( Locale locale,
+                                  char zeroDigit,
+                                  char groupingSeparator,
+                                  int groupingSize,
+                                  char decimalSeparator )
+        {
+
+        /** the symbols for the most recently used default locale */
+        private static volatile NumberSymbols cachedSymbols = null ;
+
+
+        /**
+         * Retrieve the symbols for the current default format locale
+         *
+         * @return the symbols
+         */
+        static NumberSymbols current()
+            {
+
+            final Locale locale = Locale.getDefault( Locale.Category.FORMAT ) ;
+            NumberSymbols symbols = cachedSymbols ;
+
+            if ( ( null == symbols ) || !symbols.locale.equals( locale ) )
+                {
+                symbols = of( locale ) ;
+                cachedSymbols = symbols ;
+                }
+
+            return symbols ;
+
+            }   // end current()
+
+
+        /**
+         * Look up the symbols for a locale as {@code Formatter} does
+         *
+         * @param locale
+         *     the locale
+         *
+         * @return the symbols
+         */
+        private static NumberSymbols of( final Locale locale )
+            {
+
+            if ( Locale.US.equals( locale ) )
+                {
+                return new NumberSymbols( locale, '0', ',', 3, '.' ) ;
+                }
+
+            final DecimalFormatSymbols formatSymbols = DecimalFormatSymbols.getInstance( locale ) ;
+            char groupingSeparator = formatSymbols.getGroupingSeparator() ;
+            int groupingSize = 3 ;
+
+            if ( NumberFormat.getNumberInstance( locale ) instanceof final DecimalFormat numberFormat )
+                {
+                groupingSize = numberFormat.getGroupingSize() ;
+
+                if ( !numberFormat.isGroupingUsed() || ( 0 == groupingSize ) )
+                    {
+                    groupingSeparator = 0 ;
+                    }
+
+                }
+
+            return new NumberSymbols( locale,
+                                      formatSymbols.getZeroDigit(),
+                                      groupingSeparator,
+                                      groupingSize,
+                                      formatSymbols.getDecimalSeparator() ) ;
+
+            }   // end of()
+
+
+        /**
+         * Translate an ASCII digit to the locale's digit
+         *
+         * @param asciiDigit
+         *     '0'..'9'
+         *
+         * @return the locale's digit
+         */
+        char localize( final char asciiDigit )
+            {
+
+            return (char) ( asciiDigit - '0' + this.zeroDigit ) ;
+
+            }   // end localize()
+
+        }   // end record NumberSymbols
+
+
+    /*
+     * constants for use with compareDatasets()
+     */
+
+
+    /**
+     * flag that dataset is ordered and may not be reordered for comparison - paired with
+     * IS_UNORDERED
+     */
+    public final static boolean IS_ORDERED = true ;
+    /**
+     * flag that dataset is unordered and may be reordered for comparison - paired with IS_ORDERED
+     */
+    public final static boolean IS_UNORDERED = false ;
+    /**
+     * flag that dataset comparison should test for equal, not identical, instances - paired with
+     * COMPARE_IDENTITY
+     */
+    public final static boolean COMPARE_EQUALITY = true ;
+    /**
+     * flag that dataset comparison should test for identical instances, implicitly equal - paired
+     * with COMPARE_EQUALITY
+     */
+    public final static boolean COMPARE_IDENTITY = false ;
+    /**
+     * flag that a flattened array should be compared in the order its elements were stored -
+     * paired with COLUMN_MAJOR
+     */
+    public final static boolean ROW_MAJOR = true ;
+    /**
+     * flag that a flattened array should be compared as its transpose - paired with ROW_MAJOR
+     */
+    public final static boolean COLUMN_MAJOR = false ;
+    /**
+     * flag that an ordered dataset comparison should report only the first mismatch - paired with
+     * REPORT_DIFFERENCES
+     */
+    public final static boolean REPORT_FIRST_MISMATCH = false ;
+    /**
+     * flag that an ordered dataset comparison should report the elements missing, extra, and
+     * replaced (a minimal edit script) - paired with REPORT_FIRST_MISMATCH
+     */
+    public final static boolean REPORT_DIFFERENCES = true ;
+    /**
+     * the maximum number of changes a difference report will describe
+     */
+    public final static int DEFAULT_DIFFERENCES_REPORTED = 10 ;
+    /**
+     * primitive datasets with at least this many elements are compared on the common fork-join
+     * pool - {@code Object[]} datasets only when a threshold is passed to {@code compareDatasets()}
+     */
+    public final static int DEFAULT_PARALLEL_THRESHOLD = 1 << 20 ;
+    /**
+     * elements a parallel comparison examines between checks for a lower mismatch found by
+     * another task
+     */
+    private final static int PARALLEL_BLOCK_SIZE = 1 << 16 ;
+
+
+    /**
+     * Determine if two datasets contain the same contents ({@code equals()} - convenience method
+     * for backward compatibility
+     *
+     * @param expected
+     *     the dataset of elements as they should appear
+     * @param actual
+     *     the dataset of elements to be verified against {@code expected}
+     * @param ordered
+     *     if true, elements of expected and actual must appear in the same order; if false, the
+     *     contents may appear in any order
+     * 
+     * @throws TestingException
+     *     when an operation (e.g., comparison) fails, indicates the nature of the failure
+     * 
+     * @since 6.0
+     */
+    public static void compareDatasets( final Object[] expected,
+                                        final Object[] actual,
+                                        final boolean ordered )
+        throws TestingException
+        {
+
+        compareDatasets( expected, actual, ordered, COMPARE_EQUALITY ) ;
+
+        }   // end 3-arg compareDatasets() pass-through
+
+
+    /**
+     * Determine if two datasets contain the same contents
+     *
+     * @param expected
+     *     the dataset of elements as they should appear
+     * @param actual
+     *     the dataset of elements to be verified against expected
+     * @param ordered
+     *     if true, elements of expected and actual must appear in the same order; if false, the
+     *     contents may appear in any order
+     * @param compareEquality
+     *     if true, elements of expected and actual will be compared using {@code equals()}; if
+     *     false, the comparison will use {@code ==}
+     *
+     * @throws TestingException
+     *     when an operation (e.g., comparison) fails, indicates the nature of the failure
+     *
+     * @since 6.0
+     */
+    public static void compareDatasets( final Object[] expected,
+                                        final Object[] actual,
+                                        final boolean ordered,
+                                        final boolean compareEquality )
+        throws TestingException
+        {
+
+        compareDatasets( expected,
+                         actual,
+                         ordered,
+                         compareEquality,
+                         REPORT_FIRST_MISMATCH ) ;
+
+        }   // end 4-arg compareDatasets() pass-through
+
+
+    /**
+     * Determine if two datasets contain the same contents, optionally describing every difference
+     * <p>
+     * with {@code REPORT_DIFFERENCES}, a mismatch in ordered datasets (including a length
+     * mismatch) is reported as a minimal edit script - e.g. "expected[3] missing: 7" instead of a
+     * mismatch at index 3 and every index after it; if the datasets differ in more than
+     * {@code DatasetDiff.DEFAULT_MAXIMUM_EDIT_DISTANCE} places, the first mismatch is reported
+     * instead; unordered datasets always report all missing and extra elements
+     *
+     * @param expected
+     *     the dataset of elements as they should appear
+     * @param actual
+     *     the dataset of elements to be verified against expected
+     * @param ordered
+     *     if true, elements of expected and actual must appear in the same order; if false, the
+     *     contents may appear in any order
+     * @param compareEquality
+     *     if true, elements of expected and actual will be compared using {@code equals()}; if
+     *     false, the comparison will use {@code ==}
+     * @param reportDifferences
+     *     if true, describe all differences between ordered datasets; if false, only the first
+     *
+     * @throws TestingException
+     *     when an operation (e.g., comparison) fails, indicates the nature of the failure
+     *
+     * @see DatasetDiff
+     *
+     * @since 6.7
+     */
+    public static void compareDatasets( final Object[] expected,
+                                        final Object[] actual,
+                                        final boolean ordered,
+                                        final boolean compareEquality,
+                                        final boolean reportDifferences )
+        throws TestingException
+        {
+
+        // the elements' equals() and hashCode() may not be thread-safe
+        compareDatasets( expected,
+                         actual,
+                         ordered,
+                         compareEquality,
+                         reportDifferences,
+                         Integer.MAX_VALUE ) ;
+
+        }   // end 5-arg compareDatasets() pass-through
+
+
+    /**
+     * Determine if two datasets contain the same contents, comparing large datasets in parallel on
+     * the common fork-join pool
+     * <p>
+     * only use this if the elements' {@code equals()} and {@code hashCode()} are thread-safe
      *
      * @param expected
      *     the dataset of elements as they should appear
@@ -408,102 +1336,2855 @@ public class TestData
      * @param compareEquality
      *     if true, elements of expected and actual will be compared using {@code equals()}; if
      *     false, the comparison will use {@code ==}
+     * @param reportDifferences
+     *     if true, describe all differences between ordered datasets; if false, only the first
+     * @param parallelThreshold
+     *     the minimum length to compare in parallel, e.g. {@code DEFAULT_PARALLEL_THRESHOLD} -
+     *     {@code Integer.MAX_VALUE} to always compare sequentially
+     *
+     * @throws TestingException
+     *     when an operation (e.g., comparison) fails, indicates the nature of the failure
+     *
+     * @since 6.8
+     */
+    public static void compareDatasets( final Object[] expected,
+                                        final Object[] actual,
+                                        final boolean ordered,
+                                        final boolean compareEquality,
+                                        final boolean reportDifferences,
+                                        final int parallelThreshold )
+        throws TestingException
+        {
+
+        compareDatasets( expected,
+                         actual,
+                         ordered,
+                         compareEquality,
+                         reportDifferences,
+                         parallelThreshold,
+                         ForkJoinPool.commonPool() ) ;
+
+        }   // end 6-arg compareDatasets() pass-through
+
+
+    /**
+     * Determine if two datasets contain the same contents, comparing large datasets in parallel
+     * <p>
+     * datasets with at least {@code parallelThreshold} elements are split into chunks which are
+     * compared on {@code pool} - an ordered comparison still reports the lowest mismatching
+     * index; an unordered comparison partitions the elements by hash code and counts each
+     * partition's occurrences in a separate task
+     * <p>
+     * only use this if the elements' {@code equals()} and {@code hashCode()} are thread-safe
+     *
+     * @param expected
+     *     the dataset of elements as they should appear
+     * @param actual
+     *     the dataset of elements to be verified against expected
+     * @param ordered
+     *     if true, elements of expected and actual must appear in the same order; if false, the
+     *     contents may appear in any order
+     * @param compareEquality
+     *     if true, elements of expected and actual will be compared using {@code equals()}; if
+     *     false, the comparison will use {@code ==}
+     * @param reportDifferences
+     *     if true, describe all differences between ordered datasets; if false, only the first
+     * @param parallelThreshold
+     *     the minimum length to compare in parallel - {@code Integer.MAX_VALUE} to always compare
+     *     sequentially
+     * @param pool
+     *     runs the parallel comparison - it's only used if it has more than one thread
+     *
+     * @throws TestingException
+     *     when an operation (e.g., comparison) fails, indicates the nature of the failure
+     *
+     * @since 6.20
+     */
+    public static void compareDatasets( final Object[] expected,
+                                        final Object[] actual,
+                                        final boolean ordered,
+                                        final boolean compareEquality,
+                                        final boolean reportDifferences,
+                                        final int parallelThreshold,
+                                        final ForkJoinPool pool )
+        throws TestingException
+        {
+
+        // if both dataset references are null, succeed
+        if ( ( null == expected ) && ( null == actual ) )       // both null
+            {
+            return ;
+            }
+
+        // assertion: at least one reference (expected, actual) must be non-null
+
+        // if one dataset reference is null and the other is empty, fail
+        // REPORT_BUG the compiler isn't recognizing that the test for non-null is redundant
+        // REPORT_BUG can't be here if expected and actual are both null
+        if ( ( ( null == expected ) &&
+               ( ( null != actual ) && ( 0 == actual.length ) ) ) ||  // expected is null, actual is
+                                                                      // empty
+             ( ( null == actual ) &&
+               ( ( null != expected ) && ( 0 == expected.length ) ) ) )   // actual is null,
+                                                                          // expected is empty
+            {
+            throw new TestingException( "comparing null to empty []" ) ;
+            }
+
+        if ( ( null == expected ) || ( null == actual ) )
+            {
+            // 2xCk should this be IllegalStateException? other?
+            throw new TestingException( "bad test data detected: one dataset is null and the other is neither null nor empty" ) ;
+            }
+
+        // assertion: both references (expected, actual) must be non-null
+
+        if ( ordered && reportDifferences )
+            {
+            reportDifferences( expected, actual, compareEquality ) ;
+            }
+
+        // make sure the two datasets contain the same number of elements
+        if ( expected.length != actual.length )
+            {
+            throw new TestingException( String.format( "dataset length mismatch: expected: %,d; actual: %,d",
+                                                       expected.length,
+                                                       actual.length ) ) ;
+            }
+
+        // assertion: expected and actual are the same length
+
+        // if the order of the contents of the datasets isn't ordered, compare their multisets
+        if ( !ordered )
+            {
+            if ( !isParallelWorthwhile( expected.length, parallelThreshold, pool ) ||
+                 !unorderedDatasetsMatchInParallel( expected, actual, compareEquality, pool ) )
+                {
+                // also reports the differences
+                compareDatasets( DatasetIndex.of( expected, compareEquality ), actual ) ;
+                }
+
+            return ;
+            }
+
+        // compare the contents of the datasets
+        final int mismatchIndex = compareEquality
+            ? datasetMismatch( expected, actual, parallelThreshold, pool )
+            : parallelMismatch( expected.length,
+                                parallelThreshold,
+                                pool,
+                                ( from, to ) -> identityMismatch( expected, actual, from, to ) ) ;
+
+        if ( -1 != mismatchIndex )
+            {
+            reportElementMismatch( expected[ mismatchIndex ],
+                                   actual[ mismatchIndex ],
+                                   ordered,
+                                   mismatchIndex ) ;
+            }
+
+        // datasets are the same
+
+        }  // end 7-arg compareDatasets()
+
+
+    /**
+     * Describe the minimal edit script between two ordered datasets, if they differ and it can be
+     * found within the budget
+     *
+     * @param expected
+     *     the dataset of elements as they should appear
+     * @param actual
+     *     the dataset of elements to be verified against expected
+     * @param compareEquality
+     *     if true, elements are matched using {@code equals()}; if false, using {@code ==}
+     *
+     * @throws TestingException
+     *     if the datasets differ and the edit script was found - otherwise returns so the caller
+     *     can report the first mismatch
+     *
+     * @since 6.7
+     */
+    private static void reportDifferences( final Object[] expected,
+                                           final Object[] actual,
+                                           final boolean compareEquality )
+        throws TestingException
+        {
+
+        final DatasetDiff differences = DatasetDiff.of( expected,
+                                                        actual,
+                                                        compareEquality,
+                                                        DatasetDiff.DEFAULT_MAXIMUM_EDIT_DISTANCE ) ;
+
+        if ( ( null == differences ) || differences.isEmpty() )
+            {
+            return ;
+            }
+
+        throw new TestingException( String.format( "dataset mismatch: %,d change%s (%,d element%s): %s",
+                                                   differences.hunks()
+                                                              .size(),
+                                                   1 == differences.hunks()
+                                                                   .size()
+                                                       ? ""
+                                                       : "s",
+                                                   differences.editDistance(),
+                                                   1 == differences.editDistance()
+                                                       ? ""
+                                                       : "s",
+                                                   differences.describe( expected,
+                                                                         actual,
+                                                                         DEFAULT_DIFFERENCES_REPORTED ) ) ) ;
+
+        }   // end reportDifferences()
+
+
+    /**
+     * Determine if a dataset contains the same elements with the same multiplicities as an indexed
+     * dataset, in any order
+     * <p>
+     * the index answers each lookup in O(1) expected time, so a test which compares many actual
+     * datasets with the same expected contents builds it once; elements don't have to be
+     * {@code Comparable} and may be {@code null}
+     *
+     * @param expected
+     *     the elements as they should appear - the index determines whether elements are matched
+     *     by {@code equals()} or {@code ==}
+     * @param actual
+     *     the dataset of elements to be verified against expected
+     *
+     * @throws TestingException
+     *     if the lengths or multisets differ - a multiset mismatch lists the elements missing from
+     *     and extra in {@code actual}, in order of first occurrence, with their counts
+     *
+     * @since 6.9
+     */
+    public static void compareDatasets( final DatasetIndex expected,
+                                        final Object[] actual )
+        throws TestingException
+        {
+
+        if ( null == actual )
+            {
+            throw new TestingException( "bad test data detected: actual dataset is null" ) ;
+            }
+
+        if ( expected.size() != actual.length )
+            {
+            throw new TestingException( String.format( "dataset length mismatch: expected: %,d; actual: %,d",
+                                                       expected.size(),
+                                                       actual.length ) ) ;
+            }
+
+        if ( expected.matches( actual ) )
+            {
+            return ;
+            }
+
+        // net occurrences: expected count less occurrences in actual; unexpected elements separately
+        final int[] remaining = expected.remainingCounts() ;
+        final List<Object> unexpectedElements = new ArrayList<>() ;
+
+        for ( final Object actualElement : actual )
+            {
+            final int ordinal = expected.ordinalOf( actualElement ) ;
+
+            if ( -1 == ordinal )
+                {
+                unexpectedElements.add( actualElement ) ;
+                }
+            else
+                {
+                remaining[ ordinal ]-- ;
+                }
+
+            }
+
+        final DatasetIndex unexpected = DatasetIndex.of( unexpectedElements.toArray(),
+                                                         expected.comparesEquality() ) ;
+        final int[] unexpectedRemaining = unexpected.remainingCounts() ;
+
+        // report in order of first occurrence
+        final ImbalanceList missing = new ImbalanceList( "element mismatch: missing: " ) ;
+
+        for ( int ordinal = 0 ; ordinal < remaining.length ; ordinal++ )
+            {
+            missing.add( expected.elementAt( ordinal ), remaining[ ordinal ] ) ;
+            }
+
+        final ImbalanceList extra = new ImbalanceList( missing.close() + "; extra: " ) ;
+
+        for ( final Object actualElement : actual )
+            {
+            final int ordinal = expected.ordinalOf( actualElement ) ;
+
+            if ( -1 == ordinal )
+                {
+                final int unexpectedOrdinal = unexpected.ordinalOf( actualElement ) ;
+                extra.add( actualElement, unexpectedRemaining[ unexpectedOrdinal ] ) ;
+                unexpectedRemaining[ unexpectedOrdinal ] = 0 ;
+                }
+            else
+                {
+                extra.add( actualElement, -remaining[ ordinal ] ) ;
+                remaining[ ordinal ] = 0 ;
+                }
+
+            }
+
+        throw new TestingException( extra.close() ) ;
+
+        }   // end DatasetIndex compareDatasets()
+
+
+    /**
+     * Determine if two same-length datasets contain the same elements with the same multiplicities
+     * by counting occurrences in parallel - each element is hashed once, the elements' indices are
+     * grouped by hash partition with a counting sort, then each task counts only its own
+     * partition's elements, so no counts need to be merged
+     *
+     * @param expected
+     *     the dataset of elements as they should appear
+     * @param actual
+     *     the dataset of elements to be verified against expected
+     * @param compareEquality
+     *     if true, elements are matched using {@code equals()} and {@code hashCode()}; if false,
+     *     using {@code ==} and {@code System.identityHashCode()}
+     * @param pool
+     *     runs the hashing and counting tasks
+     *
+     * @return true if the multisets are the same
+     *
+     * @since 6.8
+     */
+    private static boolean unorderedDatasetsMatchInParallel( final Object[] expected,
+                                                             final Object[] actual,
+                                                             final boolean compareEquality,
+                                                             final ForkJoinPool pool )
+        {
+
+        final int partitionCount = pool.getParallelism() ;
+
+        // the partition tasks only scan these - they call hashCode() on their own elements alone
+        final PartitionedDataset partitionedExpected =
+                    PartitionedDataset.of( expected,
+                                           hashInParallel( expected, compareEquality, pool ),
+                                           partitionCount ) ;
+        final PartitionedDataset partitionedActual =
+                    PartitionedDataset.of( actual,
+                                           hashInParallel( actual, compareEquality, pool ),
+                                           partitionCount ) ;
+
+        final List<ForkJoinTask<Boolean>> partitionTasks = new ArrayList<>( partitionCount ) ;
+
+        for ( int partition = 0 ; partition < partitionCount ; partition++ )
+            {
+            final int taskPartition = partition ;
+
+            partitionTasks.add( ForkJoinTask.adapt( () -> partitionBalances( partitionedExpected,
+                                                                             partitionedActual,
+                                                                             compareEquality,
+                                                                             taskPartition ) ) ) ;
+            }
+
+        invokeAll( pool, partitionTasks ) ;
+
+        for ( final ForkJoinTask<Boolean> partitionTask : partitionTasks )
+            {
+
+            if ( !partitionTask.join() )
+                {
+                return false ;
+                }
+
+            }
+
+        return true ;
+
+        }   // end unorderedDatasetsMatchInParallel()
+
+
+    /**
+     * Hash each element of a dataset once, a chunk per task
+     *
+     * @param elements
+     *     the dataset
+     * @param compareEquality
+     *     if true, use {@code hashCode()}; if false, {@code System.identityHashCode()}
+     * @param pool
+     *     runs the hashing tasks
+     *
+     * @return {@code hashes[ i ]} is the spread hash of {@code elements[ i ]}
+     *
+     * @since 6.20
+     */
+    private static int[] hashInParallel( final Object[] elements,
+                                         final boolean compareEquality,
+                                         final ForkJoinPool pool )
+        {
+
+        final int[] hashes = new int[ elements.length ] ;
+        final int chunkCount = 4 * pool.getParallelism() ;
+        final int chunkSize = (int) ( ( (long) elements.length + chunkCount - 1 ) / chunkCount ) ;
+        final List<ForkJoinTask<?>> chunkTasks = new ArrayList<>( chunkCount ) ;
+
+        for ( int chunkStart = 0 ; chunkStart < elements.length ; chunkStart += chunkSize )
+            {
+            final int from = chunkStart ;
+            final int to = (int) Math.min( elements.length, (long) chunkStart + chunkSize ) ;
+
+            chunkTasks.add( ForkJoinTask.adapt( () -> storeHashes( elements,
+                                                                   hashes,
+                                                                   compareEquality,
+                                                                   from,
+                                                                   to ) ) ) ;
+            }
+
+        invokeAll( pool, chunkTasks ) ;
+
+        return hashes ;
+
+        }   // end hashInParallel()
+
+
+    /**
+     * Store the spread hashes of a range of elements
+     *
+     * @param elements
+     *     the dataset
+     * @param hashes
+     *     receives {@code spreadHashOf( elements[ i ] )} at each index {@code i} in the range
+     * @param compareEquality
+     *     if true, use {@code hashCode()}; if false, {@code System.identityHashCode()}
+     * @param fromIndex
+     *     first index to hash (inclusive)
+     * @param toIndex
+     *     last index to hash (exclusive)
+     *
+     * @since 6.20
+     */
+    private static void storeHashes( final Object[] elements,
+                                    final int[] hashes,
+                                    final boolean compareEquality,
+                                    final int fromIndex,
+                                    final int toIndex )
+        {
+
+        for ( int i = fromIndex ; i < toIndex ; i++ )
+            {
+            hashes[ i ] = spreadHashOf( elements[ i ], compareEquality ) ;
+            }
+
+        }   // end storeHashes()
+
+
+    /**
+     * Determine if the elements of one hash partition occur equally often in two datasets
+     * <p>
+     * The counts are kept in an open-addressed table keyed by the stored hashes, so no element is
+     * hashed again; only the partition's own elements are visited
+     *
+     * @param expected
+     *     the dataset of elements as they should appear, grouped by partition
+     * @param actual
+     *     the dataset of elements to be verified against expected, grouped by partition
+     * @param compareEquality
+     *     if true, elements are matched using {@code equals()}; if false, using {@code ==}
+     * @param partition
+     *     the partition to count
+     *
+     * @return true if every element in the partition has the same count in both datasets
+     *
+     * @since 6.8
+     */
+    private static boolean partitionBalances( final PartitionedDataset expected,
+                                              final PartitionedDataset actual,
+                                              final boolean compareEquality,
+                                              final int partition )
+        {
+
+        final int expectedStart = expected.partitionStarts()[ partition ] ;
+        final int expectedEnd = expected.partitionStarts()[ partition + 1 ] ;
+        final int actualStart = actual.partitionStarts()[ partition ] ;
+        final int actualEnd = actual.partitionStarts()[ partition + 1 ] ;
+
+        // the partitions' totals may differ even though the datasets' lengths don't
+        if ( ( expectedEnd - expectedStart ) != ( actualEnd - actualStart ) )
+            {
+            return false ;
+            }
+
+        final PartitionCounts balances = new PartitionCounts( expectedEnd - expectedStart,
+                                                              compareEquality ) ;
+
+        for ( int position = expectedStart ; position < expectedEnd ; position++ )
+            {
+            final int i = expected.indices()[ position ] ;
+
+            balances.increment( expected.elements()[ i ], expected.hashes()[ i ] ) ;
+            }
+
+        for ( int position = actualStart ; position < actualEnd ; position++ )
+            {
+            final int i = actual.indices()[ position ] ;
+
+            if ( !balances.decrement( actual.elements()[ i ], actual.hashes()[ i ] ) )
+                {
+                return false ;
+                }
+
+            }
+
+        return balances.allBalanced() ;
+
+        }   // end partitionBalances()
+
+
+    /**
+     * Hash an element for the parallel unordered comparison
+     *
+     * @param element
+     *     the element - may be {@code null}
+     * @param compareEquality
+     *     if true, use {@code hashCode()}; if false, {@code System.identityHashCode()}
+     *
+     * @return the hash with its bits mixed so both its high and low bits are usable
+     *
+     * @since 6.16
+     */
+    private static int spreadHashOf( final Object element,
+                                     final boolean compareEquality )
+        {
+
+        final int hash = ( compareEquality
+            ? Objects.hashCode( element )
+            : System.identityHashCode( element ) ) * 0x9E3779B9 ;
+
+        return hash ^ ( hash >>> 16 ) ;
+
+        }   // end spreadHashOf()
+
+
+    /**
+     * Determine which hash partition a stored hash belongs to
+     * <p>
+     * The partition comes from the hash's high bits so the partition tables can index by its low
+     * bits without every entry in a partition landing in the same few slots
+     *
+     * @param spreadHash
+     *     the element's hash from {@link #spreadHashOf(Object, boolean)}
+     * @param partitionCount
+     *     the number of partitions
+     *
+     * @return the partition
+     *
+     * @since 6.8
+     */
+    private static int partitionOf( final int spreadHash,
+                                    final int partitionCount )
+        {
+
+        return (int) ( ( ( spreadHash & 0xFFFF_FFFFL ) * partitionCount ) >>> 32 ) ;
+
+        }   // end partitionOf()
+
+
+    /**
+     * A dataset paired with its elements' stored hashes and its indices grouped by hash partition
+     *
+     * @param elements
+     *     the dataset
+     * @param hashes
+     *     {@code hashes[ i ]} is the spread hash of {@code elements[ i ]}
+     * @param indices
+     *     every index into {@code elements}, those in partition {@code p} occupying
+     *     {@code [ partitionStarts[ p ], partitionStarts[ p + 1 ] )}
+     * @param partitionStarts
+     *     {@code partitionCount + 1} elements - the start of each partition's indices
+     *
+     * @since 6.20
+     */
+    private record PartitionedDataset( Object[] elements,
+                                       int[] hashes,
+                                       int[] indices,
+                                       int[] partitionStarts )
+        {
+
+        /**
+         * Group a dataset's indices by partition with a counting sort - O(n + partitionCount)
+         *
+         * @param elements
+         *     the dataset
+         * @param hashes
+         *     the elements' spread hashes
+         * @param partitionCount
+         *     the number of partitions
+         *
+         * @return the partitioned dataset
+         */
+        private static PartitionedDataset of( final Object[] elements,
+                                              final int[] hashes,
+                                              final int partitionCount )
+            {
+
+            // count each partition's elements, then accumulate the counts into starts
+            final int[] partitionStarts = new int[ partitionCount + 1 ] ;
+
+            for ( final int hash : hashes )
+                {
+                partitionStarts[ partitionOf( hash, partitionCount ) + 1 ]++ ;
+                }
+
+            for ( int partition = 0 ; partition < partitionCount ; partition++ )
+                {
+                partitionStarts[ partition + 1 ] += partitionStarts[ partition ] ;
+                }
+
+            final int[] nextPosition = Arrays.copyOf( partitionStarts, partitionCount ) ;
+            final int[] indices = new int[ hashes.length ] ;
+
+            for ( int i = 0 ; i < hashes.length ; i++ )
+                {
+                indices[ nextPosition[ partitionOf( hashes[ i ], partitionCount ) ]++ ] = i ;
+                }
+
+            return new PartitionedDataset( elements, hashes, indices, partitionStarts ) ;
+
+            }   // end of()
+
+        }   // end record PartitionedDataset
+
+
+    /**
+     * Counts occurrences of one partition's elements using their stored hashes - the table is
+     * sized for the partition's expected elements and actual elements are never added, so it
+     * never grows
+     *
+     * @since 6.16
+     */
+    private static final class PartitionCounts
+        {
+
+        /** the elements */
+        private final Object[] keys ;
+        /** the elements' stored hashes */
+        private final int[] hashes ;
+        /** the elements' net counts */
+        private final int[] counts ;
+        /** which slots hold an element - an element may be {@code null} */
+        private final boolean[] occupied ;
+        /** the table's length - 1 */
+        private final int mask ;
+        /** if true, elements are matched using {@code equals()}; if false, using {@code ==} */
+        private final boolean compareEquality ;
+
+
+        /**
+         * Allocate a table
+         *
+         * @param capacity
+         *     the most distinct elements which will be added
+         * @param compareEquality
+         *     if true, elements are matched using {@code equals()}; if false, using {@code ==}
+         */
+        private PartitionCounts( final int capacity,
+                                 final boolean compareEquality )
+            {
+
+            // at most half full
+            final int length = Integer.highestOneBit( Math.max( 1, capacity ) ) << 2 ;
+
+            this.keys = new Object[ length ] ;
+            this.hashes = new int[ length ] ;
+            this.counts = new int[ length ] ;
+            this.occupied = new boolean[ length ] ;
+            this.mask = length - 1 ;
+            this.compareEquality = compareEquality ;
+
+            }   // end constructor
+
+
+        /**
+         * Find an element's slot
+         *
+         * @param element
+         *     the element
+         * @param hash
+         *     its stored hash
+         *
+         * @return its slot if present, otherwise the empty slot where it belongs
+         */
+        private int slotOf( final Object element,
+                            final int hash )
+            {
+
+            int slot = hash & this.mask ;
+
+            while ( this.occupied[ slot ] &&
+                    ( ( this.hashes[ slot ] != hash ) || !matches( this.keys[ slot ], element ) ) )
+                {
+                slot = ( slot + 1 ) & this.mask ;
+                }
+
+            return slot ;
+
+            }   // end slotOf()
+
+
+        /**
+         * Determine if a stored element matches another
+         *
+         * @param stored
+         *     the element in the table
+         * @param element
+         *     the element looked up
+         *
+         * @return true if they match
+         */
+        private boolean matches( final Object stored,
+                                 final Object element )
+            {
+
+            return this.compareEquality
+                ? Objects.equals( stored, element )
+                : stored == element ;
+
+            }   // end matches()
+
+
+        /**
+         * Count an occurrence of an expected element
+         *
+         * @param element
+         *     the element
+         * @param hash
+         *     its stored hash
+         */
+        private void increment( final Object element,
+                                final int hash )
+            {
+
+            final int slot = slotOf( element, hash ) ;
+
+            if ( !this.occupied[ slot ] )
+                {
+                this.occupied[ slot ] = true ;
+                this.keys[ slot ] = element ;
+                this.hashes[ slot ] = hash ;
+                }
+
+            this.counts[ slot ]++ ;
+
+            }   // end increment()
+
+
+        /**
+         * Uncount an occurrence of an actual element
+         *
+         * @param element
+         *     the element
+         * @param hash
+         *     its stored hash
+         *
+         * @return false if the element wasn't expected or already occurred as often as expected
+         */
+        private boolean decrement( final Object element,
+                                   final int hash )
+            {
+
+            final int slot = slotOf( element, hash ) ;
+
+            return this.occupied[ slot ] && ( this.counts[ slot ]-- > 0 ) ;
+
+            }   // end decrement()
+
+
+        /**
+         * Determine if every expected element occurred as often in actual
+         *
+         * @return true if every count is zero
+         */
+        private boolean allBalanced()
+            {
+
+            for ( final int count : this.counts )
+                {
+
+                if ( 0 != count )
+                    {
+                    return false ;
+                    }
+
+                }
+
+            return true ;
+
+            }   // end allBalanced()
+
+        }   // end class PartitionCounts
+
+
+    /**
+     * Accumulates a bounded list of elements with positive counts, e.g. {@code ["a" (x2), 7]}
+     *
+     * @since 6.9
+     */
+    private static final class ImbalanceList
+        {
+
+        /** the most elements listed */
+        private final static int MAXIMUM_LISTED = DEFAULT_DATASET_TO_STRING_ELEMENTS / 2 ;
+
+        /** the report so far */
+        private final StringBuilder text ;
+        /** elements listed */
+        private int listed = 0 ;
+        /** elements not listed because the list is full */
+        private int unlisted = 0 ;
+
+
+        /**
+         * Start a list
+         *
+         * @param prefix
+         *     text preceding the list
+         */
+        private ImbalanceList( final String prefix )
+            {
+
+            this.text = new StringBuilder( prefix ).append( '[' ) ;
+
+            }   // end constructor
+
+
+        /**
+         * List an element if its count is positive
+         *
+         * @param element
+         *     the element
+         * @param count
+         *     its net count - ignored unless positive
+         */
+        private void add( final Object element,
+                          final int count )
+            {
+
+            if ( count <= 0 )
+                {
+                return ;
+                }
+
+            if ( this.listed == MAXIMUM_LISTED )
+                {
+                this.unlisted++ ;
+
+                return ;
+                }
+
+            if ( this.listed++ > 0 )
+                {
+                this.text.append( ", " ) ;
+                }
+
+            appendItem( this.text, element ) ;
+
+            if ( count > 1 )
+                {
+                this.text.append( " (x" ).append( count ).append( ')' ) ;
+                }
+
+            }   // end add()
+
+
+        /**
+         * Finish the list
+         *
+         * @return the text
+         */
+        private String close()
+            {
+
+            if ( this.unlisted > 0 )
+                {
+                this.text.append( String.format( ", ... %,d more", this.unlisted ) ) ;
+                }
+
+            return this.text.append( ']' ).toString() ;
+
+            }   // end close()
+
+        }   // end class ImbalanceList
+
+
+    /**
+     * Determine if two int datasets contain the same contents without boxing their elements
+     *
+     * @param expected
+     *     the dataset of elements as they should appear
+     * @param actual
+     *     the dataset of elements to be verified against expected
+     * @param ordered
+     *     if true, elements of expected and actual must appear in the same order; if false, the
+     *     contents may appear in any order
+     *
+     * @throws TestingException
+     *     when an operation (e.g., comparison) fails, indicates the nature of the failure
+     *
+     * @since 6.1
+     */
+    public static void compareDatasets( final int[] expected,
+                                        final int[] actual,
+                                        final boolean ordered )
+        throws TestingException
+        {
+
+        if ( verifyDatasetShapes( expected, actual ) )
+            {
+            return ;
+            }
+
+        // assertion: expected and actual are non-null and the same length
+
+        int[] workingExpected = expected ;
+        int[] workingActual = actual ;
+
+        // if the order of the contents of the datasets isn't ordered, sort copies of them
+        if ( !ordered )
+            {
+            workingExpected = Arrays.copyOf( expected, expected.length ) ;
+            workingActual = Arrays.copyOf( actual, actual.length ) ;
+
+            sortDataset( workingExpected ) ;
+            sortDataset( workingActual ) ;
+            }
+
+        final int mismatchIndex = datasetMismatch( workingExpected,
+                                                   workingActual,
+                                                   DEFAULT_PARALLEL_THRESHOLD,
+                                                   ForkJoinPool.commonPool() ) ;
+
+        if ( -1 != mismatchIndex )
+            {
+            reportElementMismatch( workingExpected[ mismatchIndex ],
+                                   workingActual[ mismatchIndex ],
+                                   ordered,
+                                   mismatchIndex ) ;
+            }
+
+        // datasets are the same
+
+        }  // end int[] compareDatasets()
+
+
+    /**
+     * Determine if two long datasets contain the same contents without boxing their elements
+     *
+     * @param expected
+     *     the dataset of elements as they should appear
+     * @param actual
+     *     the dataset of elements to be verified against expected
+     * @param ordered
+     *     if true, elements of expected and actual must appear in the same order; if false, the
+     *     contents may appear in any order
+     *
+     * @throws TestingException
+     *     when an operation (e.g., comparison) fails, indicates the nature of the failure
+     *
+     * @since 6.1
+     */
+    public static void compareDatasets( final long[] expected,
+                                        final long[] actual,
+                                        final boolean ordered )
+        throws TestingException
+        {
+
+        if ( verifyDatasetShapes( expected, actual ) )
+            {
+            return ;
+            }
+
+        // assertion: expected and actual are non-null and the same length
+
+        long[] workingExpected = expected ;
+        long[] workingActual = actual ;
+
+        // if the order of the contents of the datasets isn't ordered, sort copies of them
+        if ( !ordered )
+            {
+            workingExpected = Arrays.copyOf( expected, expected.length ) ;
+            workingActual = Arrays.copyOf( actual, actual.length ) ;
+
+            sortDataset( workingExpected ) ;
+            sortDataset( workingActual ) ;
+            }
+
+        final int mismatchIndex = datasetMismatch( workingExpected,
+                                                   workingActual,
+                                                   DEFAULT_PARALLEL_THRESHOLD,
+                                                   ForkJoinPool.commonPool() ) ;
+
+        if ( -1 != mismatchIndex )
+            {
+            reportElementMismatch( workingExpected[ mismatchIndex ],
+                                   workingActual[ mismatchIndex ],
+                                   ordered,
+                                   mismatchIndex ) ;
+            }
+
+        // datasets are the same
+
+        }  // end long[] compareDatasets()
+
+
+    /**
+     * Determine if two double datasets contain the same contents without boxing their elements
+     *
+     * @param expected
+     *     the dataset of elements as they should appear
+     * @param actual
+     *     the dataset of elements to be verified against expected
+     * @param ordered
+     *     if true, elements of expected and actual must appear in the same order; if false, the
+     *     contents may appear in any order
+     *
+     * @throws TestingException
+     *     when an operation (e.g., comparison) fails, indicates the nature of the failure
+     *
+     * @since 6.1
+     */
+    public static void compareDatasets( final double[] expected,
+                                        final double[] actual,
+                                        final boolean ordered )
+        throws TestingException
+        {
+
+        if ( verifyDatasetShapes( expected, actual ) )
+            {
+            return ;
+            }
+
+        // assertion: expected and actual are non-null and the same length
+
+        double[] workingExpected = expected ;
+        double[] workingActual = actual ;
+
+        // if the order of the contents of the datasets isn't ordered, sort copies of them
+        if ( !ordered )
+            {
+            workingExpected = Arrays.copyOf( expected, expected.length ) ;
+            workingActual = Arrays.copyOf( actual, actual.length ) ;
+
+            sortDataset( workingExpected ) ;
+            sortDataset( workingActual ) ;
+            }
+
+        final int mismatchIndex = datasetMismatch( workingExpected,
+                                                   workingActual,
+                                                   DEFAULT_PARALLEL_THRESHOLD,
+                                                   ForkJoinPool.commonPool() ) ;
+
+        if ( -1 != mismatchIndex )
+            {
+            reportElementMismatch( workingExpected[ mismatchIndex ],
+                                   workingActual[ mismatchIndex ],
+                                   ordered,
+                                   mismatchIndex ) ;
+            }
+
+        // datasets are the same
+
+        }  // end double[] compareDatasets()
+
+
+    /**
+     * Determine if two char datasets contain the same contents without boxing their elements
+     *
+     * @param expected
+     *     the dataset of elements as they should appear
+     * @param actual
+     *     the dataset of elements to be verified against expected
+     * @param ordered
+     *     if true, elements of expected and actual must appear in the same order; if false, the
+     *     contents may appear in any order
+     *
+     * @throws TestingException
+     *     when an operation (e.g., comparison) fails, indicates the nature of the failure
+     *
+     * @since 6.1
+     */
+    public static void compareDatasets( final char[] expected,
+                                        final char[] actual,
+                                        final boolean ordered )
+        throws TestingException
+        {
+
+        if ( verifyDatasetShapes( expected, actual ) )
+            {
+            return ;
+            }
+
+        // assertion: expected and actual are non-null and the same length
+
+        char[] workingExpected = expected ;
+        char[] workingActual = actual ;
+
+        // if the order of the contents of the datasets isn't ordered, sort copies of them
+        if ( !ordered )
+            {
+            workingExpected = Arrays.copyOf( expected, expected.length ) ;
+            workingActual = Arrays.copyOf( actual, actual.length ) ;
+
+            sortDataset( workingExpected ) ;
+            sortDataset( workingActual ) ;
+            }
+
+        final int mismatchIndex = datasetMismatch( workingExpected,
+                                                   workingActual,
+                                                   DEFAULT_PARALLEL_THRESHOLD,
+                                                   ForkJoinPool.commonPool() ) ;
+
+        if ( -1 != mismatchIndex )
+            {
+            reportElementMismatch( workingExpected[ mismatchIndex ],
+                                   workingActual[ mismatchIndex ],
+                                   ordered,
+                                   mismatchIndex ) ;
+            }
+
+        // datasets are the same
+
+        }  // end char[] compareDatasets()
+
+
+    /**
+     * Determine if two int datasets contain the same contents
+     *
+     * @param expected
+     *     the dataset of elements as they should appear
+     * @param actual
+     *     the dataset of elements to be verified against expected
+     * @param ordered
+     *     if true, elements of expected and actual must appear in the same order; if false, the
+     *     contents may appear in any order
+     *
+     * @throws TestingException
+     *     when an operation (e.g., comparison) fails, indicates the nature of the failure
+     *
+     * @since 6.10
+     */
+    public static void compareDatasets( final IntDataset expected,
+                                        final IntDataset actual,
+                                        final boolean ordered )
+        throws TestingException
+        {
+
+        final int[] expectedElements = null == expected
+            ? null
+            : expected.elements() ;
+        final int[] actualElements = null == actual
+            ? null
+            : actual.elements() ;
+
+        compareDatasets( expectedElements, actualElements, ordered ) ;
+
+        }   // end IntDataset compareDatasets()
+
+
+    /**
+     * Determine if two long datasets contain the same contents
+     *
+     * @param expected
+     *     the dataset of elements as they should appear
+     * @param actual
+     *     the dataset of elements to be verified against expected
+     * @param ordered
+     *     if true, elements of expected and actual must appear in the same order; if false, the
+     *     contents may appear in any order
+     *
+     * @throws TestingException
+     *     when an operation (e.g., comparison) fails, indicates the nature of the failure
+     *
+     * @since 6.10
+     */
+    public static void compareDatasets( final LongDataset expected,
+                                        final LongDataset actual,
+                                        final boolean ordered )
+        throws TestingException
+        {
+
+        final long[] expectedElements = null == expected
+            ? null
+            : expected.elements() ;
+        final long[] actualElements = null == actual
+            ? null
+            : actual.elements() ;
+
+        compareDatasets( expectedElements, actualElements, ordered ) ;
+
+        }   // end LongDataset compareDatasets()
+
+
+    /**
+     * Determine if two double datasets contain the same contents
+     *
+     * @param expected
+     *     the dataset of elements as they should appear
+     * @param actual
+     *     the dataset of elements to be verified against expected
+     * @param ordered
+     *     if true, elements of expected and actual must appear in the same order; if false, the
+     *     contents may appear in any order
+     *
+     * @throws TestingException
+     *     when an operation (e.g., comparison) fails, indicates the nature of the failure
+     *
+     * @since 6.10
+     */
+    public static void compareDatasets( final DoubleDataset expected,
+                                        final DoubleDataset actual,
+                                        final boolean ordered )
+        throws TestingException
+        {
+
+        final double[] expectedElements = null == expected
+            ? null
+            : expected.elements() ;
+        final double[] actualElements = null == actual
+            ? null
+            : actual.elements() ;
+
+        compareDatasets( expectedElements, actualElements, ordered ) ;
+
+        }   // end DoubleDataset compareDatasets()
+
+
+    /**
+     * Determine if a dataset contains the contents of a range without expanding the range
+     *
+     * @param expected
+     *     the range of elements as they should appear
+     * @param actual
+     *     the dataset of elements to be verified against expected
+     * @param ordered
+     *     if true, elements of expected and actual must appear in the same order; if false, the
+     *     contents may appear in any order (a sorted copy of actual is checked against the
+     *     range's occurrence counts)
+     *
+     * @throws TestingException
+     *     when an operation (e.g., comparison) fails, indicates the nature of the failure
+     *
+     * @since 6.14
+     */
+    public static void compareDatasets( final LongRange expected,
+                                        final long[] actual,
+                                        final boolean ordered )
+        throws TestingException
+        {
+
+        if ( verifyDatasetShapes( expected, actual ) )
+            {
+            return ;
+            }
+
+        if ( ordered )
+            {
+            final int mismatchIndex = parallelMismatch( actual.length,
+                                                        DEFAULT_PARALLEL_THRESHOLD,
+                                                        ForkJoinPool.commonPool(),
+                                                        ( from, to ) -> rangeMismatch( expected,
+                                                                                       actual,
+                                                                                       from,
+                                                                                       to ) ) ;
+
+            if ( -1 != mismatchIndex )
+                {
+                reportElementMismatch( expected.get( mismatchIndex ),
+                                       actual[ mismatchIndex ],
+                                       IS_ORDERED,
+                                       mismatchIndex ) ;
+                }
+
+            return ;
+            }
+
+        final long[] sortedActual = Arrays.copyOf( actual, actual.length ) ;
+        sortDataset( sortedActual ) ;
+
+        // with equal lengths, if every actual value occurs as often as in the range, so does
+        // every term
+        int runStart = 0 ;
+
+        while ( runStart < sortedActual.length )
+            {
+            final long value = sortedActual[ runStart ] ;
+            int runEnd = runStart + 1 ;
+
+            while ( ( runEnd < sortedActual.length ) && ( sortedActual[ runEnd ] == value ) )
+                {
+                runEnd++ ;
+                }
+
+            final int expectedCount = expected.count( value ) ;
+
+            if ( expectedCount != ( runEnd - runStart ) )
+                {
+                throw new TestingException( String.format( "element mismatch: %s: expected: %,d occurrence%s; actual: %,d",
+                                                           itemToString( value ),
+                                                           expectedCount,
+                                                           1 == expectedCount
+                                                               ? ""
+                                                               : "s",
+                                                           runEnd - runStart ) ) ;
+                }
+
+            runStart = runEnd ;
+            }
+
+        }   // end LongRange long[] compareDatasets()
+
+
+    /**
+     * Determine if a numeric dataset contains the contents of a range without expanding the range
+     * - see {@code compareDatasets( LongRange, long[], boolean )}
+     *
+     * @param expected
+     *     the range of elements as they should appear
+     * @param actual
+     *     the dataset of elements to be verified against expected
+     * @param ordered
+     *     if true, elements of expected and actual must appear in the same order; if false, the
+     *     contents may appear in any order
+     *
+     * @throws TestingException
+     *     when an operation (e.g., comparison) fails, indicates the nature of the failure
+     *
+     * @since 6.14
+     */
+    public static void compareDatasets( final LongRange expected,
+                                        final LongDataset actual,
+                                        final boolean ordered )
+        throws TestingException
+        {
+
+        compareDatasets( expected,
+                         null == actual
+                             ? null
+                             : actual.elements(),
+                         ordered ) ;
+
+        }   // end LongRange LongDataset compareDatasets()
+
+
+    /**
+     * Determine if a dataset of {@code Long}s contains the contents of a range without expanding
+     * the range - see {@code compareDatasets( LongRange, long[], boolean )}
+     *
+     * @param expected
+     *     the range of elements as they should appear
+     * @param actual
+     *     the dataset of elements to be verified against expected - any element which isn't a
+     *     {@code Long} is a mismatch
+     * @param ordered
+     *     if true, elements of expected and actual must appear in the same order; if false, the
+     *     contents may appear in any order
+     *
+     * @throws TestingException
+     *     when an operation (e.g., comparison) fails, indicates the nature of the failure
+     *
+     * @since 6.14
+     */
+    public static void compareDatasets( final LongRange expected,
+                                        final Object[] actual,
+                                        final boolean ordered )
+        throws TestingException
+        {
+
+        if ( verifyDatasetShapes( expected, actual ) )
+            {
+            return ;
+            }
+
+        final long[] unboxedActual = new long[ actual.length ] ;
+
+        for ( int i = 0 ; i < actual.length ; i++ )
+            {
+
+            if ( !( actual[ i ] instanceof final Long value ) )
+                {
+                throw new TestingException( String.format( "element mismatch: expected a Long; actual: %s at index %,d",
+                                                           itemToString( actual[ i ] ),
+                                                           i ) ) ;
+                }
+
+            if ( ordered && ( value != expected.get( i ) ) )
+                {
+                reportElementMismatch( expected.get( i ), value, IS_ORDERED, i ) ;
+                }
+
+            unboxedActual[ i ] = value ;
+            }
+
+        if ( !ordered )
+            {
+            compareDatasets( expected, unboxedActual, IS_UNORDERED ) ;
+            }
+
+        }   // end LongRange Object[] compareDatasets()
+
+
+    /**
+     * Find the first index in a range at which an array differs from a {@code LongRange}
+     *
+     * @param expected
+     *     the range
+     * @param actual
+     *     the array - the same length as the range
+     * @param fromIndex
+     *     first index to compare (inclusive)
+     * @param toIndex
+     *     last index to compare (exclusive)
+     *
+     * @return the index of the first mismatch or -1 if there is none
+     *
+     * @since 6.14
+     */
+    private static int rangeMismatch( final LongRange expected,
+                                      final long[] actual,
+                                      final int fromIndex,
+                                      final int toIndex )
+        {
+
+        for ( int i = fromIndex ; i < toIndex ; i++ )
+            {
+
+            if ( expected.get( i ) != actual[ i ] )
+                {
+                return i ;
+                }
+
+            }
+
+        return -1 ;
+
+        }   // end rangeMismatch()
+
+
+    /**
+     * Determine if two double datasets contain the same contents, in the same order, to within
+     * an absolute tolerance - convenience method for
+     * {@code compareDatasets( expected, actual, Tolerance.absolute( epsilon ) )}
+     *
+     * @param expected
+     *     the dataset of elements as they should appear
+     * @param actual
+     *     the dataset of elements to be verified against expected
+     * @param epsilon
+     *     the largest acceptable difference between a pair of elements
+     *
+     * @throws TestingException
+     *     when an operation (e.g., comparison) fails, indicates the nature of the failure
+     * @throws IllegalArgumentException
+     *     if {@code epsilon} is negative or {@code NaN} - see {@code Tolerance}
+     *
+     * @since 6.11
+     */
+    public static void compareDatasets( final double[] expected,
+                                        final double[] actual,
+                                        final double epsilon )
+        throws TestingException
+        {
+
+        compareDatasets( expected, actual, Tolerance.absolute( epsilon ) ) ;
+
+        }   // end double[] epsilon compareDatasets()
+
+
+    /**
+     * Determine if two float datasets contain the same contents, in the same order, to within
+     * an absolute tolerance - convenience method for
+     * {@code compareDatasets( expected, actual, Tolerance.absolute( epsilon ) )}
+     *
+     * @param expected
+     *     the dataset of elements as they should appear
+     * @param actual
+     *     the dataset of elements to be verified against expected
+     * @param epsilon
+     *     the largest acceptable difference between a pair of elements
+     *
+     * @throws TestingException
+     *     when an operation (e.g., comparison) fails, indicates the nature of the failure
+     * @throws IllegalArgumentException
+     *     if {@code epsilon} is negative or {@code NaN} - see {@code Tolerance}
+     *
+     * @since 6.11
+     */
+    public static void compareDatasets( final float[] expected,
+                                        final float[] actual,
+                                        final float epsilon )
+        throws TestingException
+        {
+
+        compareDatasets( expected, actual, Tolerance.absolute( epsilon ) ) ;
+
+        }   // end float[] epsilon compareDatasets()
+
+
+    /**
+     * Determine if two double datasets contain the same contents, in the same order, to within
+     * a number of units in the last place - convenience method for
+     * {@code compareDatasets( expected, actual, Tolerance.ulps( maxUlps ) )}
+     *
+     * @param expected
+     *     the dataset of elements as they should appear
+     * @param actual
+     *     the dataset of elements to be verified against expected
+     * @param maxUlps
+     *     the most representable doubles a pair of elements may be apart
+     *
+     * @throws TestingException
+     *     when an operation (e.g., comparison) fails, indicates the nature of the failure
+     * @throws IllegalArgumentException
+     *     if {@code maxUlps} is negative or {@code NaN} - see {@code Tolerance}
+     *
+     * @since 6.11
+     */
+    public static void compareDatasetsWithinUlps( final double[] expected,
+                                                  final double[] actual,
+                                                  final int maxUlps )
+        throws TestingException
+        {
+
+        compareDatasets( expected, actual, Tolerance.ulps( maxUlps ) ) ;
+
+        }   // end double[] compareDatasetsWithinUlps()
+
+
+    /**
+     * Determine if two float datasets contain the same contents, in the same order, to within
+     * a number of units in the last place - convenience method for
+     * {@code compareDatasets( expected, actual, Tolerance.ulps( maxUlps ) )}
+     *
+     * @param expected
+     *     the dataset of elements as they should appear
+     * @param actual
+     *     the dataset of elements to be verified against expected
+     * @param maxUlps
+     *     the most representable floats a pair of elements may be apart
+     *
+     * @throws TestingException
+     *     when an operation (e.g., comparison) fails, indicates the nature of the failure
+     * @throws IllegalArgumentException
+     *     if {@code maxUlps} is negative or {@code NaN} - see {@code Tolerance}
+     *
+     * @since 6.11
+     */
+    public static void compareDatasetsWithinUlps( final float[] expected,
+                                                  final float[] actual,
+                                                  final int maxUlps )
+        throws TestingException
+        {
+
+        compareDatasets( expected, actual, Tolerance.ulps( maxUlps ) ) ;
+
+        }   // end float[] compareDatasetsWithinUlps()
+
+
+    /**
+     * Determine if two double datasets contain the same contents, in the same order, to within a
+     * tolerance - the elements aren't boxed and large datasets are compared on the common
+     * fork-join pool
+     *
+     * @param expected
+     *     the dataset of elements as they should appear
+     * @param actual
+     *     the dataset of elements to be verified against expected
+     * @param tolerance
+     *     how far apart a pair of elements may be
+     *
+     * @throws TestingException
+     *     when an operation (e.g., comparison) fails, indicates the nature of the failure
+     *
+     * @since 6.12
+     */
+    public static void compareDatasets( final double[] expected,
+                                        final double[] actual,
+                                        final Tolerance tolerance )
+        throws TestingException
+        {
+
+        if ( verifyDatasetShapes( expected, actual ) )
+            {
+            return ;
+            }
+
+        final int mismatchIndex = toleranceMismatch( expected, actual, tolerance ) ;
+
+        if ( -1 != mismatchIndex )
+            {
+            reportToleranceMismatch( expected[ mismatchIndex ],
+                                     actual[ mismatchIndex ],
+                                     String.format( "index %,d", mismatchIndex ),
+                                     tolerance ) ;
+            }
+
+        }   // end double[] Tolerance compareDatasets()
+
+
+    /**
+     * Determine if two float datasets contain the same contents, in the same order, to within a
+     * tolerance - the elements aren't boxed and large datasets are compared on the common
+     * fork-join pool
+     *
+     * @param expected
+     *     the dataset of elements as they should appear
+     * @param actual
+     *     the dataset of elements to be verified against expected
+     * @param tolerance
+     *     how far apart a pair of elements may be
+     *
+     * @throws TestingException
+     *     when an operation (e.g., comparison) fails, indicates the nature of the failure
+     *
+     * @since 6.12
+     */
+    public static void compareDatasets( final float[] expected,
+                                        final float[] actual,
+                                        final Tolerance tolerance )
+        throws TestingException
+        {
+
+        if ( verifyDatasetShapes( expected, actual ) )
+            {
+            return ;
+            }
+
+        final int mismatchIndex = toleranceMismatch( expected, actual, tolerance ) ;
+
+        if ( -1 != mismatchIndex )
+            {
+            reportToleranceMismatch( expected[ mismatchIndex ],
+                                     actual[ mismatchIndex ],
+                                     String.format( "index %,d", mismatchIndex ),
+                                     tolerance ) ;
+            }
+
+        }   // end float[] Tolerance compareDatasets()
+
+
+    /**
+     * Determine if two datasets contain the same contents, in the same order, comparing
+     * floating point elements to within a tolerance
+     * <p>
+     * {@code Double} and {@code Float} elements (either, if the pair is mixed) are compared using
+     * {@code tolerance}; array elements, to any depth, are compared element by element the same
+     * way - {@code double[]} and {@code float[]} elements without boxing; all other elements are
+     * compared with {@code equals()}
+     *
+     * @param expected
+     *     the dataset of elements as they should appear, e.g. a {@code Double[]} or
+     *     {@code double[][]}
+     * @param actual
+     *     the dataset of elements to be verified against expected
+     * @param tolerance
+     *     how far apart a pair of floating point elements may be
+     *
+     * @throws TestingException
+     *     when an operation (e.g., comparison) fails, indicates the nature of the failure - the
+     *     position of a nested mismatch is given as a list of indices, e.g. {@code [3][2]}
+     *
+     * @since 6.12
+     */
+    public static void compareDatasets( final Object[] expected,
+                                        final Object[] actual,
+                                        final Tolerance tolerance )
+        throws TestingException
+        {
+
+        if ( verifyDatasetShapes( expected, actual ) )
+            {
+            return ;
+            }
+
+        for ( int i = 0 ; i < expected.length ; i++ )
+            {
+            compareElements( expected[ i ],
+                             actual[ i ],
+                             tolerance,
+                             new StringBuilder().append( '[' ).append( i ).append( ']' ) ) ;
+            }
+
+        }   // end Object[] Tolerance compareDatasets()
+
+
+    /**
+     * Compare a pair of (possibly nested array) elements of datasets to within a tolerance
+     *
+     * @param expected
+     *     the element as it should appear
+     * @param actual
+     *     the element to check
+     * @param tolerance
+     *     how far apart a pair of floating point values may be
+     * @param position
+     *     the indices of the pair, e.g. {@code [3][2]} - extended for nested elements
+     *
+     * @throws TestingException
+     *     if the elements don't match
+     *
+     * @since 6.12
+     */
+    private static void compareElements( final Object expected,
+                                         final Object actual,
+                                         final Tolerance tolerance,
+                                         final StringBuilder position )
+        throws TestingException
+        {
+
+        // reports its own mismatches with the position of the nested pair
+        if ( areNestedArrays( expected, actual ) )
+            {
+            compareNestedArrays( expected, actual, tolerance, position ) ;
+
+            return ;
+            }
+
+        final boolean matches = switch ( expected )
+            {
+            case final Double e when isFloatingPoint( actual )
+                -> tolerance.matches( e, ( (Number) actual ).doubleValue() ) ;
+            case final Float e when actual instanceof final Float a
+                -> tolerance.matches( (float) e, (float) a ) ;
+            case final Float e when actual instanceof final Double a
+                -> tolerance.matches( e, (double) a ) ;
+            case null, default
+                -> Objects.deepEquals( expected, actual ) ;
+            } ;
+
+        if ( !matches )
+            {
+            reportToleranceMismatch( expected, actual, position, tolerance ) ;
+            }
+
+        }   // end compareElements()
+
+
+    /**
+     * Compare a pair of nested arrays of the same type to within a tolerance
+     *
+     * @param expected
+     *     a {@code double[]}, {@code float[]}, or {@code Object[]}
+     * @param actual
+     *     an array of the same type
+     * @param tolerance
+     *     how far apart a pair of floating point values may be
+     * @param position
+     *     the indices of the pair of arrays
+     *
+     * @throws TestingException
+     *     if the lengths or any pair of elements don't match
+     *
+     * @since 6.12
+     */
+    private static void compareNestedArrays( final Object expected,
+                                             final Object actual,
+                                             final Tolerance tolerance,
+                                             final StringBuilder position )
+        throws TestingException
+        {
+
+        final int expectedLength = Array.getLength( expected ) ;
+        final int actualLength = Array.getLength( actual ) ;
+
+        if ( expectedLength != actualLength )
+            {
+            throw new TestingException( String.format( "dataset length mismatch at %s: expected: %,d; actual: %,d",
+                                                       position,
+                                                       expectedLength,
+                                                       actualLength ) ) ;
+            }
+
+        if ( expected instanceof final Object[] expectedElements )
+            {
+            final Object[] actualElements = (Object[]) actual ;
+            final int positionLength = position.length() ;
+
+            for ( int i = 0 ; i < expectedElements.length ; i++ )
+                {
+                position.setLength( positionLength ) ;
+                compareElements( expectedElements[ i ],
+                                 actualElements[ i ],
+                                 tolerance,
+                                 position.append( '[' ).append( i ).append( ']' ) ) ;
+                }
+
+            position.setLength( positionLength ) ;
+
+            return ;
+            }
+
+        final int mismatchIndex = toleranceMismatch( expected, actual, tolerance ) ;
+
+        if ( -1 != mismatchIndex )
+            {
+            reportToleranceMismatch( Array.get( expected, mismatchIndex ),
+                                     Array.get( actual, mismatchIndex ),
+                                     position.append( '[' ).append( mismatchIndex ).append( ']' ),
+                                     tolerance ) ;
+            }
+
+        }   // end compareNestedArrays()
+
+
+    /**
+     * Determine if a pair of elements are arrays which {@code compareNestedArrays()} compares
+     *
+     * @param expected
+     *     the element as it should appear
+     * @param actual
+     *     the element to check
+     *
+     * @return true if both are {@code double[]}s, both are {@code float[]}s, or both are
+     *     {@code Object[]}s
+     *
+     * @since 6.17
+     */
+    private static boolean areNestedArrays( final Object expected,
+                                            final Object actual )
+        {
+
+        return ( ( expected instanceof double[] ) && ( actual instanceof double[] ) ) ||
+               ( ( expected instanceof float[] ) && ( actual instanceof float[] ) ) ||
+               ( ( expected instanceof Object[] ) && ( actual instanceof Object[] ) ) ;
+
+        }   // end areNestedArrays()
+
+
+    /**
+     * Find the first pair of elements of two same-length {@code double[]}s or {@code float[]}s
+     * which don't match - on the common fork-join pool for large arrays
+     *
+     * @param expected
+     *     a {@code double[]} or {@code float[]}
+     * @param actual
+     *     an array of the same type and length
+     * @param tolerance
+     *     how far apart a pair of elements may be
+     *
+     * @return the index of the first mismatch or -1 if there is none
+     *
+     * @since 6.12
+     */
+    private static int toleranceMismatch( final Object expected,
+                                          final Object actual,
+                                          final Tolerance tolerance )
+        {
+
+        final RangeMismatch rangeMismatch = switch ( expected )
+            {
+            case final double[] e
+                -> ( from, to ) -> FloatingPointMismatch.mismatch( e,
+                                                                   (double[]) actual,
+                                                                   from,
+                                                                   to,
+                                                                   tolerance.absolute(),
+                                                                   tolerance.relative(),
+                                                                   tolerance.maxUlps() ) ;
+            default
+                -> ( from, to ) -> FloatingPointMismatch.mismatch( (float[]) expected,
+                                                                   (float[]) actual,
+                                                                   from,
+                                                                   to,
+                                                                   tolerance.absolute(),
+                                                                   tolerance.relative(),
+                                                                   tolerance.maxUlps() ) ;
+            } ;
+
+        return parallelMismatch( Array.getLength( expected ),
+                                 DEFAULT_PARALLEL_THRESHOLD,
+                                 ForkJoinPool.commonPool(),
+                                 rangeMismatch ) ;
+
+        }   // end toleranceMismatch()
+
+
+    /**
+     * Report a pair of elements which don't match to within a tolerance
+     *
+     * @param expectedElement
+     *     the element as it should appear
+     * @param actualElement
+     *     the element which doesn't match {@code expectedElement}
+     * @param position
+     *     where the elements are, e.g. "index 7" or "[3][2]"
+     * @param tolerance
+     *     the tolerance used
+     *
+     * @throws TestingException
+     *     always
+     *
+     * @since 6.12
+     */
+    private static void reportToleranceMismatch( final Object expectedElement,
+                                                 final Object actualElement,
+                                                 final CharSequence position,
+                                                 final Tolerance tolerance )
+        throws TestingException
+        {
+
+        // the default 6 decimal places would hide the difference
+        final String difference = isFloatingPoint( expectedElement ) &&
+                                  isFloatingPoint( actualElement )
+            ? String.format( "; difference: %s",
+                             Math.abs( ( (Number) expectedElement ).doubleValue() -
+                                       ( (Number) actualElement ).doubleValue() ) )
+            : "" ;
+
+        throw new TestingException( String.format( "element mismatch: expected: %s; actual: %s at %s (tolerance: %s%s)",
+                                                   toleranceItemToString( expectedElement ),
+                                                   toleranceItemToString( actualElement ),
+                                                   position,
+                                                   tolerance,
+                                                   difference ) ) ;
+
+        }   // end reportToleranceMismatch()
+
+
+    /**
+     * Format an element for a tolerance mismatch report - floating point values in full
+     * precision
+     *
+     * @param item
+     *     the element
+     *
+     * @return the text
+     *
+     * @since 6.12
+     */
+    private static String toleranceItemToString( final Object item )
+        {
+
+        return switch ( item )
+            {
+            case final Double d
+                -> d.toString() ;
+            case final Float f
+                -> f.toString() + "f" ;
+            case null, default
+                -> itemToString( item ) ;
+            } ;
+
+        }   // end toleranceItemToString()
+
+
+    /**
+     * Determine if an element is a boxed floating point value
+     *
+     * @param item
+     *     the element
+     *
+     * @return true if {@code item} is a {@code Double} or {@code Float}
+     *
+     * @since 6.12
+     */
+    private static boolean isFloatingPoint( final Object item )
+        {
+
+        return ( item instanceof Double ) || ( item instanceof Float ) ;
+
+        }   // end isFloatingPoint()
+
+
+    /**
+     * Determine if a dataset has the contents an expected fingerprint was computed from - e.g.
+     * when the expected dataset is too large to keep; on a mismatch, regenerate it and use another
+     * {@code compareDatasets()} for a detailed report
+     *
+     * @param expected
+     *     the fingerprint of the elements as they should appear - ordered or unordered
+     * @param actual
+     *     the dataset of elements to be verified against expected
+     *
+     * @throws TestingException
+     *     if the fingerprints differ
+     *
+     * @see DatasetFingerprint
+     *
+     * @since 6.13
+     */
+    public static void compareDatasets( final DatasetFingerprint expected,
+                                        final Object[] actual )
+        throws TestingException
+        {
+
+        verifyFingerprint( expected,
+                           DatasetFingerprint.of( actual,
+                                                  ( null == expected ) || expected.ordered() ) ) ;
+
+        }   // end Object[] DatasetFingerprint compareDatasets()
+
+
+    /**
+     * Determine if a numeric dataset has the contents an expected fingerprint was computed from -
+     * see {@code compareDatasets( DatasetFingerprint, Object[] )}
+     *
+     * @param expected
+     *     the fingerprint of the elements as they should appear - ordered or unordered
+     * @param actual
+     *     the dataset of elements to be verified against expected
+     *
+     * @throws TestingException
+     *     if the fingerprints differ
+     *
+     * @see DatasetFingerprint
+     *
+     * @since 6.13
+     */
+    public static void compareDatasets( final DatasetFingerprint expected,
+                                        final NumericDataset actual )
+        throws TestingException
+        {
+
+        verifyFingerprint( expected,
+                           DatasetFingerprint.of( actual,
+                                                  ( null == expected ) || expected.ordered() ) ) ;
+
+        }   // end NumericDataset DatasetFingerprint compareDatasets()
+
+
+    /**
+     * Compare an expected fingerprint with an actual dataset's
+     *
+     * @param expected
+     *     the expected fingerprint
+     * @param actual
+     *     the actual dataset's fingerprint, computed the same way
+     *
+     * @throws TestingException
+     *     if the fingerprints differ
+     *
+     * @since 6.13
+     */
+    private static void verifyFingerprint( final DatasetFingerprint expected,
+                                           final DatasetFingerprint actual )
+        throws TestingException
+        {
+
+        if ( ( null == expected ) && ( null == actual ) )
+            {
+            return ;
+            }
+
+        if ( ( null == expected ) || ( null == actual ) )
+            {
+            throw new TestingException( "bad test data detected: one dataset is null and the other isn't" ) ;
+            }
+
+        if ( expected.elementCount() != actual.elementCount() )
+            {
+            throw new TestingException( String.format( "dataset length mismatch: expected: %,d; actual: %,d",
+                                                       expected.elementCount(),
+                                                       actual.elementCount() ) ) ;
+            }
+
+        if ( !expected.equals( actual ) )
+            {
+            throw new TestingException( String.format( "dataset fingerprint mismatch: expected: %s; actual: %s",
+                                                       expected,
+                                                       actual ) ) ;
+            }
+
+        }   // end verifyFingerprint()
+
+
+    /**
+     * Determine if two flattened multi-dimensional arrays have the same shape and contents
+     * <p>
+     * convenience method for 3-arg {@code compareDatasets()} in row-major order
+     *
+     * @param expected
+     *     the flattened array as it should appear
+     * @param actual
+     *     the flattened array to be verified against expected
+     *
+     * @throws TestingException
+     *     when an operation (e.g., comparison) fails, indicates the nature of the failure
+     *
+     * @since 6.2
+     */
+    public static void compareDatasets( final FlattenedArray expected,
+                                        final FlattenedArray actual )
+        throws TestingException
+        {
+
+        compareDatasets( expected, actual, ROW_MAJOR ) ;
+
+        }   // end 2-arg FlattenedArray compareDatasets()
+
+
+    /**
+     * Determine if two flattened multi-dimensional arrays have the same shape and contents
+     *
+     * @param expected
+     *     the flattened array as it should appear
+     * @param actual
+     *     the flattened array to be verified against expected
+     * @param rowMajor
+     *     {@code ROW_MAJOR} compares {@code actual} as stored; {@code COLUMN_MAJOR} compares the
+     *     transpose of {@code actual} (which must be rectangular) - e.g. when {@code actual} is
+     *     indexed [column][row] and {@code expected} is indexed [row][column]
+     *
+     * @throws TestingException
+     *     when an operation (e.g., comparison) fails, indicates the nature of the failure
+     *
+     * @since 6.2
+     */
+    public static void compareDatasets( final FlattenedArray expected,
+                                        FlattenedArray actual,
+                                        final boolean rowMajor )
+        throws TestingException
+        {
+
+        // if both references are null, succeed
+        if ( ( null == expected ) && ( null == actual ) )
+            {
+            return ;
+            }
+
+        if ( ( null == expected ) || ( null == actual ) )
+            {
+            throw new TestingException( "bad test data detected: one array is null and the other isn't" ) ;
+            }
+
+        if ( !rowMajor )
+            {
+            actual = actual.inColumnMajorOrder() ;
+            }
+
+        if ( expected.dimensions() != actual.dimensions() )
+            {
+            throw new TestingException( String.format( "array dimensions mismatch: expected: %,d; actual: %,d",
+                                                       expected.dimensions(),
+                                                       actual.dimensions() ) ) ;
+            }
+
+        final Class<?> expectedType = expected.elements()
+                                              .getClass()
+                                              .getComponentType() ;
+        final Class<?> actualType = actual.elements()
+                                          .getClass()
+                                          .getComponentType() ;
+
+        if ( expectedType.isPrimitive() != actualType.isPrimitive() ||
+             ( expectedType.isPrimitive() && ( expectedType != actualType ) ) )
+            {
+            throw new TestingException( String.format( "array component type mismatch: expected: %s; actual: %s",
+                                                       expectedType.getSimpleName(),
+                                                       actualType.getSimpleName() ) ) ;
+            }
+
+        // compare the shapes - the lengths of each subarray in depth-first order
+        final int shapeMismatch = Arrays.mismatch( expected.shape(), actual.shape() ) ;
+
+        if ( -1 != shapeMismatch )
+            {
+            throw new TestingException( String.format( "array shape mismatch at subarray %,d (depth-first): expected length: %s; actual length: %s",
+                                                       shapeMismatch,
+                                                       describeSubarrayLength( expected.shape(),
+                                                                               shapeMismatch ),
+                                                       describeSubarrayLength( actual.shape(),
+                                                                               shapeMismatch ) ) ) ;
+            }
+
+        // assertion: same shape, so the same number of elements
+
+        final int elementMismatch = arrayMismatch( expected.elements(), actual.elements() ) ;
+
+        if ( -1 != elementMismatch )
+            {
+            throw new TestingException( String.format( "element mismatch: expected: %s; actual: %s at %s",
+                                                       itemToString( Array.get( expected.elements(),
+                                                                                elementMismatch ) ),
+                                                       itemToString( Array.get( actual.elements(),
+                                                                                elementMismatch ) ),
+                                                       expected.describePosition( elementMismatch ) ) ) ;
+            }
+
+        // arrays are the same
+
+        }   // end 3-arg FlattenedArray compareDatasets()
+
+
+    /**
+     * Describe the length of a subarray recorded in a flattened array's shape
+     *
+     * @param shape
+     *     the flattened array's shape
+     * @param subarrayIndex
+     *     the position in {@code shape}
+     *
+     * @return the length, "null" for a {@code null} subarray, or "none" if {@code shape} has no
+     *     such subarray
+     *
+     * @since 6.2
+     */
+    private static String describeSubarrayLength( final int[] shape,
+                                                  final int subarrayIndex )
+        {
+
+        if ( subarrayIndex >= shape.length )
+            {
+            return "none" ;
+            }
+
+        return -1 == shape[ subarrayIndex ]
+            ? "null"
+            : String.format( "%,d", shape[ subarrayIndex ] ) ;
+
+        }   // end describeSubarrayLength()
+
+
+    /**
+     * Find the first index at which two same-typed arrays differ without boxing primitive elements
+     * <p>
+     * reference elements are compared with {@code Objects.equals()}
+     *
+     * @param expected
+     *     an array
+     * @param actual
+     *     an array of the same type as {@code expected} (any reference array if {@code expected}
+     *     is a reference array)
+     *
+     * @return the index of the first mismatch or -1 if there is none
+     *
+     * @since 6.2
+     */
+    private static int arrayMismatch( final Object expected,
+                                      final Object actual )
+        {
+
+        return switch ( expected )
+            {
+            case final int[] e
+                -> Arrays.mismatch( e, (int[]) actual ) ;
+            case final long[] e
+                -> Arrays.mismatch( e, (long[]) actual ) ;
+            case final double[] e
+                -> Arrays.mismatch( e, (double[]) actual ) ;
+            case final char[] e
+                -> Arrays.mismatch( e, (char[]) actual ) ;
+            case final float[] e
+                -> Arrays.mismatch( e, (float[]) actual ) ;
+            case final short[] e
+                -> Arrays.mismatch( e, (short[]) actual ) ;
+            case final byte[] e
+                -> Arrays.mismatch( e, (byte[]) actual ) ;
+            case final boolean[] e
+                -> Arrays.mismatch( e, (boolean[]) actual ) ;
+            default
+                -> Arrays.mismatch( (Object[]) expected, (Object[]) actual ) ;
+            } ;
+
+        }   // end arrayMismatch()
+
+
+    /**
+     * Find the first index in a range at which two same-typed arrays differ without boxing
+     * primitive elements
+     * <p>
+     * reference elements are compared with {@code Objects.equals()}
+     *
+     * @param expected
+     *     an array
+     * @param actual
+     *     an array of the same type as {@code expected} (any reference array if {@code expected}
+     *     is a reference array)
+     * @param fromIndex
+     *     first index to compare (inclusive)
+     * @param toIndex
+     *     last index to compare (exclusive)
+     *
+     * @return the index of the first mismatch or -1 if there is none
+     *
+     * @since 6.8
+     */
+    private static int arrayMismatch( final Object expected,
+                                      final Object actual,
+                                      final int fromIndex,
+                                      final int toIndex )
+        {
+
+        final int relativeIndex = switch ( expected )
+            {
+            case final int[] e
+                -> Arrays.mismatch( e, fromIndex, toIndex, (int[]) actual, fromIndex, toIndex ) ;
+            case final long[] e
+                -> Arrays.mismatch( e, fromIndex, toIndex, (long[]) actual, fromIndex, toIndex ) ;
+            case final double[] e
+                -> Arrays.mismatch( e, fromIndex, toIndex, (double[]) actual, fromIndex, toIndex ) ;
+            case final char[] e
+                -> Arrays.mismatch( e, fromIndex, toIndex, (char[]) actual, fromIndex, toIndex ) ;
+            case final float[] e
+                -> Arrays.mismatch( e, fromIndex, toIndex, (float[]) actual, fromIndex, toIndex ) ;
+            case final short[] e
+                -> Arrays.mismatch( e, fromIndex, toIndex, (short[]) actual, fromIndex, toIndex ) ;
+            case final byte[] e
+                -> Arrays.mismatch( e, fromIndex, toIndex, (byte[]) actual, fromIndex, toIndex ) ;
+            case final boolean[] e
+                -> Arrays.mismatch( e, fromIndex, toIndex, (boolean[]) actual, fromIndex, toIndex ) ;
+            default
+                -> Arrays.mismatch( (Object[]) expected,
+                                    fromIndex,
+                                    toIndex,
+                                    (Object[]) actual,
+                                    fromIndex,
+                                    toIndex ) ;
+            } ;
+
+        return -1 == relativeIndex
+            ? -1
+            : fromIndex + relativeIndex ;
+
+        }   // end 4-arg arrayMismatch()
+
+
+    /**
+     * Find the first index in a range at which two reference arrays hold different instances
+     *
+     * @param expected
+     *     an array
+     * @param actual
+     *     an array at least as long as {@code expected}
+     * @param fromIndex
+     *     first index to compare (inclusive)
+     * @param toIndex
+     *     last index to compare (exclusive)
+     *
+     * @return the index of the first mismatch or -1 if there is none
+     *
+     * @since 6.8
+     */
+    private static int identityMismatch( final Object[] expected,
+                                         final Object[] actual,
+                                         final int fromIndex,
+                                         final int toIndex )
+        {
+
+        for ( int i = fromIndex ; i < toIndex ; i++ )
+            {
+
+            if ( expected[ i ] != actual[ i ] )
+                {
+                return i ;
+                }
+
+            }
+
+        return -1 ;
+
+        }   // end identityMismatch()
+
+
+    /**
+     * Find the first index at which two same-typed, same-length arrays differ, in parallel if
+     * they're large enough
+     *
+     * @param expected
+     *     an array
+     * @param actual
+     *     an array of the same type and length as {@code expected}
+     * @param parallelThreshold
+     *     the minimum length to compare in parallel
+     * @param pool
+     *     runs the parallel comparison
+     *
+     * @return the index of the first mismatch or -1 if there is none
+     *
+     * @since 6.8
+     */
+    private static int datasetMismatch( final Object expected,
+                                        final Object actual,
+                                        final int parallelThreshold,
+                                        final ForkJoinPool pool )
+        {
+
+        return parallelMismatch( Array.getLength( expected ),
+                                 parallelThreshold,
+                                 pool,
+                                 ( from, to ) -> arrayMismatch( expected, actual, from, to ) ) ;
+
+        }   // end datasetMismatch()
+
+
+    /**
+     * Finds the first mismatch in a range of indices
+     *
+     * @since 6.8
+     */
+    @FunctionalInterface
+    private interface RangeMismatch
+        {
+
+        /**
+         * Find the first mismatch in a range
+         *
+         * @param fromIndex
+         *     first index to compare (inclusive)
+         * @param toIndex
+         *     last index to compare (exclusive)
+         *
+         * @return the index of the first mismatch or -1 if there is none
+         */
+        int mismatch( int fromIndex, int toIndex ) ;
+
+        }   // end interface RangeMismatch
+
+
+    /**
+     * Find the lowest mismatching index - sequentially for short datasets, otherwise by comparing
+     * chunks on a fork-join pool
+     * <p>
+     * each task compares its chunk a block at a time and stops once another task has found a
+     * mismatch at a lower index
+     *
+     * @param length
+     *     the number of elements to compare
+     * @param parallelThreshold
+     *     the minimum length to compare in parallel
+     * @param pool
+     *     runs the chunks' tasks
+     * @param rangeMismatch
+     *     compares a range of elements
+     *
+     * @return the index of the first mismatch or -1 if there is none
+     *
+     * @since 6.8
+     */
+    private static int parallelMismatch( final int length,
+                                         final int parallelThreshold,
+                                         final ForkJoinPool pool,
+                                         final RangeMismatch rangeMismatch )
+        {
+
+        if ( !isParallelWorthwhile( length, parallelThreshold, pool ) )
+            {
+            return rangeMismatch.mismatch( 0, length ) ;
+            }
+
+        // a few chunks per thread so a slow chunk doesn't leave the others idle
+        final int chunkCount = 4 * pool.getParallelism() ;
+        final int chunkSize = (int) ( ( (long) length + chunkCount - 1 ) / chunkCount ) ;
+        final AtomicInteger lowestMismatch = new AtomicInteger( Integer.MAX_VALUE ) ;
+        final List<ForkJoinTask<?>> chunkTasks = new ArrayList<>( chunkCount ) ;
+
+        for ( int chunkStart = 0 ; chunkStart < length ; chunkStart += chunkSize )
+            {
+            final int from = chunkStart ;
+            final int to = (int) Math.min( length, (long) chunkStart + chunkSize ) ;
+
+            chunkTasks.add( ForkJoinTask.adapt( () -> chunkMismatch( from,
+                                                                     to,
+                                                                     rangeMismatch,
+                                                                     lowestMismatch ) ) ) ;
+            }
+
+        invokeAll( pool, chunkTasks ) ;
+
+        return Integer.MAX_VALUE == lowestMismatch.get()
+            ? -1
+            : lowestMismatch.get() ;
+
+        }   // end parallelMismatch()
+
+
+    /**
+     * Compare one chunk of a parallel comparison a block at a time, stopping once any task has
+     * found a mismatch at a lower index
+     *
+     * @param fromIndex
+     *     first index to compare (inclusive)
+     * @param toIndex
+     *     last index to compare (exclusive)
+     * @param rangeMismatch
+     *     compares a range of elements
+     * @param lowestMismatch
+     *     the lowest mismatching index found by any task so far - lowered if this chunk has a
+     *     mismatch
+     *
+     * @since 6.20
+     */
+    private static void chunkMismatch( final int fromIndex,
+                                       final int toIndex,
+                                       final RangeMismatch rangeMismatch,
+                                       final AtomicInteger lowestMismatch )
+        {
+
+        for ( int blockStart = fromIndex ;
+              ( blockStart < toIndex ) && ( blockStart < lowestMismatch.get() ) ;
+              blockStart += PARALLEL_BLOCK_SIZE )
+            {
+            final int mismatchIndex = rangeMismatch.mismatch( blockStart,
+                                                              Math.min( toIndex,
+                                                                        blockStart +
+                                                                        PARALLEL_BLOCK_SIZE ) ) ;
+
+            if ( -1 != mismatchIndex )
+                {
+                lowestMismatch.accumulateAndGet( mismatchIndex, Math::min ) ;
+
+                return ;
+                }
+
+            }
+
+        }   // end chunkMismatch()
+
+
+    /**
+     * Run tasks on a pool and wait for all of them to finish
+     * <p>
+     * the tasks are forked from a task running on {@code pool} so they run there too, rather than
+     * on the common pool
+     *
+     * @param pool
+     *     runs the tasks
+     * @param tasks
+     *     the tasks
+     *
+     * @throws RuntimeException
+     *     rethrows an exception thrown by a task, e.g. from an element's {@code equals()}
+     *
+     * @since 6.20
+     */
+    private static void invokeAll( final ForkJoinPool pool,
+                                   final List<? extends ForkJoinTask<?>> tasks )
+        {
+
+        pool.invoke( ForkJoinTask.adapt( () -> ForkJoinTask.invokeAll( tasks ) ) ) ;
+
+        }   // end invokeAll()
+
+
+    /**
+     * Determine if a comparison should be split across a fork-join pool
+     *
+     * @param length
+     *     the number of elements to compare
+     * @param parallelThreshold
+     *     the minimum length to compare in parallel
+     * @param pool
+     *     the pool which would run the comparison
+     *
+     * @return true if the dataset is large enough and the pool has more than one thread
+     *
+     * @since 6.8
+     */
+    private static boolean isParallelWorthwhile( final int length,
+                                                 final int parallelThreshold,
+                                                 final ForkJoinPool pool )
+        {
+
+        return ( length >= parallelThreshold ) &&
+               ( pool.getParallelism() > 1 ) ;
+
+        }   // end isParallelWorthwhile()
+
+
+    /**
+     * Sort a primitive array - in parallel if it has at least {@code DEFAULT_PARALLEL_THRESHOLD}
+     * elements
+     *
+     * @param anArray
+     *     an {@code int[]}, {@code long[]}, {@code double[]}, or {@code char[]}
+     *
+     * @since 6.8
+     */
+    private static void sortDataset( final Object anArray )
+        {
+
+        final boolean inParallel = isParallelWorthwhile( Array.getLength( anArray ),
+                                                         DEFAULT_PARALLEL_THRESHOLD,
+                                                         ForkJoinPool.commonPool() ) ;
+
+        switch ( anArray )
+            {
+            case final int[] a when inParallel
+                -> Arrays.parallelSort( a ) ;
+            case final int[] a
+                -> Arrays.sort( a ) ;
+            case final long[] a when inParallel
+                -> Arrays.parallelSort( a ) ;
+            case final long[] a
+                -> Arrays.sort( a ) ;
+            case final double[] a when inParallel
+                -> Arrays.parallelSort( a ) ;
+            case final double[] a
+                -> Arrays.sort( a ) ;
+            case final char[] a when inParallel
+                -> Arrays.parallelSort( a ) ;
+            case final char[] a
+                -> Arrays.sort( a ) ;
+            default
+                -> throw new IllegalArgumentException( String.format( "not a sortable primitive array: %s",
+                                                                      anArray.getClass()
+                                                                             .getSimpleName() ) ) ;
+            }
+
+        }   // end sortDataset()
+
+
+    /**
+     * Verify that two datasets are either both {@code null} or both non-null and the same length
+     *
+     * @param expected
+     *     the dataset of elements as they should appear - an array or a {@code LongRange}
+     * @param actual
+     *     the dataset of elements to be verified against expected - an array
+     *
+     * @return {@code true} if both datasets are {@code null} (nothing more to compare);
+     *     {@code false} if both are non-null and the same length
+     *
+     * @throws TestingException
+     *     if only one dataset is {@code null} or their lengths differ
+     *
+     * @since 6.1
+     */
+    private static boolean verifyDatasetShapes( final Object expected,
+                                                final Object actual )
+        throws TestingException
+        {
+
+        // if both dataset references are null, succeed
+        if ( ( null == expected ) && ( null == actual ) )
+            {
+            return true ;
+            }
+
+        // if one dataset reference is null and the other is empty, fail
+        if ( ( ( null == expected ) && ( 0 == datasetLength( actual ) ) ) ||
+             ( ( null == actual ) && ( 0 == datasetLength( expected ) ) ) )
+            {
+            throw new TestingException( "comparing null to empty []" ) ;
+            }
+
+        if ( ( null == expected ) || ( null == actual ) )
+            {
+            throw new TestingException( "bad test data detected: one dataset is null and the other is neither null nor empty" ) ;
+            }
+
+        // make sure the two datasets contain the same number of elements
+        final int expectedLength = datasetLength( expected ) ;
+        final int actualLength = datasetLength( actual ) ;
+
+        if ( expectedLength != actualLength )
+            {
+            throw new TestingException( String.format( "dataset length mismatch: expected: %,d; actual: %,d",
+                                                       expectedLength,
+                                                       actualLength ) ) ;
+            }
+
+        return false ;
+
+        }   // end verifyDatasetShapes()
+
+
+    /**
+     * Determine the number of elements in a dataset
+     *
+     * @param dataset
+     *     an array or a {@code LongRange}
+     *
+     * @return the number of elements
+     *
+     * @since 6.14
+     */
+    private static int datasetLength( final Object dataset )
+        {
+
+        return dataset instanceof final LongRange range
+            ? range.length()
+            : Array.getLength( dataset ) ;
+
+        }   // end datasetLength()
+
+
+    /**
+     * Report a mismatched pair of elements
+     *
+     * @param expectedElement
+     *     the element as it should appear
+     * @param actualElement
+     *     the element which doesn't match {@code expectedElement}
+     * @param ordered
+     *     if true, include the position in the report
+     * @param index
+     *     the position of the mismatched elements
+     *
+     * @throws TestingException
+     *     always - describes the mismatch
+     *
+     * @since 6.1
+     */
+    private static void reportElementMismatch( final Object expectedElement,
+                                               final Object actualElement,
+                                               final boolean ordered,
+                                               final int index )
+        throws TestingException
+        {
+
+        final StringBuilder message = new StringBuilder( String.format( "element mismatch: expected: %s; actual: %s",
+                                                                        itemToString( expectedElement ),
+                                                                        itemToString( actualElement ) ) ) ;
+
+        if ( ordered )     // include the position
+            {
+            message.append( String.format( " at index %,d", index ) ) ;
+            }
+
+        throw new TestingException( message.toString() ) ;
+
+        }   // end reportElementMismatch()
+
+
+    /**
+     * Count the number of occurrences of a value in a dataset
+     * <p>
+     * Note: a {@code null} dataset element will match an argument of {@code null}
+     *
+     * @param values
+     *     the collection of values
+     * @param testValue
+     *     the test value
+     *
+     * @return the number of times testValue occurred in values
+     *
+     * @since 5.7
+     */
+    public static int countOccurrences( final Object[] values,
+                                        final Object testValue )
+        {
+
+        int occurrences = 0 ;
+
+        for ( final Object value : values )
+            {
+
+            if ( null == value )
+                {
+
+                if ( null == testValue )
+                    {
+                    occurrences++ ;
+                    }
+
+                }
+            else if ( value.equals( testValue ) )
+                {
+                occurrences++ ;
+                }
+
+            }
+
+        return occurrences ;
+
+        }   // end countOccurrences()
+
+
+    /**
+     * Count the number of occurrences of a value in an indexed dataset - O(1) expected, rather
+     * than a scan of the dataset
+     *
+     * @param values
+     *     the indexed collection of values
+     * @param testValue
+     *     the test value - may be {@code null}
+     *
+     * @return the number of times testValue occurred in values
+     *
+     * @see DatasetIndex
+     *
+     * @since 6.9
+     */
+    public static int countOccurrences( final DatasetIndex values,
+                                        final Object testValue )
+        {
+
+        return values.count( testValue ) ;
+
+        }   // end DatasetIndex countOccurrences()
+
+
+    /**
+     * Count the number of occurrences of a value in an int dataset
      *
-     * @throws TestingException
-     *     when an operation (e.g., comparison) fails, indicates the nature of the failure
+     * @param values
+     *     the collection of values
+     * @param testValue
+     *     the test value
      *
-     * @since 6.0
+     * @return the number of times testValue occurred in values
+     *
+     * @since 6.10
      */
-    public static void compareDatasets( final Object[] expected,
-                                        final Object[] actual,
-                                        final boolean ordered,
-                                        final boolean compareEquality )
-        throws TestingException
+    public static int countOccurrences( final IntDataset values,
+                                        final int testValue )
         {
 
-        // if both dataset references are null, succeed
-        if ( ( null == expected ) && ( null == actual ) )       // both null
-            {
-            return ;
-            }
-
-        // assertion: at least one reference (expected, actual) must be non-null
+        int occurrences = 0 ;
 
-        // if one dataset reference is null and the other is empty, fail
-        // REPORT_BUG the compiler isn't recognizing that the test for non-null is redundant
-        // REPORT_BUG can't be here if expected and actual are both null
-        if ( ( ( null == expected ) &&
-               ( ( null != actual ) && ( 0 == actual.length ) ) ) ||  // expected is null, actual is
-                                                                      // empty
-             ( ( null == actual ) &&
-               ( ( null != expected ) && ( 0 == expected.length ) ) ) )   // actual is null,
-                                                                          // expected is empty
+        for ( final int value : values.elements() )
             {
-            throw new TestingException( "comparing null to empty []" ) ;
-            }
 
-        if ( ( null == expected ) || ( null == actual ) )
-            {
-            // 2xCk should this be IllegalStateException? other?
-            throw new TestingException( "bad test data detected: one dataset is null and the other is neither null nor empty" ) ;
+            if ( testValue == value )
+                {
+                occurrences++ ;
+                }
+
             }
 
-        // assertion: both references (expected, actual) must be non-null
+        return occurrences ;
 
-        // make sure the two datasets contain the same number of elements
-        if ( expected.length != actual.length )
-            {
-            throw new TestingException( String.format( "dataset length mismatch: expected: %,d; actual: %,d",
-                                                       expected.length,
-                                                       actual.length ) ) ;
-            }
+        }   // end IntDataset countOccurrences()
 
-        // assertion: expected and actual are the same length
 
-        // make copies of the datasets so we don't affect the contents/order of the originals
-        final Object[] workingExpected = Arrays.copyOf( expected,
-                                                        expected.length ) ;
-        final Object[] workingActual = Arrays.copyOf( actual, actual.length ) ;
+    /**
+     * Count the number of occurrences of a value in a long dataset
+     *
+     * @param values
+     *     the collection of values
+     * @param testValue
+     *     the test value
+     *
+     * @return the number of times testValue occurred in values
+     *
+     * @since 6.10
+     */
+    public static int countOccurrences( final LongDataset values,
+                                        final long testValue )
+        {
 
-        // if the order of the contents of the datasets isn't ordered, (stable) sort them
-        if ( !ordered )
-            {
-            Arrays.sort( workingExpected ) ;
-            Arrays.sort( workingActual ) ;
-            }
+        int occurrences = 0 ;
 
-        // compare the contents of the datasets
-        for ( int i = 0 ; i < workingExpected.length ; i++ )
+        for ( final long value : values.elements() )
             {
-            final boolean matched = compareEquality
-                ? workingExpected[ i ].equals( workingActual[ i ] )
-                : workingExpected[ i ] == workingActual[ i ] ;
 
-            if ( !matched )
+            if ( testValue == value )
                 {
-                final StringBuilder message = new StringBuilder( String.format( "element mismatch: expected: %s; actual: %s",
-                                                                                itemToString( workingExpected[ i ] ),
-                                                                                itemToString( workingActual[ i ] ) ) ) ;
-
-                if ( ordered )     // include the position
-                    {
-                    message.append( String.format( " at index %,d", i ) ) ;
-                    }
-
-                throw new TestingException( message.toString() ) ;
+                occurrences++ ;
                 }
 
             }
 
-        // datasets are the same
+        return occurrences ;
 
-        }  // end compareDatasets()
+        }   // end LongDataset countOccurrences()
 
 
     /**
-     * Count the number of occurrences of a value in a dataset
+     * Count the number of occurrences of a value in a double dataset
+     *
      * <p>
-     * Note: a {@code null} dataset element will match an argument of {@code null}
+     * values match as boxed {@code Double}s would - {@code NaN} matches {@code NaN} and
+     * {@code 0.0} doesn't match {@code -0.0}
      *
      * @param values
      *     the collection of values
@@ -512,27 +4193,18 @@ public class TestData
      *
      * @return the number of times testValue occurred in values
      *
-     * @since 5.7
+     * @since 6.10
      */
-    public static int countOccurrences( final Object[] values,
-                                        final Object testValue )
+    public static int countOccurrences( final DoubleDataset values,
+                                        final double testValue )
         {
 
         int occurrences = 0 ;
 
-        for ( final Object value : values )
+        for ( final double value : values.elements() )
             {
 
-            if ( null == value )
-                {
-
-                if ( null == testValue )
-                    {
-                    occurrences++ ;
-                    }
-
-                }
-            else if ( value.equals( testValue ) )
+            if ( Double.doubleToLongBits( testValue ) == Double.doubleToLongBits( value ) )
                 {
                 occurrences++ ;
                 }
@@ -541,7 +4213,28 @@ public class TestData
 
         return occurrences ;
 
-        }   // end countOccurrences()
+        }   // end DoubleDataset countOccurrences()
+
+
+    /**
+     * Count the number of occurrences of a value in a range - O(1), without expanding the range
+     *
+     * @param values
+     *     the range of values
+     * @param testValue
+     *     the test value
+     *
+     * @return the number of times testValue occurred in values
+     *
+     * @since 6.14
+     */
+    public static int countOccurrences( final LongRange values,
+                                        final long testValue )
+        {
+
+        return values.count( testValue ) ;
+
+        }   // end LongRange countOccurrences()
 
 
     /**
@@ -587,6 +4280,216 @@ public class TestData
         }   // end datasetContains()
 
 
+    /**
+     * Determine if {@code testValue} occurs at least once in an indexed dataset - O(1) expected,
+     * rather than a scan of the dataset
+     *
+     * @param values
+     *     the indexed collection of values
+     * @param testValue
+     *     the value to look for - may be {@code null}
+     *
+     * @return true if at least one occurrence; false if no occurrences
+     *
+     * @see DatasetIndex
+     *
+     * @since 6.9
+     */
+    public static boolean datasetContains( final DatasetIndex values,
+                                           final Object testValue )
+        {
+
+        return values.contains( testValue ) ;
+
+        }   // end DatasetIndex datasetContains()
+
+
+    /**
+     * Determine if {@code testValue} occurs at least once in an int dataset
+     *
+     * @param values
+     *     the collection of values
+     * @param testValue
+     *     the value to look for
+     *
+     * @return true if at least one occurrence; false if no occurrences
+     *
+     * @since 6.10
+     */
+    public static boolean datasetContains( final IntDataset values,
+                                           final int testValue )
+        {
+
+        // proceed if we have a dataset to search
+        if ( null == values )
+            {
+            return false ;
+            }
+
+        for ( final int value : values.elements() )
+            {
+
+            if ( testValue == value )
+                {
+                return true ;
+                }
+
+            }
+
+        // no match
+        return false ;
+
+        }   // end IntDataset datasetContains()
+
+
+    /**
+     * Determine if {@code testValue} occurs at least once in a long dataset
+     *
+     * @param values
+     *     the collection of values
+     * @param testValue
+     *     the value to look for
+     *
+     * @return true if at least one occurrence; false if no occurrences
+     *
+     * @since 6.10
+     */
+    public static boolean datasetContains( final LongDataset values,
+                                           final long testValue )
+        {
+
+        // proceed if we have a dataset to search
+        if ( null == values )
+            {
+            return false ;
+            }
+
+        for ( final long value : values.elements() )
+            {
+
+            if ( testValue == value )
+                {
+                return true ;
+                }
+
+            }
+
+        // no match
+        return false ;
+
+        }   // end LongDataset datasetContains()
+
+
+    /**
+     * Determine if {@code testValue} occurs at least once in a double dataset
+     *
+     * <p>
+     * values match as boxed {@code Double}s would - {@code NaN} matches {@code NaN} and
+     * {@code 0.0} doesn't match {@code -0.0}
+     *
+     * @param values
+     *     the collection of values
+     * @param testValue
+     *     the value to look for
+     *
+     * @return true if at least one occurrence; false if no occurrences
+     *
+     * @since 6.10
+     */
+    public static boolean datasetContains( final DoubleDataset values,
+                                           final double testValue )
+        {
+
+        // proceed if we have a dataset to search
+        if ( null == values )
+            {
+            return false ;
+            }
+
+        for ( final double value : values.elements() )
+            {
+
+            if ( Double.doubleToLongBits( testValue ) == Double.doubleToLongBits( value ) )
+                {
+                return true ;
+                }
+
+            }
+
+        // no match
+        return false ;
+
+        }   // end DoubleDataset datasetContains()
+
+
+    /**
+     * Determine if {@code testValue} occurs at least once in a range - O(1), without expanding the
+     * range
+     *
+     * @param values
+     *     the range of values
+     * @param testValue
+     *     the value to look for
+     *
+     * @return true if at least one occurrence; false if no occurrences
+     *
+     * @since 6.14
+     */
+    public static boolean datasetContains( final LongRange values,
+                                           final long testValue )
+        {
+
+        return ( null != values ) && values.contains( testValue ) ;
+
+        }   // end LongRange datasetContains()
+
+
+    /**
+     * Compute a dataset's content fingerprint - convenience method for
+     * {@code DatasetFingerprint.of()}
+     *
+     * @param theDataset
+     *     the dataset
+     * @param ordered
+     *     {@code IS_ORDERED} if the order of the elements is significant; {@code IS_UNORDERED}
+     *     if not
+     *
+     * @return the fingerprint or null if theDataset is null
+     *
+     * @since 6.13
+     */
+    public static DatasetFingerprint datasetFingerprint( final Object[] theDataset,
+                                                         final boolean ordered )
+        {
+
+        return DatasetFingerprint.of( theDataset, ordered ) ;
+
+        }   // end Object[] datasetFingerprint()
+
+
+    /**
+     * Compute a numeric dataset's content fingerprint without boxing its elements - convenience
+     * method for {@code DatasetFingerprint.of()}
+     *
+     * @param theDataset
+     *     the dataset
+     * @param ordered
+     *     {@code IS_ORDERED} if the order of the elements is significant; {@code IS_UNORDERED}
+     *     if not
+     *
+     * @return the fingerprint or null if theDataset is null
+     *
+     * @since 6.13
+     */
+    public static DatasetFingerprint datasetFingerprint( final NumericDataset theDataset,
+                                                         final boolean ordered )
+        {
+
+        return DatasetFingerprint.of( theDataset, ordered ) ;
+
+        }   // end NumericDataset datasetFingerprint()
+
+
     /**
      * Test driver
      *
@@ -31,6 +31,7 @@ import java.nio.file.Files ;
 import java.nio.file.Path ;
 import java.time.Duration ;
 import java.util.ArrayList ;
+import java.util.Arrays ;
 import java.util.Calendar ;
 import java.util.LinkedList ;
 import java.util.List ;
@@ -142,6 +143,17 @@ import java.util.Queue ;
  *     left operand
  *     <li>reorder methods
  *     </ul>
+ * @version 7.4 2026-10-18 add {@code parseNumericArguments()} and a {@code startTest()} overload
+ *     which can return {@code LongDataset}s and {@code DoubleDataset}s for all-numeric arguments
+ * @version 7.5 2026-10-18 {@code parseNumericArguments()} returns a lazy {@code LongRange} for a
+ *     lone range argument rather than expanding it
+ * @version 7.6 2026-10-19 {@code parseArguments()} parses an entry with a decimal point or
+ *     exponent (e.g. {@code 2.5} or {@code 1e6}) as a {@code Double} rather than throwing a
+ *     {@code NumberFormatException}, consistent with {@code parseNumericArguments()} which makes
+ *     such arguments {@code DoubleDataset}s
+ * @version 7.7 2026-10-19 {@code parseNumericArguments()} and {@code startTest()} with
+ *     {@code NUMERIC_DATASETS} return a {@code LongDataset} for a lone range argument again, as
+ *     documented; a lazy {@code LongRange} is returned only when {@code LAZY_RANGES} is requested
  */
 public class TestingBase
     {
@@ -606,8 +618,9 @@ public class TestingBase
      * @param arguments
      *     the string to parse
      *
-     * @return an array containing Longs or Strings or a zero-length array of Objects representing
-     *     the entries in arguments or null if arguments is null
+     * @return an array containing Longs, Doubles (for entries with a decimal point or exponent,
+     *     e.g. {@code 2.5} or {@code 1e6}), or Strings or a zero-length array of Objects
+     *     representing the entries in arguments or null if arguments is null
      */
     protected static Object[] parseArguments( String arguments )
         {
@@ -664,45 +677,25 @@ public class TestingBase
                     {
                     parsedArguments.add( null ) ;
                     }
-                // try to convert to integers (long actually)
+                // try to convert to integers (long actually) or decimals (double)
                 else if ( Character.isDigit( collectionContentsString.charAt( 0 ) ) ||
                           ( ( collectionContentsString.length() >= 2 ) &&
                             ( '-' == collectionContentsString.charAt( 0 ) ) &&
                             Character.isDigit( collectionContentsString.charAt( 1 ) ) ) )
                     {
-                    parsedArguments.add( Long.parseLong( collectionContentsString ) ) ;
+                    parsedArguments.add( isDecimal( collectionContentsString )
+                        ? (Object) Double.parseDouble( collectionContentsString )
+                        : (Object) Long.parseLong( collectionContentsString ) ) ;
                     }
                 // see if we want a range of numbers
                 else if ( '[' == collectionContentsString.charAt( 0 ) )
                     {   // add elements leftBound..rightBound by step
-                    final String[] parts = collectionContentsString.substring( 1,
-                                                                               collectionContentsString.length() -
-                                                                                  1 )
-                                                                   .split( "[:]" ) ;
-
-                    final int leftBound = Integer.parseInt( parts[ 0 ] ) ;
-
-                    final int rightBound = Integer.parseInt( parts[ 1 ] ) ;
-
-                    final int step = parts.length > 2
-                        ? 0 == parts[ 2 ].length()
-                            ? 1
-                            : Integer.parseInt( parts[ 2 ] )
-                        : leftBound <= rightBound
-                            ? 1
-                            : -1 ;
-
-                    final int duplicates = parts.length > 3
-                        ? 0 == parts[ 3 ].length()
-                            ? 1
-                            : Integer.parseInt( parts[ 3 ] )
-                        : 1 ;
-
-                    final int groups = parts.length > 4
-                        ? 0 == parts[ 4 ].length()
-                            ? 1
-                            : Integer.parseInt( parts[ 4 ] )
-                        : 1 ;
+                    final int[] range = parseRange( collectionContentsString ) ;
+                    final int leftBound = range[ RANGE_LEFT_BOUND ] ;
+                    final int rightBound = range[ RANGE_RIGHT_BOUND ] ;
+                    final int step = range[ RANGE_STEP ] ;
+                    final int duplicates = range[ RANGE_DUPLICATES ] ;
+                    final int groups = range[ RANGE_GROUPS ] ;
 
                     // populate the list
                     for ( int groupI = 1 ; groupI <= groups ; groupI++ )
@@ -751,7 +744,7 @@ public class TestingBase
             }   // end arguments isn't null
 
         // assertion: parsedArguments is either null or points to an array of
-        // Longs, Strings, Characters, Booleans, nulls - may be a zero-length array
+        // Longs, Doubles, Strings, Characters, Booleans, nulls - may be a zero-length array
 
         return null == parsedArguments
             ? null
@@ -760,6 +753,284 @@ public class TestingBase
         }   // end parseArguments
 
 
+    /**
+     * Utility to parse a string of arguments whose entries are all numbers into a primitive
+     * dataset - for parameterized tests with large numeric datasets
+     * <p>
+     * entries and ranges are interpreted as in {@code parseArguments()}; an entry with a decimal
+     * point or exponent (e.g. {@code 2.5} or {@code 1e6}) makes the result a {@code DoubleDataset}
+     *
+     * @param arguments
+     *     the string to parse
+     *
+     * @return a {@code LongDataset} if every entry is an integer or range; a
+     *     {@code DoubleDataset} if every entry is a number or range and at least one isn't an
+     *     integer; otherwise (including when arguments is null or "null") null
+     */
+    protected static NumericDataset parseNumericArguments( final String arguments )
+        {
+
+        return parseNumericArguments( arguments, EXPANDED_RANGES ) ;
+
+        }   // end 1-arg parseNumericArguments()
+
+
+    /**
+     * Utility to parse a string of arguments whose entries are all numbers into a primitive
+     * dataset, optionally leaving a lone range unexpanded - for parameterized tests with very
+     * large numeric datasets
+     *
+     * @param arguments
+     *     the string to parse
+     * @param lazyRanges
+     *     {@code LAZY_RANGES}: if arguments is a single range, e.g. {@code [1:10000000]}, return it
+     *     as a lazy {@code LongRange} with the same elements;
+     *     {@code EXPANDED_RANGES}: same as {@code parseNumericArguments( arguments )}
+     *
+     * @return a {@code LongRange}, {@code LongDataset}, or {@code DoubleDataset} as described
+     *     for lazyRanges and {@code parseNumericArguments( arguments )}; otherwise (including when
+     *     arguments is null or "null") null
+     *
+     * @since 7.7
+     */
+    protected static NumericDataset parseNumericArguments( String arguments,
+                                                           final boolean lazyRanges )
+        {
+
+        if ( null == arguments )
+            {
+            return null ;
+            }
+
+        arguments = arguments.trim() ;
+
+        final String[] entries = 0 == arguments.length()
+            ? new String[ 0 ]
+            : arguments.split( "[|]" ) ;
+
+        // classify the entries and size the dataset before converting anything
+        long elementCount = 0 ;
+        boolean isIntegral = true ;
+
+        for ( int i = 0 ; i < entries.length ; i++ )
+            {
+            final String entry = entries[ i ].trim() ;
+            entries[ i ] = entry ;
+
+            if ( 0 == entry.length() )
+                {
+                return null ;
+                }
+
+            if ( '[' == entry.charAt( 0 ) )
+                {
+                elementCount += rangeLength( parseRange( entry ) ) ;
+                }
+            else if ( Character.isDigit( entry.charAt( 0 ) ) ||
+                      ( ( entry.length() >= 2 ) &&
+                        ( '-' == entry.charAt( 0 ) ) &&
+                        Character.isDigit( entry.charAt( 1 ) ) ) )
+                {
+                isIntegral &= !isDecimal( entry ) ;
+                elementCount++ ;
+                }
+            else
+                {
+                return null ;
+                }
+
+            }
+
+        // a lone range may be left unexpanded
+        if ( lazyRanges && ( 1 == entries.length ) && ( '[' == entries[ 0 ].charAt( 0 ) ) )
+            {
+            final int[] range = parseRange( entries[ 0 ] ) ;
+
+            return LongRange.of( range[ RANGE_LEFT_BOUND ],
+                                 range[ RANGE_RIGHT_BOUND ],
+                                 range[ RANGE_STEP ],
+                                 range[ RANGE_DUPLICATES ],
+                                 range[ RANGE_GROUPS ] ) ;
+            }
+
+        final int length = Math.toIntExact( elementCount ) ;
+        final long[] longs = isIntegral
+            ? new long[ length ]
+            : null ;
+        final double[] doubles = isIntegral
+            ? null
+            : new double[ length ] ;
+        int next = 0 ;
+
+        for ( final String entry : entries )
+            {
+
+            if ( '[' == entry.charAt( 0 ) )
+                {
+                final int[] range = parseRange( entry ) ;
+                final int step = range[ RANGE_STEP ] ;
+
+                for ( int groupI = 1 ; groupI <= range[ RANGE_GROUPS ] ; groupI++ )
+                    {
+
+                    for ( long rangeI = range[ RANGE_LEFT_BOUND ] ;
+                          step > 0
+                              ? rangeI <= range[ RANGE_RIGHT_BOUND ]
+                              : rangeI >= range[ RANGE_RIGHT_BOUND ] ;
+                          rangeI += step )
+                        {
+
+                        for ( int duplicateI = 1 ;
+                              duplicateI <= range[ RANGE_DUPLICATES ] ;
+                              duplicateI++ )
+                            {
+
+                            if ( isIntegral )
+                                {
+                                longs[ next++ ] = rangeI ;
+                                }
+                            else
+                                {
+                                doubles[ next++ ] = rangeI ;
+                                }
+
+                            }
+
+                        }
+
+                    }
+
+                }
+            else if ( isIntegral )
+                {
+                longs[ next++ ] = Long.parseLong( entry ) ;
+                }
+            else
+                {
+                doubles[ next++ ] = Double.parseDouble( entry ) ;
+                }
+
+            }
+
+        return isIntegral
+            ? new LongDataset( longs )
+            : new DoubleDataset( doubles ) ;
+
+        }   // end 2-arg parseNumericArguments()
+
+
+    /*
+     * range entry parsing
+     */
+
+
+    /** index of the left bound in the result of {@code parseRange()} */
+    private final static int RANGE_LEFT_BOUND = 0 ;
+    /** index of the right bound in the result of {@code parseRange()} */
+    private final static int RANGE_RIGHT_BOUND = 1 ;
+    /** index of the step in the result of {@code parseRange()} */
+    private final static int RANGE_STEP = 2 ;
+    /** index of the duplicate count in the result of {@code parseRange()} */
+    private final static int RANGE_DUPLICATES = 3 ;
+    /** index of the repeating group count in the result of {@code parseRange()} */
+    private final static int RANGE_GROUPS = 4 ;
+
+
+    /**
+     * Parse a range entry: {@code [leftBound:rightBound:step:duplicates:groups]} - trailing parts
+     * may be omitted and an empty step, duplicates, or groups part defaults to 1
+     *
+     * @param rangeEntry
+     *     the entry, including the brackets
+     *
+     * @return the parts, indexed by {@code RANGE_LEFT_BOUND} ... {@code RANGE_GROUPS}
+     */
+    private static int[] parseRange( final String rangeEntry )
+        {
+
+        final String[] parts = rangeEntry.substring( 1, rangeEntry.length() - 1 )
+                                         .split( "[:]" ) ;
+
+        final int leftBound = Integer.parseInt( parts[ 0 ] ) ;
+
+        final int rightBound = Integer.parseInt( parts[ 1 ] ) ;
+
+        final int step = parts.length > 2
+            ? 0 == parts[ 2 ].length()
+                ? 1
+                : Integer.parseInt( parts[ 2 ] )
+            : leftBound <= rightBound
+                ? 1
+                : -1 ;
+
+        final int duplicates = parts.length > 3
+            ? 0 == parts[ 3 ].length()
+                ? 1
+                : Integer.parseInt( parts[ 3 ] )
+            : 1 ;
+
+        final int groups = parts.length > 4
+            ? 0 == parts[ 4 ].length()
+                ? 1
+                : Integer.parseInt( parts[ 4 ] )
+            : 1 ;
+
+        return new int[] { leftBound, rightBound, step, duplicates, groups } ;
+
+        }   // end parseRange()
+
+
+    /**
+     * Count the elements a parsed range entry produces
+     *
+     * @param range
+     *     the result of {@code parseRange()}
+     *
+     * @return the number of elements
+     *
+     * @throws IllegalArgumentException
+     *     if the step is 0
+     */
+    private static long rangeLength( final int[] range )
+        {
+
+        final long span = (long) range[ RANGE_RIGHT_BOUND ] - range[ RANGE_LEFT_BOUND ] ;
+        final int step = range[ RANGE_STEP ] ;
+
+        if ( 0 == step )
+            {
+            throw new IllegalArgumentException( "range step must not be 0" ) ;
+            }
+
+        // no elements if the step leads away from the right bound
+        final long terms = ( ( span >= 0 ) == ( step > 0 ) ) || ( 0 == span )
+            ? ( span / step ) + 1
+            : 0 ;
+
+        return terms * Math.max( 0, range[ RANGE_DUPLICATES ] ) *
+               Math.max( 0, range[ RANGE_GROUPS ] ) ;
+
+        }   // end rangeLength()
+
+
+    /**
+     * Determine if a numeric entry has a fractional part or exponent
+     *
+     * @param entry
+     *     the entry
+     *
+     * @return true if the entry must be parsed as a {@code double}
+     */
+    private static boolean isDecimal( final String entry )
+        {
+
+        return ( -1 != entry.indexOf( '.' ) ) ||
+               ( -1 != entry.indexOf( 'e' ) ) ||
+               ( -1 != entry.indexOf( 'E' ) ) ;
+
+        }   // end isDecimal()
+
+
     /**
      * Enable or disable debugging by adjusting test timeouts.
      *
@@ -832,10 +1103,106 @@ public class TestingBase
      */
     protected Object[][] startTest( final boolean isLastTest,
                                     final boolean isStubBehavior,
-                                    String[] argumentLabels,
+                                    final String[] argumentLabels,
                                     final String... collectionContentsArguments )
         {
 
+        final Object[] populatedCollections = startTest( isLastTest,
+                                                         isStubBehavior,
+                                                         OBJECT_DATASETS,
+                                                         argumentLabels,
+                                                         collectionContentsArguments ) ;
+
+        return Arrays.copyOf( populatedCollections,
+                              populatedCollections.length,
+                              Object[][].class ) ;
+
+        }   // end startTest() with 0 or more collections contents
+
+
+    /**
+     * Utility to pre-process test parameters, optionally parsing numeric arguments into primitive
+     * datasets, e.g.
+     *
+     * <pre>
+     * final Object[] parsed = startTest( isLastTest, isStubBehavior, NUMERIC_DATASETS, null, contents ) ;
+     *
+     * if ( parsed[ 0 ] instanceof final LongDataset numbers ) ...
+     * </pre>
+     *
+     * @param isLastTest
+     *     flag to indicate that this is the last dataset for this test
+     * @param isStubBehavior
+     *     flag to indicate that the result of testing this dataset matches the stubbed behavior
+     * @param numericDatasets
+     *     {@code NUMERIC_DATASETS}: each argument whose entries are all numbers is parsed by
+     *     {@code parseNumericArguments()} into a {@code LongDataset} or {@code DoubleDataset};
+     *     {@code OBJECT_DATASETS}: every argument is parsed into an {@code Object[]}
+     * @param argumentLabels
+     *     descriptive text for each of the collectionContentArguments elements
+     * @param collectionContentsArguments
+     *     contents of one or more collections to populate
+     *
+     * @return the parsed collectionContentsArguments in order of appearance in the argument list -
+     *     each is a {@code NumericDataset}, an {@code Object[]}, or null
+     *
+     * @since 7.4
+     */
+    protected Object[] startTest( final boolean isLastTest,
+                                  final boolean isStubBehavior,
+                                  final boolean numericDatasets,
+                                  final String[] argumentLabels,
+                                  final String... collectionContentsArguments )
+        {
+
+        return startTest( isLastTest,
+                          isStubBehavior,
+                          numericDatasets,
+                          EXPANDED_RANGES,
+                          argumentLabels,
+                          collectionContentsArguments ) ;
+
+        }   // end startTest() with numeric datasets
+
+
+    /**
+     * Utility to pre-process test parameters, optionally parsing numeric arguments into primitive
+     * datasets and lone ranges into lazy {@code LongRange}s, e.g.
+     *
+     * <pre>
+     * final Object[] parsed = startTest( isLastTest, isStubBehavior, NUMERIC_DATASETS, LAZY_RANGES, null, contents ) ;
+     *
+     * if ( parsed[ 0 ] instanceof final LongRange numbers ) ...
+     * </pre>
+     *
+     * @param isLastTest
+     *     flag to indicate that this is the last dataset for this test
+     * @param isStubBehavior
+     *     flag to indicate that the result of testing this dataset matches the stubbed behavior
+     * @param numericDatasets
+     *     {@code NUMERIC_DATASETS} or {@code OBJECT_DATASETS} - see
+     *     {@code startTest( boolean, boolean, boolean, String[], String... )}
+     * @param lazyRanges
+     *     with {@code NUMERIC_DATASETS}, {@code LAZY_RANGES} or {@code EXPANDED_RANGES} - see
+     *     {@code parseNumericArguments( String, boolean )}; ignored with {@code OBJECT_DATASETS}
+     * @param argumentLabels
+     *     descriptive text for each of the collectionContentArguments elements
+     * @param collectionContentsArguments
+     *     contents of one or more collections to populate
+     *
+     * @return the parsed collectionContentsArguments in order of appearance in the argument list -
+     *     each is a {@code NumericDataset}, an {@code Object[]}, or null
+     *
+     * @since 7.7
+     */
+    protected Object[] startTest( final boolean isLastTest,
+                                  final boolean isStubBehavior,
+                                  final boolean numericDatasets,
+                                  final boolean lazyRanges,
+                                  String[] argumentLabels,
+                                  final String... collectionContentsArguments )
+        {
+
         this.lastTestInGroupIsRunning = isLastTest ;
 
         // check if the expected behavior of this test will match the stub behavior
@@ -874,12 +1241,18 @@ public class TestingBase
         // count this test
         this.currentTestsAttempted++ ;
 
-        final Object[][] populatedCollections = new Object[ collectionContentsArguments.length ][] ;
+        final Object[] populatedCollections = new Object[ collectionContentsArguments.length ] ;
 
         // convert the arguments representing the collection contents to an array
         for ( int i = 0 ; i < populatedCollections.length ; i++ )
             {
-            populatedCollections[ i ] = parseArguments( collectionContentsArguments[ i ] ) ;
+            final NumericDataset numericDataset = numericDatasets
+                ? parseNumericArguments( collectionContentsArguments[ i ], lazyRanges )
+                : null ;
+
+            populatedCollections[ i ] = null == numericDataset
+                ? parseArguments( collectionContentsArguments[ i ] )
+                : numericDataset ;
             }
 
         // display message describing this test
@@ -893,14 +1266,20 @@ public class TestingBase
             {
             writeLog( labelFormat,
                       argumentLabels[ i ],
-                      datasetToString( populatedCollections[ i ] ) ) ;
+                      switch ( populatedCollections[ i ] )
+                          {
+                          case final NumericDataset numericDataset
+                              -> datasetToString( numericDataset ) ;
+                          case null, default
+                              -> datasetToString( (Object[]) populatedCollections[ i ] ) ;
+                          } ) ;
             }
 
         writeLog( "%n" ) ;
 
         return populatedCollections ;
 
-        }   // end startTest() with 0 or more collections contents
+        }   // end startTest() with 0 or more collections contents and dataset kind
 
 
     /**
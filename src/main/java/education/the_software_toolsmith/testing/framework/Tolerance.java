@@ -0,0 +1,276 @@
+/* @formatter:off
+ *
+ * © David M Rosenberg, The Software Toolsmith (education)
+ *
+ * This file is part of the Testing Framework for Java.
+ * Repository: https://github.com/The-Software-Toolsmith/testing-framework-for-java
+ *
+ * Licensed under the Creative Commons Attribution-NonCommercial 4.0 International License.
+ * You may obtain a copy of the license at:
+ *     https://creativecommons.org/licenses/by-nc/4.0/
+ *
+ * You may use, share, and adapt this file for non-commercial purposes,
+ * provided you give appropriate credit.
+ *
+ * @formatter:on
+ */
+
+
+package education.the_software_toolsmith.testing.framework ;
+
+/**
+ * How far apart a pair of floating point values may be and still match - used with the
+ * {@code Tolerance} overloads of {@code TestData.compareDatasets()}
+ * <p>
+ * a pair matches if they are equal, both {@code NaN}, or both finite and within <em>any</em> of
+ * the three tolerances; a tolerance of 0 disables that test, e.g.
+ *
+ * <pre>
+ * compareDatasets( expectedSpectrum, actualSpectrum, Tolerance.absolute( 1e-12 ).withUlps( 4 ) ) ;
+ * </pre>
+ *
+ * @param absolute
+ *     the largest acceptable difference: {@code |expected - actual|}
+ * @param relative
+ *     the largest acceptable difference as a fraction of the larger magnitude:
+ *     {@code |expected - actual| / max( |expected|, |actual| )}
+ * @param maxUlps
+ *     the most representable values (units in the last place) the pair may be apart - counted in
+ *     float ULPs when both are {@code float}s
+ *
+ * @author David M Rosenberg
+ *
+ * @version 1.0 2026-10-18 Initial implementation
+ */
+public record Tolerance( double absolute,
+                         double relative,
+                         long maxUlps )
+    {
+
+    /** values must be equal */
+    public final static Tolerance EXACT = new Tolerance( 0, 0, 0 ) ;
+
+
+    /**
+     * Validate the tolerances
+     *
+     * @param absolute
+     *     the absolute tolerance
+     * @param relative
+     *     the relative tolerance
+     * @param maxUlps
+     *     the ULP tolerance
+     *
+     * @throws IllegalArgumentException
+     *     if any tolerance is negative or {@code NaN}
+     */
+    public Tolerance
+        {
+
+        if ( !( absolute >= 0 ) || !( relative >= 0 ) || ( maxUlps < 0 ) )
+            {
+            throw new IllegalArgumentException( String.format( "tolerances must be at least 0: absolute: %s; relative: %s; ULPs: %,d",
+                                                               absolute,
+                                                               relative,
+                                                               maxUlps ) ) ;
+            }
+
+        }   // end constructor
+
+
+    /**
+     * an absolute tolerance
+     *
+     * @param absolute
+     *     the largest acceptable difference
+     *
+     * @return the tolerance
+     *
+     * @since 1.0
+     */
+    public static Tolerance absolute( final double absolute )
+        {
+
+        return new Tolerance( absolute, 0, 0 ) ;
+
+        }   // end absolute()
+
+
+    /**
+     * a relative tolerance
+     *
+     * @param relative
+     *     the largest acceptable difference as a fraction of the larger magnitude
+     *
+     * @return the tolerance
+     *
+     * @since 1.0
+     */
+    public static Tolerance relative( final double relative )
+        {
+
+        return new Tolerance( 0, relative, 0 ) ;
+
+        }   // end relative()
+
+
+    /**
+     * a ULP tolerance
+     *
+     * @param maxUlps
+     *     the most representable values the pair may be apart
+     *
+     * @return the tolerance
+     *
+     * @since 1.0
+     */
+    public static Tolerance ulps( final long maxUlps )
+        {
+
+        return new Tolerance( 0, 0, maxUlps ) ;
+
+        }   // end ulps()
+
+
+    /**
+     * this tolerance, also accepting pairs within an absolute tolerance
+     *
+     * @param newAbsolute
+     *     the largest acceptable difference
+     *
+     * @return the combined tolerance
+     *
+     * @since 1.0
+     */
+    public Tolerance withAbsolute( final double newAbsolute )
+        {
+
+        return new Tolerance( newAbsolute, this.relative, this.maxUlps ) ;
+
+        }   // end withAbsolute()
+
+
+    /**
+     * this tolerance, also accepting pairs within a relative tolerance
+     *
+     * @param newRelative
+     *     the largest acceptable difference as a fraction of the larger magnitude
+     *
+     * @return the combined tolerance
+     *
+     * @since 1.0
+     */
+    public Tolerance withRelative( final double newRelative )
+        {
+
+        return new Tolerance( this.absolute, newRelative, this.maxUlps ) ;
+
+        }   // end withRelative()
+
+
+    /**
+     * this tolerance, also accepting pairs within a ULP tolerance
+     *
+     * @param newMaxUlps
+     *     the most representable values the pair may be apart
+     *
+     * @return the combined tolerance
+     *
+     * @since 1.0
+     */
+    public Tolerance withUlps( final long newMaxUlps )
+        {
+
+        return new Tolerance( this.absolute, this.relative, newMaxUlps ) ;
+
+        }   // end withUlps()
+
+
+    /**
+     * Determine if a pair of doubles match
+     *
+     * @param expected
+     *     the value as it should appear
+     * @param actual
+     *     the value to check
+     *
+     * @return true if they match
+     *
+     * @since 1.0
+     */
+    public boolean matches( final double expected,
+                            final double actual )
+        {
+
+        return FloatingPointMismatch.matches( expected,
+                                              actual,
+                                              this.absolute,
+                                              this.relative,
+                                              this.maxUlps ) ;
+
+        }   // end double matches()
+
+
+    /**
+     * Determine if a pair of floats match
+     *
+     * @param expected
+     *     the value as it should appear
+     * @param actual
+     *     the value to check
+     *
+     * @return true if they match
+     *
+     * @since 1.0
+     */
+    public boolean matches( final float expected,
+                            final float actual )
+        {
+
+        return FloatingPointMismatch.matches( expected,
+                                              actual,
+                                              this.absolute,
+                                              this.relative,
+                                              this.maxUlps ) ;
+
+        }   // end float matches()
+
+
+    @Override
+    public String toString()
+        {
+
+        final StringBuilder description = new StringBuilder() ;
+
+        if ( this.absolute > 0 )
+            {
+            description.append( String.format( "absolute %s", this.absolute ) ) ;
+            }
+
+        if ( this.relative > 0 )
+            {
+            description.append( description.isEmpty()
+                ? ""
+                : " or " )
+                       .append( String.format( "relative %s", this.relative ) ) ;
+            }
+
+        if ( this.maxUlps > 0 )
+            {
+            description.append( description.isEmpty()
+                ? ""
+                : " or " )
+                       .append( String.format( "%,d ULP%s",
+                                               this.maxUlps,
+                                               1 == this.maxUlps
+                                                   ? ""
+                                                   : "s" ) ) ;
+            }
+
+        return description.isEmpty()
+            ? "exact"
+            : description.toString() ;
+
+        }   // end toString()
+
+    }   // end record Tolerance
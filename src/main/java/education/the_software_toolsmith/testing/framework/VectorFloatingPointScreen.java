@@ -0,0 +1,194 @@
+/* @formatter:off
+ *
+ * © David M Rosenberg, The Software Toolsmith (education)
+ *
+ * This file is part of the Testing Framework for Java.
+ * Repository: https://github.com/The-Software-Toolsmith/testing-framework-for-java
+ *
+ * Licensed under the Creative Commons Attribution-NonCommercial 4.0 International License.
+ * You may obtain a copy of the license at:
+ *     https://creativecommons.org/licenses/by-nc/4.0/
+ *
+ * You may use, share, and adapt this file for non-commercial purposes,
+ * provided you give appropriate credit.
+ *
+ * @formatter:on
+ */
+
+
+package education.the_software_toolsmith.testing.framework ;
+
+import jdk.incubator.vector.DoubleVector ;
+import jdk.incubator.vector.FloatVector ;
+import jdk.incubator.vector.VectorOperators ;
+import jdk.incubator.vector.VectorSpecies ;
+
+/**
+ * The {@code FloatingPointMismatch} block screen on the Vector API - the pairs of each vector
+ * are tested at once and the remainder of the range, shorter than a vector, with the scalar
+ * screen
+ * <p>
+ * {@code jdk.incubator.vector} is an incubating module: this class is only referenced, and so
+ * only loaded, when {@code FloatingPointMismatch} finds the module in the boot layer
+ * <p>
+ * float pairs are widened to double lanes before subtracting, as the scalar screen does, so
+ * their difference is exact
+ *
+ * @author David M Rosenberg
+ *
+ * @version 1.0 2026-10-19 Initial implementation
+ */
+final class VectorFloatingPointScreen
+    {
+
+    /** double lanes in the platform's preferred shape */
+    private final static VectorSpecies<Double> DOUBLE_SPECIES = DoubleVector.SPECIES_PREFERRED ;
+    /** float lanes in the same shape - each widens to two double vectors */
+    private final static VectorSpecies<Float> FLOAT_SPECIES = FloatVector.SPECIES_PREFERRED ;
+
+
+    /**
+     * prevent instantiation
+     */
+    private VectorFloatingPointScreen()
+        {
+        // nothing to do
+
+        }   // end constructor
+
+
+    /**
+     * Screen a range of two double arrays - see {@code FloatingPointMismatch.passesScreen()}
+     *
+     * @param expected
+     *     the elements as they should appear
+     * @param actual
+     *     the elements to check
+     * @param fromIndex
+     *     first index to screen (inclusive)
+     * @param toIndex
+     *     last index to screen (exclusive)
+     * @param floor
+     *     the absolute bound
+     * @param scale
+     *     the bound relative to {@code |expected|}
+     *
+     * @return true if every pair passes
+     */
+    static boolean passes( final double[] expected,
+                           final double[] actual,
+                           final int fromIndex,
+                           final int toIndex,
+                           final double floor,
+                           final double scale )
+        {
+
+        final int vectorEnd = fromIndex + DOUBLE_SPECIES.loopBound( toIndex - fromIndex ) ;
+        int i = fromIndex ;
+
+        for ( ; i < vectorEnd ; i += DOUBLE_SPECIES.length() )
+            {
+
+            if ( !passes( DoubleVector.fromArray( DOUBLE_SPECIES, expected, i ),
+                          DoubleVector.fromArray( DOUBLE_SPECIES, actual, i ),
+                          floor,
+                          scale ) )
+                {
+                return false ;
+                }
+
+            }
+
+        return FloatingPointMismatch.passesScreen( expected, actual, i, toIndex, floor, scale ) ;
+
+        }   // end double[] passes()
+
+
+    /**
+     * Screen a range of two float arrays - see {@code FloatingPointMismatch.passesScreen()}
+     *
+     * @param expected
+     *     the elements as they should appear
+     * @param actual
+     *     the elements to check
+     * @param fromIndex
+     *     first index to screen (inclusive)
+     * @param toIndex
+     *     last index to screen (exclusive)
+     * @param floor
+     *     the absolute bound
+     * @param scale
+     *     the bound relative to {@code |expected|}
+     *
+     * @return true if every pair passes
+     */
+    static boolean passes( final float[] expected,
+                           final float[] actual,
+                           final int fromIndex,
+                           final int toIndex,
+                           final double floor,
+                           final double scale )
+        {
+
+        final int vectorEnd = fromIndex + FLOAT_SPECIES.loopBound( toIndex - fromIndex ) ;
+        int i = fromIndex ;
+
+        for ( ; i < vectorEnd ; i += FLOAT_SPECIES.length() )
+            {
+            final FloatVector expectedLanes = FloatVector.fromArray( FLOAT_SPECIES, expected, i ) ;
+            final FloatVector actualLanes = FloatVector.fromArray( FLOAT_SPECIES, actual, i ) ;
+
+            // part 0 widens the lower half of the lanes, part 1 the upper half
+            for ( int part = 0 ; part < 2 ; part++ )
+                {
+
+                if ( !passes( (DoubleVector) expectedLanes.convert( VectorOperators.F2D, part ),
+                              (DoubleVector) actualLanes.convert( VectorOperators.F2D, part ),
+                              floor,
+                              scale ) )
+                    {
+                    return false ;
+                    }
+
+                }
+
+            }
+
+        return FloatingPointMismatch.passesScreen( expected, actual, i, toIndex, floor, scale ) ;
+
+        }   // end float[] passes()
+
+
+    /**
+     * Screen the pairs in a pair of vectors
+     *
+     * @param expected
+     *     the elements as they should appear
+     * @param actual
+     *     the elements to check
+     * @param floor
+     *     the absolute bound
+     * @param scale
+     *     the bound relative to {@code |expected|}
+     *
+     * @return true if every lane passes
+     */
+    private static boolean passes( final DoubleVector expected,
+                                   final DoubleVector actual,
+                                   final double floor,
+                                   final double scale )
+        {
+
+        final DoubleVector difference = expected.sub( actual ).abs() ;
+
+        // NaN and infinite differences fail the screen
+        return difference.compare( VectorOperators.LE, Double.MAX_VALUE )
+                         .and( difference.compare( VectorOperators.LE, floor )
+                                         .or( difference.compare( VectorOperators.LE,
+                                                                  expected.abs()
+                                                                          .mul( scale ) ) ) )
+                         .allTrue() ;
+
+        }   // end vector passes()
+
+    }   // end class VectorFloatingPointScreen
@@ -0,0 +1,241 @@
+/* @formatter:off
+ *
+ * © David M Rosenberg, The Software Toolsmith (education)
+ *
+ * This file is part of the Testing Framework for Java.
+ * Repository: https://github.com/The-Software-Toolsmith/testing-framework-for-java
+ *
+ * Licensed under the Creative Commons Attribution-NonCommercial 4.0 International License.
+ * You may obtain a copy of the license at:
+ *     https://creativecommons.org/licenses/by-nc/4.0/
+ *
+ * You may use, share, and adapt this file for non-commercial purposes,
+ * provided you give appropriate credit.
+ *
+ * @formatter:on
+ */
+
+
+package education.the_software_toolsmith.testing.framework.tests ;
+
+import static education.the_software_toolsmith.testing.framework.TestData.LAZY_RANGES ;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals ;
+import static org.junit.jupiter.api.Assertions.assertEquals ;
+import static org.junit.jupiter.api.Assertions.assertNull ;
+import static org.junit.jupiter.api.Assertions.assertThrows ;
+import static org.junit.jupiter.api.Assertions.assertTrue ;
+
+import org.junit.jupiter.api.DisplayName ;
+import org.junit.jupiter.api.Test ;
+
+import education.the_software_toolsmith.testing.framework.DoubleDataset ;
+import education.the_software_toolsmith.testing.framework.LongDataset ;
+import education.the_software_toolsmith.testing.framework.LongRange ;
+import education.the_software_toolsmith.testing.framework.NumericDataset ;
+import education.the_software_toolsmith.testing.framework.TestingBase ;
+
+/**
+ * JUnit tests for {@code TestingBase.parseArguments()} and {@code parseNumericArguments()}
+ *
+ * @author David M Rosenberg
+ *
+ * @version 1.0 2026-10-19 Initial implementation
+ * @version 1.1 2026-10-19 lone ranges, expanded and lazy
+ */
+@DisplayName( "Argument Parsing" )
+@SuppressWarnings( { "javadoc", "unused" } )
+class ArgumentParsingTests
+    {
+
+    /*
+     * fixtures
+     */
+
+
+    /** exposes the protected parsers - never instantiated, so no test log is created */
+    static final class Parsers extends TestingBase
+        {
+
+        private Parsers()
+            {
+
+            super() ;
+
+            }
+
+
+        static Object[] arguments( final String arguments )
+            {
+
+            return parseArguments( arguments ) ;
+
+            }
+
+
+        static NumericDataset numericArguments( final String arguments )
+            {
+
+            return parseNumericArguments( arguments ) ;
+
+            }
+
+
+        static NumericDataset lazyNumericArguments( final String arguments )
+            {
+
+            return parseNumericArguments( arguments, LAZY_RANGES ) ;
+
+            }
+
+        }   // end class Parsers
+
+
+    /**
+     * Parse an argument both ways and verify the parsers agree on every element's value
+     */
+    private static void assertParsersAgree( final String arguments )
+        {
+
+        final Object[] parsed = Parsers.arguments( arguments ) ;
+        final Object[] numeric = Parsers.numericArguments( arguments ).toObjectArray() ;
+
+        assertEquals( parsed.length, numeric.length, arguments ) ;
+
+        for ( int i = 0 ; i < parsed.length ; i++ )
+            {
+            assertEquals( ( (Number) parsed[ i ] ).doubleValue(),
+                          ( (Number) numeric[ i ] ).doubleValue(),
+                          arguments ) ;
+            }
+
+        }   // end assertParsersAgree()
+
+
+    /*
+     * decimal entries
+     */
+
+
+    @Test
+    @DisplayName( "parseArguments() parses decimal points and exponents as Doubles" )
+    void decimals()
+        {
+
+        assertArrayEquals( new Object[] { 2.5, 1e6, -0.25, 3E-2 },
+                           Parsers.arguments( "2.5 | 1e6 | -0.25 | 3E-2" ) ) ;
+
+        // integers are still Longs, even next to decimals
+        assertArrayEquals( new Object[] { 1L, 2.5, "x", 3L, 4L },
+                           Parsers.arguments( "1 | 2.5 | x | [3:4]" ) ) ;
+
+        }   // end decimals()
+
+
+    @Test
+    @DisplayName( "parseNumericArguments() makes a DoubleDataset only when an entry is decimal" )
+    void numericDecimals()
+        {
+
+        assertEquals( DoubleDataset.of( 1, 2.5, 3, 4 ),
+                      Parsers.numericArguments( "1 | 2.5 | [3:4]" ) ) ;
+        assertEquals( DoubleDataset.of( 1e6 ), Parsers.numericArguments( "1e6" ) ) ;
+        assertEquals( LongDataset.of( 1, -2, 3 ), Parsers.numericArguments( "1 | -2 | 3" ) ) ;
+
+        // not all numbers
+        assertNull( Parsers.numericArguments( "1 | x" ) ) ;
+
+        }   // end numericDecimals()
+
+
+    @Test
+    @DisplayName( "both parsers produce the same values for all-numeric arguments" )
+    void consistent()
+        {
+
+        assertParsersAgree( "2.5" ) ;
+        assertParsersAgree( "1e6 | 7" ) ;
+        assertParsersAgree( "-1.5 | [1:5:2] | 8 | 0.125" ) ;
+        assertParsersAgree( "1 | 2 | [10:7]" ) ;
+
+        // with only integers, the boxed elements are identical
+        assertArrayEquals( Parsers.arguments( "4 | [1:3] | -9" ),
+                           Parsers.numericArguments( "4 | [1:3] | -9" ).toObjectArray() ) ;
+
+        }   // end consistent()
+
+
+    @Test
+    @DisplayName( "both parsers reject the same malformed numbers" )
+    void malformed()
+        {
+
+        for ( final String arguments : new String[] { "2.5x", "1e", "12abc", "1.2.3" } )
+            {
+            assertThrows( NumberFormatException.class, () -> Parsers.arguments( arguments ), arguments ) ;
+            assertThrows( NumberFormatException.class,
+                          () -> Parsers.numericArguments( arguments ),
+                          arguments ) ;
+            }
+
+        }   // end malformed()
+
+
+
+    /*
+     * lone ranges
+     */
+
+
+    /** ranges exercising each part of the range syntax, including empty ranges */
+    private static final String[] RANGES = { "[1:10]",
+                                             "[10:1]",
+                                             "[1:10:3]",
+                                             "[10:1:-4]",
+                                             "[5:5]",
+                                             "[1:10:-1]",
+                                             "[1:3:1:2]",
+                                             "[1:3::2:3]",
+                                             "[-3:3:2:2:2]",
+                                             "[1:5:1:0]",
+                                             "[-2147483648:2147483647:1073741824]" } ;
+
+
+    @Test
+    @DisplayName( "by default, a lone range is expanded into a LongDataset like parseArguments() expands it" )
+    void expandedRanges()
+        {
+
+        for ( final String range : RANGES )
+            {
+            final NumericDataset parsed = Parsers.numericArguments( range ) ;
+
+            assertTrue( parsed instanceof LongDataset, range ) ;
+            assertArrayEquals( Parsers.arguments( range ), parsed.toObjectArray(), range ) ;
+            }
+
+        }   // end expandedRanges()
+
+
+    @Test
+    @DisplayName( "with LAZY_RANGES, a lone range is a LongRange with the same elements as the expansion" )
+    void lazyRanges()
+        {
+
+        for ( final String range : RANGES )
+            {
+            final NumericDataset lazy = Parsers.lazyNumericArguments( range ) ;
+            final NumericDataset expanded = Parsers.numericArguments( range ) ;
+
+            assertTrue( lazy instanceof LongRange, range ) ;
+            assertArrayEquals( Parsers.arguments( range ), lazy.toObjectArray(), range ) ;
+            assertEquals( expanded, ( (LongRange) lazy ).toLongDataset(), range ) ;
+            assertEquals( expanded.hashCode(), lazy.hashCode(), range ) ;
+            }
+
+        // ranges among other entries are always expanded
+        assertEquals( LongDataset.of( 1, 2, 3, 9 ), Parsers.lazyNumericArguments( "[1:3] | 9" ) ) ;
+        assertEquals( DoubleDataset.of( 1, 2, 0.5 ), Parsers.lazyNumericArguments( "[1:2] | 0.5" ) ) ;
+
+        }   // end lazyRanges()
+
+    }   // end class ArgumentParsingTests
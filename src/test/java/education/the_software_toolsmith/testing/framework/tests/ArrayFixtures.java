@@ -0,0 +1,115 @@
+/* @formatter:off
+ *
+ * © David M Rosenberg, The Software Toolsmith (education)
+ *
+ * This file is part of the Testing Framework for Java.
+ * Repository: https://github.com/The-Software-Toolsmith/testing-framework-for-java
+ *
+ * Licensed under the Creative Commons Attribution-NonCommercial 4.0 International License.
+ * You may obtain a copy of the license at:
+ *     https://creativecommons.org/licenses/by-nc/4.0/
+ *
+ * You may use, share, and adapt this file for non-commercial purposes,
+ * provided you give appropriate credit.
+ *
+ * @formatter:on
+ */
+
+
+package education.the_software_toolsmith.testing.framework.tests ;
+
+/**
+ * Array-backed collections shared by the backing store tests - each exposes only the fields a
+ * student's implementation would have, named as the textbook names them
+ *
+ * @author David M Rosenberg
+ *
+ * @version 1.0 2026-10-19 Initial implementation - collected from the individual test classes
+ */
+@SuppressWarnings( { "javadoc", "unused" } )
+final class ArrayFixtures
+    {
+
+    /** entries in [0, numberOfEntries) */
+    static class ArrayBag
+        {
+
+        Object[] bag ;
+        int numberOfEntries ;
+
+        ArrayBag( final int numberOfEntries, final Object... bag )
+            {
+
+            this.bag = bag ;
+            this.numberOfEntries = numberOfEntries ;
+
+            }
+
+        }   // end class ArrayBag
+
+
+    /** front and back indices alongside an entry count */
+    static class ArrayQueue
+        {
+
+        Object[] queue ;
+        int frontIndex ;
+        int backIndex ;
+        int numberOfEntries ;
+
+        ArrayQueue( final int frontIndex,
+                    final int backIndex,
+                    final int numberOfEntries,
+                    final Object... queue )
+            {
+
+            this.queue = queue ;
+            this.frontIndex = frontIndex ;
+            this.backIndex = backIndex ;
+            this.numberOfEntries = numberOfEntries ;
+
+            }
+
+        }   // end class ArrayQueue
+
+
+    /** no entry count - backIndex references the last entry */
+    static class IndexOnlyQueue
+        {
+
+        Object[] queue ;
+        int frontIndex ;
+        int backIndex ;
+
+        IndexOnlyQueue( final int frontIndex, final int backIndex, final Object... queue )
+            {
+
+            this.queue = queue ;
+            this.frontIndex = frontIndex ;
+            this.backIndex = backIndex ;
+
+            }
+
+        }   // end class IndexOnlyQueue
+
+
+    /** no entry count - back references the slot following the last entry */
+    static class FrontBackQueue
+        {
+
+        Object[] items ;
+        int front ;
+        int back ;
+
+        FrontBackQueue( final int front, final int back, final Object... items )
+            {
+
+            this.items = items ;
+            this.front = front ;
+            this.back = back ;
+
+            }
+
+        }   // end class FrontBackQueue
+
+    }   // end class ArrayFixtures
@@ -0,0 +1,501 @@
+/* @formatter:off
+ *
+ * © David M Rosenberg, The Software Toolsmith (education)
+ *
+ * This file is part of the Testing Framework for Java.
+ * Repository: https://github.com/The-Software-Toolsmith/testing-framework-for-java
+ *
+ * Licensed under the Creative Commons Attribution-NonCommercial 4.0 International License.
+ * You may obtain a copy of the license at:
+ *     https://creativecommons.org/licenses/by-nc/4.0/
+ *
+ * You may use, share, and adapt this file for non-commercial purposes,
+ * provided you give appropriate credit.
+ *
+ * @formatter:on
+ */
+
+
+package education.the_software_toolsmith.testing.framework.tests ;
+
+import static education.the_software_toolsmith.testing.framework.ReflectBackingStores.BACK_INDEX_EXCLUSIVE ;
+import static education.the_software_toolsmith.testing.framework.ReflectBackingStores.NO_SUCH_FIELD ;
+import static education.the_software_toolsmith.testing.framework.ReflectBackingStores.getContentsOfDataset ;
+import static education.the_software_toolsmith.testing.framework.ReflectBackingStores.getDatasetView ;
+import static education.the_software_toolsmith.testing.framework.ReflectBackingStores.getLoiteringIndicesOfDataset ;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals ;
+import static org.junit.jupiter.api.Assertions.assertEquals ;
+import static org.junit.jupiter.api.Assertions.assertFalse ;
+import static org.junit.jupiter.api.Assertions.assertSame ;
+import static org.junit.jupiter.api.Assertions.assertThrows ;
+import static org.junit.jupiter.api.Assertions.assertTrue ;
+
+import java.util.List ;
+
+import org.junit.jupiter.api.DisplayName ;
+import org.junit.jupiter.api.Test ;
+
+import education.the_software_toolsmith.testing.framework.BackingStore ;
+import education.the_software_toolsmith.testing.framework.BackingStoreLayout ;
+import education.the_software_toolsmith.testing.framework.BackingStoreLayout.Kind ;
+import education.the_software_toolsmith.testing.framework.IncrementalDatasetExtractor ;
+import education.the_software_toolsmith.testing.framework.TestingException ;
+import education.the_software_toolsmith.testing.framework.tests.ArrayFixtures.ArrayQueue ;
+import education.the_software_toolsmith.testing.framework.tests.ArrayFixtures.FrontBackQueue ;
+import education.the_software_toolsmith.testing.framework.tests.ArrayFixtures.IndexOnlyQueue ;
+
+/**
+ * JUnit tests for {@code BackingStoreLayout} detection, declaration, and plan-based extraction
+ *
+ * @author David M Rosenberg
+ *
+ * @version 1.0 2026-10-19 Initial implementation
+ * @version 1.1 2026-10-19 queues identified by their front and back indices
+ * @version 1.2 2026-10-19 declared back indices and incomplete declarations
+ * @version 1.3 2026-10-19 use the shared {@code ArrayFixtures} collections
+ */
+@DisplayName( "Backing Store Layouts" )
+@SuppressWarnings( { "javadoc", "unused" } )
+class BackingStoreLayoutTests
+    {
+
+    /*
+     * fixtures
+     */
+
+
+    /** entries in [0, topIndex] - topIndex is -1 when empty */
+    static class ArrayStack
+        {
+
+        Object[] stack ;
+        int topIndex ;
+
+        ArrayStack( final int topIndex, final Object... stack )
+            {
+
+            this.stack = stack ;
+            this.topIndex = topIndex ;
+
+            }
+
+        }   // end class ArrayStack
+
+
+    /** entries in [0, top) - top is the number of entries */
+    static class CountingStack
+        {
+
+        Object[] stack ;
+        int top ;
+
+        CountingStack( final int top, final Object... stack )
+            {
+
+            this.stack = stack ;
+            this.top = top ;
+
+            }
+
+        }   // end class CountingStack
+
+
+    /** a top index alongside an entry count */
+    static class CountedStack
+        {
+
+        Object[] stack = { "a", "b", null } ;
+        int topIndex = 1 ;
+        int numberOfEntries = 2 ;
+
+        }   // end class CountedStack
+
+
+    static class Node
+        {
+
+        Object data ;
+        Node next ;
+
+        Node( final Object data, final Node next )
+            {
+
+            this.data = data ;
+            this.next = next ;
+
+            }
+
+        }   // end class Node
+
+
+    static class LinkedStack
+        {
+
+        Node topNode = new Node( "a", new Node( "b", null ) ) ;
+        Node spare ;
+
+        }   // end class LinkedStack
+
+
+    static class Unrecognizable
+        {
+
+        int width ;
+
+        }   // end class Unrecognizable
+
+
+    @BackingStore( kind = Kind.CIRCULAR_ARRAY, store = "queue" )
+    static class QueueDescriptor
+        {
+        // annotation carrier only
+        }
+
+
+    @BackingStore( kind = Kind.CIRCULAR_ARRAY, store = "queue", back = "backIndex" )
+    static class CheckedQueueDescriptor
+        {
+        // annotation carrier only
+        }
+
+
+    @BackingStore( kind = Kind.CIRCULAR_ARRAY, store = "queue", count = NO_SUCH_FIELD, back = "backIndex" )
+    static class IndexOnlyQueueDescriptor
+        {
+        // annotation carrier only
+        }
+
+
+    @BackingStore( kind = Kind.CIRCULAR_ARRAY,
+                   store = "items",
+                   front = "front",
+                   count = NO_SUCH_FIELD,
+                   back = "back",
+                   backInclusive = BACK_INDEX_EXCLUSIVE )
+    static class FrontBackQueueDescriptor
+        {
+        // annotation carrier only
+        }
+
+
+    @BackingStore( kind = Kind.CIRCULAR_ARRAY, store = "queue", count = NO_SUCH_FIELD )
+    static class NoCountOrBackDescriptor
+        {
+        // annotation carrier only
+        }
+
+
+    @BackingStore( kind = Kind.ARRAY )
+    static class NoStoreDescriptor
+        {
+        // annotation carrier only
+        }
+
+
+    @BackingStore( kind = Kind.CIRCULAR_ARRAY, store = "queue", back = "rearIndex" )
+    static class MisnamedBackDescriptor
+        {
+        // annotation carrier only
+        }
+
+
+    /*
+     * stacks
+     */
+
+
+    @Test
+    @DisplayName( "a top index with \"index\" in its name makes an inclusive stack" )
+    void inclusiveTopIndex()
+        {
+
+        final BackingStoreLayout layout = BackingStoreLayout.of( ArrayStack.class ) ;
+
+        assertEquals( Kind.ARRAY, layout.kind() ) ;
+        assertEquals( "topIndex", layout.entryCountFieldName() ) ;
+        assertEquals( 1, layout.entryCountOffset() ) ;
+        assertEquals( "ARRAY: stack, top topIndex", layout.toString() ) ;
+
+        final ArrayStack stack = new ArrayStack( 1, "a", "b", "stale" ) ;
+
+        assertArrayEquals( new Object[] { "a", "b" }, getContentsOfDataset( stack, layout ) ) ;
+        assertEquals( List.of( "a", "b" ), getDatasetView( stack, layout ) ) ;
+        assertArrayEquals( new int[] { 2 }, getLoiteringIndicesOfDataset( stack, layout ) ) ;
+
+        assertArrayEquals( new Object[ 0 ],
+                           getContentsOfDataset( new ArrayStack( -1, "stale" ), layout ) ) ;
+        assertThrows( TestingException.class,
+                      () -> getContentsOfDataset( new ArrayStack( 3, "a", "b", "c" ), layout ) ) ;
+
+        }   // end inclusiveTopIndex()
+
+
+    @Test
+    @DisplayName( "a top field without \"index\" counts the entries" )
+    void exclusiveTop()
+        {
+
+        final BackingStoreLayout layout = BackingStoreLayout.of( CountingStack.class ) ;
+
+        assertEquals( Kind.ARRAY, layout.kind() ) ;
+        assertEquals( 0, layout.entryCountOffset() ) ;
+        assertArrayEquals( new Object[] { "a", "b" },
+                           getContentsOfDataset( new CountingStack( 2, "a", "b", null ), layout ) ) ;
+
+        }   // end exclusiveTop()
+
+
+    @Test
+    @DisplayName( "a top index is never mistaken for a circular array's front index" )
+    void topIsNotFront()
+        {
+
+        final BackingStoreLayout layout = BackingStoreLayout.of( CountedStack.class ) ;
+
+        assertEquals( Kind.ARRAY, layout.kind() ) ;
+        assertEquals( "numberOfEntries", layout.entryCountFieldName() ) ;
+        assertArrayEquals( new Object[] { "a", "b" }, getContentsOfDataset( new CountedStack(), layout ) ) ;
+
+        }   // end topIsNotFront()
+
+
+    @Test
+    @DisplayName( "an inclusive stack is tracked incrementally through its plan" )
+    void incrementalStack()
+        {
+
+        final ArrayStack stack = new ArrayStack( -1, new Object[ 4 ] ) ;
+        final IncrementalDatasetExtractor extractor =
+                    IncrementalDatasetExtractor.forDataset( stack,
+                                                            BackingStoreLayout.of( ArrayStack.class ) ) ;
+
+        stack.stack[ ++stack.topIndex ] = "a" ;
+        assertTrue( extractor.verifyAddToBack( "a" ) ) ;
+        stack.stack[ ++stack.topIndex ] = "b" ;
+        assertTrue( extractor.verifyAddToBack( "b" ) ) ;
+        stack.stack[ stack.topIndex-- ] = null ;
+        assertTrue( extractor.verifyRemoveBack() ) ;
+
+        assertTrue( extractor.verifyAll() ) ;
+        assertArrayEquals( new Object[] { "a" }, extractor.contents() ) ;
+
+        }   // end incrementalStack()
+
+
+    /*
+     * queues
+     */
+
+
+    @Test
+    @DisplayName( "a queue without an entry count is identified by its front and back indices" )
+    void countlessQueue()
+        {
+
+        final BackingStoreLayout layout = BackingStoreLayout.of( IndexOnlyQueue.class ) ;
+
+        assertEquals( Kind.CIRCULAR_ARRAY, layout.kind() ) ;
+        assertEquals( "frontIndex", layout.frontIndexFieldName() ) ;
+        assertEquals( "backIndex", layout.backIndexFieldName() ) ;
+        assertTrue( layout.backIndexIsInclusive() ) ;
+        assertEquals( "CIRCULAR_ARRAY: queue, front frontIndex, back backIndex (inclusive), count (none)",
+                      layout.toString() ) ;
+
+        final IndexOnlyQueue wrapped = new IndexOnlyQueue( 3, 0, "b", null, "stale", "a" ) ;
+
+        assertArrayEquals( new Object[] { "a", "b" }, getContentsOfDataset( wrapped ) ) ;
+        assertEquals( List.of( "a", "b" ), getDatasetView( wrapped, layout ) ) ;
+        assertArrayEquals( new int[] { 2 }, getLoiteringIndicesOfDataset( wrapped, layout ) ) ;
+
+        // empty - the back index is just before the front index
+        assertArrayEquals( new Object[ 0 ],
+                           getContentsOfDataset( new IndexOnlyQueue( 0, 3, null, null, null, null ) ) ) ;
+
+        }   // end countlessQueue()
+
+
+    @Test
+    @DisplayName( "a back field without \"index\" references the slot following the last entry" )
+    void exclusiveBack()
+        {
+
+        final BackingStoreLayout layout = BackingStoreLayout.of( FrontBackQueue.class ) ;
+
+        assertEquals( "back", layout.backIndexFieldName() ) ;
+        assertFalse( layout.backIndexIsInclusive() ) ;
+        assertArrayEquals( new Object[] { "a", "b", "c" },
+                           getContentsOfDataset( new FrontBackQueue( 2, 1, "c", null, "a", "b" ) ) ) ;
+
+        }   // end exclusiveBack()
+
+
+    @Test
+    @DisplayName( "a back index which disagrees with the entry count is reported" )
+    void backIndexVerified()
+        {
+
+        final BackingStoreLayout layout = BackingStoreLayout.of( ArrayQueue.class ) ;
+
+        assertEquals( "backIndex", layout.backIndexFieldName() ) ;
+
+        final ArrayQueue inconsistent = new ArrayQueue( 2, 0, 3, "c", null, "a", "b" ) ;
+        inconsistent.backIndex = 3 ;
+
+        final TestingException thrown = assertThrows( TestingException.class,
+                                                      () -> getContentsOfDataset( inconsistent ) ) ;
+
+        assertTrue( thrown.getMessage().contains( "inclusive back index 3 does not match front index 2 and entry count 3" ),
+                    thrown.getMessage() ) ;
+
+        }   // end backIndexVerified()
+
+
+    @Test
+    @DisplayName( "a queue without an entry count is tracked incrementally through its plan" )
+    void incrementalCountlessQueue()
+        {
+
+        final IndexOnlyQueue queue = new IndexOnlyQueue( 0, 3, new Object[ 4 ] ) ;
+        final IncrementalDatasetExtractor extractor =
+                    IncrementalDatasetExtractor.forDataset( queue,
+                                                            BackingStoreLayout.of( IndexOnlyQueue.class ) ) ;
+
+        queue.backIndex = 0 ;
+        queue.queue[ 0 ] = "a" ;
+        assertTrue( extractor.verifyAddToBack( "a" ) ) ;
+        queue.backIndex = 1 ;
+        queue.queue[ 1 ] = "b" ;
+        assertTrue( extractor.verifyAddToBack( "b" ) ) ;
+        queue.queue[ queue.frontIndex++ ] = null ;
+        assertTrue( extractor.verifyRemoveFront() ) ;
+
+        assertTrue( extractor.verifyAll() ) ;
+        assertArrayEquals( new Object[] { "b" }, extractor.contents() ) ;
+
+        }   // end incrementalCountlessQueue()
+
+
+    @Test
+    @DisplayName( "a declared back index replaces or verifies the entry count" )
+    void declaredBackIndex()
+        {
+
+        final BackingStoreLayout inclusive = BackingStoreLayout.of( IndexOnlyQueue.class,
+                                                                    IndexOnlyQueueDescriptor.class ) ;
+
+        assertEquals( "backIndex", inclusive.backIndexFieldName() ) ;
+        assertEquals( NO_SUCH_FIELD, inclusive.entryCountFieldName() ) ;
+        assertArrayEquals( new Object[] { "a", "b" },
+                           getContentsOfDataset( new IndexOnlyQueue( 3, 0, "b", null, null, "a" ), inclusive ) ) ;
+
+        final BackingStoreLayout exclusive = BackingStoreLayout.of( FrontBackQueue.class,
+                                                                    FrontBackQueueDescriptor.class ) ;
+
+        assertFalse( exclusive.backIndexIsInclusive() ) ;
+        assertArrayEquals( new Object[] { "a", "b", "c" },
+                           getContentsOfDataset( new FrontBackQueue( 2, 1, "c", null, "a", "b" ), exclusive ) ) ;
+
+        final BackingStoreLayout checked = BackingStoreLayout.of( ArrayQueue.class,
+                                                                  CheckedQueueDescriptor.class ) ;
+        final ArrayQueue inconsistent = new ArrayQueue( 2, 0, 3, "c", null, "a", "b" ) ;
+
+        assertArrayEquals( new Object[] { "a", "b", "c" }, getContentsOfDataset( inconsistent, checked ) ) ;
+        inconsistent.backIndex = 1 ;
+        assertThrows( TestingException.class, () -> getContentsOfDataset( inconsistent, checked ) ) ;
+
+        // without a declared back index, the entry count isn't cross-checked
+        assertArrayEquals( new Object[] { "a", "b", "c" },
+                           getContentsOfDataset( inconsistent,
+                                                 BackingStoreLayout.of( ArrayQueue.class,
+                                                                        QueueDescriptor.class ) ) ) ;
+
+        }   // end declaredBackIndex()
+
+
+    @Test
+    @DisplayName( "an incomplete declaration names the missing role" )
+    void incompleteDeclarations()
+        {
+
+        assertFailure( "CIRCULAR_ARRAY needs an entry count or a back index field",
+                       IndexOnlyQueue.class,
+                       NoCountOrBackDescriptor.class ) ;
+        assertFailure( "ARRAY needs a backing store array field",
+                       ArrayStack.class,
+                       NoStoreDescriptor.class ) ;
+        assertFailure( "no back index field named \"rearIndex\"",
+                       ArrayQueue.class,
+                       MisnamedBackDescriptor.class ) ;
+
+        }   // end incompleteDeclarations()
+
+
+    /*
+     * other layouts
+     */
+
+
+    @Test
+    @DisplayName( "queues, linked stacks, and declared layouts" )
+    void otherLayouts()
+        {
+
+        final BackingStoreLayout queue = BackingStoreLayout.of( ArrayQueue.class ) ;
+
+        assertEquals( Kind.CIRCULAR_ARRAY, queue.kind() ) ;
+        assertEquals( "frontIndex", queue.frontIndexFieldName() ) ;
+        assertArrayEquals( new Object[] { "a", "b", "c" },
+                           getContentsOfDataset( new ArrayQueue( 2, 0, 3, "c", null, "a", "b" ), queue ) ) ;
+
+        final BackingStoreLayout chain = BackingStoreLayout.of( LinkedStack.class ) ;
+
+        assertEquals( Kind.CHAIN, chain.kind() ) ;
+        assertEquals( "topNode", chain.storeFieldName() ) ;
+        assertArrayEquals( new Object[] { "a", "b" }, getContentsOfDataset( new LinkedStack(), chain ) ) ;
+
+        final BackingStoreLayout declared = BackingStoreLayout.of( ArrayQueue.class, QueueDescriptor.class ) ;
+
+        assertEquals( Kind.CIRCULAR_ARRAY, declared.kind() ) ;
+        assertSame( declared, BackingStoreLayout.of( ArrayQueue.class, QueueDescriptor.class ) ) ;
+
+        }   // end otherLayouts()
+
+
+    @Test
+    @DisplayName( "failed detections are reported and cached" )
+    void failures()
+        {
+
+        final TestingException first = assertThrows( TestingException.class,
+                                                      () -> BackingStoreLayout.of( Unrecognizable.class ) ) ;
+        final TestingException second = assertThrows( TestingException.class,
+                                                       () -> BackingStoreLayout.of( Unrecognizable.class ) ) ;
+
+        assertEquals( first.getMessage(), second.getMessage() ) ;
+        assertThrows( TestingException.class,
+                      () -> BackingStoreLayout.of( ArrayStack.class, QueueDescriptor.class ) ) ;
+        assertThrows( TestingException.class,
+                      () -> getContentsOfDataset( new CountedStack(), BackingStoreLayout.of( ArrayStack.class ) ) ) ;
+
+        }   // end failures()
+
+
+    /*
+     * utilities
+     */
+
+
+    private static void assertFailure( final String expectedMessageFragment,
+                                       final Class<?> collectionClass,
+                                       final Class<?> descriptorClass )
+        {
+
+        final TestingException thrown = assertThrows( TestingException.class,
+                                                      () -> BackingStoreLayout.of( collectionClass,
+                                                                                   descriptorClass ) ) ;
+
+        assertTrue( thrown.getMessage().contains( expectedMessageFragment ), thrown.getMessage() ) ;
+
+        }   // end assertFailure()
+
+    }   // end class BackingStoreLayoutTests
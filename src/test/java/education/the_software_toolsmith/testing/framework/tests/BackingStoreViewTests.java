@@ -0,0 +1,168 @@
+/* @formatter:off
+ *
+ * © David M Rosenberg, The Software Toolsmith (education)
+ *
+ * This file is part of the Testing Framework for Java.
+ * Repository: https://github.com/The-Software-Toolsmith/testing-framework-for-java
+ *
+ * Licensed under the Creative Commons Attribution-NonCommercial 4.0 International License.
+ * You may obtain a copy of the license at:
+ *     https://creativecommons.org/licenses/by-nc/4.0/
+ *
+ * You may use, share, and adapt this file for non-commercial purposes,
+ * provided you give appropriate credit.
+ *
+ * @formatter:on
+ */
+
+
+package education.the_software_toolsmith.testing.framework.tests ;
+
+import static education.the_software_toolsmith.testing.framework.ReflectBackingStores.getArrayBackedDatasetView ;
+import static education.the_software_toolsmith.testing.framework.ReflectBackingStores.getCircularArrayBackedDatasetView ;
+import static org.junit.jupiter.api.Assertions.assertEquals ;
+import static org.junit.jupiter.api.Assertions.assertNull ;
+import static org.junit.jupiter.api.Assertions.assertThrows ;
+
+import java.util.List ;
+import java.util.RandomAccess ;
+
+import org.junit.jupiter.api.DisplayName ;
+import org.junit.jupiter.api.Test ;
+
+import education.the_software_toolsmith.testing.framework.TestingException ;
+import education.the_software_toolsmith.testing.framework.tests.ArrayFixtures.ArrayBag ;
+import education.the_software_toolsmith.testing.framework.tests.ArrayFixtures.ArrayQueue ;
+
+/**
+ * JUnit tests for the {@code ReflectBackingStores} non-copying backing store views
+ *
+ * @author David M Rosenberg
+ *
+ * @version 1.0 2026-10-19 Initial implementation
+ * @version 1.1 2026-10-19 use the shared {@code ArrayFixtures} collections
+ */
+@DisplayName( "Backing Store Views" )
+@SuppressWarnings( { "javadoc", "unused" } )
+class BackingStoreViewTests
+    {
+
+    /*
+     * array-backed
+     */
+
+
+    @Test
+    @DisplayName( "an array-backed view covers the live entries and reads through to the array" )
+    void arrayViewReadsThrough()
+        {
+
+        final ArrayBag bag = new ArrayBag( 3, "a", "b", "c", "stale", null ) ;
+        final List<Object> view = getArrayBackedDatasetView( bag, "bag" ) ;
+
+        assertEquals( List.of( "a", "b", "c" ), view ) ;
+        assertEquals( 3, view.size() ) ;
+        assertEquals( true, view instanceof RandomAccess ) ;
+
+        bag.bag[ 1 ] = "B" ;
+
+        assertEquals( "B", view.get( 1 ) ) ;
+
+        // the entry count is captured when the view is created
+        bag.numberOfEntries = 4 ;
+
+        assertEquals( 3, view.size() ) ;
+        assertThrows( IndexOutOfBoundsException.class, () -> view.get( 3 ) ) ;
+        assertThrows( IndexOutOfBoundsException.class, () -> view.get( -1 ) ) ;
+
+        }   // end arrayViewReadsThrough()
+
+
+    @Test
+    @DisplayName( "views are read-only" )
+    void viewsAreReadOnly()
+        {
+
+        final List<Object> view = getArrayBackedDatasetView( new ArrayBag( 2, 1, 2 ), "bag" ) ;
+
+        assertThrows( UnsupportedOperationException.class, () -> view.set( 0, 9 ) ) ;
+        assertThrows( UnsupportedOperationException.class, () -> view.add( 9 ) ) ;
+        assertThrows( UnsupportedOperationException.class, () -> view.remove( 0 ) ) ;
+
+        }   // end viewsAreReadOnly()
+
+
+    @Test
+    @DisplayName( "an explicit entry count overrides the field and an inconsistent count is reported" )
+    void arrayViewEntryCount()
+        {
+
+        final ArrayBag bag = new ArrayBag( 99, 1, 2, 3 ) ;
+
+        assertEquals( List.of( 1, 2 ), getArrayBackedDatasetView( bag, "bag", null, 2 ) ) ;
+        assertThrows( TestingException.class, () -> getArrayBackedDatasetView( bag, "bag" ) ) ;
+
+        bag.numberOfEntries = -1 ;
+
+        assertThrows( TestingException.class, () -> getArrayBackedDatasetView( bag, "bag" ) ) ;
+
+        assertNull( getArrayBackedDatasetView( null, "bag" ) ) ;
+
+        }   // end arrayViewEntryCount()
+
+
+    /*
+     * circular-array-backed
+     */
+
+
+    @Test
+    @DisplayName( "a circular view starts at the front and wraps around to index 0" )
+    void circularViewWraps()
+        {
+
+        final ArrayQueue queue = new ArrayQueue( 3, 1, 4, "c", "d", null, "a", "b" ) ;
+        final List<Object> view = getCircularArrayBackedDatasetView( queue, "queue" ) ;
+
+        assertEquals( List.of( "a", "b", "c", "d" ), view ) ;
+
+        queue.queue[ 0 ] = "C" ;
+
+        assertEquals( "C", view.get( 2 ) ) ;
+
+        }   // end circularViewWraps()
+
+
+    @Test
+    @DisplayName( "full, empty, and zero-capacity circular views" )
+    void circularViewEdgeCases()
+        {
+
+        assertEquals( List.of( 3, 1, 2 ),
+                      getCircularArrayBackedDatasetView( new ArrayQueue( 2, 1, 3, 1, 2, 3 ), "queue" ) ) ;
+        assertEquals( List.of(),
+                      getCircularArrayBackedDatasetView( new ArrayQueue( 2, 1, 0, 1, 2, 3 ), "queue" ) ) ;
+        assertEquals( List.of(),
+                      getCircularArrayBackedDatasetView( new ArrayQueue( 0, 0, 0 ), "queue" ) ) ;
+
+        }   // end circularViewEdgeCases()
+
+
+    @Test
+    @DisplayName( "a front index outside the backing store is reported" )
+    void circularViewBadFrontIndex()
+        {
+
+        assertThrows( TestingException.class,
+                      () -> getCircularArrayBackedDatasetView( new ArrayQueue( 3, 0, 1, 1, 2, 3 ),
+                                                               "queue" ) ) ;
+        assertThrows( TestingException.class,
+                      () -> getCircularArrayBackedDatasetView( new ArrayQueue( -1, 0, 1, 1, 2, 3 ),
+                                                               "queue" ) ) ;
+        assertThrows( TestingException.class,
+                      () -> getCircularArrayBackedDatasetView( new ArrayQueue( 0, 0, 4, 1, 2, 3 ),
+                                                               "queue" ) ) ;
+
+        }   // end circularViewBadFrontIndex()
+
+    }   // end class BackingStoreViewTests
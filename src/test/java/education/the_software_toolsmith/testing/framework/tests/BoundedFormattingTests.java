@@ -0,0 +1,187 @@
+/* @formatter:off
+ *
+ * © David M Rosenberg, The Software Toolsmith (education)
+ *
+ * This file is part of the Testing Framework for Java.
+ * Repository: https://github.com/The-Software-Toolsmith/testing-framework-for-java
+ *
+ * Licensed under the Creative Commons Attribution-NonCommercial 4.0 International License.
+ * You may obtain a copy of the license at:
+ *     https://creativecommons.org/licenses/by-nc/4.0/
+ *
+ * You may use, share, and adapt this file for non-commercial purposes,
+ * provided you give appropriate credit.
+ *
+ * @formatter:on
+ */
+
+
+package education.the_software_toolsmith.testing.framework.tests ;
+
+import static education.the_software_toolsmith.testing.framework.TestData.appendDataset ;
+import static education.the_software_toolsmith.testing.framework.TestData.datasetToFullString ;
+import static education.the_software_toolsmith.testing.framework.TestData.datasetToString ;
+import static org.junit.jupiter.api.Assertions.assertEquals ;
+import static org.junit.jupiter.api.Assertions.assertNull ;
+import static org.junit.jupiter.api.Assertions.assertSame ;
+import static org.junit.jupiter.api.Assertions.assertTrue ;
+
+import org.junit.jupiter.api.DisplayName ;
+import org.junit.jupiter.api.Test ;
+
+/**
+ * JUnit tests for the bounded {@code TestData} dataset formatter
+ *
+ * @author David M Rosenberg
+ *
+ * @version 1.0 2026-10-19 Initial implementation
+ */
+@DisplayName( "Bounded Dataset Formatting" )
+@SuppressWarnings( { "javadoc", "unused" } )
+class BoundedFormattingTests
+    {
+
+    /*
+     * fixtures
+     */
+
+
+    /** counts how many times any instance is formatted */
+    static class Counted
+        {
+
+        static int formatCount = 0 ;
+
+        final int value ;
+
+        Counted( final int value )
+            {
+
+            this.value = value ;
+
+            }
+
+        @Override
+        public String toString()
+            {
+
+            formatCount++ ;
+
+            return "c" + this.value ;
+
+            }
+
+        }   // end class Counted
+
+
+    /**
+     * Build a dataset of the integers {@code 1..count}
+     *
+     * @param count
+     *     the number of elements
+     *
+     * @return the dataset
+     */
+    private static Object[] integers( final int count )
+        {
+
+        final Object[] dataset = new Object[ count ] ;
+
+        for ( int i = 0 ; i < count ; i++ )
+            {
+            dataset[ i ] = i + 1 ;
+            }
+
+        return dataset ;
+
+        }   // end integers()
+
+
+    /*
+     * tests
+     */
+
+
+    @Test
+    @DisplayName( "text which fits is the full text" )
+    void fits()
+        {
+
+        final Object[] dataset = { "a", 'b', 1_000, null } ;
+
+        assertEquals( datasetToFullString( dataset ), datasetToString( dataset, 100, 4 ) ) ;
+        assertEquals( "[\"a\", 'b', 1,000, null]", datasetToString( dataset, 100, 4 ) ) ;
+        assertEquals( "[]", datasetToString( new Object[ 0 ], 0, 0 ) ) ;
+        assertNull( datasetToString( (Object[]) null, 10, 2 ) ) ;
+
+        }   // end fits()
+
+
+    @Test
+    @DisplayName( "text which doesn't fit keeps the leading and trailing elements" )
+    void truncated()
+        {
+
+        assertEquals( "[1, 2, ..., 9, 10]", datasetToString( integers( 10 ), 10, 4 ) ) ;
+        assertEquals( "[1, 2, 3, ..., 8, 9, 10]", datasetToString( integers( 10 ), 10, 7 ) ) ;
+        assertEquals( "[...]", datasetToString( integers( 10 ), 5, 1 ) ) ;
+
+        // the full text is 27 characters
+        assertEquals( "[1, 2, 3, 4, 5, 6, 7, 8, 9]", datasetToString( integers( 9 ), 27, 2 ) ) ;
+        assertEquals( "[1, ..., 9]", datasetToString( integers( 9 ), 26, 2 ) ) ;
+
+        }   // end truncated()
+
+
+    @Test
+    @DisplayName( "when the leading and trailing elements would overlap, each element appears once" )
+    void noOverlap()
+        {
+
+        assertEquals( "[1, 2, 3]", datasetToString( integers( 3 ), 2, 10 ) ) ;
+        assertEquals( "[1, 2, 3, 4]", datasetToString( integers( 4 ), 2, 4 ) ) ;
+
+        // an odd count leaves the middle element out
+        assertEquals( "[1, 2, ..., 4, 5]", datasetToString( integers( 5 ), 2, 4 ) ) ;
+
+        }   // end noOverlap()
+
+
+    @Test
+    @DisplayName( "only the elements which are shown are formatted" )
+    void formatsOnlyShownElements()
+        {
+
+        final Object[] dataset = new Object[ 100_000 ] ;
+
+        for ( int i = 0 ; i < dataset.length ; i++ )
+            {
+            dataset[ i ] = new Counted( i ) ;
+            }
+
+        Counted.formatCount = 0 ;
+
+        assertEquals( "[c0, c1, ..., c99998, c99999]", datasetToString( dataset, 50, 4 ) ) ;
+        assertTrue( Counted.formatCount < 30, "formatted " + Counted.formatCount + " elements" ) ;
+
+        }   // end formatsOnlyShownElements()
+
+
+    @Test
+    @DisplayName( "appendDataset() appends to a reusable buffer" )
+    void appendsToBuffer()
+        {
+
+        final StringBuilder buffer = new StringBuilder( "contents: " ) ;
+
+        assertSame( buffer, appendDataset( buffer, integers( 10 ), 10, 2 ) ) ;
+        assertEquals( "contents: [1, ..., 10]", buffer.toString() ) ;
+
+        buffer.setLength( 0 ) ;
+        appendDataset( buffer, integers( 2 ), 100, 2 ) ;
+
+        assertEquals( "[1, 2]", buffer.toString() ) ;
+
+        }   // end appendsToBuffer()
+
+    }   // end class BoundedFormattingTests
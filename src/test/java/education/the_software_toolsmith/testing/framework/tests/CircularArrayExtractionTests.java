@@ -0,0 +1,194 @@
+/* @formatter:off
+ *
+ * © David M Rosenberg, The Software Toolsmith (education)
+ *
+ * This file is part of the Testing Framework for Java.
+ * Repository: https://github.com/The-Software-Toolsmith/testing-framework-for-java
+ *
+ * Licensed under the Creative Commons Attribution-NonCommercial 4.0 International License.
+ * You may obtain a copy of the license at:
+ *     https://creativecommons.org/licenses/by-nc/4.0/
+ *
+ * You may use, share, and adapt this file for non-commercial purposes,
+ * provided you give appropriate credit.
+ *
+ * @formatter:on
+ */
+
+
+package education.the_software_toolsmith.testing.framework.tests ;
+
+import static education.the_software_toolsmith.testing.framework.ReflectBackingStores.BACK_INDEX_EXCLUSIVE ;
+import static education.the_software_toolsmith.testing.framework.ReflectBackingStores.BACK_INDEX_INCLUSIVE ;
+import static education.the_software_toolsmith.testing.framework.ReflectBackingStores.NO_SUCH_FIELD ;
+import static education.the_software_toolsmith.testing.framework.ReflectBackingStores.getContentsOfCircularArrayBackedDataset ;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals ;
+import static org.junit.jupiter.api.Assertions.assertNull ;
+import static org.junit.jupiter.api.Assertions.assertThrows ;
+
+import org.junit.jupiter.api.DisplayName ;
+import org.junit.jupiter.api.Test ;
+
+import education.the_software_toolsmith.testing.framework.TestingException ;
+import education.the_software_toolsmith.testing.framework.tests.ArrayFixtures.ArrayQueue ;
+import education.the_software_toolsmith.testing.framework.tests.ArrayFixtures.IndexOnlyQueue ;
+
+/**
+ * JUnit tests for the {@code ReflectBackingStores} circular-array extractor
+ *
+ * @author David M Rosenberg
+ *
+ * @version 1.0 2026-10-19 Initial implementation
+ * @version 1.1 2026-10-19 use the shared {@code ArrayFixtures} collections
+ */
+@DisplayName( "Circular Array Extraction" )
+@SuppressWarnings( { "javadoc", "unused" } )
+class CircularArrayExtractionTests
+    {
+
+    /*
+     * tests
+     */
+
+
+    @Test
+    @DisplayName( "only the live entries are copied, wrapping around to index 0" )
+    void copiesLiveEntries()
+        {
+
+        final ArrayQueue queue = new ArrayQueue( 3, 0, 3, "c", "stale", "stale", "a", "b" ) ;
+
+        assertArrayEquals( new Object[] { "a", "b", "c" },
+                           getContentsOfCircularArrayBackedDataset( queue, "queue" ) ) ;
+
+        }   // end copiesLiveEntries()
+
+
+    @Test
+    @DisplayName( "full and empty stores with an entry count" )
+    void fullAndEmpty()
+        {
+
+        assertArrayEquals( new Object[] { 2, 3, 1 },
+                           getContentsOfCircularArrayBackedDataset( new ArrayQueue( 1, 0, 3, 1, 2, 3 ),
+                                                                    "queue" ) ) ;
+        assertArrayEquals( new Object[ 0 ],
+                           getContentsOfCircularArrayBackedDataset( new ArrayQueue( 1, 0, 0, 1, 2, 3 ),
+                                                                    "queue" ) ) ;
+        assertArrayEquals( new Object[ 0 ],
+                           getContentsOfCircularArrayBackedDataset( new ArrayQueue( 0, 0, 0 ),
+                                                                    "queue" ) ) ;
+
+        assertNull( getContentsOfCircularArrayBackedDataset( null, "queue" ) ) ;
+
+        }   // end fullAndEmpty()
+
+
+    @Test
+    @DisplayName( "an exclusive back index is verified against the front index and entry count" )
+    void exclusiveBackIndex()
+        {
+
+        final ArrayQueue queue = new ArrayQueue( 2, 1, 3, "c", null, "a", "b" ) ;
+
+        assertArrayEquals( new Object[] { "a", "b", "c" },
+                           getContentsOfCircularArrayBackedDataset( queue,
+                                                                    "queue",
+                                                                    null,
+                                                                    null,
+                                                                    null,
+                                                                    -1,
+                                                                    BACK_INDEX_EXCLUSIVE ) ) ;
+
+        // the same state is inconsistent for an inclusive back index
+        assertThrows( TestingException.class,
+                      () -> getContentsOfCircularArrayBackedDataset( queue,
+                                                                     "queue",
+                                                                     null,
+                                                                     null,
+                                                                     null,
+                                                                     -1,
+                                                                     BACK_INDEX_INCLUSIVE ) ) ;
+
+        }   // end exclusiveBackIndex()
+
+
+    @Test
+    @DisplayName( "without an entry count, the count is derived from the front and back indices" )
+    void derivedEntryCount()
+        {
+
+        assertArrayEquals( new Object[] { "a", "b", "c" },
+                           getContentsOfCircularArrayBackedDataset( new IndexOnlyQueue( 3, 1, "b", "c", null, "a" ),
+                                                                    "queue",
+                                                                    null,
+                                                                    null,
+                                                                    NO_SUCH_FIELD,
+                                                                    -1,
+                                                                    BACK_INDEX_INCLUSIVE ) ) ;
+        assertArrayEquals( new Object[ 0 ],
+                           getContentsOfCircularArrayBackedDataset( new IndexOnlyQueue( 2, 2, 1, 2, 3, 4 ),
+                                                                    "queue",
+                                                                    null,
+                                                                    null,
+                                                                    NO_SUCH_FIELD,
+                                                                    -1,
+                                                                    BACK_INDEX_EXCLUSIVE ) ) ;
+
+        }   // end derivedEntryCount()
+
+
+    @Test
+    @DisplayName( "without a back index, only the entry count is used" )
+    void noBackIndex()
+        {
+
+        // backIndex is deliberately wrong - it isn't consulted
+        final ArrayQueue queue = new ArrayQueue( 1, 99, 2, null, "a", "b" ) ;
+
+        assertArrayEquals( new Object[] { "a", "b" },
+                           getContentsOfCircularArrayBackedDataset( queue,
+                                                                    "queue",
+                                                                    null,
+                                                                    NO_SUCH_FIELD,
+                                                                    null,
+                                                                    -1,
+                                                                    BACK_INDEX_INCLUSIVE ) ) ;
+
+        assertThrows( TestingException.class,
+                      () -> getContentsOfCircularArrayBackedDataset( new IndexOnlyQueue( 0, 0, 1 ),
+                                                                     "queue",
+                                                                     null,
+                                                                     NO_SUCH_FIELD,
+                                                                     NO_SUCH_FIELD,
+                                                                     -1,
+                                                                     BACK_INDEX_INCLUSIVE ) ) ;
+
+        }   // end noBackIndex()
+
+
+    @Test
+    @DisplayName( "inconsistent front index, back index, and entry count are reported" )
+    void inconsistentState()
+        {
+
+        // back index doesn't match
+        assertThrows( TestingException.class,
+                      () -> getContentsOfCircularArrayBackedDataset( new ArrayQueue( 0, 2, 2, 1, 2, 3 ),
+                                                                     "queue" ) ) ;
+        // entry count exceeds capacity
+        assertThrows( TestingException.class,
+                      () -> getContentsOfCircularArrayBackedDataset( new ArrayQueue( 0, 0, 4, 1, 2, 3 ),
+                                                                     "queue" ) ) ;
+        // negative entry count
+        assertThrows( TestingException.class,
+                      () -> getContentsOfCircularArrayBackedDataset( new ArrayQueue( 0, 0, -1, 1, 2, 3 ),
+                                                                     "queue" ) ) ;
+        // front index outside the backing store
+        assertThrows( TestingException.class,
+                      () -> getContentsOfCircularArrayBackedDataset( new ArrayQueue( 5, 5, 1, 1, 2, 3 ),
+                                                                     "queue" ) ) ;
+
+        }   // end inconsistentState()
+
+    }   // end class CircularArrayExtractionTests
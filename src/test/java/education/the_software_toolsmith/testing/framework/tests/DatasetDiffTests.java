@@ -0,0 +1,255 @@
+/* @formatter:off
+ *
+ * © David M Rosenberg, The Software Toolsmith (education)
+ *
+ * This file is part of the Testing Framework for Java.
+ * Repository: https://github.com/The-Software-Toolsmith/testing-framework-for-java
+ *
+ * Licensed under the Creative Commons Attribution-NonCommercial 4.0 International License.
+ * You may obtain a copy of the license at:
+ *     https://creativecommons.org/licenses/by-nc/4.0/
+ *
+ * You may use, share, and adapt this file for non-commercial purposes,
+ * provided you give appropriate credit.
+ *
+ * @formatter:on
+ */
+
+
+package education.the_software_toolsmith.testing.framework.tests ;
+
+import static education.the_software_toolsmith.testing.framework.TestData.COMPARE_EQUALITY ;
+import static education.the_software_toolsmith.testing.framework.TestData.COMPARE_IDENTITY ;
+import static education.the_software_toolsmith.testing.framework.TestData.IS_ORDERED ;
+import static education.the_software_toolsmith.testing.framework.TestData.REPORT_DIFFERENCES ;
+import static education.the_software_toolsmith.testing.framework.TestData.REPORT_FIRST_MISMATCH ;
+import static education.the_software_toolsmith.testing.framework.TestData.compareDatasets ;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow ;
+import static org.junit.jupiter.api.Assertions.assertEquals ;
+import static org.junit.jupiter.api.Assertions.assertNull ;
+import static org.junit.jupiter.api.Assertions.assertThrows ;
+import static org.junit.jupiter.api.Assertions.assertTrue ;
+
+import java.util.List ;
+
+import org.junit.jupiter.api.DisplayName ;
+import org.junit.jupiter.api.Test ;
+
+import education.the_software_toolsmith.testing.framework.DatasetDiff ;
+import education.the_software_toolsmith.testing.framework.DatasetDiff.Hunk ;
+import education.the_software_toolsmith.testing.framework.DatasetDiff.Operation ;
+import education.the_software_toolsmith.testing.framework.TestingException ;
+
+/**
+ * JUnit tests for {@code DatasetDiff} and the {@code REPORT_DIFFERENCES} mode of
+ * {@code TestData.compareDatasets()}
+ *
+ * @author David M Rosenberg
+ *
+ * @version 1.0 2026-10-19 Initial implementation
+ */
+@DisplayName( "Dataset Differences" )
+@SuppressWarnings( { "javadoc", "unused" } )
+class DatasetDiffTests
+    {
+
+    /*
+     * fixtures
+     */
+
+
+    /**
+     * Build a dataset of the integers {@code 0..count-1}
+     *
+     * @param count
+     *     the number of elements
+     *
+     * @return the dataset
+     */
+    private static Object[] integers( final int count )
+        {
+
+        final Object[] dataset = new Object[ count ] ;
+
+        for ( int i = 0 ; i < count ; i++ )
+            {
+            dataset[ i ] = i ;
+            }
+
+        return dataset ;
+
+        }   // end integers()
+
+
+    /**
+     * Compare ordered datasets reporting their differences
+     *
+     * @param expected
+     *     the dataset of elements as they should appear
+     * @param actual
+     *     the dataset of elements to be verified
+     *
+     * @return the failure message
+     */
+    private static String differences( final Object[] expected,
+                                       final Object[] actual )
+        {
+
+        return assertThrows( TestingException.class,
+                             () -> compareDatasets( expected,
+                                                    actual,
+                                                    IS_ORDERED,
+                                                    COMPARE_EQUALITY,
+                                                    REPORT_DIFFERENCES ) ).getMessage() ;
+
+        }   // end differences()
+
+
+    /*
+     * edit scripts
+     */
+
+
+    @Test
+    @DisplayName( "an insertion, a deletion, and a substitution are each one hunk" )
+    void singleChanges()
+        {
+
+        final Object[] expected = { 1, 2, 3, 4 } ;
+
+        assertEquals( List.of( new Hunk( 2, 0, 2, 1 ) ),
+                      DatasetDiff.of( expected, new Object[] { 1, 2, 9, 3, 4 }, true, 10 ).hunks() ) ;
+        assertEquals( List.of( new Hunk( 1, 1, 1, 0 ) ),
+                      DatasetDiff.of( expected, new Object[] { 1, 3, 4 }, true, 10 ).hunks() ) ;
+
+        final DatasetDiff substitution = DatasetDiff.of( expected, new Object[] { 1, 2, 7, 4 }, true, 10 ) ;
+
+        assertEquals( 2, substitution.editDistance() ) ;
+        assertEquals( Operation.SUBSTITUTE, substitution.hunks().get( 0 ).operation() ) ;
+
+        assertTrue( DatasetDiff.of( expected, expected.clone(), true, 0 ).isEmpty() ) ;
+
+        }   // end singleChanges()
+
+
+    @Test
+    @DisplayName( "the report names the changed elements rather than the first mismatched index" )
+    void report()
+        {
+
+        assertEquals( "dataset mismatch: 1 change (1 element): actual[2] extra: 9",
+                      differences( new Object[] { 1, 2, 3, 4 }, new Object[] { 1, 2, 9, 3, 4 } ) ) ;
+        assertEquals( "dataset mismatch: 2 changes (3 elements): expected[0] missing: \"a\"; expected[2]: \"c\" replaced by actual[1]: \"x\"",
+                      differences( new Object[] { "a", "b", "c", "d" }, new Object[] { "b", "x", "d" } ) ) ;
+        assertEquals( "dataset mismatch: 1 change (2 elements): expected[1..2] missing: [2, 3]",
+                      differences( new Object[] { 1, 2, 3, 4 }, new Object[] { 1, 4 } ) ) ;
+
+        // without REPORT_DIFFERENCES only the length is reported
+        final TestingException firstMismatch =
+                    assertThrows( TestingException.class,
+                                  () -> compareDatasets( new Object[] { 1, 2, 3, 4 },
+                                                         new Object[] { 1, 2, 9, 3, 4 },
+                                                         IS_ORDERED,
+                                                         COMPARE_EQUALITY,
+                                                         REPORT_FIRST_MISMATCH ) ) ;
+
+        assertTrue( firstMismatch.getMessage().startsWith( "dataset length mismatch" ),
+                    firstMismatch.getMessage() ) ;
+
+        assertDoesNotThrow( () -> compareDatasets( integers( 5 ),
+                                                   integers( 5 ),
+                                                   IS_ORDERED,
+                                                   COMPARE_EQUALITY,
+                                                   REPORT_DIFFERENCES ) ) ;
+
+        }   // end report()
+
+
+    @Test
+    @DisplayName( "identity comparison treats equal copies as changes" )
+    void identity()
+        {
+
+        final String shared = "x" ;
+        final Object[] expected = { shared, "y" } ;
+        final Object[] actual = { new String( shared ), "y" } ;
+
+        assertTrue( DatasetDiff.of( expected, actual, true, 10 ).isEmpty() ) ;
+        assertEquals( 2, DatasetDiff.of( expected, actual, false, 10 ).editDistance() ) ;
+        assertThrows( TestingException.class,
+                      () -> compareDatasets( expected, actual, IS_ORDERED, COMPARE_IDENTITY, REPORT_DIFFERENCES ) ) ;
+
+        }   // end identity()
+
+
+    /*
+     * budget
+     */
+
+
+    @Test
+    @DisplayName( "a million elements with a few changes are diffed within the budget" )
+    void large()
+        {
+
+        final Object[] expected = integers( 1_000_000 ) ;
+        final Object[] actual = new Object[ expected.length + 1 ] ;
+
+        System.arraycopy( expected, 0, actual, 0, 500_000 ) ;
+        actual[ 500_000 ] = -1 ;
+        System.arraycopy( expected, 500_000, actual, 500_001, 500_000 ) ;
+        actual[ 900_000 ] = -2 ;
+
+        final DatasetDiff diff = DatasetDiff.of( expected, actual, true, DatasetDiff.DEFAULT_MAXIMUM_EDIT_DISTANCE ) ;
+
+        assertEquals( 3, diff.editDistance() ) ;
+        assertEquals( List.of( new Hunk( 500_000, 0, 500_000, 1 ), new Hunk( 899_999, 1, 900_000, 1 ) ),
+                      diff.hunks() ) ;
+
+        }   // end large()
+
+
+    @Test
+    @DisplayName( "past the budget, no script is produced and the first mismatch is reported" )
+    void overBudget()
+        {
+
+        final Object[] expected = integers( 2_000 ) ;
+        final Object[] actual = new Object[ expected.length ] ;
+
+        for ( int i = 0 ; i < actual.length ; i++ )
+            {
+            actual[ i ] = -i - 1 ;
+            }
+
+        assertNull( DatasetDiff.of( expected, actual, true, 100 ) ) ;
+
+        final String message = differences( expected, actual ) ;
+
+        assertTrue( message.startsWith( "element mismatch" ) && message.contains( "at index 0" ), message ) ;
+
+        }   // end overBudget()
+
+
+    @Test
+    @DisplayName( "the description lists a bounded number of hunks" )
+    void boundedDescription()
+        {
+
+        final Object[] expected = integers( 40 ) ;
+        final Object[] actual = integers( 40 ) ;
+
+        for ( int i = 0 ; i < actual.length ; i += 4 )
+            {
+            actual[ i ] = -1 ;
+            }
+
+        final DatasetDiff diff = DatasetDiff.of( expected, actual, true, 100 ) ;
+
+        assertEquals( 10, diff.hunks().size() ) ;
+        assertTrue( diff.describe( expected, actual, 3 ).endsWith( "; ... 7 more" ),
+                    diff.describe( expected, actual, 3 ) ) ;
+
+        }   // end boundedDescription()
+
+    }   // end class DatasetDiffTests
@@ -0,0 +1,225 @@
+/* @formatter:off
+ *
+ * © David M Rosenberg, The Software Toolsmith (education)
+ *
+ * This file is part of the Testing Framework for Java.
+ * Repository: https://github.com/The-Software-Toolsmith/testing-framework-for-java
+ *
+ * Licensed under the Creative Commons Attribution-NonCommercial 4.0 International License.
+ * You may obtain a copy of the license at:
+ *     https://creativecommons.org/licenses/by-nc/4.0/
+ *
+ * You may use, share, and adapt this file for non-commercial purposes,
+ * provided you give appropriate credit.
+ *
+ * @formatter:on
+ */
+
+
+package education.the_software_toolsmith.testing.framework.tests ;
+
+import static education.the_software_toolsmith.testing.framework.TestData.IS_ORDERED ;
+import static education.the_software_toolsmith.testing.framework.TestData.IS_UNORDERED ;
+import static education.the_software_toolsmith.testing.framework.TestData.compareDatasets ;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow ;
+import static org.junit.jupiter.api.Assertions.assertEquals ;
+import static org.junit.jupiter.api.Assertions.assertNotEquals ;
+import static org.junit.jupiter.api.Assertions.assertThrows ;
+
+import java.math.BigDecimal ;
+import java.math.BigInteger ;
+import java.util.ArrayDeque ;
+import java.util.ArrayList ;
+import java.util.HashMap ;
+import java.util.LinkedHashSet ;
+import java.util.LinkedList ;
+import java.util.List ;
+import java.util.Map ;
+import java.util.Set ;
+import java.util.TreeMap ;
+import java.util.TreeSet ;
+
+import org.junit.jupiter.api.DisplayName ;
+import org.junit.jupiter.api.Test ;
+
+import education.the_software_toolsmith.testing.framework.DatasetFingerprint ;
+import education.the_software_toolsmith.testing.framework.TestingException ;
+
+/**
+ * JUnit tests for {@code DatasetFingerprint}'s structural digests of collections, big numbers, and
+ * enum constants
+ *
+ * @author David M Rosenberg
+ *
+ * @version 1.0 2026-10-19 Initial implementation
+ */
+@DisplayName( "Dataset Fingerprints" )
+@SuppressWarnings( { "javadoc", "unused" } )
+class DatasetFingerprintTests
+    {
+
+    /*
+     * fixtures
+     */
+
+
+    enum Suit
+        {
+        CLUBS,
+        SPADES
+            {
+            // a constant with a body has its own class
+            @Override
+            public String toString()
+                {
+
+                return "spades" ;
+
+                }
+            }
+        }   // end enum Suit
+
+
+    record Point( int x, int y )
+        {
+        }   // end record Point
+
+
+    /**
+     * Verify two datasets have different fingerprints, ordered and unordered
+     */
+    private static void assertDistinct( final Object[] first,
+                                        final Object[] second )
+        {
+
+        assertNotEquals( DatasetFingerprint.of( first, IS_ORDERED ),
+                         DatasetFingerprint.of( second, IS_ORDERED ) ) ;
+        assertNotEquals( DatasetFingerprint.of( first, IS_UNORDERED ),
+                         DatasetFingerprint.of( second, IS_UNORDERED ) ) ;
+
+        }   // end assertDistinct()
+
+
+    /**
+     * Verify two datasets have the same fingerprints, ordered and unordered
+     */
+    private static void assertSame( final Object[] first,
+                                    final Object[] second )
+        {
+
+        assertEquals( DatasetFingerprint.of( first, IS_ORDERED ),
+                      DatasetFingerprint.of( second, IS_ORDERED ) ) ;
+        assertEquals( DatasetFingerprint.of( first, IS_UNORDERED ),
+                      DatasetFingerprint.of( second, IS_UNORDERED ) ) ;
+
+        }   // end assertSame()
+
+
+    /*
+     * hashCode() collisions
+     */
+
+
+    @Test
+    @DisplayName( "elements whose hashCode()s collide have different fingerprints" )
+    void hashCodeCollisions()
+        {
+
+        // "Aa" and "BB" have the same hashCode() and so do the lists
+        assertDistinct( new Object[] { List.of( "Aa" ), BigInteger.ONE },
+                        new Object[] { List.of( "BB" ), BigInteger.ONE } ) ;
+        assertDistinct( new Object[] { Set.of( "Aa" ) }, new Object[] { Set.of( "BB" ) } ) ;
+        assertDistinct( new Object[] { Map.of( "Aa", 1 ) }, new Object[] { Map.of( "BB", 1 ) } ) ;
+
+        // both have magnitudes which hash to 31
+        assertDistinct( new Object[] { BigInteger.valueOf( 31 ) },
+                        new Object[] { BigInteger.ONE.shiftLeft( 32 ) } ) ;
+        assertDistinct( new Object[] { new BigDecimal( BigInteger.valueOf( 31 ), 2 ) },
+                        new Object[] { new BigDecimal( BigInteger.ONE.shiftLeft( 32 ), 2 ) } ) ;
+
+        // a map's keys and values aren't interchangeable
+        assertDistinct( new Object[] { Map.of( "a", "b" ) }, new Object[] { Map.of( "b", "a" ) } ) ;
+        assertDistinct( new Object[] { Map.of( "a", 1, "b", 2 ) },
+                        new Object[] { Map.of( "a", 2, "b", 1 ) } ) ;
+
+        }   // end hashCodeCollisions()
+
+
+    @Test
+    @DisplayName( "values are distinguished as equals() distinguishes them" )
+    void valueSemantics()
+        {
+
+        assertDistinct( new Object[] { new BigDecimal( "2.0" ) }, new Object[] { new BigDecimal( "2.00" ) } ) ;
+        assertDistinct( new Object[] { BigInteger.valueOf( -1 ) }, new Object[] { BigInteger.valueOf( 255 ) } ) ;
+        assertDistinct( new Object[] { List.of( 1, 2 ) }, new Object[] { List.of( 2, 1 ) } ) ;
+        assertDistinct( new Object[] { List.of( 1 ) }, new Object[] { Set.of( 1 ) } ) ;
+        assertDistinct( new Object[] { List.of( List.of() ) }, new Object[] { List.of( Set.of() ) } ) ;
+        assertDistinct( new Object[] { Suit.CLUBS }, new Object[] { Suit.SPADES } ) ;
+        assertDistinct( new Object[] { Suit.CLUBS }, new Object[] { "CLUBS" } ) ;
+
+        // equal collections of different classes match
+        assertSame( new Object[] { List.of( 1, 2 ) }, new Object[] { new LinkedList<>( List.of( 1, 2 ) ) } ) ;
+        assertSame( new Object[] { new TreeSet<>( List.of( "x", "y", "z" ) ) },
+                    new Object[] { new LinkedHashSet<>( List.of( "z", "x", "y" ) ) } ) ;
+        assertSame( new Object[] { new TreeMap<>( Map.of( "a", 1, "b", 2 ) ) },
+                    new Object[] { new HashMap<>( Map.of( "b", 2, "a", 1 ) ) } ) ;
+        assertSame( new Object[] { new ArrayDeque<>( List.of( 3, 4 ) ) },
+                    new Object[] { new ArrayDeque<>( List.of( 3, 4 ) ) } ) ;
+        assertSame( new Object[] { BigInteger.TEN.pow( 40 ) },
+                    new Object[] { new BigInteger( "1" + "0".repeat( 40 ) ) } ) ;
+
+        }   // end valueSemantics()
+
+
+    /*
+     * stability
+     */
+
+
+    @Test
+    @DisplayName( "fingerprints don't depend on hash codes, so they're the same from run to run" )
+    void stable()
+        {
+
+        final Object[] dataset = { Suit.SPADES,
+                                   List.of( 1L, "two" ),
+                                   Set.of( 'c' ),
+                                   Map.of( "k", 3.0 ),
+                                   BigInteger.TEN.negate(),
+                                   new BigDecimal( "1.25" ) } ;
+
+        assertEquals( "ordered/6/c3aac7051cdd50fec83b18c795a9914c",
+                      DatasetFingerprint.of( dataset, IS_ORDERED ).toString() ) ;
+        assertEquals( "unordered/6/881541ee83046e343316da10d1780eda",
+                      DatasetFingerprint.of( dataset, IS_UNORDERED ).toString() ) ;
+
+        }   // end stable()
+
+
+    /*
+     * unsupported elements
+     */
+
+
+    @Test
+    @DisplayName( "elements identified only by hashCode() are rejected, at any depth" )
+    void unsupported()
+        {
+
+        assertThrows( TestingException.class,
+                      () -> DatasetFingerprint.of( new Object[] { new Object() }, IS_ORDERED ) ) ;
+        assertThrows( TestingException.class,
+                      () -> DatasetFingerprint.of( new Object[] { List.of( new Point( 1, 2 ) ) }, IS_UNORDERED ) ) ;
+        assertThrows( TestingException.class,
+                      () -> DatasetFingerprint.builder( IS_ORDERED ).add( Map.of( 1, new StringBuilder() ) ) ) ;
+        assertThrows( TestingException.class,
+                      () -> compareDatasets( DatasetFingerprint.of( new Object[] { 1 }, IS_ORDERED ),
+                                             new Object[] { new ArrayList<>( List.of( new Object() ) ) } ) ) ;
+
+        assertDoesNotThrow( () -> compareDatasets( DatasetFingerprint.of( new Object[] { List.of( Suit.CLUBS ) }, IS_ORDERED ),
+                                                   new Object[] { new ArrayList<>( List.of( Suit.CLUBS ) ) } ) ) ;
+
+        }   // end unsupported()
+
+    }   // end class DatasetFingerprintTests
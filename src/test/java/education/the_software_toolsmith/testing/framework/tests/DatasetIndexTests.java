@@ -0,0 +1,179 @@
+/* @formatter:off
+ *
+ * © David M Rosenberg, The Software Toolsmith (education)
+ *
+ * This file is part of the Testing Framework for Java.
+ * Repository: https://github.com/The-Software-Toolsmith/testing-framework-for-java
+ *
+ * Licensed under the Creative Commons Attribution-NonCommercial 4.0 International License.
+ * You may obtain a copy of the license at:
+ *     https://creativecommons.org/licenses/by-nc/4.0/
+ *
+ * You may use, share, and adapt this file for non-commercial purposes,
+ * provided you give appropriate credit.
+ *
+ * @formatter:on
+ */
+
+
+package education.the_software_toolsmith.testing.framework.tests ;
+
+import static education.the_software_toolsmith.testing.framework.ReflectMethods.invoke ;
+import static education.the_software_toolsmith.testing.framework.TestData.COMPARE_IDENTITY ;
+import static org.junit.jupiter.api.Assertions.assertEquals ;
+import static org.junit.jupiter.api.Assertions.assertFalse ;
+import static org.junit.jupiter.api.Assertions.assertThrows ;
+import static org.junit.jupiter.api.Assertions.assertTrue ;
+
+import org.junit.jupiter.api.DisplayName ;
+import org.junit.jupiter.api.Test ;
+
+import education.the_software_toolsmith.testing.framework.DatasetIndex ;
+
+/**
+ * JUnit tests for {@code DatasetIndex}
+ *
+ * @author David M Rosenberg
+ *
+ * @version 1.0 2026-10-19 Initial implementation
+ */
+@DisplayName( "Dataset Index" )
+@SuppressWarnings( { "javadoc", "unused" } )
+class DatasetIndexTests
+    {
+
+    /*
+     * fixtures
+     */
+
+
+    /**
+     * Size a hash table as {@code DatasetIndex} does
+     */
+    private static int tableLengthFor( final int elementCount ) throws Throwable
+        {
+
+        return (int) invoke( DatasetIndex.class,
+                             null,
+                             "tableLengthFor",
+                             new Class<?>[] { int.class },
+                             elementCount ) ;
+
+        }   // end tableLengthFor()
+
+
+    /*
+     * table sizing
+     */
+
+
+    @Test
+    @DisplayName( "the table is the smallest power of 2 at least twice the element count" )
+    void tableLength() throws Throwable
+        {
+
+        assertEquals( 4, tableLengthFor( 0 ) ) ;
+        assertEquals( 4, tableLengthFor( 1 ) ) ;
+        assertEquals( 4, tableLengthFor( 2 ) ) ;
+        assertEquals( 8, tableLengthFor( 3 ) ) ;
+        assertEquals( 8, tableLengthFor( 4 ) ) ;
+        assertEquals( 16, tableLengthFor( 5 ) ) ;
+        assertEquals( 1 << 21, tableLengthFor( ( 1 << 20 ) ) ) ;
+        assertEquals( 1 << 22, tableLengthFor( ( 1 << 20 ) + 1 ) ) ;
+
+        }   // end tableLength()
+
+
+    @Test
+    @DisplayName( "large element counts are capped at the largest power of 2 array length instead of overflowing" )
+    void tableLengthCap() throws Throwable
+        {
+
+        assertEquals( 1 << 29, tableLengthFor( 1 << 28 ) ) ;
+        assertEquals( 1 << 30, tableLengthFor( ( 1 << 28 ) + 1 ) ) ;
+        assertEquals( 1 << 30, tableLengthFor( 1 << 29 ) ) ;
+        // 2 * count overflowed int for these
+        assertEquals( 1 << 30, tableLengthFor( 1 << 30 ) ) ;
+        assertEquals( 1 << 30, tableLengthFor( Integer.MAX_VALUE - 8 ) ) ;
+        assertEquals( 1 << 30, tableLengthFor( Integer.MAX_VALUE ) ) ;
+
+        }   // end tableLengthCap()
+
+
+    /*
+     * queries
+     */
+
+
+    @Test
+    @DisplayName( "counts, membership, and distinct elements including null" )
+    void queries()
+        {
+
+        final DatasetIndex index = DatasetIndex.of( new Object[] { "a", null, "b", "a", null, "a" } ) ;
+
+        assertEquals( 3, index.count( "a" ) ) ;
+        assertEquals( 2, index.count( null ) ) ;
+        assertEquals( 0, index.count( "c" ) ) ;
+        assertTrue( index.contains( "b" ) ) ;
+        assertFalse( index.contains( 'b' ) ) ;
+        assertEquals( 6, index.size() ) ;
+        assertEquals( 3, index.distinctCount() ) ;
+
+        final DatasetIndex empty = DatasetIndex.of( new Object[ 0 ] ) ;
+
+        assertFalse( empty.contains( null ) ) ;
+        assertEquals( 0, empty.size() ) ;
+
+        }   // end queries()
+
+
+    @Test
+    @DisplayName( "every distinct element is found when all of them are distinct" )
+    void allDistinct()
+        {
+
+        // fills the table exactly half full
+        final Object[] dataset = new Object[ 1 << 12 ] ;
+
+        for ( int i = 0 ; i < dataset.length ; i++ )
+            {
+            dataset[ i ] = i ;
+            }
+
+        final DatasetIndex index = DatasetIndex.of( dataset ) ;
+
+        assertEquals( dataset.length, index.distinctCount() ) ;
+
+        for ( final Object element : dataset )
+            {
+            assertEquals( 1, index.count( element ) ) ;
+            }
+
+        assertFalse( index.contains( dataset.length ) ) ;
+
+        }   // end allDistinct()
+
+
+    @Test
+    @DisplayName( "permutations match and identity comparisons distinguish equal elements" )
+    void matching()
+        {
+
+        final String first = new String( "x" ) ;
+        final String second = new String( "x" ) ;
+
+        assertTrue( DatasetIndex.of( new Object[] { 1, 2, 2 } ).matches( new Object[] { 2, 1, 2 } ) ) ;
+        assertFalse( DatasetIndex.of( new Object[] { 1, 2, 2 } ).matches( new Object[] { 1, 1, 2 } ) ) ;
+        assertFalse( DatasetIndex.of( new Object[] { 1 } ).matches( null ) ) ;
+
+        final DatasetIndex identities = DatasetIndex.of( new Object[] { first }, COMPARE_IDENTITY ) ;
+
+        assertTrue( identities.contains( first ) ) ;
+        assertFalse( identities.contains( second ) ) ;
+
+        assertThrows( NullPointerException.class, () -> DatasetIndex.of( null ) ) ;
+
+        }   // end matching()
+
+    }   // end class DatasetIndexTests
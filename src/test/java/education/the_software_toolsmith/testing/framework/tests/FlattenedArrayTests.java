@@ -0,0 +1,222 @@
+/* @formatter:off
+ *
+ * © David M Rosenberg, The Software Toolsmith (education)
+ *
+ * This file is part of the Testing Framework for Java.
+ * Repository: https://github.com/The-Software-Toolsmith/testing-framework-for-java
+ *
+ * Licensed under the Creative Commons Attribution-NonCommercial 4.0 International License.
+ * You may obtain a copy of the license at:
+ *     https://creativecommons.org/licenses/by-nc/4.0/
+ *
+ * You may use, share, and adapt this file for non-commercial purposes,
+ * provided you give appropriate credit.
+ *
+ * @formatter:on
+ */
+
+
+package education.the_software_toolsmith.testing.framework.tests ;
+
+import static education.the_software_toolsmith.testing.framework.ReflectBackingStores.flattenArray ;
+import static education.the_software_toolsmith.testing.framework.ReflectBackingStores.getContentsOfMultidimensionalArray ;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals ;
+import static org.junit.jupiter.api.Assertions.assertEquals ;
+import static org.junit.jupiter.api.Assertions.assertFalse ;
+import static org.junit.jupiter.api.Assertions.assertNotEquals ;
+import static org.junit.jupiter.api.Assertions.assertNull ;
+import static org.junit.jupiter.api.Assertions.assertThrows ;
+import static org.junit.jupiter.api.Assertions.assertTrue ;
+
+import org.junit.jupiter.api.DisplayName ;
+import org.junit.jupiter.api.Test ;
+
+import education.the_software_toolsmith.testing.framework.FlattenedArray ;
+import education.the_software_toolsmith.testing.framework.TestingException ;
+
+/**
+ * JUnit tests for {@code ReflectBackingStores.flattenArray()} and {@code FlattenedArray}
+ *
+ * @author David M Rosenberg
+ *
+ * @version 1.0 2026-10-19 Initial implementation
+ * @version 1.1 2026-10-19 flattened arrays compare by value
+ */
+@DisplayName( "Flattened Arrays" )
+@SuppressWarnings( { "javadoc", "unused" } )
+class FlattenedArrayTests
+    {
+
+    /*
+     * fixtures
+     */
+
+
+    static class Grid
+        {
+
+        long[][] cells = { { 1, 2 }, { 3, 4 } } ;
+
+        }   // end class Grid
+
+
+    /*
+     * flattening
+     */
+
+
+    @Test
+    @DisplayName( "a rectangular primitive array flattens to a primitive array in row-major order" )
+    void rectangularPrimitive()
+        {
+
+        final FlattenedArray flattened = flattenArray( new int[][] { { 1, 2, 3 }, { 4, 5, 6 } } ) ;
+
+        assertArrayEquals( new int[] { 1, 2, 3, 4, 5, 6 }, (int[]) flattened.elements() ) ;
+        assertArrayEquals( new int[] { 2, 3, 3 }, flattened.shape() ) ;
+        assertArrayEquals( new int[] { 2, 3 }, flattened.extents() ) ;
+        assertEquals( 2, flattened.dimensions() ) ;
+        assertEquals( 6, flattened.elementCount() ) ;
+        assertTrue( flattened.isRectangular() ) ;
+        assertEquals( "[1][1]", flattened.describePosition( 4 ) ) ;
+
+        }   // end rectangularPrimitive()
+
+
+    @Test
+    @DisplayName( "a ragged array with a null row records the null in its shape" )
+    void raggedWithNull()
+        {
+
+        final FlattenedArray flattened = flattenArray( new String[][] { { "a", "b" },
+                                                                        null,
+                                                                        { "c" } } ) ;
+
+        assertArrayEquals( new Object[] { "a", "b", "c" }, (Object[]) flattened.elements() ) ;
+        assertArrayEquals( new int[] { 3, 2, -1, 1 }, flattened.shape() ) ;
+        assertArrayEquals( new int[] { 3, -1 }, flattened.extents() ) ;
+        assertFalse( flattened.isRectangular() ) ;
+        assertEquals( "element 2 (row-major)", flattened.describePosition( 2 ) ) ;
+        assertThrows( TestingException.class, flattened::inColumnMajorOrder ) ;
+
+        }   // end raggedWithNull()
+
+
+    @Test
+    @DisplayName( "three dimensions, empty arrays, and one dimension" )
+    void otherShapes()
+        {
+
+        final FlattenedArray cube = flattenArray( new char[][][] { { { 'a', 'b' } },
+                                                                   { { 'c', 'd' } } } ) ;
+
+        assertArrayEquals( new char[] { 'a', 'b', 'c', 'd' }, (char[]) cube.elements() ) ;
+        assertArrayEquals( new int[] { 2, 1, 2 }, cube.extents() ) ;
+        assertEquals( "[1][0][1]", cube.describePosition( 3 ) ) ;
+
+        final FlattenedArray empty = flattenArray( new double[ 0 ][ 4 ] ) ;
+
+        assertEquals( 0, empty.elementCount() ) ;
+        assertArrayEquals( new int[] { 0 }, empty.shape() ) ;
+
+        final FlattenedArray vector = flattenArray( new Integer[] { 7, null } ) ;
+
+        assertArrayEquals( new Object[] { 7, null }, (Object[]) vector.elements() ) ;
+        assertEquals( 1, vector.dimensions() ) ;
+
+        }   // end otherShapes()
+
+
+    @Test
+    @DisplayName( "dimensions come from the declared type, not the runtime elements" )
+    void declaredDimensions()
+        {
+
+        final int[] row = { 1, 2 } ;
+        final FlattenedArray flattened = flattenArray( new Object[][] { { row } } ) ;
+
+        assertEquals( 2, flattened.dimensions() ) ;
+        assertEquals( row, ( (Object[]) flattened.elements() )[ 0 ] ) ;
+
+        }   // end declaredDimensions()
+
+
+    @Test
+    @DisplayName( "non-arrays are rejected and null flattens to null" )
+    void nonArrays()
+        {
+
+        assertThrows( TestingException.class, () -> flattenArray( "not an array" ) ) ;
+        assertNull( flattenArray( null ) ) ;
+
+        }   // end nonArrays()
+
+
+    /*
+     * column-major order
+     */
+
+
+    @Test
+    @DisplayName( "column-major order transposes the elements and reverses the extents" )
+    void columnMajor()
+        {
+
+        final FlattenedArray transposed = flattenArray( new int[][] { { 1, 2, 3 },
+                                                                      { 4, 5, 6 } } ).inColumnMajorOrder() ;
+
+        assertArrayEquals( new int[] { 1, 4, 2, 5, 3, 6 }, (int[]) transposed.elements() ) ;
+        assertArrayEquals( new int[] { 3, 2 }, transposed.extents() ) ;
+        assertArrayEquals( new int[] { 3, 2, 2, 2 }, transposed.shape() ) ;
+
+        // transposing twice restores the original order
+        assertArrayEquals( new int[] { 1, 2, 3, 4, 5, 6 },
+                           (int[]) transposed.inColumnMajorOrder().elements() ) ;
+
+        }   // end columnMajor()
+
+
+    @Test
+    @DisplayName( "flattened arrays are equal, hash, and print by their contents" )
+    void compareByValue()
+        {
+
+        final FlattenedArray ragged = flattenArray( new int[][] { { 1, 2 }, { 3 } } ) ;
+        final FlattenedArray same = flattenArray( new int[][] { { 1, 2 }, { 3 } } ) ;
+
+        assertEquals( ragged, same ) ;
+        assertEquals( ragged.hashCode(), same.hashCode() ) ;
+        assertEquals( "FlattenedArray[elements=[1, 2, 3], shape=[2, 2, 1], extents=[2, -1]]",
+                      ragged.toString() ) ;
+
+        // same elements, different shape or element type
+        assertNotEquals( ragged, flattenArray( new int[][] { { 1 }, { 2, 3 } } ) ) ;
+        assertNotEquals( ragged, flattenArray( new long[][] { { 1, 2 }, { 3 } } ) ) ;
+
+        final FlattenedArray rectangular = flattenArray( new String[][] { { "a", "b" }, { "c", "d" } } ) ;
+
+        assertEquals( rectangular, rectangular.inColumnMajorOrder().inColumnMajorOrder() ) ;
+        assertEquals( flattenArray( new String[][] { { "a", "b" }, { "c", "d" } } ).hashCode(),
+                      rectangular.hashCode() ) ;
+
+        }   // end compareByValue()
+
+
+    /*
+     * extraction
+     */
+
+
+    @Test
+    @DisplayName( "a multi-dimensional field is flattened from its instance" )
+    void fromInstance()
+        {
+
+        final FlattenedArray flattened = getContentsOfMultidimensionalArray( new Grid(), "cells" ) ;
+
+        assertArrayEquals( new long[] { 1, 2, 3, 4 }, (long[]) flattened.elements() ) ;
+        assertEquals( "[1][0]", flattened.describePosition( 2 ) ) ;
+
+        }   // end fromInstance()
+
+    }   // end class FlattenedArrayTests
@@ -0,0 +1,558 @@
+/* @formatter:off
+ *
+ * © David M Rosenberg, The Software Toolsmith (education)
+ *
+ * This file is part of the Testing Framework for Java.
+ * Repository: https://github.com/The-Software-Toolsmith/testing-framework-for-java
+ *
+ * Licensed under the Creative Commons Attribution-NonCommercial 4.0 International License.
+ * You may obtain a copy of the license at:
+ *     https://creativecommons.org/licenses/by-nc/4.0/
+ *
+ * You may use, share, and adapt this file for non-commercial purposes,
+ * provided you give appropriate credit.
+ *
+ * @formatter:on
+ */
+
+
+package education.the_software_toolsmith.testing.framework.tests ;
+
+import static education.the_software_toolsmith.testing.framework.ReflectMethods.invoke ;
+import static education.the_software_toolsmith.testing.framework.TestData.compareDatasets ;
+import static education.the_software_toolsmith.testing.framework.TestData.compareDatasetsWithinUlps ;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow ;
+import static org.junit.jupiter.api.Assertions.assertEquals ;
+import static org.junit.jupiter.api.Assertions.assertThrows ;
+import static org.junit.jupiter.api.Assertions.assertTrue ;
+import static org.junit.jupiter.api.Assumptions.assumeTrue ;
+
+import java.util.Random ;
+import java.util.regex.Matcher ;
+import java.util.regex.Pattern ;
+
+import org.junit.jupiter.api.DisplayName ;
+import org.junit.jupiter.api.Test ;
+
+import education.the_software_toolsmith.testing.framework.TestingException ;
+import education.the_software_toolsmith.testing.framework.Tolerance ;
+
+/**
+ * JUnit tests for the block-screened {@code double[]} and {@code float[]} tolerance comparisons in
+ * {@code TestData} - the first mismatch each reports must be the first pair
+ * {@code Tolerance.matches()} rejects when the pairs are checked one at a time
+ *
+ * @author David M Rosenberg
+ *
+ * @version 1.0 2026-10-19 Initial implementation
+ * @version 1.1 2026-10-19 the Vector API screen agrees with the scalar screen
+ */
+@DisplayName( "Tolerant Primitive Comparison" )
+@SuppressWarnings( { "javadoc", "unused" } )
+class FloatingPointMismatchTests
+    {
+
+    /*
+     * fixtures
+     */
+
+
+    /** the position in a mismatch report */
+    private static final Pattern REPORTED_INDEX = Pattern.compile( "at index (\\S+) \\(" ) ;
+
+    /** a dataset spans several screened blocks */
+    private static final int DATASET_LENGTH = 3_000 ;
+
+    /** datasets of at least this many elements are compared on the common pool */
+    private static final int PARALLEL_LENGTH = 1 << 20 ;
+
+    private static final Tolerance[] DOUBLE_TOLERANCES = { Tolerance.absolute( 1e-3 ),
+                                                           Tolerance.relative( 1e-9 ),
+                                                           Tolerance.ulps( 4 ),
+                                                           // too loose for the screen
+                                                           Tolerance.ulps( 1L << 51 ),
+                                                           Tolerance.absolute( 1e-12 )
+                                                                    .withRelative( 1e-6 )
+                                                                    .withUlps( 16 ) } ;
+
+    private static final Tolerance[] FLOAT_TOLERANCES = { Tolerance.absolute( 1e-3 ),
+                                                          Tolerance.relative( 1e-4 ),
+                                                          Tolerance.ulps( 3 ),
+                                                          // too loose for the screen
+                                                          Tolerance.ulps( 1L << 22 ),
+                                                          Tolerance.absolute( 1e-9 )
+                                                                   .withRelative( 1e-3 ) } ;
+
+
+    /**
+     * The first mismatch found checking each pair with {@code Tolerance.matches()}
+     */
+    private static int firstMismatch( final double[] expected,
+                                      final double[] actual,
+                                      final Tolerance tolerance )
+        {
+
+        for ( int i = 0 ; i < expected.length ; i++ )
+            {
+
+            if ( !tolerance.matches( expected[ i ], actual[ i ] ) )
+                {
+                return i ;
+                }
+
+            }
+
+        return -1 ;
+
+        }   // end double firstMismatch()
+
+
+    private static int firstMismatch( final float[] expected,
+                                      final float[] actual,
+                                      final Tolerance tolerance )
+        {
+
+        for ( int i = 0 ; i < expected.length ; i++ )
+            {
+
+            if ( !tolerance.matches( expected[ i ], actual[ i ] ) )
+                {
+                return i ;
+                }
+
+            }
+
+        return -1 ;
+
+        }   // end float firstMismatch()
+
+
+    /**
+     * The first mismatch {@code compareDatasets()} reports
+     */
+    private static int reportedMismatch( final double[] expected,
+                                         final double[] actual,
+                                         final Tolerance tolerance )
+        {
+
+        try
+            {
+            compareDatasets( expected, actual, tolerance ) ;
+
+            return -1 ;
+            }
+        catch ( final TestingException e )
+            {
+            return indexIn( e ) ;
+            }
+
+        }   // end double reportedMismatch()
+
+
+    private static int reportedMismatch( final float[] expected,
+                                         final float[] actual,
+                                         final Tolerance tolerance )
+        {
+
+        try
+            {
+            compareDatasets( expected, actual, tolerance ) ;
+
+            return -1 ;
+            }
+        catch ( final TestingException e )
+            {
+            return indexIn( e ) ;
+            }
+
+        }   // end float reportedMismatch()
+
+
+    /**
+     * Extract the index from a mismatch report - the digits may be grouped
+     */
+    private static int indexIn( final TestingException e )
+        {
+
+        final Matcher matcher = REPORTED_INDEX.matcher( e.getMessage() ) ;
+
+        assertTrue( matcher.find(), e.getMessage() ) ;
+
+        return Integer.parseInt( matcher.group( 1 ).replaceAll( "\\D", "" ) ) ;
+
+        }   // end indexIn()
+
+
+    /**
+     * A random value whose magnitude is between 1e-5 and 1e5
+     */
+    private static double randomValue( final Random random )
+        {
+
+        return ( ( random.nextDouble() * 2 ) - 1 ) * Math.pow( 10, random.nextInt( 11 ) - 5 ) ;
+
+        }   // end randomValue()
+
+
+    /**
+     * Move a value by about {@code scale} times a tolerance in a random direction - a scale near 1
+     * lands on either side of the tolerance
+     */
+    private static double perturb( final double value,
+                                   final Tolerance tolerance,
+                                   final double scale,
+                                   final Random random )
+        {
+
+        final int direction = random.nextBoolean()
+            ? 1
+            : -1 ;
+
+        if ( tolerance.relative() > 0 )
+            {
+            return value + ( direction * Math.abs( value ) * tolerance.relative() * scale ) ;
+            }
+
+        if ( tolerance.absolute() > 0 )
+            {
+            return value + ( direction * tolerance.absolute() * scale ) ;
+            }
+
+        // moving the bits away from or toward 0 never crosses 0 at these magnitudes
+        return Double.longBitsToDouble( Double.doubleToRawLongBits( value ) +
+                                        ( direction * (long) ( tolerance.maxUlps() * scale ) ) ) ;
+
+        }   // end double perturb()
+
+
+    private static float perturb( final float value,
+                                  final Tolerance tolerance,
+                                  final double scale,
+                                  final Random random )
+        {
+
+        final int direction = random.nextBoolean()
+            ? 1
+            : -1 ;
+
+        if ( tolerance.relative() > 0 )
+            {
+            return (float) ( value + ( direction * Math.abs( value ) * tolerance.relative() * scale ) ) ;
+            }
+
+        if ( tolerance.absolute() > 0 )
+            {
+            return (float) ( value + ( direction * tolerance.absolute() * scale ) ) ;
+            }
+
+        return Float.intBitsToFloat( Float.floatToRawIntBits( value ) +
+                                     ( direction * (int) ( tolerance.maxUlps() * scale ) ) ) ;
+
+        }   // end float perturb()
+
+
+    /*
+     * agreement with the element by element rules
+     */
+
+
+    @Test
+    @DisplayName( "double[]: the reported mismatch is the first pair outside the tolerance" )
+    void doublesAgree()
+        {
+
+        final Random random = new Random( 47L ) ;
+
+        for ( final Tolerance tolerance : DOUBLE_TOLERANCES )
+            {
+
+            for ( int trial = 0 ; trial < 100 ; trial++ )
+                {
+                final double[] expected = new double[ DATASET_LENGTH ] ;
+                final double[] actual = new double[ DATASET_LENGTH ] ;
+
+                for ( int i = 0 ; i < DATASET_LENGTH ; i++ )
+                    {
+                    expected[ i ] = randomValue( random ) ;
+                    // some pairs identical, the rest within the tolerance
+                    actual[ i ] = random.nextInt( 4 ) == 0
+                        ? expected[ i ]
+                        : perturb( expected[ i ], tolerance, random.nextDouble() * 0.99, random ) ;
+                    }
+
+                // one pair on either side of the tolerance, anywhere - including block boundaries
+                final int injected = trial < 4
+                    ? ( 511 + trial ) % DATASET_LENGTH
+                    : random.nextInt( DATASET_LENGTH ) ;
+                actual[ injected ] = perturb( expected[ injected ],
+                                              tolerance,
+                                              0.9 + ( random.nextDouble() * 0.3 ),
+                                              random ) ;
+
+                assertEquals( firstMismatch( expected, actual, tolerance ),
+                              reportedMismatch( expected, actual, tolerance ),
+                              tolerance.toString() ) ;
+                }
+
+            }
+
+        }   // end doublesAgree()
+
+
+    @Test
+    @DisplayName( "float[]: the reported mismatch is the first pair outside the tolerance" )
+    void floatsAgree()
+        {
+
+        final Random random = new Random( 4_747L ) ;
+
+        for ( final Tolerance tolerance : FLOAT_TOLERANCES )
+            {
+
+            for ( int trial = 0 ; trial < 100 ; trial++ )
+                {
+                final float[] expected = new float[ DATASET_LENGTH ] ;
+                final float[] actual = new float[ DATASET_LENGTH ] ;
+
+                for ( int i = 0 ; i < DATASET_LENGTH ; i++ )
+                    {
+                    expected[ i ] = (float) randomValue( random ) ;
+                    actual[ i ] = random.nextInt( 4 ) == 0
+                        ? expected[ i ]
+                        : perturb( expected[ i ], tolerance, random.nextDouble() * 0.99, random ) ;
+                    }
+
+                final int injected = random.nextInt( DATASET_LENGTH ) ;
+                actual[ injected ] = perturb( expected[ injected ],
+                                              tolerance,
+                                              0.9 + ( random.nextDouble() * 0.3 ),
+                                              random ) ;
+
+                assertEquals( firstMismatch( expected, actual, tolerance ),
+                              reportedMismatch( expected, actual, tolerance ),
+                              tolerance.toString() ) ;
+                }
+
+            }
+
+        }   // end floatsAgree()
+
+
+    /*
+     * special values
+     */
+
+
+    @Test
+    @DisplayName( "NaN, infinities, signed zeros, and subnormals follow the element by element rules" )
+    void specialValues()
+        {
+
+        final double[] expected = { Double.NaN,
+                                    Double.POSITIVE_INFINITY,
+                                    0.0,
+                                    Double.MIN_VALUE,
+                                    Double.MAX_VALUE,
+                                    Double.NEGATIVE_INFINITY,
+                                    Double.NaN,
+                                    -Double.MIN_VALUE } ;
+        final double[] actual = { Double.NaN,
+                                  Double.POSITIVE_INFINITY,
+                                  -0.0,
+                                  2 * Double.MIN_VALUE,
+                                  Double.POSITIVE_INFINITY,
+                                  Double.POSITIVE_INFINITY,
+                                  1.0,
+                                  Double.MIN_VALUE } ;
+
+        for ( final Tolerance tolerance : DOUBLE_TOLERANCES )
+            {
+
+            // shift the special values through every position of a screened block
+            for ( int offset = 0 ; offset < 520 ; offset += 13 )
+                {
+                final double[] paddedExpected = new double[ offset + expected.length ] ;
+                final double[] paddedActual = new double[ offset + actual.length ] ;
+
+                System.arraycopy( expected, 0, paddedExpected, offset, expected.length ) ;
+                System.arraycopy( actual, 0, paddedActual, offset, actual.length ) ;
+
+                assertEquals( firstMismatch( paddedExpected, paddedActual, tolerance ),
+                              reportedMismatch( paddedExpected, paddedActual, tolerance ),
+                              tolerance.toString() ) ;
+                }
+
+            }
+
+        assertDoesNotThrow( () -> compareDatasets( new float[] { Float.NaN, 0.0f },
+                                                   new float[] { Float.NaN, -0.0f },
+                                                   Tolerance.EXACT ) ) ;
+        assertThrows( TestingException.class,
+                      () -> compareDatasets( new float[] { Float.MAX_VALUE },
+                                             new float[] { Float.POSITIVE_INFINITY },
+                                             Tolerance.ulps( 1L << 22 ) ) ) ;
+
+        }   // end specialValues()
+
+
+    @Test
+    @DisplayName( "pairs exactly maxUlps apart match and one more ULP doesn't, across 0 too" )
+    void ulpBoundary()
+        {
+
+        assertDoesNotThrow( () -> compareDatasetsWithinUlps( new double[] { 1.0, -Double.MIN_VALUE },
+                                                             new double[] { Math.nextUp( Math.nextUp( 1.0 ) ),
+                                                                            Double.MIN_VALUE },
+                                                             2 ) ) ;
+        assertThrows( TestingException.class,
+                      () -> compareDatasetsWithinUlps( new double[] { 1.0 },
+                                                       new double[] { Math.nextUp( Math.nextUp( Math.nextUp( 1.0 ) ) ) },
+                                                       2 ) ) ;
+        assertDoesNotThrow( () -> compareDatasetsWithinUlps( new float[] { 1.0f },
+                                                             new float[] { Math.nextDown( 1.0f ) },
+                                                             1 ) ) ;
+        assertThrows( TestingException.class,
+                      () -> compareDatasetsWithinUlps( new float[] { -Float.MIN_VALUE },
+                                                       new float[] { Float.MIN_VALUE },
+                                                       1 ) ) ;
+
+        }   // end ulpBoundary()
+
+
+    /*
+     * Vector API screen
+     */
+
+
+    @Test
+    @DisplayName( "the Vector API screen passes exactly the ranges the scalar screen passes" )
+    void vectorScreenAgrees() throws Throwable
+        {
+
+        assumeTrue( ModuleLayer.boot().findModule( "jdk.incubator.vector" ).isPresent(),
+                    "run with --add-modules jdk.incubator.vector" ) ;
+
+        final String packageName = TestingException.class.getPackageName() ;
+        final Class<?> scalarScreen = Class.forName( packageName + ".FloatingPointMismatch" ) ;
+        final Class<?> vectorScreen = Class.forName( packageName + ".VectorFloatingPointScreen" ) ;
+
+        final double[] specialValues = { Double.NaN,
+                                         Double.POSITIVE_INFINITY,
+                                         Double.NEGATIVE_INFINITY,
+                                         Double.MAX_VALUE,
+                                         Double.MIN_VALUE,
+                                         -0.0 } ;
+        final Random random = new Random( 4_700L ) ;
+        int passedCount = 0 ;
+
+        for ( int trial = 0 ; trial < 2_000 ; trial++ )
+            {
+            // long enough for several vectors and a partial one
+            final int length = random.nextInt( 70 ) ;
+            final double[] expected = new double[ length ] ;
+            final double[] actual = new double[ length ] ;
+
+            for ( int i = 0 ; i < length ; i++ )
+                {
+                expected[ i ] = randomValue( random ) ;
+                actual[ i ] = expected[ i ] + ( expected[ i ] * random.nextGaussian() * 1e-7 ) ;
+                }
+
+            if ( ( length > 0 ) && random.nextBoolean() )
+                {
+                final int position = random.nextInt( length ) ;
+                actual[ position ] = random.nextBoolean()
+                    ? specialValues[ random.nextInt( specialValues.length ) ]
+                    : actual[ position ] * 1.01 ;
+                }
+
+            final double floor = random.nextBoolean()
+                ? 0
+                : 1e-4 ;
+            final double scale = random.nextBoolean()
+                ? 0
+                : 1e-6 ;
+            final int fromIndex = random.nextInt( length + 1 ) ;
+
+            final float[] expectedFloats = new float[ length ] ;
+            final float[] actualFloats = new float[ length ] ;
+
+            for ( int i = 0 ; i < length ; i++ )
+                {
+                expectedFloats[ i ] = (float) expected[ i ] ;
+                actualFloats[ i ] = (float) actual[ i ] ;
+                }
+
+            final boolean scalarResult = (boolean) invoke( scalarScreen,
+                                                           null,
+                                                           "passesScreen",
+                                                           new Class<?>[] { double[].class, double[].class, int.class, int.class, double.class, double.class },
+                                                           expected, actual, fromIndex, length, floor, scale ) ;
+
+            assertEquals( scalarResult,
+                          invoke( vectorScreen,
+                                  null,
+                                  "passes",
+                                  new Class<?>[] { double[].class, double[].class, int.class, int.class, double.class, double.class },
+                                  expected, actual, fromIndex, length, floor, scale ),
+                          "double trial " + trial ) ;
+            assertEquals( invoke( scalarScreen,
+                                  null,
+                                  "passesScreen",
+                                  new Class<?>[] { float[].class, float[].class, int.class, int.class, double.class, double.class },
+                                  expectedFloats, actualFloats, fromIndex, length, floor, scale ),
+                          invoke( vectorScreen,
+                                  null,
+                                  "passes",
+                                  new Class<?>[] { float[].class, float[].class, int.class, int.class, double.class, double.class },
+                                  expectedFloats, actualFloats, fromIndex, length, floor, scale ),
+                          "float trial " + trial ) ;
+
+            passedCount += scalarResult
+                ? 1
+                : 0 ;
+            }
+
+        // both outcomes were exercised
+        assertTrue( ( passedCount > 100 ) && ( passedCount < 1_900 ), "passed " + passedCount ) ;
+
+        }   // end vectorScreenAgrees()
+
+
+    /*
+     * parallel comparison
+     */
+
+
+    @Test
+    @DisplayName( "large datasets report the first mismatch even when a later one is found first" )
+    void largeDatasets()
+        {
+
+        final double[] expected = new double[ PARALLEL_LENGTH + 3 ] ;
+        final Random random = new Random( 470L ) ;
+
+        for ( int i = 0 ; i < expected.length ; i++ )
+            {
+            expected[ i ] = randomValue( random ) ;
+            }
+
+        final double[] actual = expected.clone() ;
+        final Tolerance tolerance = Tolerance.absolute( 1e-6 ) ;
+
+        assertEquals( -1, reportedMismatch( expected, actual, tolerance ) ) ;
+
+        actual[ actual.length - 1 ] += 1 ;
+        actual[ 700_000 ] += 1 ;
+
+        assertEquals( 700_000, reportedMismatch( expected, actual, tolerance ) ) ;
+
+        final float[] expectedFloats = new float[ PARALLEL_LENGTH ] ;
+        final float[] actualFloats = new float[ PARALLEL_LENGTH ] ;
+        actualFloats[ PARALLEL_LENGTH - 1 ] = 1e-3f ;
+
+        assertEquals( PARALLEL_LENGTH - 1, reportedMismatch( expectedFloats, actualFloats, tolerance ) ) ;
+
+        }   // end largeDatasets()
+
+    }   // end class FloatingPointMismatchTests
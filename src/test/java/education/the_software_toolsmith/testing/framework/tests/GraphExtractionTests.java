@@ -0,0 +1,308 @@
+/* @formatter:off
+ *
+ * © David M Rosenberg, The Software Toolsmith (education)
+ *
+ * This file is part of the Testing Framework for Java.
+ * Repository: https://github.com/The-Software-Toolsmith/testing-framework-for-java
+ *
+ * Licensed under the Creative Commons Attribution-NonCommercial 4.0 International License.
+ * You may obtain a copy of the license at:
+ *     https://creativecommons.org/licenses/by-nc/4.0/
+ *
+ * You may use, share, and adapt this file for non-commercial purposes,
+ * provided you give appropriate credit.
+ *
+ * @formatter:on
+ */
+
+
+package education.the_software_toolsmith.testing.framework.tests ;
+
+import static education.the_software_toolsmith.testing.framework.ReflectBackingStores.adjacencyMapToGraph ;
+import static education.the_software_toolsmith.testing.framework.ReflectBackingStores.adjacencyMatrixToGraph ;
+import static education.the_software_toolsmith.testing.framework.ReflectBackingStores.getContentsOfVertexChainGraph ;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals ;
+import static org.junit.jupiter.api.Assertions.assertEquals ;
+import static org.junit.jupiter.api.Assertions.assertFalse ;
+import static org.junit.jupiter.api.Assertions.assertNotEquals ;
+import static org.junit.jupiter.api.Assertions.assertThrows ;
+import static org.junit.jupiter.api.Assertions.assertTrue ;
+
+import java.util.Arrays ;
+import java.util.LinkedHashMap ;
+import java.util.List ;
+import java.util.Map ;
+
+import org.junit.jupiter.api.DisplayName ;
+import org.junit.jupiter.api.Test ;
+
+import education.the_software_toolsmith.testing.framework.CsrGraph ;
+import education.the_software_toolsmith.testing.framework.TestingException ;
+
+/**
+ * JUnit tests for {@code CsrGraph} and the {@code ReflectBackingStores} graph extractors
+ *
+ * @author David M Rosenberg
+ *
+ * @version 1.0 2026-10-19 Initial implementation
+ * @version 1.1 2026-10-19 graphs compare by value
+ */
+@DisplayName( "Graph Extraction" )
+@SuppressWarnings( { "javadoc", "unused" } )
+class GraphExtractionTests
+    {
+
+    /*
+     * fixtures
+     */
+
+
+    static class Vertex
+        {
+
+        String label ;
+        Edge edges ;
+
+        Vertex( final String label )
+            {
+
+            this.label = label ;
+
+            }
+
+        }   // end class Vertex
+
+
+    static class Edge
+        {
+
+        Vertex vertex ;
+        Edge next ;
+        int weight ;
+
+        Edge( final Vertex vertex, final int weight, final Edge next )
+            {
+
+            this.vertex = vertex ;
+            this.weight = weight ;
+            this.next = next ;
+
+            }
+
+        }   // end class Edge
+
+
+    static class Graph
+        {
+
+        Vertex[] vertices ;
+
+        Graph( final Vertex... vertices )
+            {
+
+            this.vertices = vertices ;
+
+            }
+
+        }   // end class Graph
+
+
+    /**
+     * Build an adjacency map whose keys iterate in the given order
+     *
+     * @param keysAndNeighbors
+     *     alternating vertices and their neighbor lists
+     *
+     * @return the map
+     */
+    private static Map<Object, Object> adjacencies( final Object... keysAndNeighbors )
+        {
+
+        final Map<Object, Object> adjacencyMap = new LinkedHashMap<>() ;
+
+        for ( int i = 0 ; i < keysAndNeighbors.length ; i += 2 )
+            {
+            adjacencyMap.put( keysAndNeighbors[ i ], keysAndNeighbors[ i + 1 ] ) ;
+            }
+
+        return adjacencyMap ;
+
+        }   // end adjacencies()
+
+
+    /*
+     * construction and lookup
+     */
+
+
+    @Test
+    @DisplayName( "an adjacency map numbers keys first, then newly seen neighbors" )
+    void adjacencyMap()
+        {
+
+        final CsrGraph graph = adjacencyMapToGraph( adjacencies( "a", List.of( "b", "c" ),
+                                                                 "b", new Object[] { "c" } ) ) ;
+
+        assertArrayEquals( new Object[] { "a", "b", "c" }, graph.vertices() ) ;
+        assertArrayEquals( new int[] { 0, 2, 3, 3 }, graph.offsets() ) ;
+        assertEquals( 3, graph.edgeCount() ) ;
+        assertEquals( 2, graph.indexOf( "c" ) ) ;
+        assertEquals( -1, graph.indexOf( "z" ) ) ;
+        assertTrue( graph.hasEdge( 0, 2 ) ) ;
+        assertFalse( graph.hasEdge( 2, 0 ) ) ;
+        assertArrayEquals( new int[] { 0, 1, 1 }, graph.breadthFirstDistances( 0 ) ) ;
+
+        assertThrows( TestingException.class,
+                      () -> adjacencyMapToGraph( adjacencies( "a", "not a collection" ) ) ) ;
+
+        }   // end adjacencyMap()
+
+
+    @Test
+    @DisplayName( "indexOf() matches with equals(), keeps the first duplicate, and handles null" )
+    void indexOf()
+        {
+
+        final CsrGraph graph = new CsrGraph( new Object[] { "a", null, new String( "a" ) },
+                                             new int[] { 0, 0, 0, 0 },
+                                             new int[ 0 ],
+                                             null ) ;
+
+        assertEquals( 0, graph.indexOf( new String( "a" ) ) ) ;
+        assertEquals( 1, graph.indexOf( null ) ) ;
+        assertEquals( -1, adjacencyMatrixToGraph( new boolean[ 2 ][ 2 ] ).indexOf( 0 ) ) ;
+
+        }   // end indexOf()
+
+
+    @Test
+    @DisplayName( "an adjacency matrix becomes a weighted graph without vertex identities" )
+    void adjacencyMatrix()
+        {
+
+        final CsrGraph graph = adjacencyMatrixToGraph( new double[][] { { 0, 4, 1 },
+                                                                        { 0, 0, 0 },
+                                                                        { 0, 2, 0 } } ) ;
+
+        assertEquals( 3, graph.vertexCount() ) ;
+        assertEquals( 3, graph.edgeCount() ) ;
+        assertArrayEquals( new double[] { 0.0, 3.0, 1.0 }, graph.shortestPathDistances( 0 ) ) ;
+        assertArrayEquals( new double[] { Double.POSITIVE_INFINITY, 0.0, Double.POSITIVE_INFINITY },
+                           graph.shortestPathDistances( 1 ) ) ;
+
+        assertThrows( TestingException.class,
+                      () -> adjacencyMatrixToGraph( new double[][] { { 0, -1 }, { 0, 0 } } )
+                                                                     .shortestPathDistances( 0 ) ) ;
+        assertThrows( TestingException.class,
+                      () -> adjacencyMatrixToGraph( new int[][] { { 0, 1 } } ) ) ;
+
+        }   // end adjacencyMatrix()
+
+
+    @Test
+    @DisplayName( "a vertex chain graph follows each vertex's edge chain" )
+    void vertexChain()
+        {
+
+        final Vertex a = new Vertex( "a" ) ;
+        final Vertex b = new Vertex( "b" ) ;
+        final Vertex c = new Vertex( "c" ) ;
+
+        a.edges = new Edge( b, 5, new Edge( c, 1, null ) ) ;
+        c.edges = new Edge( b, 2, null ) ;
+
+        final CsrGraph graph = getContentsOfVertexChainGraph( new Graph( a, b, c ),
+                                                              null,
+                                                              null,
+                                                              null,
+                                                              null,
+                                                              "weight" ) ;
+
+        assertEquals( 0, graph.indexOf( a ) ) ;
+        assertEquals( 3, graph.edgeCount() ) ;
+        assertArrayEquals( new double[] { 0.0, 3.0, 1.0 }, graph.shortestPathDistances( 0 ) ) ;
+
+        }   // end vertexChain()
+
+
+    /*
+     * numbering-independent comparison
+     */
+
+
+    @Test
+    @DisplayName( "equal graphs numbered in different orders have the same edges" )
+    void sameEdgesDifferentNumbering()
+        {
+
+        final CsrGraph forward = adjacencyMapToGraph( adjacencies( "a", List.of( "b", "c" ),
+                                                                   "b", List.of( "c" ),
+                                                                   "c", List.of() ) ) ;
+        final CsrGraph backward = adjacencyMapToGraph( adjacencies( "c", List.of(),
+                                                                    "b", List.of( "c" ),
+                                                                    "a", List.of( "c", "b" ) ) ) ;
+
+        assertFalse( Arrays.equals( forward.targets(), backward.targets() ) ) ;
+        assertTrue( forward.hasSameEdges( backward ) ) ;
+        assertTrue( backward.hasSameEdges( forward ) ) ;
+
+        }   // end sameEdgesDifferentNumbering()
+
+
+    @Test
+    @DisplayName( "different edges, vertices, weights, and parallel edge counts are detected" )
+    void differentEdges()
+        {
+
+        final CsrGraph graph = adjacencyMapToGraph( adjacencies( "a", List.of( "b", "b" ),
+                                                                 "b", List.of( "a" ) ) ) ;
+
+        // same edge count, different multiset
+        assertFalse( graph.hasSameEdges( adjacencyMapToGraph( adjacencies( "a", List.of( "b" ),
+                                                                           "b", List.of( "a", "a" ) ) ) ) ) ;
+        // different vertices
+        assertFalse( graph.hasSameEdges( adjacencyMapToGraph( adjacencies( "a", List.of( "c", "c" ),
+                                                                           "c", List.of( "a" ) ) ) ) ) ;
+        assertFalse( graph.hasSameEdges( null ) ) ;
+
+        // weights are part of the edge
+        final CsrGraph weighted = adjacencyMatrixToGraph( new double[][] { { 0, 2 }, { 3, 0 } } ) ;
+
+        assertTrue( weighted.hasSameEdges( adjacencyMatrixToGraph( new double[][] { { 0, 2 },
+                                                                                    { 3, 0 } } ) ) ) ;
+        assertFalse( weighted.hasSameEdges( adjacencyMatrixToGraph( new double[][] { { 0, 3 },
+                                                                                     { 2, 0 } } ) ) ) ;
+        assertFalse( weighted.hasSameEdges( adjacencyMatrixToGraph( new boolean[][] { { false, true },
+                                                                                      { true, false } } ) ) ) ;
+
+        }   // end differentEdges()
+
+
+    @Test
+    @DisplayName( "graphs are equal, hash, and print by their arrays' contents" )
+    void graphsCompareByValue()
+        {
+
+        final CsrGraph graph = adjacencyMapToGraph( adjacencies( "a", List.of( "b" ),
+                                                                 "b", List.of() ) ) ;
+        final CsrGraph same = adjacencyMapToGraph( adjacencies( "a", List.of( "b" ),
+                                                                "b", List.of() ) ) ;
+
+        assertEquals( graph, same ) ;
+        assertEquals( graph.hashCode(), same.hashCode() ) ;
+        assertEquals( "CsrGraph[vertices=[a, b], offsets=[0, 1, 1], targets=[1], weights=null]",
+                      graph.toString() ) ;
+
+        // same vertices, reversed edge
+        assertNotEquals( graph,
+                         adjacencyMapToGraph( adjacencies( "a", List.of(),
+                                                           "b", List.of( "a" ) ) ) ) ;
+
+        final CsrGraph weighted = adjacencyMatrixToGraph( new double[][] { { 0, 2 }, { 3, 0 } } ) ;
+
+        assertEquals( weighted, adjacencyMatrixToGraph( new double[][] { { 0, 2 }, { 3, 0 } } ) ) ;
+        assertNotEquals( weighted, adjacencyMatrixToGraph( new double[][] { { 0, 2 }, { 4, 0 } } ) ) ;
+
+        }   // end graphsCompareByValue()
+
+    }   // end class GraphExtractionTests
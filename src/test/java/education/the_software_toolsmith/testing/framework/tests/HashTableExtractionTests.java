@@ -0,0 +1,334 @@
+/* @formatter:off
+ *
+ * © David M Rosenberg, The Software Toolsmith (education)
+ *
+ * This file is part of the Testing Framework for Java.
+ * Repository: https://github.com/The-Software-Toolsmith/testing-framework-for-java
+ *
+ * Licensed under the Creative Commons Attribution-NonCommercial 4.0 International License.
+ * You may obtain a copy of the license at:
+ *     https://creativecommons.org/licenses/by-nc/4.0/
+ *
+ * You may use, share, and adapt this file for non-commercial purposes,
+ * provided you give appropriate credit.
+ *
+ * @formatter:on
+ */
+
+
+package education.the_software_toolsmith.testing.framework.tests ;
+
+import static education.the_software_toolsmith.testing.framework.ReflectBackingStores.getContentsOfChainedHashTable ;
+import static education.the_software_toolsmith.testing.framework.ReflectBackingStores.getContentsOfOpenAddressedHashTable ;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals ;
+import static org.junit.jupiter.api.Assertions.assertEquals ;
+import static org.junit.jupiter.api.Assertions.assertNotEquals ;
+import static org.junit.jupiter.api.Assertions.assertNull ;
+import static org.junit.jupiter.api.Assertions.assertThrows ;
+
+import org.junit.jupiter.api.DisplayName ;
+import org.junit.jupiter.api.Test ;
+
+import education.the_software_toolsmith.testing.framework.HashTableContents ;
+import education.the_software_toolsmith.testing.framework.LoopDetectedException ;
+import education.the_software_toolsmith.testing.framework.TestingException ;
+
+/**
+ * JUnit tests for the {@code ReflectBackingStores} hash table extractors
+ *
+ * @author David M Rosenberg
+ *
+ * @version 1.0 2026-10-19 Initial implementation
+ * @version 1.1 2026-10-19 contents compare by value
+ */
+@DisplayName( "Hash Table Extraction" )
+@SuppressWarnings( { "javadoc", "unused" } )
+class HashTableExtractionTests
+    {
+
+    /*
+     * fixtures
+     */
+
+
+    static class Node
+        {
+
+        Object key ;
+        Object value ;
+        Node next ;
+
+        Node( final Object key, final Object value, final Node next )
+            {
+
+            this.key = key ;
+            this.value = value ;
+            this.next = next ;
+
+            }
+
+        }   // end class Node
+
+
+    /** shadows all three of {@code Node}'s fields */
+    static class ShadowingNode extends Node
+        {
+
+        Object key ;
+        Object value ;
+        Node next ;
+
+        ShadowingNode( final Object key, final Object value, final Node next )
+            {
+
+            super( "shadowed key", "shadowed value", null ) ;
+
+            this.key = key ;
+            this.value = value ;
+            this.next = next ;
+
+            }
+
+        }   // end class ShadowingNode
+
+
+    static class ChainedTable
+        {
+
+        Node[] hashTable ;
+
+        ChainedTable( final Node... buckets )
+            {
+
+            this.hashTable = buckets ;
+
+            }
+
+        }   // end class ChainedTable
+
+
+    static class Entry
+        {
+
+        Object key ;
+        Object value ;
+
+        Entry( final Object key, final Object value )
+            {
+
+            this.key = key ;
+            this.value = value ;
+
+            }
+
+        }   // end class Entry
+
+
+    static class OpenTable
+        {
+
+        final Entry removed = new Entry( null, null ) ;
+        Entry[] hashTable ;
+
+        }   // end class OpenTable
+
+
+    /*
+     * separate chaining
+     */
+
+
+    @Test
+    @DisplayName( "chained entries are extracted in bucket then chain order" )
+    void chainedBucketOrder()
+        {
+
+        final ChainedTable table = new ChainedTable( new Node( "a", 1, new Node( "b", 2, null ) ),
+                                                     null,
+                                                     new Node( "c", 3, null ),
+                                                     null ) ;
+
+        final HashTableContents contents = getContentsOfChainedHashTable( table ) ;
+
+        assertArrayEquals( new Object[] { "a", "b", "c" }, contents.keys() ) ;
+        assertArrayEquals( new Object[] { 1, 2, 3 }, contents.values() ) ;
+        assertEquals( 4, contents.capacity() ) ;
+        assertEquals( 2, contents.occupiedBuckets() ) ;
+        assertEquals( 0, contents.tombstoneCount() ) ;
+        assertArrayEquals( new int[] { 0, 2, 1 }, contents.probeLengthHistogram() ) ;
+        assertEquals( 2, contents.longestProbeLength() ) ;
+        assertEquals( 4.0 / 3.0, contents.averageProbeLength(), 1e-12 ) ;
+        assertEquals( 0.75, contents.loadFactor(), 1e-12 ) ;
+
+        }   // end chainedBucketOrder()
+
+
+    @Test
+    @DisplayName( "an empty chained table has no entries and an empty histogram" )
+    void chainedEmpty()
+        {
+
+        final HashTableContents contents = getContentsOfChainedHashTable( new ChainedTable( new Node[ 8 ] ) ) ;
+
+        assertEquals( 0, contents.entryCount() ) ;
+        assertEquals( 0, contents.occupiedBuckets() ) ;
+        assertEquals( 0, contents.longestProbeLength() ) ;
+        assertEquals( 0.0, contents.averageProbeLength() ) ;
+
+        assertNull( getContentsOfChainedHashTable( null ) ) ;
+
+        }   // end chainedEmpty()
+
+
+    @Test
+    @DisplayName( "a chain which loops back on itself is reported" )
+    void chainedLoop()
+        {
+
+        final Node second = new Node( "b", 2, null ) ;
+        final Node first = new Node( "a", 1, second ) ;
+        second.next = first ;
+
+        assertThrows( LoopDetectedException.class,
+                      () -> getContentsOfChainedHashTable( new ChainedTable( first ) ) ) ;
+
+        }   // end chainedLoop()
+
+
+    @Test
+    @DisplayName( "a node reachable from two buckets is reported" )
+    void chainedSharedNode()
+        {
+
+        final Node shared = new Node( "s", 0, null ) ;
+
+        assertThrows( LoopDetectedException.class,
+                      () -> getContentsOfChainedHashTable( new ChainedTable( new Node( "a", 1, shared ),
+                                                                             shared ) ) ) ;
+
+        }   // end chainedSharedNode()
+
+
+    @Test
+    @DisplayName( "a subclass which shadows the node fields is read through its own fields" )
+    void chainedShadowedFields()
+        {
+
+        // the base class node is visited first so its fields are the ones resolved first
+        final ChainedTable table = new ChainedTable( new Node( "a",
+                                                               1,
+                                                               new ShadowingNode( "b",
+                                                                                  2,
+                                                                                  new Node( "c",
+                                                                                            3,
+                                                                                            null ) ) ),
+                                                     new ShadowingNode( "d", 4, null ) ) ;
+
+        final HashTableContents contents = getContentsOfChainedHashTable( table ) ;
+
+        assertArrayEquals( new Object[] { "a", "b", "c", "d" }, contents.keys() ) ;
+        assertArrayEquals( new Object[] { 1, 2, 3, 4 }, contents.values() ) ;
+
+        }   // end chainedShadowedFields()
+
+
+    /*
+     * open addressing
+     */
+
+
+    @Test
+    @DisplayName( "open addressed probe lengths wrap around the end of the table" )
+    void openAddressedProbeLengths()
+        {
+
+        final OpenTable table = new OpenTable() ;
+        table.hashTable = new Entry[ 5 ] ;
+
+        // Integer.hashCode() is the value so the home slot is value % 5
+        table.hashTable[ 4 ] = new Entry( 4, "home" ) ;
+        table.hashTable[ 0 ] = new Entry( 9, "wrapped" ) ;      // home 4, probe 2
+        table.hashTable[ 1 ] = table.removed ;
+        table.hashTable[ 2 ] = new Entry( 14, "far" ) ;         // home 4, probe 4
+
+        final HashTableContents contents = getContentsOfOpenAddressedHashTable( table,
+                                                                                null,
+                                                                                null,
+                                                                                null,
+                                                                                "removed",
+                                                                                null ) ;
+
+        assertArrayEquals( new Object[] { 9, 14, 4 }, contents.keys() ) ;
+        assertArrayEquals( new Object[] { "wrapped", "far", "home" }, contents.values() ) ;
+        assertEquals( 1, contents.tombstoneCount() ) ;
+        assertEquals( 3, contents.occupiedBuckets() ) ;
+        assertArrayEquals( new int[] { 0, 1, 1, 0, 1 }, contents.probeLengthHistogram() ) ;
+
+        }   // end openAddressedProbeLengths()
+
+
+    @Test
+    @DisplayName( "a home index outside the table is reported" )
+    void openAddressedBadHomeIndex()
+        {
+
+        final OpenTable table = new OpenTable() ;
+        table.hashTable = new Entry[] { new Entry( 1, 1 ) } ;
+
+        assertThrows( TestingException.class,
+                      () -> getContentsOfOpenAddressedHashTable( table,
+                                                                 null,
+                                                                 null,
+                                                                 null,
+                                                                 null,
+                                                                 ( hash, capacity ) -> capacity ) ) ;
+
+        }   // end openAddressedBadHomeIndex()
+
+
+    /*
+     * results
+     */
+
+
+    @Test
+    @DisplayName( "contents are equal, hash, and print by their arrays' contents" )
+    void contentsCompareByValue()
+        {
+
+        final HashTableContents contents = new HashTableContents( new Object[] { 1, new int[] { 2 } },
+                                                                  new Object[] { "a", "b" },
+                                                                  4,
+                                                                  2,
+                                                                  0,
+                                                                  new int[] { 0, 2 } ) ;
+        final HashTableContents same = new HashTableContents( new Object[] { 1, new int[] { 2 } },
+                                                              new Object[] { "a", "b" },
+                                                              4,
+                                                              2,
+                                                              0,
+                                                              new int[] { 0, 2 } ) ;
+
+        assertEquals( contents, same ) ;
+        assertEquals( contents.hashCode(), same.hashCode() ) ;
+        assertEquals( "HashTableContents[keys=[1, [2]], values=[a, b], capacity=4, occupiedBuckets=2, tombstoneCount=0, probeLengthHistogram=[0, 2]]",
+                      contents.toString() ) ;
+
+        assertNotEquals( contents,
+                         new HashTableContents( new Object[] { 1, new int[] { 2 } },
+                                                new Object[] { "a", "b" },
+                                                4,
+                                                2,
+                                                0,
+                                                new int[] { 0, 1, 1 } ) ) ;
+        assertNotEquals( contents,
+                         new HashTableContents( new Object[] { 1, new int[] { 2 } },
+                                                new Object[] { "a", "c" },
+                                                4,
+                                                2,
+                                                0,
+                                                new int[] { 0, 2 } ) ) ;
+
+        }   // end contentsCompareByValue()
+
+    }   // end class HashTableExtractionTests
@@ -0,0 +1,242 @@
+/* @formatter:off
+ *
+ * © David M Rosenberg, The Software Toolsmith (education)
+ *
+ * This file is part of the Testing Framework for Java.
+ * Repository: https://github.com/The-Software-Toolsmith/testing-framework-for-java
+ *
+ * Licensed under the Creative Commons Attribution-NonCommercial 4.0 International License.
+ * You may obtain a copy of the license at:
+ *     https://creativecommons.org/licenses/by-nc/4.0/
+ *
+ * You may use, share, and adapt this file for non-commercial purposes,
+ * provided you give appropriate credit.
+ *
+ * @formatter:on
+ */
+
+
+package education.the_software_toolsmith.testing.framework.tests ;
+
+import static education.the_software_toolsmith.testing.framework.ReflectBackingStores.IS_MAX_HEAP ;
+import static education.the_software_toolsmith.testing.framework.ReflectBackingStores.IS_MIN_HEAP ;
+import static education.the_software_toolsmith.testing.framework.ReflectBackingStores.getContentsOfArrayBackedDataset ;
+import static education.the_software_toolsmith.testing.framework.ReflectBackingStores.getContentsOfArrayBackedHeap ;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals ;
+import static org.junit.jupiter.api.Assertions.assertThrows ;
+import static org.junit.jupiter.api.Assertions.assertTrue ;
+
+import java.util.Comparator ;
+
+import org.junit.jupiter.api.DisplayName ;
+import org.junit.jupiter.api.Test ;
+
+import education.the_software_toolsmith.testing.framework.TestingException ;
+
+/**
+ * JUnit tests for the {@code ReflectBackingStores} array-backed heap extractor and entry count
+ * validation
+ *
+ * @author David M Rosenberg
+ *
+ * @version 1.0 2026-10-19 Initial implementation
+ */
+@DisplayName( "Heap Extraction" )
+@SuppressWarnings( { "javadoc", "unused" } )
+class HeapExtractionTests
+    {
+
+    /*
+     * fixtures
+     */
+
+
+    static class ArrayHeap
+        {
+
+        Object[] heap ;
+        int numberOfEntries ;
+
+        ArrayHeap( final int numberOfEntries, final Object... heap )
+            {
+
+            this.heap = heap ;
+            this.numberOfEntries = numberOfEntries ;
+
+            }
+
+        }   // end class ArrayHeap
+
+
+    /*
+     * heap property
+     */
+
+
+    @Test
+    @DisplayName( "a max heap rooted at index 0 is copied in backing store order" )
+    void maxHeapRootZero()
+        {
+
+        final ArrayHeap heap = new ArrayHeap( 6, 9, 7, 8, 3, 7, 1, null, null ) ;
+
+        assertArrayEquals( new Object[] { 9, 7, 8, 3, 7, 1 },
+                           getContentsOfArrayBackedHeap( heap, "heap", 0, IS_MAX_HEAP ) ) ;
+
+        }   // end maxHeapRootZero()
+
+
+    @Test
+    @DisplayName( "a min heap rooted at index 1 skips index 0" )
+    void minHeapRootOne()
+        {
+
+        final ArrayHeap heap = new ArrayHeap( 5, null, 1, 3, 2, 4, 3, null ) ;
+
+        assertArrayEquals( new Object[] { 1, 3, 2, 4, 3 },
+                           getContentsOfArrayBackedHeap( heap, "heap", 1, IS_MIN_HEAP ) ) ;
+
+        }   // end minHeapRootOne()
+
+
+    @Test
+    @DisplayName( "empty and single-entry heaps are valid" )
+    void trivialHeaps()
+        {
+
+        assertArrayEquals( new Object[ 0 ],
+                           getContentsOfArrayBackedHeap( new ArrayHeap( 0, new Object[ 4 ] ),
+                                                         "heap",
+                                                         1,
+                                                         IS_MAX_HEAP ) ) ;
+        assertArrayEquals( new Object[] { "x" },
+                           getContentsOfArrayBackedHeap( new ArrayHeap( 1, "x" ),
+                                                         "heap",
+                                                         0,
+                                                         IS_MIN_HEAP ) ) ;
+
+        }   // end trivialHeaps()
+
+
+    @Test
+    @DisplayName( "a child larger than its parent in a max heap is reported with both indices" )
+    void maxHeapViolation()
+        {
+
+        // index 4's parent is index 1
+        final ArrayHeap heap = new ArrayHeap( 5, 9, 5, 8, 3, 6 ) ;
+
+        final TestingException thrown = assertThrows( TestingException.class,
+                                                      () -> getContentsOfArrayBackedHeap( heap,
+                                                                                          "heap",
+                                                                                          0,
+                                                                                          IS_MAX_HEAP ) ) ;
+
+        assertTrue( thrown.getMessage().contains( "index 1" ), thrown.getMessage() ) ;
+        assertTrue( thrown.getMessage().contains( "index 4" ), thrown.getMessage() ) ;
+
+        }   // end maxHeapViolation()
+
+
+    @Test
+    @DisplayName( "the comparator overrides natural ordering and null entries are reported" )
+    void comparatorAndNulls()
+        {
+
+        final ArrayHeap byLength = new ArrayHeap( 3, "ccc", "a", "bb" ) ;
+
+        assertArrayEquals( new Object[] { "ccc", "a", "bb" },
+                           getContentsOfArrayBackedHeap( byLength,
+                                                         "heap",
+                                                         null,
+                                                         -1,
+                                                         0,
+                                                         IS_MAX_HEAP,
+                                                         Comparator.comparingInt( entry -> ( (String) entry ).length() ) ) ) ;
+
+        assertThrows( TestingException.class,
+                      () -> getContentsOfArrayBackedHeap( new ArrayHeap( 3, 1, null, 2 ),
+                                                          "heap",
+                                                          0,
+                                                          IS_MIN_HEAP ) ) ;
+
+        assertThrows( TestingException.class,
+                      () -> getContentsOfArrayBackedHeap( new ArrayHeap( 1, 1 ),
+                                                          "heap",
+                                                          2,
+                                                          IS_MIN_HEAP ) ) ;
+
+        }   // end comparatorAndNulls()
+
+
+    /*
+     * entry count validation
+     */
+
+
+    @Test
+    @DisplayName( "a heap entry count which is negative or exceeds the backing store is reported" )
+    void heapBadEntryCount()
+        {
+
+        assertEntryCountReported( () -> getContentsOfArrayBackedHeap( new ArrayHeap( -1, 1, 2 ),
+                                                                      "heap",
+                                                                      0,
+                                                                      IS_MIN_HEAP ) ) ;
+
+        // fits from index 0 but not from index 1
+        assertEntryCountReported( () -> getContentsOfArrayBackedHeap( new ArrayHeap( 3, null, 1, 2 ),
+                                                                      "heap",
+                                                                      1,
+                                                                      IS_MIN_HEAP ) ) ;
+
+        }   // end heapBadEntryCount()
+
+
+    @Test
+    @DisplayName( "an array-backed entry count which is negative or exceeds the backing store is reported" )
+    void arrayBadEntryCount()
+        {
+
+        assertEntryCountReported( () -> getContentsOfArrayBackedDataset( new ArrayHeap( -3, 1, 2 ),
+                                                                         "heap",
+                                                                         null,
+                                                                         -1 ) ) ;
+        assertEntryCountReported( () -> getContentsOfArrayBackedDataset( new ArrayHeap( 3, 1, 2 ),
+                                                                         "heap",
+                                                                         null,
+                                                                         -1 ) ) ;
+        assertEntryCountReported( () -> getContentsOfArrayBackedDataset( new ArrayHeap( 0, 1, 2 ),
+                                                                         "heap",
+                                                                         null,
+                                                                         5 ) ) ;
+
+        assertArrayEquals( new Object[] { 1, 2 },
+                           getContentsOfArrayBackedDataset( new ArrayHeap( 2, 1, 2 ),
+                                                            "heap",
+                                                            null,
+                                                            -1 ) ) ;
+
+        }   // end arrayBadEntryCount()
+
+
+    /*
+     * utilities
+     */
+
+
+    /**
+     * @param extraction
+     *     an extraction which should reject its entry count
+     */
+    private static void assertEntryCountReported( final Runnable extraction )
+        {
+
+        final TestingException thrown = assertThrows( TestingException.class,
+                                                      extraction::run ) ;
+
+        assertTrue( thrown.getMessage().contains( "entry count" ), thrown.getMessage() ) ;
+
+        }   // end assertEntryCountReported()
+
+    }   // end class HeapExtractionTests
@@ -0,0 +1,461 @@
+/* @formatter:off
+ *
+ * © David M Rosenberg, The Software Toolsmith (education)
+ *
+ * This file is part of the Testing Framework for Java.
+ * Repository: https://github.com/The-Software-Toolsmith/testing-framework-for-java
+ *
+ * Licensed under the Creative Commons Attribution-NonCommercial 4.0 International License.
+ * You may obtain a copy of the license at:
+ *     https://creativecommons.org/licenses/by-nc/4.0/
+ *
+ * You may use, share, and adapt this file for non-commercial purposes,
+ * provided you give appropriate credit.
+ *
+ * @formatter:on
+ */
+
+
+package education.the_software_toolsmith.testing.framework.tests ;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals ;
+import static org.junit.jupiter.api.Assertions.assertEquals ;
+import static org.junit.jupiter.api.Assertions.assertFalse ;
+import static org.junit.jupiter.api.Assertions.assertNull ;
+import static org.junit.jupiter.api.Assertions.assertThrows ;
+import static org.junit.jupiter.api.Assertions.assertTrue ;
+
+import java.util.Arrays ;
+
+import org.junit.jupiter.api.DisplayName ;
+import org.junit.jupiter.api.Test ;
+
+import education.the_software_toolsmith.testing.framework.IncrementalDatasetExtractor ;
+import education.the_software_toolsmith.testing.framework.TestingException ;
+
+/**
+ * JUnit tests for {@code IncrementalDatasetExtractor}
+ *
+ * @author David M Rosenberg
+ *
+ * @version 1.0 2026-10-19 Initial implementation
+ */
+@DisplayName( "Incremental Extraction" )
+@SuppressWarnings( { "javadoc", "unused" } )
+class IncrementalExtractionTests
+    {
+
+    /*
+     * fixtures
+     */
+
+
+    /** an array list which can be told to overwrite one slot while shifting */
+    static class ArrayList
+        {
+
+        Object[] entries = new Object[ 4 ] ;
+        int numberOfEntries ;
+        int corruptSlot = -1 ;
+
+        void add( final int index, final Object entry )
+            {
+
+            if ( this.numberOfEntries == this.entries.length )
+                {
+                this.entries = Arrays.copyOf( this.entries, this.entries.length * 2 ) ;
+                }
+
+            System.arraycopy( this.entries,
+                              index,
+                              this.entries,
+                              index + 1,
+                              this.numberOfEntries - index ) ;
+            this.entries[ index ] = entry ;
+            this.numberOfEntries++ ;
+            corrupt() ;
+
+            }
+
+
+        void remove( final int index )
+            {
+
+            System.arraycopy( this.entries,
+                              index + 1,
+                              this.entries,
+                              index,
+                              this.numberOfEntries - index - 1 ) ;
+            this.entries[ --this.numberOfEntries ] = null ;
+            corrupt() ;
+
+            }
+
+
+        void corrupt()
+            {
+
+            if ( this.corruptSlot >= 0 )
+                {
+                this.entries[ this.corruptSlot ] = "corrupted" ;
+                this.corruptSlot = -1 ;
+                }
+
+            }
+
+        }   // end class ArrayList
+
+
+    /** a circular deque which shifts whichever side of an insertion point is shorter */
+    static class ArrayDeque
+        {
+
+        Object[] queue = new Object[ 8 ] ;
+        int frontIndex ;
+        int numberOfEntries ;
+        int corruptPosition = -1 ;
+
+        void add( final int index, final Object entry )
+            {
+
+            final int capacity = this.queue.length ;
+
+            if ( index < this.numberOfEntries - index )
+                {
+                // shift the front part one slot toward the front
+                this.frontIndex = Math.floorMod( this.frontIndex - 1, capacity ) ;
+
+                for ( int position = 0 ; position < index ; position++ )
+                    {
+                    this.queue[ slot( position ) ] = this.queue[ slot( position + 1 ) ] ;
+                    }
+
+                }
+            else
+                {
+
+                for ( int position = this.numberOfEntries ; position > index ; position-- )
+                    {
+                    this.queue[ slot( position ) ] = this.queue[ slot( position - 1 ) ] ;
+                    }
+
+                }
+
+            this.queue[ slot( index ) ] = entry ;
+            this.numberOfEntries++ ;
+
+            if ( this.corruptPosition >= 0 )
+                {
+                this.queue[ slot( this.corruptPosition ) ] = "corrupted" ;
+                this.corruptPosition = -1 ;
+                }
+
+            }
+
+
+        void removeFront()
+            {
+
+            this.queue[ this.frontIndex ] = null ;
+            this.frontIndex = ( this.frontIndex + 1 ) % this.queue.length ;
+            this.numberOfEntries-- ;
+
+            }
+
+
+        int slot( final int position )
+            {
+
+            return ( this.frontIndex + position ) % this.queue.length ;
+
+            }
+
+        }   // end class ArrayDeque
+
+
+    static class Node
+        {
+
+        Object data ;
+        Node next ;
+
+        Node( final Object data, final Node next )
+            {
+
+            this.data = data ;
+            this.next = next ;
+
+            }
+
+        }   // end class Node
+
+
+    static class LinkedList
+        {
+
+        Node firstNode ;
+        int numberOfEntries ;
+
+        void add( final int index, final Object entry )
+            {
+
+            if ( 0 == index )
+                {
+                this.firstNode = new Node( entry, this.firstNode ) ;
+                }
+            else
+                {
+                final Node previous = nodeAt( index - 1 ) ;
+                previous.next = new Node( entry, previous.next ) ;
+                }
+
+            this.numberOfEntries++ ;
+
+            }
+
+
+        void remove( final int index )
+            {
+
+            if ( 0 == index )
+                {
+                this.firstNode = this.firstNode.next ;
+                }
+            else
+                {
+                final Node previous = nodeAt( index - 1 ) ;
+                previous.next = previous.next.next ;
+                }
+
+            this.numberOfEntries-- ;
+
+            }
+
+
+        Node nodeAt( final int index )
+            {
+
+            Node current = this.firstNode ;
+
+            for ( int i = 0 ; i < index ; i++ )
+                {
+                current = current.next ;
+                }
+
+            return current ;
+
+            }
+
+        }   // end class LinkedList
+
+
+    /**
+     * Fill an array list and start tracking it
+     *
+     * @param list
+     *     the list to fill
+     * @param entries
+     *     its initial entries
+     *
+     * @return the extractor
+     */
+    private static IncrementalDatasetExtractor track( final ArrayList list,
+                                                      final Object... entries )
+        {
+
+        for ( final Object entry : entries )
+            {
+            list.add( list.numberOfEntries, entry ) ;
+            }
+
+        return IncrementalDatasetExtractor.forArrayBackedDataset( list, "entries", null ) ;
+
+        }   // end track()
+
+
+    /*
+     * array-backed
+     */
+
+
+    @Test
+    @DisplayName( "a well-behaved array list is tracked without full scans, across a resize" )
+    void arrayWithoutRescans()
+        {
+
+        final ArrayList list = new ArrayList() ;
+        final IncrementalDatasetExtractor extractor = track( list, "a", "b", "c" ) ;
+
+        list.add( 1, "x" ) ;
+        assertTrue( extractor.verifyInsertion( 1, "x" ) ) ;
+
+        // the backing store is replaced
+        list.add( 0, "y" ) ;
+        assertTrue( extractor.verifyAddToFront( "y" ) ) ;
+
+        list.add( 5, "z" ) ;
+        assertTrue( extractor.verifyAddToBack( "z" ) ) ;
+
+        list.remove( 2 ) ;
+        assertTrue( extractor.verifyRemoval( 2 ) ) ;
+
+        list.remove( 0 ) ;
+        assertTrue( extractor.verifyRemoveFront() ) ;
+
+        assertEquals( 0, extractor.fullScanCount() ) ;
+        assertArrayEquals( new Object[] { "a", "b", "c", "z" }, extractor.contents() ) ;
+        assertTrue( extractor.verifyAll() ) ;
+        assertNull( extractor.lastMismatch() ) ;
+
+        }   // end arrayWithoutRescans()
+
+
+    @Test
+    @DisplayName( "a corrupted slot anywhere in the shifted range is detected" )
+    void arrayShiftedRangeCorruption()
+        {
+
+        final ArrayList list = new ArrayList() ;
+        final IncrementalDatasetExtractor extractor = track( list, "a", "b", "c", "d", "e", "f", "g" ) ;
+
+        // the slots checked around the operation and at both ends are correct
+        list.corruptSlot = 4 ;
+        list.add( 0, "x" ) ;
+
+        assertFalse( extractor.verifyInsertion( 0, "x" ) ) ;
+        assertEquals( 1, extractor.fullScanCount() ) ;
+        assertEquals( "index 4: expected \"d\", found \"corrupted\"", extractor.lastMismatch() ) ;
+
+        // the snapshot was resynchronized with the actual contents
+        assertArrayEquals( Arrays.copyOf( list.entries, list.numberOfEntries ), extractor.contents() ) ;
+
+        list.corruptSlot = 5 ;
+        list.remove( 1 ) ;
+
+        assertFalse( extractor.verifyRemoval( 1 ) ) ;
+        assertEquals( 2, extractor.fullScanCount() ) ;
+
+        }   // end arrayShiftedRangeCorruption()
+
+
+    @Test
+    @DisplayName( "a wrong entry count or inserted entry is detected" )
+    void arrayWrongEntry()
+        {
+
+        final ArrayList list = new ArrayList() ;
+        final IncrementalDatasetExtractor extractor = track( list, 1, 2 ) ;
+
+        list.add( 2, 3 ) ;
+
+        assertFalse( extractor.verifyInsertion( 2, 4 ) ) ;
+        assertEquals( "index 2: expected 4, found 3", extractor.lastMismatch() ) ;
+
+        list.numberOfEntries-- ;
+
+        assertFalse( extractor.verifyAll() ) ;
+        assertEquals( "expected 3 entries, found 2", extractor.lastMismatch() ) ;
+
+        assertThrows( IndexOutOfBoundsException.class, () -> extractor.verifyRemoval( 2 ) ) ;
+        assertThrows( TestingException.class,
+                      () -> IncrementalDatasetExtractor.forArrayBackedDataset( null, "entries", null ) ) ;
+
+        }   // end arrayWrongEntry()
+
+
+    /*
+     * circular-array-backed
+     */
+
+
+    @Test
+    @DisplayName( "a deque which moves its front index is tracked without full scans" )
+    void circularWithoutRescans()
+        {
+
+        final ArrayDeque deque = new ArrayDeque() ;
+        final IncrementalDatasetExtractor extractor =
+                    IncrementalDatasetExtractor.forCircularArrayBackedDataset( deque, "queue", null, null ) ;
+
+        for ( int i = 0 ; i < 3 ; i++ )
+            {
+            deque.add( 0, i ) ;
+            assertTrue( extractor.verifyAddToFront( i ) ) ;
+            }
+
+        deque.add( 3, "back" ) ;
+        assertTrue( extractor.verifyAddToBack( "back" ) ) ;
+
+        // shifts the front part
+        deque.add( 1, "middle" ) ;
+        assertTrue( extractor.verifyInsertion( 1, "middle" ) ) ;
+
+        deque.removeFront() ;
+        assertTrue( extractor.verifyRemoveFront() ) ;
+
+        assertEquals( 0, extractor.fullScanCount() ) ;
+        assertArrayEquals( new Object[] { "middle", 1, 0, "back" }, extractor.contents() ) ;
+
+        }   // end circularWithoutRescans()
+
+
+    @Test
+    @DisplayName( "a corrupted slot in a shifted front part is detected" )
+    void circularShiftedFrontCorruption()
+        {
+
+        final ArrayDeque deque = new ArrayDeque() ;
+        final IncrementalDatasetExtractor extractor =
+                    IncrementalDatasetExtractor.forCircularArrayBackedDataset( deque, "queue", null, null ) ;
+
+        for ( int i = 0 ; i < 7 ; i++ )
+            {
+            deque.add( i, i ) ;
+            assertTrue( extractor.verifyAddToBack( i ) ) ;
+            }
+
+        // the front part moves - position 1 is neither an end nor next to the insertion
+        deque.corruptPosition = 1 ;
+        deque.add( 3, "x" ) ;
+
+        assertFalse( extractor.verifyInsertion( 3, "x" ) ) ;
+        assertEquals( "index 1: expected 1, found \"corrupted\"", extractor.lastMismatch() ) ;
+
+        }   // end circularShiftedFrontCorruption()
+
+
+    /*
+     * chain-backed
+     */
+
+
+    @Test
+    @DisplayName( "a linked list is tracked through its cached nodes" )
+    void chain()
+        {
+
+        final LinkedList list = new LinkedList() ;
+        final IncrementalDatasetExtractor extractor =
+                    IncrementalDatasetExtractor.forChainBackedDataset( list, null, null, null, null ) ;
+
+        list.add( 0, "b" ) ;
+        assertTrue( extractor.verifyAddToFront( "b" ) ) ;
+        list.add( 0, "a" ) ;
+        assertTrue( extractor.verifyAddToFront( "a" ) ) ;
+        list.add( 2, "c" ) ;
+        assertTrue( extractor.verifyAddToBack( "c" ) ) ;
+        list.remove( 1 ) ;
+        assertTrue( extractor.verifyRemoval( 1 ) ) ;
+
+        assertEquals( 0, extractor.fullScanCount() ) ;
+        assertArrayEquals( new Object[] { "a", "c" }, extractor.contents() ) ;
+
+        // an unlinked node which is still counted
+        list.firstNode.next = null ;
+
+        assertFalse( extractor.verifyAll() ) ;
+        assertEquals( "expected 2 entries, found 1", extractor.lastMismatch() ) ;
+
+        }   // end chain()
+
+    }   // end class IncrementalExtractionTests
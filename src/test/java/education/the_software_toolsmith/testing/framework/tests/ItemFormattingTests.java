@@ -0,0 +1,283 @@
+/* @formatter:off
+ *
+ * © David M Rosenberg, The Software Toolsmith (education)
+ *
+ * This file is part of the Testing Framework for Java.
+ * Repository: https://github.com/The-Software-Toolsmith/testing-framework-for-java
+ *
+ * Licensed under the Creative Commons Attribution-NonCommercial 4.0 International License.
+ * You may obtain a copy of the license at:
+ *     https://creativecommons.org/licenses/by-nc/4.0/
+ *
+ * You may use, share, and adapt this file for non-commercial purposes,
+ * provided you give appropriate credit.
+ *
+ * @formatter:on
+ */
+
+
+package education.the_software_toolsmith.testing.framework.tests ;
+
+import static education.the_software_toolsmith.testing.framework.TestData.appendItem ;
+import static education.the_software_toolsmith.testing.framework.TestData.itemToString ;
+import static org.junit.jupiter.api.Assertions.assertEquals ;
+import static org.junit.jupiter.api.Assertions.assertThrows ;
+
+import java.io.IOException ;
+import java.io.StringWriter ;
+import java.io.UncheckedIOException ;
+import java.util.List ;
+import java.util.Locale ;
+import java.util.Random ;
+
+import org.junit.jupiter.api.DisplayName ;
+import org.junit.jupiter.api.Test ;
+
+/**
+ * JUnit tests for the {@code TestData} item formatter's fast paths - each is compared with the
+ * {@code String.format()} text it replaces
+ *
+ * @author David M Rosenberg
+ *
+ * @version 1.0 2026-10-19 Initial implementation
+ */
+@DisplayName( "Item Formatting" )
+@SuppressWarnings( { "javadoc", "unused" } )
+class ItemFormattingTests
+    {
+
+    /*
+     * fixtures
+     */
+
+
+    /** edge cases for the fixed point conversion */
+    private final static double[] DOUBLES = { 0.0,
+                                              -0.0,
+                                              1.0,
+                                              -1.5,
+                                              0.1,
+                                              0.0000005,
+                                              0.0000004999,
+                                              0.00000049999999,
+                                              999_999.9999995,
+                                              1_234_567.891,
+                                              123.4567895,
+                                              1e-7,
+                                              1e20,
+                                              1.0e22,
+                                              -9.87654321e15,
+                                              Double.MAX_VALUE,
+                                              Double.MIN_VALUE,
+                                              Double.MIN_NORMAL,
+                                              Double.NaN,
+                                              Double.POSITIVE_INFINITY,
+                                              Double.NEGATIVE_INFINITY } ;
+
+    /** the locales the grouping and digits are checked in */
+    private final static List<Locale> LOCALES = List.of( Locale.US,
+                                                         Locale.GERMANY,
+                                                         Locale.FRANCE,
+                                                         Locale.forLanguageTag( "de-CH" ),
+                                                         Locale.forLanguageTag( "hi-IN" ),
+                                                         Locale.forLanguageTag( "ar-EG" ),
+                                                         Locale.forLanguageTag( "th-TH-u-nu-thai" ) ) ;
+
+
+    /**
+     * the text {@code itemToString()} produced with {@code String.format()}
+     *
+     * @param item
+     *     a non-array item
+     *
+     * @return the reference text
+     */
+    private static String formatted( final Object item )
+        {
+
+        return switch ( item )
+            {
+            case null
+                -> "null" ;
+            case final String _
+                -> String.format( "\"%s\"", item ) ;
+            case final Character _
+                -> String.format( "'%s'", item ) ;
+            case final Long _, final Integer _, final Short _, final Byte _
+                -> String.format( "%,d", item ) ;
+            case final Double _, final Float _
+                -> String.format( "%,f", item ) ;
+            default
+                -> String.format( "%s", item ) ;
+            } ;
+
+        }   // end formatted()
+
+
+    /**
+     * Assert that items' text matches the reference text with a default locale, restoring the
+     * original afterward
+     *
+     * @param locale
+     *     the temporary default locale
+     * @param items
+     *     the items
+     */
+    private static void assertMatchesFormatIn( final Locale locale,
+                                               final Object... items )
+        {
+
+        final Locale original = Locale.getDefault() ;
+
+        try
+            {
+            Locale.setDefault( locale ) ;
+
+            for ( final Object item : items )
+                {
+                assertMatchesFormat( item ) ;
+                }
+
+            }
+        finally
+            {
+            Locale.setDefault( original ) ;
+            }
+
+        }   // end assertMatchesFormatIn()
+
+
+    /**
+     * Assert that an item's text matches the reference text
+     *
+     * @param item
+     *     the item
+     */
+    private static void assertMatchesFormat( final Object item )
+        {
+
+        assertEquals( formatted( item ), itemToString( item ), () -> "formatting " + item ) ;
+
+        }   // end assertMatchesFormat()
+
+
+    /*
+     * tests
+     */
+
+
+    @Test
+    @DisplayName( "strings, characters, booleans, null, and other objects" )
+    void nonNumeric()
+        {
+
+        for ( final Object item : new Object[] { "", "text", "with \"quotes\"", 'x', '\'', true, false,
+                                                 null, List.of( 1, 2 ), new StringBuilder( "sb" ) } )
+            {
+            assertMatchesFormat( item ) ;
+            }
+
+        }   // end nonNumeric()
+
+
+    @Test
+    @DisplayName( "integral values are grouped in every locale" )
+    void integral()
+        {
+
+        final Object[] items = { 0, 7, -7, 999, 1_000, -1_000, 123_456_789, Integer.MIN_VALUE,
+                                 Integer.MAX_VALUE, Long.MIN_VALUE, Long.MAX_VALUE, 10_000_000_000L,
+                                 (short) -32_768, (byte) -128, (byte) 127 } ;
+
+        for ( final Locale locale : LOCALES )
+            {
+            assertMatchesFormatIn( locale, items ) ;
+            }
+
+        }   // end integral()
+
+
+    @Test
+    @DisplayName( "floating point values round to 6 places in every locale" )
+    void floatingPoint()
+        {
+
+        final Object[] items = new Object[ 2 * DOUBLES.length ] ;
+
+        for ( int i = 0 ; i < DOUBLES.length ; i++ )
+            {
+            items[ 2 * i ] = DOUBLES[ i ] ;
+            items[ ( 2 * i ) + 1 ] = (float) DOUBLES[ i ] ;
+            }
+
+        for ( final Locale locale : LOCALES )
+            {
+            assertMatchesFormatIn( locale, items ) ;
+            }
+
+        }   // end floatingPoint()
+
+
+    @Test
+    @DisplayName( "random doubles across the exponent range" )
+    void randomDoubles()
+        {
+
+        final Random random = new Random( 20261019 ) ;
+
+        for ( int i = 0 ; i < 20_000 ; i++ )
+            {
+            final double value = Double.longBitsToDouble( random.nextLong() ) ;
+            final double scaled = random.nextDouble() * Math.pow( 10, random.nextInt( 30 ) - 10 ) ;
+
+            assertMatchesFormat( value ) ;
+            assertMatchesFormat( scaled ) ;
+            assertMatchesFormat( (float) scaled ) ;
+            assertMatchesFormat( random.nextLong() ) ;
+            }
+
+        }   // end randomDoubles()
+
+
+    @Test
+    @DisplayName( "appendItem() writes to any Appendable and wraps its IOExceptions" )
+    void appendable()
+        {
+
+        final StringWriter writer = new StringWriter() ;
+
+        appendItem( writer, 1_234.5 ) ;
+        appendItem( writer, "s" ) ;
+
+        assertEquals( formatted( 1_234.5 ) + "\"s\"", writer.toString() ) ;
+
+        final Appendable failing = new Appendable()
+            {
+
+            @Override
+            public Appendable append( final CharSequence text ) throws IOException
+                {
+                throw new IOException( "full" ) ;
+                }
+
+            @Override
+            public Appendable append( final CharSequence text,
+                                      final int start,
+                                      final int end ) throws IOException
+                {
+                throw new IOException( "full" ) ;
+                }
+
+            @Override
+            public Appendable append( final char c ) throws IOException
+                {
+                throw new IOException( "full" ) ;
+                }
+
+            } ;
+
+        assertThrows( UncheckedIOException.class, () -> appendItem( failing, 42 ) ) ;
+
+        }   // end appendable()
+
+    }   // end class ItemFormattingTests
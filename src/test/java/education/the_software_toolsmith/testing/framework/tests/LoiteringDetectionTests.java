@@ -0,0 +1,166 @@
+/* @formatter:off
+ *
+ * © David M Rosenberg, The Software Toolsmith (education)
+ *
+ * This file is part of the Testing Framework for Java.
+ * Repository: https://github.com/The-Software-Toolsmith/testing-framework-for-java
+ *
+ * Licensed under the Creative Commons Attribution-NonCommercial 4.0 International License.
+ * You may obtain a copy of the license at:
+ *     https://creativecommons.org/licenses/by-nc/4.0/
+ *
+ * You may use, share, and adapt this file for non-commercial purposes,
+ * provided you give appropriate credit.
+ *
+ * @formatter:on
+ */
+
+
+package education.the_software_toolsmith.testing.framework.tests ;
+
+import static education.the_software_toolsmith.testing.framework.ReflectBackingStores.BACK_INDEX_EXCLUSIVE ;
+import static education.the_software_toolsmith.testing.framework.ReflectBackingStores.NO_SUCH_FIELD ;
+import static education.the_software_toolsmith.testing.framework.ReflectBackingStores.getLoiteringIndicesOfArrayBackedDataset ;
+import static education.the_software_toolsmith.testing.framework.ReflectBackingStores.getLoiteringIndicesOfCircularArrayBackedDataset ;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals ;
+import static org.junit.jupiter.api.Assertions.assertNull ;
+import static org.junit.jupiter.api.Assertions.assertThrows ;
+
+import org.junit.jupiter.api.DisplayName ;
+import org.junit.jupiter.api.Test ;
+
+import education.the_software_toolsmith.testing.framework.TestingException ;
+import education.the_software_toolsmith.testing.framework.tests.ArrayFixtures.ArrayBag ;
+import education.the_software_toolsmith.testing.framework.tests.ArrayFixtures.ArrayQueue ;
+
+/**
+ * JUnit tests for the {@code ReflectBackingStores} loitering reference detectors
+ *
+ * @author David M Rosenberg
+ *
+ * @version 1.0 2026-10-19 Initial implementation
+ * @version 1.1 2026-10-19 use the shared {@code ArrayFixtures} collections
+ */
+@DisplayName( "Loitering Reference Detection" )
+@SuppressWarnings( { "javadoc", "unused" } )
+class LoiteringDetectionTests
+    {
+
+    /*
+     * array-backed
+     */
+
+
+    @Test
+    @DisplayName( "non-null slots at or beyond the entry count are reported in ascending order" )
+    void arrayBacked()
+        {
+
+        assertArrayEquals( new int[] { 2, 4 },
+                           getLoiteringIndicesOfArrayBackedDataset( new ArrayBag( 2, "a", "b", "stale", null, "stale" ),
+                                                                    "bag" ) ) ;
+        assertArrayEquals( new int[ 0 ],
+                           getLoiteringIndicesOfArrayBackedDataset( new ArrayBag( 2, "a", "b", null, null ),
+                                                                    "bag" ) ) ;
+
+        // null entries inside the logical range aren't the detector's concern
+        assertArrayEquals( new int[ 0 ],
+                           getLoiteringIndicesOfArrayBackedDataset( new ArrayBag( 2, null, null ), "bag" ) ) ;
+
+        assertNull( getLoiteringIndicesOfArrayBackedDataset( null, "bag" ) ) ;
+
+        }   // end arrayBacked()
+
+
+    @Test
+    @DisplayName( "an explicit entry count is used and an inconsistent one is reported" )
+    void arrayBackedEntryCount()
+        {
+
+        final ArrayBag bag = new ArrayBag( 99, "a", "b", "c" ) ;
+
+        assertArrayEquals( new int[] { 1, 2 },
+                           getLoiteringIndicesOfArrayBackedDataset( bag, "bag", NO_SUCH_FIELD, 1 ) ) ;
+        assertThrows( TestingException.class,
+                      () -> getLoiteringIndicesOfArrayBackedDataset( bag, "bag" ) ) ;
+
+        bag.numberOfEntries = -1 ;
+
+        assertThrows( TestingException.class,
+                      () -> getLoiteringIndicesOfArrayBackedDataset( bag, "bag" ) ) ;
+
+        }   // end arrayBackedEntryCount()
+
+
+    /*
+     * circular-array-backed
+     */
+
+
+    @Test
+    @DisplayName( "a contiguous live region leaves stale slots before and after it" )
+    void circularContiguous()
+        {
+
+        final ArrayQueue queue = new ArrayQueue( 2, 3, 2, "stale", null, "a", "b", "stale" ) ;
+
+        assertArrayEquals( new int[] { 0, 4 },
+                           getLoiteringIndicesOfCircularArrayBackedDataset( queue, "queue" ) ) ;
+
+        }   // end circularContiguous()
+
+
+    @Test
+    @DisplayName( "a wrapped live region leaves stale slots only between its end and its front" )
+    void circularWrapped()
+        {
+
+        final ArrayQueue queue = new ArrayQueue( 3, 0, 3, "c", "stale", null, "a", "b" ) ;
+
+        assertArrayEquals( new int[] { 1 },
+                           getLoiteringIndicesOfCircularArrayBackedDataset( queue, "queue" ) ) ;
+
+        // full - nothing can loiter
+        assertArrayEquals( new int[ 0 ],
+                           getLoiteringIndicesOfCircularArrayBackedDataset( new ArrayQueue( 1, 0, 3, 1, 2, 3 ),
+                                                                            "queue" ) ) ;
+
+        }   // end circularWrapped()
+
+
+    @Test
+    @DisplayName( "an empty queue reports every non-null slot" )
+    void circularEmpty()
+        {
+
+        final ArrayQueue queue = new ArrayQueue( 1, 1, 0, "stale", null, "stale" ) ;
+
+        assertArrayEquals( new int[] { 0, 2 },
+                           getLoiteringIndicesOfCircularArrayBackedDataset( queue,
+                                                                            "queue",
+                                                                            null,
+                                                                            null,
+                                                                            null,
+                                                                            -1,
+                                                                            BACK_INDEX_EXCLUSIVE ) ) ;
+
+        assertNull( getLoiteringIndicesOfCircularArrayBackedDataset( null, "queue" ) ) ;
+
+        }   // end circularEmpty()
+
+
+    @Test
+    @DisplayName( "an inconsistent front index, back index, or entry count is reported" )
+    void circularInconsistent()
+        {
+
+        assertThrows( TestingException.class,
+                      () -> getLoiteringIndicesOfCircularArrayBackedDataset( new ArrayQueue( 0, 2, 2, 1, 2, 3 ),
+                                                                             "queue" ) ) ;
+        assertThrows( TestingException.class,
+                      () -> getLoiteringIndicesOfCircularArrayBackedDataset( new ArrayQueue( 4, 4, 1, 1, 2, 3 ),
+                                                                             "queue" ) ) ;
+
+        }   // end circularInconsistent()
+
+    }   // end class LoiteringDetectionTests
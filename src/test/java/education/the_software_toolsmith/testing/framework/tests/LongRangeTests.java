@@ -0,0 +1,124 @@
+/* @formatter:off
+ *
+ * © David M Rosenberg, The Software Toolsmith (education)
+ *
+ * This file is part of the Testing Framework for Java.
+ * Repository: https://github.com/The-Software-Toolsmith/testing-framework-for-java
+ *
+ * Licensed under the Creative Commons Attribution-NonCommercial 4.0 International License.
+ * You may obtain a copy of the license at:
+ *     https://creativecommons.org/licenses/by-nc/4.0/
+ *
+ * You may use, share, and adapt this file for non-commercial purposes,
+ * provided you give appropriate credit.
+ *
+ * @formatter:on
+ */
+
+
+package education.the_software_toolsmith.testing.framework.tests ;
+
+import static org.junit.jupiter.api.Assertions.assertEquals ;
+import static org.junit.jupiter.api.Assertions.assertNotEquals ;
+import static org.junit.jupiter.api.Assertions.assertTrue ;
+
+import java.util.Arrays ;
+import java.util.HashSet ;
+import java.util.Set ;
+
+import org.junit.jupiter.api.DisplayName ;
+import org.junit.jupiter.api.Test ;
+
+import education.the_software_toolsmith.testing.framework.LongDataset ;
+import education.the_software_toolsmith.testing.framework.LongRange ;
+
+/**
+ * JUnit tests for {@code LongRange}'s value semantics
+ *
+ * @author David M Rosenberg
+ *
+ * @version 1.0 2026-10-19 Initial implementation
+ */
+@DisplayName( "Long Ranges" )
+@SuppressWarnings( { "javadoc", "unused" } )
+class LongRangeTests
+    {
+
+    /*
+     * tests
+     */
+
+
+    @Test
+    @DisplayName( "ranges with the same elements are equal however they're described" )
+    void equalRanges()
+        {
+
+        final LongRange range = LongRange.of( 1, 10, 1, 1, 1 ) ;
+
+        assertEquals( range, LongRange.of( 1, 10, 1, 1, 1 ) ) ;
+        assertEquals( LongRange.of( 1, 1, 1, 1, 3 ), LongRange.of( 1, 1, 1, 3, 1 ) ) ;
+        assertEquals( LongRange.of( 7, 7, 1, 1, 1 ), LongRange.of( 7, 7, 99, 1, 1 ) ) ;
+        assertEquals( LongRange.of( 1, 10, 2, 1, 1 ), LongRange.of( 1, 9, 2, 1, 1 ) ) ;
+
+        // a slice equals the range with its elements
+        assertEquals( LongRange.of( 3, 6, 1, 1, 1 ), range.slice( 2, 6 ) ) ;
+        assertEquals( LongRange.of( 2, 3, 1, 1, 1 ), LongRange.of( 1, 3, 1, 1, 2 ).slice( 4, 6 ) ) ;
+
+        // all empty ranges are equal
+        assertEquals( LongRange.of( 1, 0, 1, 1, 1 ), LongRange.of( 5, 9, 1, 0, 1 ) ) ;
+        assertEquals( LongRange.of( 1, 0, 1, 1, 1 ), range.slice( 4, 4 ) ) ;
+
+        for ( final LongRange[] pair : new LongRange[][] { { LongRange.of( 1, 1, 1, 1, 3 ),
+                                                             LongRange.of( 1, 1, 1, 3, 1 ) },
+                                                           { LongRange.of( 3, 6, 1, 1, 1 ),
+                                                             range.slice( 2, 6 ) } } )
+            {
+            assertEquals( pair[ 0 ].hashCode(), pair[ 1 ].hashCode() ) ;
+            }
+
+        }   // end equalRanges()
+
+
+    @Test
+    @DisplayName( "ranges with different elements, order, or lengths aren't equal" )
+    void unequalRanges()
+        {
+
+        final LongRange range = LongRange.of( 1, 10, 1, 1, 1 ) ;
+
+        assertNotEquals( range, LongRange.of( 10, 1, -1, 1, 1 ) ) ;
+        assertNotEquals( range, LongRange.of( 1, 11, 1, 1, 1 ) ) ;
+        assertNotEquals( range, range.slice( 0, 9 ) ) ;
+        assertNotEquals( LongRange.of( 1, 2, 1, 2, 1 ), LongRange.of( 1, 2, 1, 1, 2 ) ) ;
+        assertNotEquals( range, null ) ;
+        assertNotEquals( range, "[1:10]" ) ;
+
+        // a range and a dataset are different types, but hash alike
+        final LongDataset expanded = range.toLongDataset() ;
+
+        assertNotEquals( range, expanded ) ;
+        assertNotEquals( expanded, range ) ;
+        assertEquals( expanded.hashCode(), range.hashCode() ) ;
+        assertEquals( Arrays.hashCode( new long[] { 1, 1, 2, 2 } ), LongRange.of( 1, 2, 1, 2, 1 ).hashCode() ) ;
+
+        }   // end unequalRanges()
+
+
+    @Test
+    @DisplayName( "ranges can be used as hash keys" )
+    void hashKeys()
+        {
+
+        final Set<LongRange> ranges = new HashSet<>() ;
+
+        ranges.add( LongRange.of( 1, 5, 1, 1, 1 ) ) ;
+        ranges.add( LongRange.of( 0, 5, 1, 1, 1 ).slice( 1, 6 ) ) ;
+        ranges.add( LongRange.of( 5, 1, -1, 1, 1 ) ) ;
+
+        assertEquals( 2, ranges.size() ) ;
+        assertTrue( ranges.contains( LongRange.of( 1, 5, 1, 1, 1 ) ) ) ;
+
+        }   // end hashKeys()
+
+    }   // end class LongRangeTests
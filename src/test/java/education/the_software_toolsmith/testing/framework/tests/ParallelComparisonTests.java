@@ -0,0 +1,402 @@
+/* @formatter:off
+ *
+ * © David M Rosenberg, The Software Toolsmith (education)
+ *
+ * This file is part of the Testing Framework for Java.
+ * Repository: https://github.com/The-Software-Toolsmith/testing-framework-for-java
+ *
+ * Licensed under the Creative Commons Attribution-NonCommercial 4.0 International License.
+ * You may obtain a copy of the license at:
+ *     https://creativecommons.org/licenses/by-nc/4.0/
+ *
+ * You may use, share, and adapt this file for non-commercial purposes,
+ * provided you give appropriate credit.
+ *
+ * @formatter:on
+ */
+
+
+package education.the_software_toolsmith.testing.framework.tests ;
+
+import static education.the_software_toolsmith.testing.framework.TestData.COMPARE_EQUALITY ;
+import static education.the_software_toolsmith.testing.framework.TestData.COMPARE_IDENTITY ;
+import static education.the_software_toolsmith.testing.framework.TestData.DEFAULT_PARALLEL_THRESHOLD ;
+import static education.the_software_toolsmith.testing.framework.TestData.IS_UNORDERED ;
+import static education.the_software_toolsmith.testing.framework.TestData.REPORT_FIRST_MISMATCH ;
+import static education.the_software_toolsmith.testing.framework.TestData.compareDatasets ;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow ;
+import static org.junit.jupiter.api.Assertions.assertEquals ;
+import static org.junit.jupiter.api.Assertions.assertThrows ;
+import static org.junit.jupiter.api.Assertions.assertTrue ;
+
+import java.util.Arrays ;
+import java.util.Collections ;
+import java.util.List ;
+import java.util.Random ;
+import java.util.Set ;
+import java.util.concurrent.ConcurrentHashMap ;
+import java.util.concurrent.ForkJoinPool ;
+import java.util.concurrent.ForkJoinWorkerThread ;
+import java.util.concurrent.atomic.AtomicInteger ;
+
+import org.junit.jupiter.api.AfterAll ;
+import org.junit.jupiter.api.DisplayName ;
+import org.junit.jupiter.api.Test ;
+
+import education.the_software_toolsmith.testing.framework.TestingException ;
+
+/**
+ * JUnit tests for the parallel unordered comparison in {@code TestData.compareDatasets()}
+ * <p>
+ * A parallel threshold of 1 forces the parallel path; the comparisons run on their own pool so
+ * they're parallel regardless of the number of processors
+ *
+ * @author David M Rosenberg
+ *
+ * @version 1.0 2026-10-19 Initial implementation
+ * @version 1.1 2026-10-19 run on an explicit pool rather than assuming a parallel common pool;
+ *     verify the default comparison stays on the caller's thread
+ */
+@DisplayName( "Parallel Unordered Comparison" )
+@SuppressWarnings( { "javadoc", "unused" } )
+class ParallelComparisonTests
+    {
+
+    /*
+     * fixtures
+     */
+
+
+    /** parallel threshold which forces the parallel path */
+    private static final int ALWAYS_PARALLEL = 1 ;
+    /** parallel threshold which forces the sequential path */
+    private static final int NEVER_PARALLEL = Integer.MAX_VALUE ;
+
+    /** runs the parallel comparisons */
+    private static final ForkJoinPool POOL = new ForkJoinPool( 4 ) ;
+
+
+    /** counts its hashCode() calls */
+    static final class Counted
+        {
+
+        static final AtomicInteger hashCodeCalls = new AtomicInteger() ;
+        static final Set<Thread> hashingThreads = ConcurrentHashMap.newKeySet() ;
+
+        final int value ;
+
+        Counted( final int value )
+            {
+
+            this.value = value ;
+
+            }
+
+
+        @Override
+        public boolean equals( final Object other )
+            {
+
+            return ( other instanceof final Counted counted ) && ( counted.value == this.value ) ;
+
+            }
+
+
+        @Override
+        public int hashCode()
+            {
+
+            hashCodeCalls.incrementAndGet() ;
+            hashingThreads.add( Thread.currentThread() ) ;
+
+            return this.value ;
+
+            }
+
+        }   // end class Counted
+
+
+    /** every instance collides */
+    static final class Colliding
+        {
+
+        final int value ;
+
+        Colliding( final int value )
+            {
+
+            this.value = value ;
+
+            }
+
+
+        @Override
+        public boolean equals( final Object other )
+            {
+
+            return ( other instanceof final Colliding colliding ) && ( colliding.value == this.value ) ;
+
+            }
+
+
+        @Override
+        public int hashCode()
+            {
+
+            return 42 ;
+
+            }
+
+
+        @Override
+        public String toString()
+            {
+
+            return "C" + this.value ;
+
+            }
+
+        }   // end class Colliding
+
+
+    @AfterAll
+    static void shutDownPool()
+        {
+
+        POOL.shutdown() ;
+
+        }   // end shutDownPool()
+
+
+    /**
+     * Shuffle a copy of a dataset
+     */
+    private static Object[] shuffled( final Object[] dataset,
+                                      final long seed )
+        {
+
+        final List<Object> copy = Arrays.asList( dataset.clone() ) ;
+        Collections.shuffle( copy, new Random( seed ) ) ;
+
+        return copy.toArray() ;
+
+        }   // end shuffled()
+
+
+    /**
+     * The message from comparing two datasets unordered
+     */
+    private static String mismatchMessage( final Object[] expected,
+                                           final Object[] actual,
+                                           final int parallelThreshold )
+        {
+
+        return assertThrows( TestingException.class,
+                             () -> compareDatasets( expected,
+                                                    actual,
+                                                    IS_UNORDERED,
+                                                    COMPARE_EQUALITY,
+                                                    REPORT_FIRST_MISMATCH,
+                                                    parallelThreshold,
+                                                    POOL ) ).getMessage() ;
+
+        }   // end mismatchMessage()
+
+
+    /*
+     * tests
+     */
+
+
+    @Test
+    @DisplayName( "each element is hashed exactly once when the datasets match" )
+    void hashesEachElementOnce()
+        {
+
+        final Object[] expected = new Object[ 10_000 ] ;
+
+        for ( int i = 0 ; i < expected.length ; i++ )
+            {
+            // duplicates included
+            expected[ i ] = new Counted( i % 3_000 ) ;
+            }
+
+        final Object[] actual = shuffled( expected, 1L ) ;
+
+        Counted.hashCodeCalls.set( 0 ) ;
+
+        assertDoesNotThrow( () -> compareDatasets( expected,
+                                                   actual,
+                                                   IS_UNORDERED,
+                                                   COMPARE_EQUALITY,
+                                                   REPORT_FIRST_MISMATCH,
+                                                   ALWAYS_PARALLEL,
+                                                   POOL ) ) ;
+
+        assertEquals( expected.length + actual.length, Counted.hashCodeCalls.get() ) ;
+
+        // comparing identities never calls hashCode()
+        Counted.hashCodeCalls.set( 0 ) ;
+
+        assertDoesNotThrow( () -> compareDatasets( expected,
+                                                   actual,
+                                                   IS_UNORDERED,
+                                                   COMPARE_IDENTITY,
+                                                   REPORT_FIRST_MISMATCH,
+                                                   ALWAYS_PARALLEL,
+                                                   POOL ) ) ;
+
+        assertEquals( 0, Counted.hashCodeCalls.get() ) ;
+
+        }   // end hashesEachElementOnce()
+
+
+    @Test
+    @DisplayName( "matching datasets with nulls and duplicates pass" )
+    void matches()
+        {
+
+        final Object[] expected = { "a", null, "b", "a", 7, null, 7L, "a" } ;
+
+        assertDoesNotThrow( () -> compareDatasets( expected,
+                                                   shuffled( expected, 2L ),
+                                                   IS_UNORDERED,
+                                                   COMPARE_EQUALITY,
+                                                   REPORT_FIRST_MISMATCH,
+                                                   ALWAYS_PARALLEL,
+                                                   POOL ) ) ;
+
+        }   // end matches()
+
+
+    @Test
+    @DisplayName( "mismatches are reported exactly as the sequential comparison reports them" )
+    void mismatches()
+        {
+
+        final Object[] expected = { "a", "a", null, "b", 7 } ;
+        // a count differs, a multiplicity differs, and a type differs
+        final Object[][] actuals = { { "a", "b", null, "b", 7 },
+                                     { "a", "a", "a", "b", 7 },
+                                     { "a", "a", null, "b", 7L } } ;
+
+        for ( final Object[] actual : actuals )
+            {
+            assertEquals( mismatchMessage( expected, actual, NEVER_PARALLEL ),
+                          mismatchMessage( expected, actual, ALWAYS_PARALLEL ) ) ;
+            }
+
+        }   // end mismatches()
+
+
+    @Test
+    @DisplayName( "elements whose hash codes all collide land in one partition and still match" )
+    void collisions()
+        {
+
+        final Object[] expected = new Object[ 500 ] ;
+
+        for ( int i = 0 ; i < expected.length ; i++ )
+            {
+            expected[ i ] = new Colliding( i % 200 ) ;
+            }
+
+        final Object[] actual = shuffled( expected, 3L ) ;
+
+        assertDoesNotThrow( () -> compareDatasets( expected,
+                                                   actual,
+                                                   IS_UNORDERED,
+                                                   COMPARE_EQUALITY,
+                                                   REPORT_FIRST_MISMATCH,
+                                                   ALWAYS_PARALLEL,
+                                                   POOL ) ) ;
+
+        actual[ 0 ] = new Colliding( -1 ) ;
+
+        assertEquals( mismatchMessage( expected, actual, NEVER_PARALLEL ),
+                      mismatchMessage( expected, actual, ALWAYS_PARALLEL ) ) ;
+
+        }   // end collisions()
+
+
+    @Test
+    @DisplayName( "comparing identities distinguishes equal but distinct elements" )
+    void identities()
+        {
+
+        final String first = new String( "x" ) ;
+        final String second = new String( "x" ) ;
+
+        assertDoesNotThrow( () -> compareDatasets( new Object[] { first, second, first },
+                                                   new Object[] { second, first, first },
+                                                   IS_UNORDERED,
+                                                   COMPARE_IDENTITY,
+                                                   REPORT_FIRST_MISMATCH,
+                                                   ALWAYS_PARALLEL,
+                                                   POOL ) ) ;
+        assertThrows( TestingException.class,
+                      () -> compareDatasets( new Object[] { first, second, first },
+                                             new Object[] { second, second, first },
+                                             IS_UNORDERED,
+                                             COMPARE_IDENTITY,
+                                             REPORT_FIRST_MISMATCH,
+                                             ALWAYS_PARALLEL,
+                                             POOL ) ) ;
+
+        }   // end identities()
+
+
+    @Test
+    @DisplayName( "the parallel comparison runs on the pool it's given" )
+    void runsOnSuppliedPool()
+        {
+
+        final Object[] expected = new Object[ 10_000 ] ;
+
+        for ( int i = 0 ; i < expected.length ; i++ )
+            {
+            expected[ i ] = new Counted( i ) ;
+            }
+
+        Counted.hashingThreads.clear() ;
+
+        assertDoesNotThrow( () -> compareDatasets( expected,
+                                                   shuffled( expected, 4L ),
+                                                   IS_UNORDERED,
+                                                   COMPARE_EQUALITY,
+                                                   REPORT_FIRST_MISMATCH,
+                                                   ALWAYS_PARALLEL,
+                                                   POOL ) ) ;
+
+        assertTrue( Counted.hashingThreads.stream()
+                                          .allMatch( thread -> ( thread instanceof final ForkJoinWorkerThread worker ) &&
+                                                               ( POOL == worker.getPool() ) ) ) ;
+
+        }   // end runsOnSuppliedPool()
+
+
+    @Test
+    @DisplayName( "without a parallel threshold, large datasets are compared on the caller's thread" )
+    void sequentialByDefault()
+        {
+
+        final Object[] expected = new Object[ DEFAULT_PARALLEL_THRESHOLD ] ;
+
+        for ( int i = 0 ; i < expected.length ; i++ )
+            {
+            expected[ i ] = new Counted( i ) ;
+            }
+
+        Counted.hashingThreads.clear() ;
+
+        assertDoesNotThrow( () -> compareDatasets( expected,
+                                                   expected.clone(),
+                                                   IS_UNORDERED,
+                                                   COMPARE_EQUALITY,
+                                                   REPORT_FIRST_MISMATCH ) ) ;
+
+        assertEquals( Set.of( Thread.currentThread() ), Counted.hashingThreads ) ;
+
+        }   // end sequentialByDefault()
+
+    }   // end class ParallelComparisonTests
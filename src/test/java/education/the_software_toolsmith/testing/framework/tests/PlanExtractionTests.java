@@ -0,0 +1,402 @@
+/* @formatter:off
+ *
+ * © David M Rosenberg, The Software Toolsmith (education)
+ *
+ * This file is part of the Testing Framework for Java.
+ * Repository: https://github.com/The-Software-Toolsmith/testing-framework-for-java
+ *
+ * Licensed under the Creative Commons Attribution-NonCommercial 4.0 International License.
+ * You may obtain a copy of the license at:
+ *     https://creativecommons.org/licenses/by-nc/4.0/
+ *
+ * You may use, share, and adapt this file for non-commercial purposes,
+ * provided you give appropriate credit.
+ *
+ * @formatter:on
+ */
+
+
+package education.the_software_toolsmith.testing.framework.tests ;
+
+import static education.the_software_toolsmith.testing.framework.ReflectBackingStores.IS_MAX_HEAP ;
+import static education.the_software_toolsmith.testing.framework.ReflectBackingStores.IS_MIN_HEAP ;
+import static education.the_software_toolsmith.testing.framework.ReflectBackingStores.getContentsOfArrayBackedHeap ;
+import static education.the_software_toolsmith.testing.framework.ReflectBackingStores.getContentsOfCharArrayBackedDataset ;
+import static education.the_software_toolsmith.testing.framework.ReflectBackingStores.getContentsOfDoubleArrayBackedDataset ;
+import static education.the_software_toolsmith.testing.framework.ReflectBackingStores.getContentsOfIntArrayBackedDataset ;
+import static education.the_software_toolsmith.testing.framework.ReflectBackingStores.getContentsOfLongArrayBackedDataset ;
+import static education.the_software_toolsmith.testing.framework.ReflectBackingStores.getLoiteringIndicesOfArrayBackedDataset ;
+import static education.the_software_toolsmith.testing.framework.ReflectBackingStores.getLoiteringIndicesOfCircularArrayBackedDataset ;
+import static education.the_software_toolsmith.testing.framework.ReflectBackingStores.getLoiteringIndicesOfDataset ;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals ;
+import static org.junit.jupiter.api.Assertions.assertEquals ;
+import static org.junit.jupiter.api.Assertions.assertNull ;
+import static org.junit.jupiter.api.Assertions.assertThrows ;
+import static org.junit.jupiter.api.Assertions.assertTrue ;
+
+import java.util.Comparator ;
+
+import org.junit.jupiter.api.DisplayName ;
+import org.junit.jupiter.api.Test ;
+
+import education.the_software_toolsmith.testing.framework.BackingStore ;
+import education.the_software_toolsmith.testing.framework.BackingStoreLayout ;
+import education.the_software_toolsmith.testing.framework.BackingStoreLayout.Kind ;
+import education.the_software_toolsmith.testing.framework.IncrementalDatasetExtractor ;
+import education.the_software_toolsmith.testing.framework.TestingException ;
+import education.the_software_toolsmith.testing.framework.tests.ArrayFixtures.ArrayBag ;
+import education.the_software_toolsmith.testing.framework.tests.ArrayFixtures.ArrayQueue ;
+
+/**
+ * JUnit tests for the extractors which read a backing store through a compiled
+ * {@code BackingStoreLayout} plan
+ *
+ * @author David M Rosenberg
+ *
+ * @version 1.0 2026-10-19 Initial implementation
+ * @version 1.1 2026-10-19 use the shared {@code ArrayFixtures} collections
+ */
+@DisplayName( "Plan-Based Extraction" )
+@SuppressWarnings( { "javadoc", "unused" } )
+class PlanExtractionTests
+    {
+
+    /*
+     * fixtures
+     */
+
+
+    static class Node
+        {
+
+        Object data ;
+        Node next ;
+
+        Node( final Object data, final Node next )
+            {
+
+            this.data = data ;
+            this.next = next ;
+
+            }
+
+        }   // end class Node
+
+
+    /** a chain without an entry count */
+    static class UncountedChain
+        {
+
+        Node firstNode ;
+
+        }   // end class UncountedChain
+
+
+    static class ArrayHeap
+        {
+
+        Object[] heap ;
+        int numberOfEntries ;
+
+        ArrayHeap( final int numberOfEntries, final Object... heap )
+            {
+
+            this.heap = heap ;
+            this.numberOfEntries = numberOfEntries ;
+
+            }
+
+        }   // end class ArrayHeap
+
+
+    static class IntBag
+        {
+
+        int[] bag = { 5, 6, 7, 0 } ;
+        long[] longs = { 1L << 40, 2L } ;
+        double[] doubles = { 0.5, -0.0 } ;
+        int numberOfEntries = 2 ;
+
+        }   // end class IntBag
+
+
+    static class CharQueue
+        {
+
+        char[] queue = { 'c', 'x', 'a', 'b' } ;
+        int frontIndex = 2 ;
+        int numberOfEntries = 3 ;
+
+        }   // end class CharQueue
+
+
+    static class MisTyped
+        {
+
+        Object[] entries = new Object[ 2 ] ;
+        long numberOfEntries ;
+
+        }   // end class MisTyped
+
+
+    @BackingStore( kind = Kind.CHAIN, count = "" )
+    static class UncountedChainDescriptor
+        {
+        // annotation carrier only
+        }
+
+
+    @BackingStore( kind = Kind.ARRAY, store = "heap" )
+    static class HeapDescriptor
+        {
+        // annotation carrier only
+        }
+
+
+    @BackingStore( kind = Kind.CIRCULAR_ARRAY, store = "heap", front = "numberOfEntries" )
+    static class CircularHeapDescriptor
+        {
+        // annotation carrier only
+        }
+
+
+    @BackingStore( kind = Kind.ARRAY, store = "bag" )
+    static class IntBagDescriptor
+        {
+        // annotation carrier only
+        }
+
+
+    @BackingStore( kind = Kind.CIRCULAR_ARRAY, store = "queue" )
+    static class QueueDescriptor
+        {
+        // annotation carrier only
+        }
+
+
+    @BackingStore( kind = Kind.ARRAY, store = "bag" )
+    static class BagDescriptor
+        {
+        // annotation carrier only
+        }
+
+
+    /*
+     * incremental tracking
+     */
+
+
+    @Test
+    @DisplayName( "a declared chain plan without an entry count tracks insertions and removals" )
+    void incrementalThroughPlan()
+        {
+
+        final UncountedChain chain = new UncountedChain() ;
+        chain.firstNode = new Node( "b", null ) ;
+
+        final IncrementalDatasetExtractor extractor =
+                    IncrementalDatasetExtractor.forDataset( chain,
+                                                            BackingStoreLayout.of( UncountedChain.class,
+                                                                                   UncountedChainDescriptor.class ) ) ;
+
+        chain.firstNode = new Node( "a", chain.firstNode ) ;
+
+        assertTrue( extractor.verifyAddToFront( "a" ) ) ;
+
+        chain.firstNode.next.next = new Node( "c", null ) ;
+
+        assertTrue( extractor.verifyAddToBack( "c" ) ) ;
+
+        chain.firstNode = chain.firstNode.next ;
+
+        assertTrue( extractor.verifyRemoveFront() ) ;
+        assertTrue( extractor.verifyAll() ) ;
+        assertArrayEquals( new Object[] { "b", "c" }, extractor.contents() ) ;
+        assertEquals( 1, extractor.fullScanCount() ) ;
+
+        }   // end incrementalThroughPlan()
+
+
+    @Test
+    @DisplayName( "the name-based factories compile their fields up front and reject missing or mistyped fields" )
+    void namedFieldsAreCompiled()
+        {
+
+        final TestingException missing =
+                    assertThrows( TestingException.class,
+                                  () -> IncrementalDatasetExtractor.forArrayBackedDataset( new ArrayBag( 0 ),
+                                                                                           "nonexistent",
+                                                                                           null ) ) ;
+
+        assertTrue( missing.getMessage().contains( "no backing store field named \"nonexistent\"" ),
+                    missing.getMessage() ) ;
+
+        assertThrows( TestingException.class,
+                      () -> IncrementalDatasetExtractor.forArrayBackedDataset( new MisTyped(),
+                                                                               "entries",
+                                                                               null ) ) ;
+
+        // a plan for one class can't track another
+        assertThrows( TestingException.class,
+                      () -> IncrementalDatasetExtractor.forDataset( new ArrayBag( 0 ),
+                                                                    BackingStoreLayout.of( ArrayQueue.class,
+                                                                                           QueueDescriptor.class ) ) ) ;
+
+        }   // end namedFieldsAreCompiled()
+
+
+    /*
+     * heaps
+     */
+
+
+    @Test
+    @DisplayName( "a heap plan copies the live entries and verifies the heap property" )
+    void heapThroughPlan()
+        {
+
+        final BackingStoreLayout layout = BackingStoreLayout.of( ArrayHeap.class, HeapDescriptor.class ) ;
+
+        assertArrayEquals( new Object[] { 9, 4, 7 },
+                           getContentsOfArrayBackedHeap( new ArrayHeap( 3, 9, 4, 7, null ),
+                                                         layout,
+                                                         0,
+                                                         IS_MAX_HEAP,
+                                                         null ) ) ;
+        assertArrayEquals( new Object[] { 1, 3 },
+                           getContentsOfArrayBackedHeap( new ArrayHeap( 2, null, 1, 3 ),
+                                                         layout,
+                                                         1,
+                                                         IS_MIN_HEAP,
+                                                         null ) ) ;
+        assertArrayEquals( new Object[] { 1, 3 },
+                           getContentsOfArrayBackedHeap( new ArrayHeap( 2, 1, 3 ),
+                                                         layout,
+                                                         0,
+                                                         IS_MAX_HEAP,
+                                                         Comparator.comparingInt( entry -> -(Integer) entry ) ) ) ;
+
+        assertNull( getContentsOfArrayBackedHeap( null, layout, 0, IS_MAX_HEAP, null ) ) ;
+
+        }   // end heapThroughPlan()
+
+
+    @Test
+    @DisplayName( "a heap plan reports violations, bad entry counts, and non-array plans" )
+    void heapPlanFailures()
+        {
+
+        final BackingStoreLayout layout = BackingStoreLayout.of( ArrayHeap.class, HeapDescriptor.class ) ;
+
+        final TestingException violated =
+                    assertThrows( TestingException.class,
+                                  () -> getContentsOfArrayBackedHeap( new ArrayHeap( 3, 4, 9, 7 ),
+                                                                      layout,
+                                                                      0,
+                                                                      IS_MAX_HEAP,
+                                                                      null ) ) ;
+
+        assertTrue( violated.getMessage().contains( "heap property violated" ), violated.getMessage() ) ;
+
+        // with the root at index 1, three entries need four slots
+        assertThrows( TestingException.class,
+                      () -> getContentsOfArrayBackedHeap( new ArrayHeap( 3, null, 1, 2 ),
+                                                          layout,
+                                                          1,
+                                                          IS_MIN_HEAP,
+                                                          null ) ) ;
+        assertThrows( TestingException.class,
+                      () -> getContentsOfArrayBackedHeap( new ArrayHeap( 1, 1 ),
+                                                          layout,
+                                                          2,
+                                                          IS_MIN_HEAP,
+                                                          null ) ) ;
+        assertThrows( TestingException.class,
+                      () -> getContentsOfArrayBackedHeap( new ArrayHeap( 1, 1 ),
+                                                          BackingStoreLayout.of( ArrayHeap.class,
+                                                                                 CircularHeapDescriptor.class ),
+                                                          0,
+                                                          IS_MIN_HEAP,
+                                                          null ) ) ;
+
+        }   // end heapPlanFailures()
+
+
+    /*
+     * primitive backing stores
+     */
+
+
+    @Test
+    @DisplayName( "primitive plans copy the live entries, wrapping around a circular array" )
+    void primitivesThroughPlan()
+        {
+
+        final IntBag bag = new IntBag() ;
+        final BackingStoreLayout bagLayout = BackingStoreLayout.of( IntBag.class, IntBagDescriptor.class ) ;
+
+        assertArrayEquals( new int[] { 5, 6 }, getContentsOfIntArrayBackedDataset( bag, bagLayout ) ) ;
+
+        assertArrayEquals( new char[] { 'a', 'b', 'c' },
+                           getContentsOfCharArrayBackedDataset( new CharQueue(),
+                                                                BackingStoreLayout.of( CharQueue.class,
+                                                                                       QueueDescriptor.class ) ) ) ;
+
+        assertNull( getContentsOfLongArrayBackedDataset( null, bagLayout ) ) ;
+
+        // the plan's store is an int[]
+        assertThrows( TestingException.class,
+                      () -> getContentsOfLongArrayBackedDataset( bag, bagLayout ) ) ;
+        assertThrows( TestingException.class,
+                      () -> getContentsOfDoubleArrayBackedDataset( bag, bagLayout ) ) ;
+
+        bag.numberOfEntries = 5 ;
+
+        assertThrows( TestingException.class,
+                      () -> getContentsOfIntArrayBackedDataset( bag, bagLayout ) ) ;
+
+        }   // end primitivesThroughPlan()
+
+
+    /*
+     * loitering references
+     */
+
+
+    @Test
+    @DisplayName( "plan-based and name-based loitering scans agree" )
+    void loiteringThroughPlan()
+        {
+
+        final ArrayBag bag = new ArrayBag( 2, "a", "b", "stale", null, "stale" ) ;
+
+        assertArrayEquals( new int[] { 2, 4 },
+                           getLoiteringIndicesOfDataset( bag,
+                                                         BackingStoreLayout.of( ArrayBag.class,
+                                                                                BagDescriptor.class ) ) ) ;
+        assertArrayEquals( new int[] { 2, 4 }, getLoiteringIndicesOfArrayBackedDataset( bag, "bag" ) ) ;
+
+        final ArrayQueue queue = new ArrayQueue( 2, 0, 3, "c", "stale", "a", "b" ) ;
+
+        assertArrayEquals( new int[] { 1 },
+                           getLoiteringIndicesOfDataset( queue,
+                                                         BackingStoreLayout.of( ArrayQueue.class,
+                                                                                QueueDescriptor.class ) ) ) ;
+        assertArrayEquals( new int[] { 1 },
+                           getLoiteringIndicesOfCircularArrayBackedDataset( queue, "queue" ) ) ;
+
+        // an unwrapped live region - the stale slots lie on both sides of it
+        queue.frontIndex = 1 ;
+        queue.backIndex = 2 ;
+        queue.numberOfEntries = 2 ;
+
+        assertArrayEquals( new int[] { 0, 3 },
+                           getLoiteringIndicesOfDataset( queue,
+                                                         BackingStoreLayout.of( ArrayQueue.class,
+                                                                                QueueDescriptor.class ) ) ) ;
+        assertArrayEquals( new int[] { 0, 3 },
+                           getLoiteringIndicesOfCircularArrayBackedDataset( queue, "queue" ) ) ;
+
+        }   // end loiteringThroughPlan()
+
+    }   // end class PlanExtractionTests
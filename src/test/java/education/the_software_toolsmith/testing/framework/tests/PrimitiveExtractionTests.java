@@ -0,0 +1,182 @@
+/* @formatter:off
+ *
+ * © David M Rosenberg, The Software Toolsmith (education)
+ *
+ * This file is part of the Testing Framework for Java.
+ * Repository: https://github.com/The-Software-Toolsmith/testing-framework-for-java
+ *
+ * Licensed under the Creative Commons Attribution-NonCommercial 4.0 International License.
+ * You may obtain a copy of the license at:
+ *     https://creativecommons.org/licenses/by-nc/4.0/
+ *
+ * You may use, share, and adapt this file for non-commercial purposes,
+ * provided you give appropriate credit.
+ *
+ * @formatter:on
+ */
+
+
+package education.the_software_toolsmith.testing.framework.tests ;
+
+import static education.the_software_toolsmith.testing.framework.ReflectBackingStores.NO_SUCH_FIELD ;
+import static education.the_software_toolsmith.testing.framework.ReflectBackingStores.getContentsOfCharArrayBackedDataset ;
+import static education.the_software_toolsmith.testing.framework.ReflectBackingStores.getContentsOfDoubleArrayBackedDataset ;
+import static education.the_software_toolsmith.testing.framework.ReflectBackingStores.getContentsOfIntArrayBackedDataset ;
+import static education.the_software_toolsmith.testing.framework.ReflectBackingStores.getContentsOfLongArrayBackedDataset ;
+import static education.the_software_toolsmith.testing.framework.TestData.compareDatasets ;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals ;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow ;
+import static org.junit.jupiter.api.Assertions.assertNotSame ;
+import static org.junit.jupiter.api.Assertions.assertNull ;
+import static org.junit.jupiter.api.Assertions.assertThrows ;
+
+import org.junit.jupiter.api.DisplayName ;
+import org.junit.jupiter.api.Test ;
+
+import education.the_software_toolsmith.testing.framework.TestingException ;
+
+/**
+ * JUnit tests for the {@code ReflectBackingStores} primitive backing store extractors and the
+ * corresponding {@code TestData} comparisons
+ *
+ * @author David M Rosenberg
+ *
+ * @version 1.0 2026-10-19 Initial implementation
+ */
+@DisplayName( "Primitive Extraction" )
+@SuppressWarnings( { "javadoc", "unused" } )
+class PrimitiveExtractionTests
+    {
+
+    /*
+     * fixtures
+     */
+
+
+    static class PrimitiveBags
+        {
+
+        int[] ints = { 3, 1, 4, 1, 5, 0, 0 } ;
+        long[] longs = { 1L << 40, -2L, 0 } ;
+        double[] doubles = { 2.5, Double.NaN, -0.0, 9.0 } ;
+        char[] chars = { 'x', 'y', 'z' } ;
+        Object notPrimitive = new Integer[] { 1, 2 } ;
+        int[] missing = null ;
+        int numberOfEntries = 2 ;
+
+        }   // end class PrimitiveBags
+
+
+    /*
+     * extraction
+     */
+
+
+    @Test
+    @DisplayName( "each element type copies the live entries into a new array" )
+    void copiesLiveEntries()
+        {
+
+        final PrimitiveBags bags = new PrimitiveBags() ;
+
+        final int[] ints = getContentsOfIntArrayBackedDataset( bags, "ints" ) ;
+
+        assertArrayEquals( new int[] { 3, 1 }, ints ) ;
+        assertNotSame( bags.ints, ints ) ;
+
+        assertArrayEquals( new long[] { 1L << 40, -2L },
+                           getContentsOfLongArrayBackedDataset( bags, "longs" ) ) ;
+        assertArrayEquals( new double[] { 2.5, Double.NaN },
+                           getContentsOfDoubleArrayBackedDataset( bags, "doubles" ) ) ;
+        assertArrayEquals( new char[] { 'x', 'y' },
+                           getContentsOfCharArrayBackedDataset( bags, "chars" ) ) ;
+
+        }   // end copiesLiveEntries()
+
+
+    @Test
+    @DisplayName( "NO_SUCH_FIELD copies the entire backing store and an explicit count wins" )
+    void entryCountSources()
+        {
+
+        final PrimitiveBags bags = new PrimitiveBags() ;
+
+        assertArrayEquals( bags.ints,
+                           getContentsOfIntArrayBackedDataset( bags, "ints", NO_SUCH_FIELD, -1 ) ) ;
+        assertArrayEquals( new double[] { 2.5, Double.NaN, -0.0 },
+                           getContentsOfDoubleArrayBackedDataset( bags, "doubles", null, 3 ) ) ;
+        assertArrayEquals( new char[ 0 ],
+                           getContentsOfCharArrayBackedDataset( bags, "chars", NO_SUCH_FIELD, 0 ) ) ;
+
+        assertNull( getContentsOfLongArrayBackedDataset( null, "longs" ) ) ;
+
+        }   // end entryCountSources()
+
+
+    @Test
+    @DisplayName( "wrong array types, null fields, and bad entry counts are reported" )
+    void badBackingStores()
+        {
+
+        final PrimitiveBags bags = new PrimitiveBags() ;
+
+        assertThrows( TestingException.class,
+                      () -> getContentsOfLongArrayBackedDataset( bags, "ints" ) ) ;
+        assertThrows( TestingException.class,
+                      () -> getContentsOfIntArrayBackedDataset( bags, "notPrimitive" ) ) ;
+        assertThrows( TestingException.class,
+                      () -> getContentsOfIntArrayBackedDataset( bags, "missing" ) ) ;
+        assertThrows( TestingException.class,
+                      () -> getContentsOfCharArrayBackedDataset( bags, "chars", null, 4 ) ) ;
+
+        bags.numberOfEntries = -1 ;
+
+        assertThrows( TestingException.class,
+                      () -> getContentsOfIntArrayBackedDataset( bags, "ints" ) ) ;
+
+        }   // end badBackingStores()
+
+
+    /*
+     * comparison
+     */
+
+
+    @Test
+    @DisplayName( "ordered and unordered primitive comparisons" )
+    void comparePrimitives()
+        {
+
+        assertDoesNotThrow( () -> compareDatasets( new int[] { 1, 2, 3 }, new int[] { 1, 2, 3 }, true ) ) ;
+        assertDoesNotThrow( () -> compareDatasets( new int[] { 1, 2, 3 }, new int[] { 3, 1, 2 }, false ) ) ;
+        assertThrows( TestingException.class,
+                      () -> compareDatasets( new int[] { 1, 2, 3 }, new int[] { 3, 1, 2 }, true ) ) ;
+        assertThrows( TestingException.class,
+                      () -> compareDatasets( new int[] { 1, 2, 2 }, new int[] { 1, 1, 2 }, false ) ) ;
+
+        assertDoesNotThrow( () -> compareDatasets( new long[] { -1, 5 }, new long[] { 5, -1 }, false ) ) ;
+        assertDoesNotThrow( () -> compareDatasets( new char[] { 'b', 'a' }, new char[] { 'a', 'b' }, false ) ) ;
+
+        // matches Double.equals() - NaN equals NaN, 0.0 doesn't equal -0.0
+        assertDoesNotThrow( () -> compareDatasets( new double[] { Double.NaN }, new double[] { Double.NaN }, true ) ) ;
+        assertThrows( TestingException.class,
+                      () -> compareDatasets( new double[] { 0.0 }, new double[] { -0.0 }, true ) ) ;
+
+        }   // end comparePrimitives()
+
+
+    @Test
+    @DisplayName( "null, empty, and length mismatches follow the Object[] comparison" )
+    void compareShapes()
+        {
+
+        assertDoesNotThrow( () -> compareDatasets( (int[]) null, (int[]) null, true ) ) ;
+        assertDoesNotThrow( () -> compareDatasets( new long[ 0 ], new long[ 0 ], false ) ) ;
+        assertThrows( TestingException.class,
+                      () -> compareDatasets( (int[]) null, new int[ 0 ], true ) ) ;
+        assertThrows( TestingException.class,
+                      () -> compareDatasets( new char[] { 'a' }, new char[] { 'a', 'b' }, true ) ) ;
+
+        }   // end compareShapes()
+
+    }   // end class PrimitiveExtractionTests
@@ -0,0 +1,154 @@
+/* @formatter:off
+ *
+ * © David M Rosenberg, The Software Toolsmith (education)
+ *
+ * This file is part of the Testing Framework for Java.
+ * Repository: https://github.com/The-Software-Toolsmith/testing-framework-for-java
+ *
+ * Licensed under the Creative Commons Attribution-NonCommercial 4.0 International License.
+ * You may obtain a copy of the license at:
+ *     https://creativecommons.org/licenses/by-nc/4.0/
+ *
+ * You may use, share, and adapt this file for non-commercial purposes,
+ * provided you give appropriate credit.
+ *
+ * @formatter:on
+ */
+
+
+package education.the_software_toolsmith.testing.framework.tests ;
+
+import static education.the_software_toolsmith.testing.framework.TestData.DEFAULT_DATASET_TO_STRING_ELEMENTS ;
+import static education.the_software_toolsmith.testing.framework.TestData.DEFAULT_DATASET_TO_STRING_LENGTH ;
+import static education.the_software_toolsmith.testing.framework.TestData.appendArray ;
+import static education.the_software_toolsmith.testing.framework.TestData.datasetToString ;
+import static education.the_software_toolsmith.testing.framework.TestData.itemToString ;
+import static org.junit.jupiter.api.Assertions.assertEquals ;
+import static org.junit.jupiter.api.Assertions.assertThrows ;
+import static org.junit.jupiter.api.Assertions.assertTrue ;
+
+import java.lang.reflect.Array ;
+
+import org.junit.jupiter.api.DisplayName ;
+import org.junit.jupiter.api.Test ;
+
+/**
+ * JUnit tests for the {@code TestData} primitive array formatter
+ *
+ * @author David M Rosenberg
+ *
+ * @version 1.0 2026-10-19 Initial implementation
+ */
+@DisplayName( "Primitive Array Formatting" )
+@SuppressWarnings( { "javadoc", "unused" } )
+class PrimitiveFormattingTests
+    {
+
+    /*
+     * fixtures
+     */
+
+
+    /**
+     * Box an array's elements - the way primitive arrays were formatted before they were read in
+     * place
+     *
+     * @param anArray
+     *     a primitive array
+     *
+     * @return the boxed elements
+     */
+    private static Object[] boxed( final Object anArray )
+        {
+
+        final Object[] elements = new Object[ Array.getLength( anArray ) ] ;
+
+        for ( int i = 0 ; i < elements.length ; i++ )
+            {
+            elements[ i ] = Array.get( anArray, i ) ;
+            }
+
+        return elements ;
+
+        }   // end boxed()
+
+
+    /*
+     * tests
+     */
+
+
+    @Test
+    @DisplayName( "each primitive type formats as its boxed elements would" )
+    void matchesBoxedFormatting()
+        {
+
+        final Object[] arrays = { new int[] { 1, -20_000, Integer.MIN_VALUE },
+                                  new long[] { Long.MAX_VALUE, 0 },
+                                  new short[] { -5, 12_345 },
+                                  new byte[] { -128, 127 },
+                                  new double[] { 2.5, Double.NaN, -0.0, 1e9 },
+                                  new float[] { 0.1f, -3f },
+                                  new char[] { 'a', '\'', ' ' },
+                                  new boolean[] { true, false },
+                                  new int[ 0 ] } ;
+
+        for ( final Object anArray : arrays )
+            {
+            assertEquals( datasetToString( boxed( anArray ) ),
+                          itemToString( anArray ),
+                          anArray.getClass().getSimpleName() ) ;
+            }
+
+        assertEquals( "['a', ''', ' ']", itemToString( new char[] { 'a', '\'', ' ' } ) ) ;
+        assertEquals( "[1,000, 2]", itemToString( new long[] { 1_000, 2 } ) ) ;
+
+        }   // end matchesBoxedFormatting()
+
+
+    @Test
+    @DisplayName( "large primitive arrays are truncated to the leading and trailing elements" )
+    void truncated()
+        {
+
+        final long[] longs = new long[ 1_000_000 ] ;
+
+        for ( int i = 0 ; i < longs.length ; i++ )
+            {
+            longs[ i ] = i ;
+            }
+
+        final String text = itemToString( longs ) ;
+
+        assertTrue( text.startsWith( "[0, 1, " ), text ) ;
+        assertTrue( text.endsWith( ", 999,998, 999,999]" ), text ) ;
+        assertTrue( text.contains( "..." ), text ) ;
+        assertEquals( datasetToString( boxed( longs ),
+                                       DEFAULT_DATASET_TO_STRING_LENGTH,
+                                       DEFAULT_DATASET_TO_STRING_ELEMENTS ),
+                      text ) ;
+
+        assertEquals( "[1, ..., 4]",
+                      appendArray( new StringBuilder(), new int[] { 1, 2, 3, 4 }, 5, 2 ).toString() ) ;
+
+        }   // end truncated()
+
+
+    @Test
+    @DisplayName( "nested arrays, null, and non-arrays" )
+    void nestedAndInvalid()
+        {
+
+        assertEquals( "[[1, 2], null, ['x']]",
+                      itemToString( new Object[] { new int[] { 1, 2 }, null, new char[] { 'x' } } ) ) ;
+        assertEquals( "[[true], []]", itemToString( new boolean[][] { { true }, {} } ) ) ;
+
+        final StringBuilder buffer = new StringBuilder( ">" ) ;
+
+        assertEquals( ">null", appendArray( buffer, null, 10, 2 ).toString() ) ;
+        assertThrows( IllegalArgumentException.class,
+                      () -> appendArray( new StringBuilder(), "not an array", 10, 2 ) ) ;
+
+        }   // end nestedAndInvalid()
+
+    }   // end class PrimitiveFormattingTests
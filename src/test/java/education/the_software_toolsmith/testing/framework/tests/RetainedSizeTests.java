@@ -0,0 +1,227 @@
+/* @formatter:off
+ *
+ * © David M Rosenberg, The Software Toolsmith (education)
+ *
+ * This file is part of the Testing Framework for Java.
+ * Repository: https://github.com/The-Software-Toolsmith/testing-framework-for-java
+ *
+ * Licensed under the Creative Commons Attribution-NonCommercial 4.0 International License.
+ * You may obtain a copy of the license at:
+ *     https://creativecommons.org/licenses/by-nc/4.0/
+ *
+ * You may use, share, and adapt this file for non-commercial purposes,
+ * provided you give appropriate credit.
+ *
+ * @formatter:on
+ */
+
+
+package education.the_software_toolsmith.testing.framework.tests ;
+
+import static education.the_software_toolsmith.testing.framework.ReflectBackingStores.retainedSize ;
+import static org.junit.jupiter.api.Assertions.assertEquals ;
+import static org.junit.jupiter.api.Assertions.assertNull ;
+import static org.junit.jupiter.api.Assertions.assertTrue ;
+
+import java.util.List ;
+import java.util.concurrent.TimeUnit ;
+
+import org.junit.jupiter.api.DisplayName ;
+import org.junit.jupiter.api.Test ;
+
+import education.the_software_toolsmith.testing.framework.RetainedSize ;
+
+/**
+ * JUnit tests for {@code ReflectBackingStores.retainedSize()} and {@code RetainedSize}
+ *
+ * @author David M Rosenberg
+ *
+ * @version 1.0 2026-10-19 Initial implementation
+ */
+@DisplayName( "Retained Size" )
+@SuppressWarnings( { "javadoc", "unused" } )
+class RetainedSizeTests
+    {
+
+    /*
+     * fixtures
+     */
+
+
+    static class Node
+        {
+
+        Object data ;
+        Node next ;
+
+        Node( final Object data, final Node next )
+            {
+
+            this.data = data ;
+            this.next = next ;
+
+            }
+
+        }   // end class Node
+
+
+    static class Holder
+        {
+
+        Object first ;
+        Object second ;
+        Class<?> type = Holder.class ;
+        TimeUnit unit = TimeUnit.SECONDS ;
+
+        }   // end class Holder
+
+
+    /**
+     * Build a singly linked chain
+     *
+     * @param length
+     *     the number of nodes
+     *
+     * @return the first node
+     */
+    private static Node chain( final int length )
+        {
+
+        Node first = null ;
+
+        for ( int i = 0 ; i < length ; i++ )
+            {
+            first = new Node( null, first ) ;
+            }
+
+        return first ;
+
+        }   // end chain()
+
+
+    /*
+     * traversal
+     */
+
+
+    @Test
+    @DisplayName( "each reachable object is counted once, even when shared or cyclic" )
+    void sharedAndCyclic()
+        {
+
+        final Node first = chain( 3 ) ;
+        first.next.next.next = first ;
+
+        final RetainedSize cyclic = retainedSize( first ) ;
+
+        assertEquals( 3, cyclic.objectCount() ) ;
+        assertEquals( 3, cyclic.footprintOf( Node.class ).instanceCount() ) ;
+
+        final Holder holder = new Holder() ;
+        holder.first = first ;
+        holder.second = first ;
+
+        final RetainedSize shared = retainedSize( holder ) ;
+
+        assertEquals( 4, shared.objectCount() ) ;
+        assertEquals( cyclic.totalBytes(), shared.footprintOf( Node.class ).totalBytes() ) ;
+
+        }   // end sharedAndCyclic()
+
+
+    @Test
+    @DisplayName( "Class objects and enum constants aren't counted or followed" )
+    void classesAndEnums()
+        {
+
+        final RetainedSize size = retainedSize( new Holder() ) ;
+
+        assertEquals( 1, size.objectCount() ) ;
+        assertNull( size.footprintOf( Class.class ) ) ;
+        assertNull( size.footprintOf( TimeUnit.class ) ) ;
+
+        }   // end classesAndEnums()
+
+
+    @Test
+    @DisplayName( "excluded objects are neither counted nor followed" )
+    void excludedObjects()
+        {
+
+        final Node entry = chain( 5 ) ;
+        final Object[] store = { entry, null } ;
+
+        assertEquals( 6, retainedSize( store ).objectCount() ) ;
+
+        final RetainedSize overhead = retainedSize( store, List.of( entry ) ) ;
+
+        assertEquals( 1, overhead.objectCount() ) ;
+        assertNull( overhead.footprintOf( Node.class ) ) ;
+
+        }   // end excludedObjects()
+
+
+    @Test
+    @DisplayName( "a structure too deep to recurse through is measured" )
+    void deepStructure()
+        {
+
+        final RetainedSize size = retainedSize( chain( 200_000 ) ) ;
+
+        assertEquals( 200_000, size.objectCount() ) ;
+        assertEquals( 0, size.opaqueObjectCount() ) ;
+
+        }   // end deepStructure()
+
+
+    /*
+     * sizes
+     */
+
+
+    @Test
+    @DisplayName( "sizes are aligned, grow with array length, and are constant per class" )
+    void sizes()
+        {
+
+        final RetainedSize small = retainedSize( new Object[ 10 ] ) ;
+        final RetainedSize large = retainedSize( new Object[ 20 ] ) ;
+
+        assertTrue( large.totalBytes() > small.totalBytes() ) ;
+        assertEquals( 0, small.totalBytes() % 8 ) ;
+        assertEquals( small.totalBytes(), retainedSize( new Object[ 10 ] ).totalBytes() ) ;
+
+        final RetainedSize nodes = retainedSize( chain( 4 ) ) ;
+        final RetainedSize.ClassFootprint footprint = nodes.footprintOf( Node.class ) ;
+
+        assertEquals( nodes.totalBytes(), footprint.totalBytes() ) ;
+        assertEquals( footprint.averageBytes() * 4, footprint.totalBytes(), 0.0 ) ;
+        assertEquals( footprint.averageBytes(), nodes.bytesPerElement( 4 ), 0.0 ) ;
+        assertEquals( nodes.totalBytes(), nodes.bytesPerElement( 0 ), 0.0 ) ;
+
+        }   // end sizes()
+
+
+    @Test
+    @DisplayName( "footprints are sorted largest first and a null root has no size" )
+    void footprintsAndNull()
+        {
+
+        final Holder holder = new Holder() ;
+        holder.first = new long[ 64 ] ;
+        holder.second = chain( 1 ) ;
+
+        final List<RetainedSize.ClassFootprint> footprints = retainedSize( holder ).footprints() ;
+
+        assertEquals( long[].class, footprints.getFirst().type() ) ;
+
+        for ( int i = 1 ; i < footprints.size() ; i++ )
+            {
+            assertTrue( footprints.get( i - 1 ).totalBytes() >= footprints.get( i ).totalBytes() ) ;
+            }
+
+        assertNull( retainedSize( null ) ) ;
+
+        }   // end footprintsAndNull()
+
+    }   // end class RetainedSizeTests
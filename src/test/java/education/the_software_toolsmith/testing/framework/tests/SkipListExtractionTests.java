@@ -0,0 +1,332 @@
+/* @formatter:off
+ *
+ * © David M Rosenberg, The Software Toolsmith (education)
+ *
+ * This file is part of the Testing Framework for Java.
+ * Repository: https://github.com/The-Software-Toolsmith/testing-framework-for-java
+ *
+ * Licensed under the Creative Commons Attribution-NonCommercial 4.0 International License.
+ * You may obtain a copy of the license at:
+ *     https://creativecommons.org/licenses/by-nc/4.0/
+ *
+ * You may use, share, and adapt this file for non-commercial purposes,
+ * provided you give appropriate credit.
+ *
+ * @formatter:on
+ */
+
+
+package education.the_software_toolsmith.testing.framework.tests ;
+
+import static education.the_software_toolsmith.testing.framework.ReflectBackingStores.getContentsOfSkipList ;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals ;
+import static org.junit.jupiter.api.Assertions.assertEquals ;
+import static org.junit.jupiter.api.Assertions.assertNotEquals ;
+import static org.junit.jupiter.api.Assertions.assertNull ;
+import static org.junit.jupiter.api.Assertions.assertThrows ;
+import static org.junit.jupiter.api.Assertions.assertTrue ;
+
+import java.util.ArrayList ;
+import java.util.Arrays ;
+import java.util.List ;
+
+import org.junit.jupiter.api.DisplayName ;
+import org.junit.jupiter.api.Test ;
+
+import education.the_software_toolsmith.testing.framework.LoopDetectedException ;
+import education.the_software_toolsmith.testing.framework.SkipListContents ;
+import education.the_software_toolsmith.testing.framework.TestingException ;
+
+/**
+ * JUnit tests for the {@code ReflectBackingStores} skip list extractor
+ *
+ * @author David M Rosenberg
+ *
+ * @version 1.0 2026-10-19 Initial implementation
+ * @version 1.1 2026-10-19 contents compare by value
+ */
+@DisplayName( "Skip List Extraction" )
+@SuppressWarnings( { "javadoc", "unused" } )
+class SkipListExtractionTests
+    {
+
+    /*
+     * fixtures
+     */
+
+
+    static class Node
+        {
+
+        Object data ;
+        Node[] next ;
+
+        Node( final Object data, final int height )
+            {
+
+            this.data = data ;
+            this.next = new Node[ height ] ;
+
+            }
+
+        }   // end class Node
+
+
+    static class ListNode
+        {
+
+        Object data ;
+        List<ListNode> next ;
+
+        ListNode( final Object data, final int height )
+            {
+
+            this.data = data ;
+            this.next = new ArrayList<>( Arrays.asList( new ListNode[ height ] ) ) ;
+
+            }
+
+        }   // end class ListNode
+
+
+    static class BadNode
+        {
+
+        Object data ;
+        Object next = "not forward references" ;
+
+        }   // end class BadNode
+
+
+    static class SkipList
+        {
+
+        Object head ;
+
+        SkipList( final Object head )
+            {
+
+            this.head = head ;
+
+            }
+
+        }   // end class SkipList
+
+
+    /**
+     * Build a correctly linked skip list
+     *
+     * @param levelCount
+     *     the head's height
+     * @param heights
+     *     each entry's height - entry {@code i} holds {@code i}
+     *
+     * @return the head node followed by the entries
+     */
+    private static Node[] build( final int levelCount, final int... heights )
+        {
+
+        final Node[] nodes = new Node[ heights.length + 1 ] ;
+        nodes[ 0 ] = new Node( null, levelCount ) ;
+
+        for ( int i = 0 ; i < heights.length ; i++ )
+            {
+            nodes[ i + 1 ] = new Node( i, heights[ i ] ) ;
+            }
+
+        for ( int level = 0 ; level < levelCount ; level++ )
+            {
+            Node last = nodes[ 0 ] ;
+
+            for ( int i = 1 ; i < nodes.length ; i++ )
+                {
+
+                if ( nodes[ i ].next.length > level )
+                    {
+                    last.next[ level ] = nodes[ i ] ;
+                    last = nodes[ i ] ;
+                    }
+
+                }
+
+            }
+
+        return nodes ;
+
+        }   // end build()
+
+
+    /*
+     * well-formed skip lists
+     */
+
+
+    @Test
+    @DisplayName( "entries come from level 0 and each level's occupancy is counted" )
+    void wellFormed()
+        {
+
+        final Node[] nodes = build( 4, 1, 3, 2, 1, 3, 1 ) ;
+
+        final SkipListContents contents = getContentsOfSkipList( new SkipList( nodes[ 0 ] ),
+                                                                 null,
+                                                                 null,
+                                                                 null ) ;
+
+        assertArrayEquals( new Object[] { 0, 1, 2, 3, 4, 5 }, contents.contents() ) ;
+        assertArrayEquals( new int[] { 6, 3, 2, 0 }, contents.levelOccupancy() ) ;
+        assertEquals( 4, contents.levelCount() ) ;
+        assertEquals( 2, contents.highestOccupiedLevel() ) ;
+
+        }   // end wellFormed()
+
+
+    @Test
+    @DisplayName( "an empty skip list and a null skip list" )
+    void empty()
+        {
+
+        final SkipListContents contents = getContentsOfSkipList( new SkipList( build( 3 )[ 0 ] ),
+                                                                 null,
+                                                                 null,
+                                                                 null ) ;
+
+        assertEquals( 0, contents.contents().length ) ;
+        assertEquals( -1, contents.highestOccupiedLevel() ) ;
+
+        assertNull( getContentsOfSkipList( null ) ) ;
+
+        }   // end empty()
+
+
+    @Test
+    @DisplayName( "forward references may be held in a List" )
+    void listForwards()
+        {
+
+        final ListNode head = new ListNode( null, 2 ) ;
+        final ListNode first = new ListNode( "a", 2 ) ;
+        final ListNode second = new ListNode( "b", 1 ) ;
+
+        head.next.set( 0, first ) ;
+        head.next.set( 1, first ) ;
+        first.next.set( 0, second ) ;
+
+        final SkipListContents contents = getContentsOfSkipList( new SkipList( head ),
+                                                                 null,
+                                                                 null,
+                                                                 null ) ;
+
+        assertArrayEquals( new Object[] { "a", "b" }, contents.contents() ) ;
+        assertArrayEquals( new int[] { 2, 1 }, contents.levelOccupancy() ) ;
+
+        }   // end listForwards()
+
+
+    /*
+     * level structure violations
+     */
+
+
+    @Test
+    @DisplayName( "a node linked at level 2 but skipped at level 1 is reported" )
+    void skippedAtLevelBelow()
+        {
+
+        final Node[] nodes = build( 3, 3, 3, 3 ) ;
+
+        // level 1 skips entry 1, level 2 still links through it
+        nodes[ 1 ].next[ 1 ] = nodes[ 3 ] ;
+
+        final TestingException thrown = assertThrows( TestingException.class,
+                                                      () -> getContentsOfSkipList( new SkipList( nodes[ 0 ] ),
+                                                                                   null,
+                                                                                   null,
+                                                                                   null ) ) ;
+
+        assertTrue( thrown.getMessage().contains( "level 2 is not a subsequence of level 1" ),
+                    thrown.getMessage() ) ;
+
+        }   // end skippedAtLevelBelow()
+
+
+    @Test
+    @DisplayName( "a level which links out of level 0's order is reported" )
+    void outOfOrder()
+        {
+
+        final Node[] nodes = build( 2, 2, 1, 2 ) ;
+
+        // level 1: head -> entry 2 -> entry 0
+        nodes[ 0 ].next[ 1 ] = nodes[ 3 ] ;
+        nodes[ 3 ].next[ 1 ] = nodes[ 1 ] ;
+        nodes[ 1 ].next[ 1 ] = null ;
+
+        assertThrows( TestingException.class,
+                      () -> getContentsOfSkipList( new SkipList( nodes[ 0 ] ), null, null, null ) ) ;
+
+        }   // end outOfOrder()
+
+
+    @Test
+    @DisplayName( "a level which links to a node without a forward reference at that level is reported" )
+    void tooShort()
+        {
+
+        final Node[] nodes = build( 2, 1, 2 ) ;
+
+        // entry 0 has only a level 0 reference
+        nodes[ 0 ].next[ 1 ] = nodes[ 1 ] ;
+
+        assertThrows( TestingException.class,
+                      () -> getContentsOfSkipList( new SkipList( nodes[ 0 ] ), null, null, null ) ) ;
+
+        }   // end tooShort()
+
+
+    @Test
+    @DisplayName( "a loop at level 0 and malformed nodes are reported" )
+    void malformed()
+        {
+
+        final Node[] looped = build( 1, 1, 1 ) ;
+        looped[ 2 ].next[ 0 ] = looped[ 1 ] ;
+
+        assertThrows( LoopDetectedException.class,
+                      () -> getContentsOfSkipList( new SkipList( looped[ 0 ] ), null, null, null ) ) ;
+
+        assertThrows( TestingException.class,
+                      () -> getContentsOfSkipList( new SkipList( null ), null, null, null ) ) ;
+
+        // forward references which are neither an array nor a List
+        assertThrows( TestingException.class,
+                      () -> getContentsOfSkipList( new SkipList( new BadNode() ), null, null, null ) ) ;
+
+        }   // end malformed()
+
+
+    @Test
+    @DisplayName( "contents are equal, hash, and print by their arrays' contents" )
+    void contentsCompareByValue()
+        {
+
+        final SkipListContents contents = getContentsOfSkipList( new SkipList( build( 3, 1, 2 )[ 0 ] ),
+                                                                 null,
+                                                                 null,
+                                                                 null ) ;
+        final SkipListContents same = getContentsOfSkipList( new SkipList( build( 3, 1, 2 )[ 0 ] ),
+                                                             null,
+                                                             null,
+                                                             null ) ;
+
+        assertEquals( contents, same ) ;
+        assertEquals( contents.hashCode(), same.hashCode() ) ;
+        assertEquals( "SkipListContents[contents=[0, 1], levelOccupancy=[2, 1, 0]]", contents.toString() ) ;
+
+        // same entries, different towers
+        assertNotEquals( contents,
+                         getContentsOfSkipList( new SkipList( build( 3, 1, 1 )[ 0 ] ), null, null, null ) ) ;
+
+        }   // end contentsCompareByValue()
+
+    }   // end class SkipListExtractionTests
@@ -0,0 +1,183 @@
+/* @formatter:off
+ *
+ * © David M Rosenberg, The Software Toolsmith (education)
+ *
+ * This file is part of the Testing Framework for Java.
+ * Repository: https://github.com/The-Software-Toolsmith/testing-framework-for-java
+ *
+ * Licensed under the Creative Commons Attribution-NonCommercial 4.0 International License.
+ * You may obtain a copy of the license at:
+ *     https://creativecommons.org/licenses/by-nc/4.0/
+ *
+ * You may use, share, and adapt this file for non-commercial purposes,
+ * provided you give appropriate credit.
+ *
+ * @formatter:on
+ */
+
+
+package education.the_software_toolsmith.testing.framework.tests ;
+
+import static education.the_software_toolsmith.testing.framework.TestData.compareDatasets ;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow ;
+import static org.junit.jupiter.api.Assertions.assertEquals ;
+import static org.junit.jupiter.api.Assertions.assertThrows ;
+import static org.junit.jupiter.api.Assertions.assertTrue ;
+
+import org.junit.jupiter.api.DisplayName ;
+import org.junit.jupiter.api.Test ;
+
+import education.the_software_toolsmith.testing.framework.TestingException ;
+import education.the_software_toolsmith.testing.framework.Tolerance ;
+
+/**
+ * JUnit tests for the {@code Tolerance} and {@code Object[]} tolerance comparisons in
+ * {@code TestData}, including nested arrays
+ *
+ * @author David M Rosenberg
+ *
+ * @version 1.0 2026-10-19 Initial implementation
+ * @version 1.1 2026-10-19 a negative epsilon is rejected by {@code Tolerance}
+ */
+@DisplayName( "Tolerant Nested Comparison" )
+@SuppressWarnings( { "javadoc", "unused" } )
+class ToleranceComparisonTests
+    {
+
+    /*
+     * fixtures
+     */
+
+
+    private static final Tolerance CLOSE = Tolerance.absolute( 1e-3 ) ;
+
+
+    /**
+     * The message reported comparing two datasets to within {@code CLOSE}
+     */
+    private static String mismatchMessage( final Object[] expected,
+                                           final Object[] actual )
+        {
+
+        return assertThrows( TestingException.class,
+                             () -> compareDatasets( expected, actual, CLOSE ) ).getMessage() ;
+
+        }   // end mismatchMessage()
+
+
+    /*
+     * tolerances
+     */
+
+
+    @Test
+    @DisplayName( "a pair matches within any of its tolerances and negative tolerances are rejected" )
+    void tolerances()
+        {
+
+        final Tolerance combined = Tolerance.absolute( 1e-9 ).withRelative( 1e-3 ).withUlps( 2 ) ;
+
+        assertTrue( combined.matches( 1_000.0, 1_000.9 ) ) ;
+        assertTrue( combined.matches( 0.0, 1e-9 ) ) ;
+        assertTrue( combined.matches( 1e-300, Math.nextUp( Math.nextUp( 1e-300 ) ) ) ) ;
+        assertEquals( "absolute 1.0E-9 or relative 0.001 or 2 ULPs", combined.toString() ) ;
+        assertEquals( "exact", Tolerance.EXACT.toString() ) ;
+
+        assertThrows( IllegalArgumentException.class, () -> Tolerance.absolute( -1 ) ) ;
+        assertThrows( IllegalArgumentException.class, () -> Tolerance.relative( Double.NaN ) ) ;
+        assertThrows( IllegalArgumentException.class, () -> Tolerance.ulps( -1 ) ) ;
+        // the epsilon convenience delegates to Tolerance.absolute()
+        assertThrows( IllegalArgumentException.class,
+                      () -> compareDatasets( new double[] { 1 }, new double[] { 1 }, -1e-3 ) ) ;
+
+        }   // end tolerances()
+
+
+    /*
+     * Object[] datasets
+     */
+
+
+    @Test
+    @DisplayName( "boxed elements, mixed Float and Double, and other elements" )
+    void boxedElements()
+        {
+
+        assertDoesNotThrow( () -> compareDatasets( new Object[] { 1.0, 2.0f, 3.0f, "x", null, 4 },
+                                                   new Object[] { 1.0005, 2.0005f, 3.0005, "x", null, 4 },
+                                                   CLOSE ) ) ;
+
+        // elements which aren't floating point are compared with equals()
+        assertTrue( mismatchMessage( new Object[] { 1.0, 4 }, new Object[] { 1.0, 4L } ).contains( "at [1]" ) ) ;
+
+        final String message = mismatchMessage( new Object[] { 1.0, 2.0 }, new Object[] { 1.0, 2.5 } ) ;
+
+        assertTrue( message.startsWith( "element mismatch: expected: 2.0; actual: 2.5 at [1] (tolerance: absolute 0.001" ),
+                    message ) ;
+
+        }   // end boxedElements()
+
+
+    @Test
+    @DisplayName( "nested arrays are compared to within the tolerance at any depth" )
+    void nestedArrays()
+        {
+
+        final Object[] expected = { new double[] { 1, 2 },
+                                    new float[] { 3, 4 },
+                                    new Object[] { 5.0, new double[] { 6 } },
+                                    new int[] { 7 } } ;
+        final Object[] actual = { new double[] { 1.0001, 2 },
+                                  new float[] { 3, 4.0001f },
+                                  new Object[] { 5.0001, new double[] { 6.0001 } },
+                                  new int[] { 7 } } ;
+
+        assertDoesNotThrow( () -> compareDatasets( expected, actual, CLOSE ) ) ;
+
+        ( (double[]) ( (Object[]) actual[ 2 ] )[ 1 ] )[ 0 ] = 7 ;
+
+        assertTrue( mismatchMessage( expected, actual ).contains( "at [2][1][0]" ) ) ;
+
+        }   // end nestedArrays()
+
+
+    @Test
+    @DisplayName( "a nested mismatch reports its own position, not its earlier siblings'" )
+    void nestedPosition()
+        {
+
+        final double[][] expected = { { 1, 2, 3 }, { 4, 5, 6 } } ;
+        final double[][] actual = { { 1, 2, 3 }, { 4, 5, 9 } } ;
+
+        assertTrue( mismatchMessage( expected, actual ).contains( "at [1][2]" ) ) ;
+
+        final Object[][][] deepExpected = { { { 1.0 }, { 2.0 } }, { { 3.0, 4.0 } } } ;
+        final Object[][][] deepActual = { { { 1.0 }, { 2.0 } }, { { 3.0, 5.0 } } } ;
+
+        assertTrue( mismatchMessage( deepExpected, deepActual ).contains( "at [1][0][1]" ) ) ;
+
+        }   // end nestedPosition()
+
+
+    @Test
+    @DisplayName( "nested length and type mismatches are reported" )
+    void nestedShapes()
+        {
+
+        assertEquals( "dataset length mismatch at [1]: expected: 2; actual: 1",
+                      mismatchMessage( new Object[] { new double[ 0 ], new double[] { 1, 2 } },
+                                       new Object[] { new double[ 0 ], new double[] { 1 } } ) ) ;
+
+        // different array types don't match even when their elements would
+        assertTrue( mismatchMessage( new Object[] { new double[] { 1 } },
+                                     new Object[] { new float[] { 1 } } ).contains( "at [0]" ) ) ;
+        assertTrue( mismatchMessage( new Object[] { new double[] { 1 } },
+                                     new Object[] { null } ).contains( "at [0]" ) ) ;
+
+        assertDoesNotThrow( () -> compareDatasets( (Object[]) null, (Object[]) null, CLOSE ) ) ;
+        assertThrows( TestingException.class,
+                      () -> compareDatasets( new Object[] { 1.0 }, new Object[] { 1.0, 2.0 }, CLOSE ) ) ;
+
+        }   // end nestedShapes()
+
+    }   // end class ToleranceComparisonTests
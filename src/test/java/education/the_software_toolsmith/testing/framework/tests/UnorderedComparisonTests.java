@@ -0,0 +1,183 @@
+/* @formatter:off
+ *
+ * © David M Rosenberg, The Software Toolsmith (education)
+ *
+ * This file is part of the Testing Framework for Java.
+ * Repository: https://github.com/The-Software-Toolsmith/testing-framework-for-java
+ *
+ * Licensed under the Creative Commons Attribution-NonCommercial 4.0 International License.
+ * You may obtain a copy of the license at:
+ *     https://creativecommons.org/licenses/by-nc/4.0/
+ *
+ * You may use, share, and adapt this file for non-commercial purposes,
+ * provided you give appropriate credit.
+ *
+ * @formatter:on
+ */
+
+
+package education.the_software_toolsmith.testing.framework.tests ;
+
+import static education.the_software_toolsmith.testing.framework.TestData.COMPARE_EQUALITY ;
+import static education.the_software_toolsmith.testing.framework.TestData.COMPARE_IDENTITY ;
+import static education.the_software_toolsmith.testing.framework.TestData.IS_UNORDERED ;
+import static education.the_software_toolsmith.testing.framework.TestData.compareDatasets ;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow ;
+import static org.junit.jupiter.api.Assertions.assertEquals ;
+import static org.junit.jupiter.api.Assertions.assertFalse ;
+import static org.junit.jupiter.api.Assertions.assertThrows ;
+import static org.junit.jupiter.api.Assertions.assertTrue ;
+
+import org.junit.jupiter.api.DisplayName ;
+import org.junit.jupiter.api.Test ;
+
+import education.the_software_toolsmith.testing.framework.DatasetIndex ;
+import education.the_software_toolsmith.testing.framework.TestingException ;
+
+/**
+ * JUnit tests for the {@code TestData} hash-multiset comparison of unordered datasets
+ *
+ * @author David M Rosenberg
+ *
+ * @version 1.0 2026-10-19 Initial implementation
+ */
+@DisplayName( "Unordered Comparison" )
+@SuppressWarnings( { "javadoc", "unused" } )
+class UnorderedComparisonTests
+    {
+
+    /*
+     * fixtures
+     */
+
+
+    /** equal by value but not {@code Comparable} */
+    record Point( int x, int y )
+        {
+        }
+
+
+    /*
+     * tests
+     */
+
+
+    @Test
+    @DisplayName( "elements needn't be Comparable and may be null or of mixed types" )
+    void anyElements()
+        {
+
+        assertDoesNotThrow( () -> compareDatasets( new Object[] { new Point( 1, 2 ), null, "a", 3, null },
+                                                   new Object[] { null, 3, new Point( 1, 2 ), null, "a" },
+                                                   IS_UNORDERED ) ) ;
+
+        assertThrows( TestingException.class,
+                      () -> compareDatasets( new Object[] { new Point( 1, 2 ), null },
+                                             new Object[] { new Point( 2, 1 ), null },
+                                             IS_UNORDERED ) ) ;
+
+        }   // end anyElements()
+
+
+    @Test
+    @DisplayName( "a mismatch lists the missing and extra elements with their counts" )
+    void reportsImbalance()
+        {
+
+        final TestingException thrown =
+                    assertThrows( TestingException.class,
+                                  () -> compareDatasets( new Object[] { "a", "a", "a", "b", null },
+                                                         new Object[] { "b", "c", "a", "b", "c" },
+                                                         IS_UNORDERED ) ) ;
+
+        assertEquals( "element mismatch: missing: [\"a\" (x2), null]; extra: [\"b\", \"c\" (x2)]",
+                      thrown.getMessage() ) ;
+
+        final TestingException length =
+                    assertThrows( TestingException.class,
+                                  () -> compareDatasets( new Object[] { 1, 2 },
+                                                         new Object[] { 1 },
+                                                         IS_UNORDERED ) ) ;
+
+        assertTrue( length.getMessage().startsWith( "dataset length mismatch" ), length.getMessage() ) ;
+
+        }   // end reportsImbalance()
+
+
+    @Test
+    @DisplayName( "identity comparison matches instances rather than equal values" )
+    void identity()
+        {
+
+        final String shared = "x" ;
+        final String copy = new String( shared ) ;
+
+        assertDoesNotThrow( () -> compareDatasets( new Object[] { shared, copy, shared },
+                                                   new Object[] { shared, shared, copy },
+                                                   IS_UNORDERED,
+                                                   COMPARE_IDENTITY ) ) ;
+        assertDoesNotThrow( () -> compareDatasets( new Object[] { shared },
+                                                   new Object[] { copy },
+                                                   IS_UNORDERED,
+                                                   COMPARE_EQUALITY ) ) ;
+        assertThrows( TestingException.class,
+                      () -> compareDatasets( new Object[] { shared },
+                                             new Object[] { copy },
+                                             IS_UNORDERED,
+                                             COMPARE_IDENTITY ) ) ;
+
+        }   // end identity()
+
+
+    @Test
+    @DisplayName( "an index built once answers counts and comparisons for many datasets" )
+    void reusableIndex()
+        {
+
+        final DatasetIndex index = DatasetIndex.of( new Object[] { "a", "b", "a", null } ) ;
+
+        assertEquals( 4, index.size() ) ;
+        assertEquals( 3, index.distinctCount() ) ;
+        assertEquals( 2, index.count( "a" ) ) ;
+        assertEquals( 1, index.count( null ) ) ;
+        assertEquals( 0, index.count( "z" ) ) ;
+        assertTrue( index.contains( "b" ) ) ;
+        assertTrue( index.comparesEquality() ) ;
+
+        assertTrue( index.matches( new Object[] { null, "a", "b", "a" } ) ) ;
+        assertFalse( index.matches( new Object[] { null, "a", "b", "b" } ) ) ;
+        assertFalse( index.matches( new Object[] { "a", "b", "a" } ) ) ;
+
+        assertDoesNotThrow( () -> compareDatasets( index, new Object[] { "a", null, "a", "b" } ) ) ;
+        assertThrows( TestingException.class, () -> compareDatasets( index, new Object[] { "a", null, "b", "b" } ) ) ;
+        assertThrows( TestingException.class, () -> compareDatasets( index, (Object[]) null ) ) ;
+
+        }   // end reusableIndex()
+
+
+    @Test
+    @DisplayName( "a large unordered comparison with many duplicates" )
+    void large()
+        {
+
+        final Object[] expected = new Object[ 200_000 ] ;
+        final Object[] actual = new Object[ expected.length ] ;
+
+        for ( int i = 0 ; i < expected.length ; i++ )
+            {
+            expected[ i ] = new Point( i % 1_000, 0 ) ;
+            actual[ expected.length - 1 - i ] = new Point( i % 1_000, 0 ) ;
+            }
+
+        assertDoesNotThrow( () -> compareDatasets( expected, actual, IS_UNORDERED ) ) ;
+
+        actual[ 0 ] = new Point( -1, 0 ) ;
+
+        final TestingException thrown = assertThrows( TestingException.class,
+                                                      () -> compareDatasets( expected, actual, IS_UNORDERED ) ) ;
+
+        assertTrue( thrown.getMessage().contains( "extra: [Point[x=-1, y=0]]" ), thrown.getMessage() ) ;
+
+        }   // end large()
+
+    }   // end class UnorderedComparisonTests